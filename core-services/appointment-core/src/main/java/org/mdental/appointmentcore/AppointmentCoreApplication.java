@@ -0,0 +1,22 @@
+package org.mdental.appointmentcore;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication(
+        scanBasePackages = {
+                "org.mdental.appointmentcore",
+                "org.mdental.commons.exception"
+        }
+)
+@EnableFeignClients(basePackages = "org.mdental.appointmentcore.client")
+@EnableScheduling
+public class AppointmentCoreApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(AppointmentCoreApplication.class, args);
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.mdental.appointmentcore.client;
+
+import org.mdental.appointmentcore.model.dto.OpenIntervalResponse;
+import org.mdental.commons.model.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@FeignClient(name = "clinic-core", url = "${CLINIC_CORE_URL:http://localhost:8082}")
+public interface ClinicCoreClient {
+
+    /**
+     * Intervals in which the clinic is open, with its business hours and holidays already applied.
+     */
+    @GetMapping("/api/clinics/{clinicId}/availability/intervals")
+    ApiResponse<List<OpenIntervalResponse>> getOpenIntervals(
+            @PathVariable("clinicId") UUID clinicId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to);
+}
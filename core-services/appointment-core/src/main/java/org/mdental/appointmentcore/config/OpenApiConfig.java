@@ -0,0 +1,28 @@
+package org.mdental.appointmentcore.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpenApiConfig {
+
+    @Bean
+    public OpenAPI customOpenAPI() {
+        return new OpenAPI()
+                .info(new Info()
+                        .title("Appointment Core API")
+                        .version("1.0.0")
+                        .description("REST APIs for searching free slots and booking dental appointments")
+                        .contact(new Contact()
+                                .name("MDental Support")
+                                .email("support@mdental.org")
+                                .url("https://mdental.org"))
+                        .license(new License()
+                                .name("Private License")
+                                .url("https://mdental.org/license")));
+    }
+}
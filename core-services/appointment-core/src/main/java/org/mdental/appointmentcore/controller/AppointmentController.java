@@ -0,0 +1,177 @@
+package org.mdental.appointmentcore.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.appointmentcore.mapper.AppointmentMapper;
+import org.mdental.appointmentcore.model.dto.AppointmentRequest;
+import org.mdental.appointmentcore.model.dto.AppointmentResponse;
+import org.mdental.appointmentcore.model.dto.HoldResponse;
+import org.mdental.appointmentcore.model.dto.SlotResponse;
+import org.mdental.appointmentcore.reservation.SlotHold;
+import org.mdental.appointmentcore.service.AppointmentService;
+import org.mdental.appointmentcore.service.ReservationService;
+import org.mdental.appointmentcore.service.SlotSearchService;
+import org.mdental.commons.constants.MdentalHeaders;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ApiResponse;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appointments of one patient, under the path the gateway routes to this service. Slot search
+ * lives here too so the patient portal can look up and book through the same route.
+ */
+@RestController
+@RequestMapping("/api/clinics/{clinicId}/patients/{patientId}/appointments")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Appointments", description = "APIs for finding free slots and booking appointments")
+public class AppointmentController {
+
+    private final AppointmentService appointmentService;
+    private final SlotSearchService slotSearchService;
+    private final ReservationService reservationService;
+    private final AppointmentMapper appointmentMapper;
+    private final HttpServletRequest request;
+
+    @GetMapping("/slots")
+    @Operation(summary = "Find free slots", description = "Returns a provider's first free slots of the given duration within a time range")
+    public ApiResponse<List<SlotResponse>> findFreeSlots(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId,
+            @RequestParam UUID providerId,
+            @RequestParam Duration duration,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to find {} slots of {} for provider: {} of clinic: {}", limit, duration, providerId, clinicId);
+        verifyClinicAccess(clinicId);
+        List<SlotResponse> response = slotSearchService.findFreeSlots(clinicId, providerId, duration, from, to, limit).stream()
+                .map(slot -> new SlotResponse(providerId, slot.start(), slot.end()))
+                .toList();
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get upcoming appointments", description = "Returns the patient's appointments that have not ended yet")
+    public ApiResponse<List<AppointmentResponse>> getUpcomingAppointments(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId) {
+        log.info("REST request to get upcoming appointments of patient: {} in clinic: {}", patientId, clinicId);
+        verifyClinicAccess(clinicId);
+        List<AppointmentResponse> response = appointmentService.getUpcomingAppointments(clinicId, patientId).stream()
+                .map(appointmentMapper::toDto)
+                .toList();
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get appointment", description = "Returns one of the patient's appointments")
+    public ApiResponse<AppointmentResponse> getAppointment(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId,
+            @PathVariable UUID id) {
+        log.info("REST request to get appointment: {}", id);
+        verifyClinicAccess(clinicId);
+        return ApiResponse.success(appointmentMapper.toDto(appointmentService.getAppointment(clinicId, patientId, id)));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Book appointment", description = "Books a provider for the patient")
+    public ApiResponse<AppointmentResponse> book(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId,
+            @Valid @RequestBody AppointmentRequest appointmentRequest) {
+        log.info("REST request to book an appointment for patient: {} in clinic: {}", patientId, clinicId);
+        verifyClinicAccess(clinicId);
+        return ApiResponse.success(appointmentMapper.toDto(reservationService.book(clinicId, patientId, appointmentRequest)));
+    }
+
+    @PostMapping("/holds")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Hold slot", description = "Holds a provider's slot for the patient for a few minutes while the booking is confirmed")
+    public ApiResponse<HoldResponse> hold(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId,
+            @Valid @RequestBody AppointmentRequest appointmentRequest) {
+        log.info("REST request to hold a slot for patient: {} in clinic: {}", patientId, clinicId);
+        verifyClinicAccess(clinicId);
+        SlotHold hold = reservationService.hold(clinicId, patientId, appointmentRequest);
+        return ApiResponse.success(HoldResponse.builder()
+                .id(hold.id())
+                .providerId(hold.providerId())
+                .startAt(hold.start())
+                .endAt(hold.end())
+                .expiresAt(hold.expiresAt())
+                .build());
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Confirm hold", description = "Books the held slot")
+    public ApiResponse<AppointmentResponse> confirmHold(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId,
+            @PathVariable UUID holdId,
+            @Valid @RequestBody AppointmentRequest appointmentRequest) {
+        log.info("REST request to confirm hold: {}", holdId);
+        verifyClinicAccess(clinicId);
+        return ApiResponse.success(appointmentMapper.toDto(
+                reservationService.confirm(clinicId, patientId, holdId, appointmentRequest)));
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Release hold", description = "Gives up a held slot before it expires")
+    public ApiResponse<Void> releaseHold(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId,
+            @PathVariable UUID holdId) {
+        log.info("REST request to release hold: {}", holdId);
+        verifyClinicAccess(clinicId);
+        reservationService.release(clinicId, patientId, holdId);
+        return ApiResponse.success(null);
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Cancel appointment", description = "Cancels the appointment and frees its slot")
+    public ApiResponse<AppointmentResponse> cancel(
+            @PathVariable UUID clinicId,
+            @PathVariable UUID patientId,
+            @PathVariable UUID id) {
+        log.info("REST request to cancel appointment: {}", id);
+        verifyClinicAccess(clinicId);
+        return ApiResponse.success(appointmentMapper.toDto(appointmentService.cancel(clinicId, patientId, id)));
+    }
+
+    private void verifyClinicAccess(UUID clinicId) {
+        // Super admin has access to all clinics
+        if (request.isUserInRole("SUPER_ADMIN")) {
+            return;
+        }
+
+        // Check if clinic ID in path matches the user's clinic ID from header
+        String userClinicId = request.getHeader(MdentalHeaders.USER_CLINIC_ID);
+        if (userClinicId == null || !userClinicId.equals(clinicId.toString())) {
+            throw new AccessDeniedException("You don't have access to this clinic");
+        }
+    }
+
+    public static class AccessDeniedException extends BaseException {
+        public AccessDeniedException(String message) {
+            super(message, ErrorCode.ACCESS_DENIED);
+        }
+    }
+}
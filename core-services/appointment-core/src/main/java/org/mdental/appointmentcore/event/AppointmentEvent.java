@@ -0,0 +1,23 @@
+package org.mdental.appointmentcore.event;
+
+import lombok.Getter;
+import org.mdental.appointmentcore.model.entity.Appointment;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class AppointmentEvent extends ApplicationEvent {
+
+    private final Appointment appointment;
+    private final EventType type;
+
+    public AppointmentEvent(Object source, Appointment appointment, EventType type) {
+        super(source);
+        this.appointment = appointment;
+        this.type = type;
+    }
+
+    public enum EventType {
+        BOOKED,
+        CANCELLED
+    }
+}
@@ -0,0 +1,12 @@
+package org.mdental.appointmentcore.mapper;
+
+import org.mapstruct.Mapper;
+import org.mdental.appointmentcore.mapper.config.MapStructConfig;
+import org.mdental.appointmentcore.model.dto.AppointmentResponse;
+import org.mdental.appointmentcore.model.entity.Appointment;
+
+@Mapper(config = MapStructConfig.class, componentModel = "spring")
+public interface AppointmentMapper {
+
+    AppointmentResponse toDto(Appointment entity);
+}
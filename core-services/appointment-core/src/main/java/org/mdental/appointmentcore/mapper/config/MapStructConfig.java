@@ -0,0 +1,12 @@
+package org.mdental.appointmentcore.mapper.config;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.Builder;
+
+@MapperConfig(
+        componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MapStructConfig { }
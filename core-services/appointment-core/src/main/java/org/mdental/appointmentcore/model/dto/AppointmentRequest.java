@@ -0,0 +1,30 @@
+package org.mdental.appointmentcore.model.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentRequest {
+
+    @NotNull(message = "Provider ID is required")
+    private UUID providerId;
+
+    @NotNull(message = "Start is required")
+    private Instant startAt;
+
+    @NotNull(message = "End is required")
+    private Instant endAt;
+
+    @Size(max = 500, message = "Reason must be at most 500 characters")
+    private String reason;
+}
@@ -0,0 +1,29 @@
+package org.mdental.appointmentcore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.mdental.appointmentcore.model.entity.Appointment.AppointmentStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentResponse {
+
+    private UUID id;
+    private UUID clinicId;
+    private UUID providerId;
+    private UUID patientId;
+    private Instant startAt;
+    private Instant endAt;
+    private AppointmentStatus status;
+    private String reason;
+    private Instant cancelledAt;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -0,0 +1,22 @@
+package org.mdental.appointmentcore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldResponse {
+
+    private UUID id;
+    private UUID providerId;
+    private Instant startAt;
+    private Instant endAt;
+    private Instant expiresAt;
+}
@@ -0,0 +1,18 @@
+package org.mdental.appointmentcore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenIntervalResponse {
+
+    private Instant start;
+    private Instant end;
+}
@@ -0,0 +1,20 @@
+package org.mdental.appointmentcore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotResponse {
+
+    private UUID providerId;
+    private Instant start;
+    private Instant end;
+}
@@ -0,0 +1,54 @@
+package org.mdental.appointmentcore.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.mdental.commons.model.BaseEntity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "appointments", indexes = {
+        @Index(name = "idx_appointment_provider_start", columnList = "provider_id, start_at"),
+        @Index(name = "idx_appointment_clinic_end", columnList = "clinic_id, end_at"),
+        @Index(name = "idx_appointment_patient", columnList = "patient_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class Appointment extends BaseEntity {
+
+    @Column(name = "clinic_id", nullable = false)
+    private UUID clinicId;
+
+    // The practitioner whose time is booked; a user id in the clinic's realm
+    @Column(name = "provider_id", nullable = false)
+    private UUID providerId;
+
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Column(name = "start_at", nullable = false)
+    private Instant startAt;
+
+    @Column(name = "end_at", nullable = false)
+    private Instant endAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private AppointmentStatus status;
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "cancelled_at")
+    private Instant cancelledAt;
+
+    public enum AppointmentStatus {
+        BOOKED,
+        CANCELLED
+    }
+}
@@ -0,0 +1,29 @@
+package org.mdental.appointmentcore.repository;
+
+import org.mdental.appointmentcore.model.entity.Appointment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+
+    Optional<Appointment> findByIdAndClinicIdAndPatientId(UUID id, UUID clinicId, UUID patientId);
+
+    @Query("SELECT a FROM Appointment a WHERE a.clinicId = :clinicId AND a.patientId = :patientId " +
+            "AND a.endAt > :after ORDER BY a.startAt")
+    List<Appointment> findUpcoming(@Param("clinicId") UUID clinicId,
+                                   @Param("patientId") UUID patientId,
+                                   @Param("after") Instant after);
+
+    /**
+     * Booked appointments of a clinic still running or yet to start, the ones slot search needs.
+     */
+    @Query("SELECT a FROM Appointment a WHERE a.clinicId = :clinicId AND a.status = 'BOOKED' " +
+            "AND a.endAt > :after")
+    List<Appointment> findBookedEndingAfter(@Param("clinicId") UUID clinicId, @Param("after") Instant after);
+}
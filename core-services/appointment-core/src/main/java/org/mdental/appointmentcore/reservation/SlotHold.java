@@ -0,0 +1,93 @@
+package org.mdental.appointmentcore.reservation;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A provider's time set aside for one patient while they confirm. The state only moves forward,
+ * by compare-and-set, so confirming, releasing and expiring a hold cannot both succeed.
+ */
+public final class SlotHold {
+
+    public enum State {
+        HELD,
+        CONFIRMING,
+        RELEASED,
+        EXPIRED
+    }
+
+    private final UUID id;
+    private final UUID clinicId;
+    private final UUID providerId;
+    private final UUID patientId;
+    private final Instant start;
+    private final Instant end;
+    private final Instant expiresAt;
+    private final AtomicReference<State> state = new AtomicReference<>(State.HELD);
+
+    public SlotHold(UUID id, UUID clinicId, UUID providerId, UUID patientId,
+                    Instant start, Instant end, Instant expiresAt) {
+        this.id = id;
+        this.clinicId = clinicId;
+        this.providerId = providerId;
+        this.patientId = patientId;
+        this.start = start;
+        this.end = end;
+        this.expiresAt = expiresAt;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public UUID clinicId() {
+        return clinicId;
+    }
+
+    public UUID providerId() {
+        return providerId;
+    }
+
+    public UUID patientId() {
+        return patientId;
+    }
+
+    public Instant start() {
+        return start;
+    }
+
+    public Instant end() {
+        return end;
+    }
+
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public boolean isOwnedBy(UUID clinicId, UUID patientId) {
+        return this.clinicId.equals(clinicId) && this.patientId.equals(patientId);
+    }
+
+    /**
+     * Takes the hold for confirmation, unless it has expired.
+     */
+    public boolean claim(Instant now) {
+        return now.isBefore(expiresAt) && state.compareAndSet(State.HELD, State.CONFIRMING);
+    }
+
+    public boolean release() {
+        return state.compareAndSet(State.HELD, State.RELEASED);
+    }
+
+    /**
+     * Expires the hold if its time is up. A hold being confirmed is left to finish.
+     */
+    public boolean expire(Instant now) {
+        return !now.isBefore(expiresAt) && state.compareAndSet(State.HELD, State.EXPIRED);
+    }
+}
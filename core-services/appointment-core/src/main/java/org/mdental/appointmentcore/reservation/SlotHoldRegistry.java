@@ -0,0 +1,183 @@
+package org.mdental.appointmentcore.reservation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.appointmentcore.slots.ProviderCalendar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Short-lived holds on providers' time, so two desks or a desk and the portal offered the same
+ * slot cannot both go on to book it.
+ *
+ * <p>Placing a hold checks the provider's bookings and live holds and records the hold under a
+ * lock striped by provider and UTC day; a hold running past midnight takes both days' stripes, in
+ * stripe order. Holds for different providers almost never share a stripe, so a booking burst runs
+ * in parallel across providers and only requests for the same provider and day wait for each
+ * other, for the few microseconds the check takes. No database lock is held.
+ *
+ * <p>Holds live in this replica only: the exclusion constraint on {@code appointments} remains
+ * the final arbiter between replicas. Expired holds are reclaimed by a {@link TimingWheel}
+ * advanced every tick; one found expired before then is reclaimed on the spot.
+ */
+@Component
+@Slf4j
+public class SlotHoldRegistry {
+
+    private static final ProviderCalendar NO_HOLDS = new ProviderCalendar();
+
+    private final Map<UUID, SlotHold> holds = new ConcurrentHashMap<>();
+    private final Map<UUID, ProviderCalendar> calendars = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final TimingWheel<UUID> expiries;
+    private final Duration ttl;
+    private final Counter placed;
+    private final Counter conflicts;
+    private final Counter expired;
+
+    public SlotHoldRegistry(MeterRegistry meterRegistry,
+                            @Value("${appointment.holds.ttl:PT5M}") Duration ttl,
+                            @Value("${appointment.holds.stripes:1024}") int stripes,
+                            @Value("${appointment.holds.tick-ms:1000}") long tickMillis,
+                            @Value("${appointment.holds.wheel-size:512}") int wheelSize) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("appointment.holds.stripes must be a power of two");
+        }
+        this.ttl = ttl;
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.expiries = new TimingWheel<>(Duration.ofMillis(tickMillis), wheelSize, Instant.now());
+        this.placed = Counter.builder("appointment.holds")
+                .tag("result", "placed")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("appointment.holds")
+                .tag("result", "conflict")
+                .register(meterRegistry);
+        this.expired = Counter.builder("appointment.holds")
+                .tag("result", "expired")
+                .register(meterRegistry);
+        Gauge.builder("appointment.holds.active", holds, Map::size)
+                .description("Slot holds not yet confirmed, released or expired")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Holds {@code [start, end)} of the provider for the patient, unless it overlaps one of
+     * {@code bookings} or another live hold.
+     */
+    public Optional<SlotHold> tryHold(UUID clinicId, UUID providerId, UUID patientId,
+                                      Instant start, Instant end, ProviderCalendar bookings) {
+        Instant now = Instant.now();
+        List<ReentrantLock> locks = stripesFor(providerId, start, end);
+        locks.forEach(ReentrantLock::lock);
+        try {
+            ProviderCalendar held = calendars.computeIfAbsent(providerId, id -> new ProviderCalendar());
+            if (!bookings.isFree(start, end) || !isFreeOfLiveHolds(held, start, end, now)) {
+                conflicts.increment();
+                return Optional.empty();
+            }
+
+            SlotHold hold = new SlotHold(UUID.randomUUID(), clinicId, providerId, patientId, start, end, now.plus(ttl));
+            holds.put(hold.id(), hold);
+            held.add(hold.id(), start, end);
+            expiries.schedule(hold.id(), hold.expiresAt());
+            placed.increment();
+            return Optional.of(hold);
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    public Optional<SlotHold> find(UUID holdId) {
+        return Optional.ofNullable(holds.get(holdId));
+    }
+
+    /**
+     * The provider's holds, for slot search to skip.
+     */
+    public ProviderCalendar calendar(UUID providerId) {
+        return calendars.getOrDefault(providerId, NO_HOLDS);
+    }
+
+    /**
+     * Forgets a hold that was confirmed, released or expired.
+     */
+    public void remove(SlotHold hold) {
+        if (holds.remove(hold.id(), hold)) {
+            calendar(hold.providerId()).remove(hold.id());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${appointment.holds.tick-ms:1000}")
+    public void expireHolds() {
+        Instant now = Instant.now();
+        expiries.advance(now, holdId -> {
+            SlotHold hold = holds.get(holdId);
+            if (hold != null && hold.expire(now)) {
+                expired.increment();
+                remove(hold);
+            }
+        });
+    }
+
+    // Overlapping holds that have expired but not been reclaimed yet are reclaimed here
+    private boolean isFreeOfLiveHolds(ProviderCalendar held, Instant start, Instant end, Instant now) {
+        for (ProviderCalendar.Busy busy : held.from(start)) {
+            if (!busy.start().isBefore(end)) {
+                return true;
+            }
+            if (!busy.end().isAfter(start)) {
+                continue;
+            }
+            SlotHold hold = holds.get(busy.id());
+            if (hold == null) {
+                // Forgotten by a concurrent remove that has not reached the calendar yet
+                held.remove(busy.id());
+            } else if (hold.expire(now)) {
+                expired.increment();
+                remove(hold);
+            } else if (hold.state() == SlotHold.State.HELD || hold.state() == SlotHold.State.CONFIRMING) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // One stripe per UTC day the interval touches, deduplicated and in index order so two holds
+    // spanning the same days cannot lock them in opposite orders
+    private List<ReentrantLock> stripesFor(UUID providerId, Instant start, Instant end) {
+        long firstDay = Math.floorDiv(start.toEpochMilli(), Duration.ofDays(1).toMillis());
+        long lastDay = Math.floorDiv(end.toEpochMilli() - 1, Duration.ofDays(1).toMillis());
+        List<Integer> indexes = new ArrayList<>();
+        for (long day = firstDay; day <= lastDay; day++) {
+            int hash = providerId.hashCode() * 31 + Long.hashCode(day);
+            int index = (hash ^ (hash >>> 16)) & (stripes.length - 1);
+            if (!indexes.contains(index)) {
+                indexes.add(index);
+            }
+        }
+        indexes.sort(null);
+        List<ReentrantLock> locks = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            locks.add(stripes[index]);
+        }
+        return locks;
+    }
+}
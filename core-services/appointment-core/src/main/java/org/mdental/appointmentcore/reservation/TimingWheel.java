@@ -0,0 +1,81 @@
+package org.mdental.appointmentcore.reservation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: deadlines are dropped into one of {@code size} buckets by tick, so
+ * scheduling is O(1) and each advance only looks at the buckets of the ticks that have passed.
+ *
+ * <p>A deadline further away than one turn of the wheel stays in its bucket for the extra turns.
+ * Expiry is at tick granularity, never early. Scheduling is lock-free and may run concurrently
+ * with {@link #advance}; advancing is serialised.
+ */
+public final class TimingWheel<T> {
+
+    private record Entry<T>(T item, long deadlineMillis) {}
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Entry<T>>[] buckets;
+
+    // Next tick to expire
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(Duration tick, int size, Instant start) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tick.toMillis();
+        this.mask = size - 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = start.toEpochMilli() / tickMillis;
+    }
+
+    public void schedule(T item, Instant deadline) {
+        long deadlineMillis = deadline.toEpochMilli();
+        // Round up so the item is never handed out before its deadline; a deadline already passed
+        // goes to the next tick to be expired
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick);
+        buckets[(int) (tick & mask)].add(new Entry<>(item, deadlineMillis));
+    }
+
+    /**
+     * Hands every item whose deadline is at or before {@code now} to {@code expired}.
+     */
+    public synchronized void advance(Instant now, Consumer<T> expired) {
+        long nowMillis = now.toEpochMilli();
+        long nowTick = nowMillis / tickMillis;
+        // After a long pause every bucket is visited once, not once per missed tick
+        long lastTick = Math.min(nowTick, currentTick + mask);
+        List<Entry<T>> pending = new ArrayList<>();
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            Queue<Entry<T>> bucket = buckets[(int) (tick & mask)];
+            for (Entry<T> entry = bucket.poll(); entry != null; entry = bucket.poll()) {
+                if (entry.deadlineMillis() <= nowMillis) {
+                    expired.accept(entry.item());
+                } else {
+                    pending.add(entry);
+                }
+            }
+            // Not due this turn; put back once the bucket is drained so the loop ends
+            for (Entry<T> entry : pending) {
+                bucket.add(entry);
+            }
+            pending.clear();
+        }
+        currentTick = nowTick + 1;
+    }
+}
@@ -0,0 +1,167 @@
+package org.mdental.appointmentcore.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.appointmentcore.event.AppointmentEvent;
+import org.mdental.appointmentcore.model.dto.AppointmentRequest;
+import org.mdental.appointmentcore.model.entity.Appointment;
+import org.mdental.appointmentcore.repository.AppointmentRepository;
+import org.mdental.appointmentcore.slots.ClinicSchedule;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class AppointmentService {
+
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final AppointmentRepository appointmentRepository;
+    private final ClinicScheduleService clinicScheduleService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Duration maxDuration;
+
+    public AppointmentService(AppointmentRepository appointmentRepository,
+                              ClinicScheduleService clinicScheduleService,
+                              ApplicationEventPublisher applicationEventPublisher,
+                              @Value("${appointment.slots.max-duration:PT8H}") Duration maxDuration) {
+        this.appointmentRepository = appointmentRepository;
+        this.clinicScheduleService = clinicScheduleService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.maxDuration = maxDuration;
+    }
+
+    @Transactional(readOnly = true)
+    public Appointment getAppointment(UUID clinicId, UUID patientId, UUID id) {
+        return appointmentRepository.findByIdAndClinicIdAndPatientId(id, clinicId, patientId)
+                .orElseThrow(() -> new AppointmentNotFoundException("Appointment not found with ID: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Appointment> getUpcomingAppointments(UUID clinicId, UUID patientId) {
+        return appointmentRepository.findUpcoming(clinicId, patientId, Instant.now());
+    }
+
+    /**
+     * Books the provider for the patient, if the clinic is open for the whole appointment and the
+     * provider has nothing else booked over it.
+     *
+     * <p>Callers hold the slot in {@code SlotHoldRegistry} first, so conflicts between requests on
+     * this replica are already settled. The insert is flushed here so that the exclusion constraint,
+     * which also sees bookings made through other replicas, turns an overlap into
+     * {@code APPOINTMENT_CONFLICT} instead of a failed commit.
+     */
+    @Transactional
+    public Appointment book(UUID clinicId, UUID patientId, AppointmentRequest request) {
+        log.info("Booking provider {} for patient {} of clinic {} from {} to {}",
+                request.getProviderId(), patientId, clinicId, request.getStartAt(), request.getEndAt());
+        validate(clinicId, request);
+
+        Appointment appointment;
+        try {
+            appointment = appointmentRepository.saveAndFlush(Appointment.builder()
+                    .clinicId(clinicId)
+                    .providerId(request.getProviderId())
+                    .patientId(patientId)
+                    .startAt(request.getStartAt())
+                    .endAt(request.getEndAt())
+                    .status(Appointment.AppointmentStatus.BOOKED)
+                    .reason(request.getReason())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlap(e)) {
+                throw new AppointmentConflictException("The provider already has an appointment at that time");
+            }
+            throw e;
+        }
+
+        applicationEventPublisher.publishEvent(
+                new AppointmentEvent(this, appointment, AppointmentEvent.EventType.BOOKED));
+
+        return appointment;
+    }
+
+    @Transactional
+    public Appointment cancel(UUID clinicId, UUID patientId, UUID id) {
+        log.info("Cancelling appointment {} of patient {}", id, patientId);
+
+        Appointment appointment = getAppointment(clinicId, patientId, id);
+        if (appointment.getStatus() == Appointment.AppointmentStatus.CANCELLED) {
+            return appointment;
+        }
+
+        appointment.setStatus(Appointment.AppointmentStatus.CANCELLED);
+        appointment.setCancelledAt(Instant.now());
+        appointment = appointmentRepository.save(appointment);
+
+        applicationEventPublisher.publishEvent(
+                new AppointmentEvent(this, appointment, AppointmentEvent.EventType.CANCELLED));
+
+        return appointment;
+    }
+
+    /**
+     * Checks everything but conflicts with other appointments, so a hold is never placed for a
+     * request that could not be booked.
+     */
+    public void validate(UUID clinicId, AppointmentRequest request) {
+        if (!request.getStartAt().isBefore(request.getEndAt())) {
+            throw new AppointmentValidationException("Start must be before end");
+        }
+        if (Duration.between(request.getStartAt(), request.getEndAt()).compareTo(maxDuration) > 0) {
+            throw new AppointmentValidationException("Appointments can last at most " + maxDuration);
+        }
+        if (request.getStartAt().isBefore(Instant.now())) {
+            throw new AppointmentValidationException("Appointments cannot start in the past");
+        }
+
+        ClinicSchedule schedule = clinicScheduleService.getSchedule(clinicId, request.getStartAt(), request.getEndAt());
+        if (!schedule.isOpen(request.getStartAt(), request.getEndAt())) {
+            throw new ProviderNotAvailableException("The clinic is not open for the whole appointment");
+        }
+    }
+
+    // Postgres reports exclusion constraint violations as SQLSTATE 23P01
+    private static boolean isOverlap(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static class AppointmentNotFoundException extends BaseException {
+        public AppointmentNotFoundException(String message) {
+            super(message, ErrorCode.RESOURCE_NOT_FOUND);
+        }
+    }
+
+    public static class AppointmentConflictException extends BaseException {
+        public AppointmentConflictException(String message) {
+            super(message, ErrorCode.APPOINTMENT_CONFLICT);
+        }
+    }
+
+    public static class ProviderNotAvailableException extends BaseException {
+        public ProviderNotAvailableException(String message) {
+            super(message, ErrorCode.DOCTOR_NOT_AVAILABLE);
+        }
+    }
+
+    public static class AppointmentValidationException extends BaseException {
+        public AppointmentValidationException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.mdental.appointmentcore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.appointmentcore.client.ClinicCoreClient;
+import org.mdental.appointmentcore.model.dto.OpenIntervalResponse;
+import org.mdental.appointmentcore.slots.ClinicSchedule;
+import org.mdental.appointmentcore.slots.Interval;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ApiResponse;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Clinic opening hours for the booking horizon, fetched from clinic-core.
+ *
+ * <p>clinic-core already merges business hours, seasonal hours and holidays into open intervals,
+ * so they are fetched in one call per clinic for the whole horizon, from the start of the current
+ * UTC day, and kept until they expire. The expiry bounds how long a change to a clinic's hours
+ * takes to reach slot search; bookings are checked against the same schedule.
+ */
+@Service
+@Slf4j
+public class ClinicScheduleService {
+
+    private final ClinicCoreClient clinicCoreClient;
+    private final Cache<UUID, ClinicSchedule> schedules;
+    private final Timer fetchTimer;
+    private final Duration horizon;
+
+    public ClinicScheduleService(ClinicCoreClient clinicCoreClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${appointment.schedule.horizon:P60D}") Duration horizon,
+                                 @Value("${appointment.schedule.maximum-size:10000}") long maximumSize,
+                                 @Value("${appointment.schedule.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.clinicCoreClient = clinicCoreClient;
+        this.horizon = horizon;
+        this.schedules = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.fetchTimer = Timer.builder("appointment.schedule.fetch")
+                .description("Time to fetch a clinic's open intervals from clinic-core")
+                .register(meterRegistry);
+    }
+
+    /**
+     * End of the booking horizon as of {@code now}: the horizon counted from the start of the UTC day.
+     */
+    public Instant horizonEnd(Instant now) {
+        return now.truncatedTo(ChronoUnit.DAYS).plus(horizon);
+    }
+
+    /**
+     * The clinic's schedule, loaded for a window that covers {@code [from, to)}.
+     */
+    public ClinicSchedule getSchedule(UUID clinicId, Instant from, Instant to) {
+        ClinicSchedule schedule = schedules.get(clinicId, this::fetch);
+        if (!schedule.covers(from, to)) {
+            // Loaded on an earlier day; its window may have fallen behind the horizon
+            schedules.invalidate(clinicId);
+            schedule = schedules.get(clinicId, this::fetch);
+        }
+        if (!schedule.covers(from, to)) {
+            throw new BookingHorizonException(
+                    "Appointments can only be made up to " + horizon.toDays() + " days ahead");
+        }
+        return schedule;
+    }
+
+    private ClinicSchedule fetch(UUID clinicId) {
+        Instant now = Instant.now();
+        Instant windowStart = now.truncatedTo(ChronoUnit.DAYS);
+        Instant windowEnd = horizonEnd(now);
+        log.debug("Fetching open intervals of clinic {} from {} to {}", clinicId, windowStart, windowEnd);
+
+        ApiResponse<List<OpenIntervalResponse>> response;
+        try {
+            response = fetchTimer.recordCallable(() -> clinicCoreClient.getOpenIntervals(clinicId, windowStart, windowEnd));
+        } catch (FeignException.NotFound e) {
+            throw new ClinicNotFoundException("Clinic not found with ID: " + clinicId);
+        } catch (Exception e) {
+            throw new ScheduleUnavailableException("Could not load the opening hours of clinic " + clinicId, e);
+        }
+        if (response == null || response.getData() == null) {
+            throw new ScheduleUnavailableException("Could not load the opening hours of clinic " + clinicId, null);
+        }
+
+        List<Interval> open = response.getData().stream()
+                .map(interval -> new Interval(interval.getStart(), interval.getEnd()))
+                .toList();
+        return new ClinicSchedule(windowStart, windowEnd, open);
+    }
+
+    public static class ClinicNotFoundException extends BaseException {
+        public ClinicNotFoundException(String message) {
+            super(message, ErrorCode.RESOURCE_NOT_FOUND);
+        }
+    }
+
+    public static class BookingHorizonException extends BaseException {
+        public BookingHorizonException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+
+    public static class ScheduleUnavailableException extends BaseException {
+        public ScheduleUnavailableException(String message, Throwable cause) {
+            super(message, ErrorCode.GENERAL_ERROR, cause);
+        }
+    }
+}
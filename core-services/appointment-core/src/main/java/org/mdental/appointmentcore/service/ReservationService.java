@@ -0,0 +1,115 @@
+package org.mdental.appointmentcore.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.appointmentcore.model.dto.AppointmentRequest;
+import org.mdental.appointmentcore.model.entity.Appointment;
+import org.mdental.appointmentcore.reservation.SlotHold;
+import org.mdental.appointmentcore.reservation.SlotHoldRegistry;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Booking in two steps: a short-lived hold while the patient or desk confirms, then the booking.
+ *
+ * <p>A hold is placed and checked in memory under a per-provider-day lock, so competing requests
+ * for the same slot are settled without touching the database, and confirmed by inserting the
+ * appointment, which the exclusion constraint on {@code appointments} accepts or rejects. The hold
+ * is dropped only after the booking has reached the slot search calendars, so the slot is never
+ * shown free in between. A hold this replica does not know, because it was placed through another
+ * replica or has expired, is confirmed by booking directly.
+ */
+@Service
+@Slf4j
+public class ReservationService {
+
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final SlotSearchService slotSearchService;
+    private final AppointmentService appointmentService;
+
+    public ReservationService(SlotHoldRegistry slotHoldRegistry,
+                              SlotSearchService slotSearchService,
+                              AppointmentService appointmentService) {
+        this.slotHoldRegistry = slotHoldRegistry;
+        this.slotSearchService = slotSearchService;
+        this.appointmentService = appointmentService;
+    }
+
+    public SlotHold hold(UUID clinicId, UUID patientId, AppointmentRequest request) {
+        appointmentService.validate(clinicId, request);
+        return slotHoldRegistry.tryHold(clinicId, request.getProviderId(), patientId,
+                        request.getStartAt(), request.getEndAt(),
+                        slotSearchService.calendar(clinicId, request.getProviderId()))
+                .orElseThrow(() -> new AppointmentService.AppointmentConflictException(
+                        "The provider is already booked or held at that time"));
+    }
+
+    /**
+     * Books the held slot; {@code request} must describe the same provider and time as the hold.
+     */
+    public Appointment confirm(UUID clinicId, UUID patientId, UUID holdId, AppointmentRequest request) {
+        SlotHold hold = slotHoldRegistry.find(holdId)
+                .filter(found -> found.isOwnedBy(clinicId, patientId))
+                .orElse(null);
+        if (hold == null) {
+            log.debug("Hold {} not known here, booking directly", holdId);
+            return book(clinicId, patientId, request);
+        }
+        if (!hold.providerId().equals(request.getProviderId())
+                || !hold.start().equals(request.getStartAt())
+                || !hold.end().equals(request.getEndAt())) {
+            throw new HoldMismatchException("The appointment does not match the held slot");
+        }
+        if (!hold.claim(Instant.now())) {
+            if (hold.state() == SlotHold.State.CONFIRMING) {
+                throw new AppointmentService.AppointmentConflictException("The hold is already being confirmed");
+            }
+            return book(clinicId, patientId, request);
+        }
+        return bookHeld(clinicId, patientId, hold, request);
+    }
+
+    /**
+     * Holds and books in one go, for bookings made without a separate confirmation step.
+     */
+    public Appointment book(UUID clinicId, UUID patientId, AppointmentRequest request) {
+        SlotHold hold = hold(clinicId, patientId, request);
+        if (!hold.claim(Instant.now())) {
+            slotHoldRegistry.remove(hold);
+            throw new AppointmentService.AppointmentConflictException("The hold expired before it could be confirmed");
+        }
+        return bookHeld(clinicId, patientId, hold, request);
+    }
+
+    public void release(UUID clinicId, UUID patientId, UUID holdId) {
+        SlotHold hold = slotHoldRegistry.find(holdId)
+                .filter(found -> found.isOwnedBy(clinicId, patientId))
+                .orElseThrow(() -> new HoldNotFoundException("Hold not found with ID: " + holdId));
+        if (hold.release()) {
+            slotHoldRegistry.remove(hold);
+        }
+    }
+
+    private Appointment bookHeld(UUID clinicId, UUID patientId, SlotHold hold, AppointmentRequest request) {
+        try {
+            return appointmentService.book(clinicId, patientId, request);
+        } finally {
+            slotHoldRegistry.remove(hold);
+        }
+    }
+
+    public static class HoldNotFoundException extends BaseException {
+        public HoldNotFoundException(String message) {
+            super(message, ErrorCode.RESOURCE_NOT_FOUND);
+        }
+    }
+
+    public static class HoldMismatchException extends BaseException {
+        public HoldMismatchException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
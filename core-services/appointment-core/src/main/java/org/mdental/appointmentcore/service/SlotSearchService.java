@@ -0,0 +1,169 @@
+package org.mdental.appointmentcore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.appointmentcore.event.AppointmentEvent;
+import org.mdental.appointmentcore.model.entity.Appointment;
+import org.mdental.appointmentcore.repository.AppointmentRepository;
+import org.mdental.appointmentcore.reservation.SlotHoldRegistry;
+import org.mdental.appointmentcore.slots.ClinicBookings;
+import org.mdental.appointmentcore.slots.ClinicSchedule;
+import org.mdental.appointmentcore.slots.Interval;
+import org.mdental.appointmentcore.slots.ProviderCalendar;
+import org.mdental.appointmentcore.slots.SlotFinder;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * "First N free slots of a provider" answered from memory.
+ *
+ * <p>A clinic's current and future bookings are loaded into per-provider {@link ProviderCalendar}s
+ * on first search and kept current by {@link AppointmentEvent}s once they commit, so a booking or
+ * cancellation touches one calendar entry instead of reloading the clinic. Loading a clinic and
+ * applying an event to it both run under the cache's per-key lock, so no committed change is lost
+ * between the load's query and the calendar being published. Clinics are reloaded periodically to
+ * drop past bookings and pick up changes made through other replicas, and evicted once idle.
+ * Time held in {@link SlotHoldRegistry} for a booking in progress is not offered either.
+ */
+@Service
+@Slf4j
+public class SlotSearchService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final ClinicScheduleService clinicScheduleService;
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final Cache<UUID, ClinicBookings> bookings;
+    private final Timer searchTimer;
+    private final Duration step;
+    private final Duration maxDuration;
+    private final Duration defaultRange;
+    private final int maxLimit;
+
+    public SlotSearchService(AppointmentRepository appointmentRepository,
+                             ClinicScheduleService clinicScheduleService,
+                             SlotHoldRegistry slotHoldRegistry,
+                             MeterRegistry meterRegistry,
+                             @Value("${appointment.slots.step:PT15M}") Duration step,
+                             @Value("${appointment.slots.max-duration:PT8H}") Duration maxDuration,
+                             @Value("${appointment.slots.default-range:P7D}") Duration defaultRange,
+                             @Value("${appointment.slots.max-limit:50}") int maxLimit,
+                             @Value("${appointment.slots.maximum-clinics:10000}") long maximumClinics,
+                             @Value("${appointment.slots.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.appointmentRepository = appointmentRepository;
+        this.clinicScheduleService = clinicScheduleService;
+        this.slotHoldRegistry = slotHoldRegistry;
+        this.step = step;
+        this.maxDuration = maxDuration;
+        this.defaultRange = defaultRange;
+        this.maxLimit = maxLimit;
+        this.bookings = Caffeine.newBuilder()
+                .maximumSize(maximumClinics)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.searchTimer = Timer.builder("appointment.slots.search")
+                .description("Time to find a provider's first free slots")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Up to {@code limit} free slots of {@code duration} for the provider, earliest first.
+     *
+     * @param from start of the range, or null for now; never earlier than now
+     * @param to   end of the range, or null for {@code appointment.slots.default-range} after its start
+     */
+    public List<Interval> findFreeSlots(UUID clinicId, UUID providerId, Duration duration,
+                                        Instant from, Instant to, int limit) {
+        Instant now = Instant.now();
+        Instant start = from == null || from.isBefore(now) ? now : from;
+        Instant end = to != null ? to : start.plus(defaultRange);
+        validate(duration, start, end, limit);
+
+        Instant horizonEnd = clinicScheduleService.horizonEnd(now);
+        if (end.isAfter(horizonEnd)) {
+            end = horizonEnd;
+        }
+        if (!start.isBefore(end)) {
+            return List.of();
+        }
+
+        ClinicSchedule schedule = clinicScheduleService.getSchedule(clinicId, start, end);
+        List<ProviderCalendar> calendars = List.of(
+                bookings(clinicId).calendar(providerId), slotHoldRegistry.calendar(providerId));
+        Instant rangeStart = start;
+        Instant rangeEnd = end;
+        return searchTimer.record(() -> SlotFinder.firstFree(
+                schedule.between(rangeStart, rangeEnd), calendars, rangeStart, rangeEnd, duration, step, limit));
+    }
+
+    /**
+     * The provider's bookings as this replica knows them, for holds to be checked against.
+     */
+    public ProviderCalendar calendar(UUID clinicId, UUID providerId) {
+        return bookings(clinicId).calendar(providerId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentEvent event) {
+        Appointment appointment = event.getAppointment();
+        bookings.asMap().computeIfPresent(appointment.getClinicId(), (clinicId, clinic) -> {
+            if (event.getType() == AppointmentEvent.EventType.BOOKED) {
+                clinic.book(appointment.getId(), appointment.getProviderId(),
+                        appointment.getStartAt(), appointment.getEndAt());
+            } else {
+                clinic.cancel(appointment.getId());
+            }
+            return clinic;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${appointment.slots.refresh-interval-ms:60000}",
+            initialDelayString = "${appointment.slots.refresh-interval-ms:60000}")
+    public void refreshBookings() {
+        for (UUID clinicId : List.copyOf(bookings.asMap().keySet())) {
+            bookings.asMap().computeIfPresent(clinicId, (id, stale) -> load(id));
+        }
+    }
+
+    private ClinicBookings bookings(UUID clinicId) {
+        return bookings.get(clinicId, this::load);
+    }
+
+    private ClinicBookings load(UUID clinicId) {
+        ClinicBookings clinic = new ClinicBookings();
+        for (Appointment appointment : appointmentRepository.findBookedEndingAfter(clinicId, Instant.now())) {
+            clinic.book(appointment.getId(), appointment.getProviderId(), appointment.getStartAt(), appointment.getEndAt());
+        }
+        log.debug("Loaded {} bookings of clinic {}", clinic.size(), clinicId);
+        return clinic;
+    }
+
+    private void validate(Duration duration, Instant start, Instant end, int limit) {
+        if (duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new SlotSearchException("'duration' must be positive and at most " + maxDuration);
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new SlotSearchException("'limit' must be between 1 and " + maxLimit);
+        }
+        if (!start.isBefore(end)) {
+            throw new SlotSearchException("'from' must be before 'to'");
+        }
+    }
+
+    public static class SlotSearchException extends BaseException {
+        public SlotSearchException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.mdental.appointmentcore.slots;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-provider calendars of one clinic's current and future bookings. Reads are lock-free;
+ * {@link #book} and {@link #cancel} must not run concurrently for the same clinic.
+ */
+public final class ClinicBookings {
+
+    private static final ProviderCalendar EMPTY = new ProviderCalendar();
+
+    private final Map<UUID, ProviderCalendar> calendars = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> providerOf = new ConcurrentHashMap<>();
+
+    /**
+     * The provider's calendar; a provider with nothing booked gets an empty one.
+     */
+    public ProviderCalendar calendar(UUID providerId) {
+        return calendars.getOrDefault(providerId, EMPTY);
+    }
+
+    public int size() {
+        return providerOf.size();
+    }
+
+    public void book(UUID bookingId, UUID providerId, Instant start, Instant end) {
+        UUID previousProvider = providerOf.put(bookingId, providerId);
+        if (previousProvider != null && !previousProvider.equals(providerId)) {
+            calendars.get(previousProvider).remove(bookingId);
+        }
+        calendars.computeIfAbsent(providerId, id -> new ProviderCalendar()).add(bookingId, start, end);
+    }
+
+    public void cancel(UUID bookingId) {
+        UUID providerId = providerOf.remove(bookingId);
+        if (providerId != null) {
+            calendars.get(providerId).remove(bookingId);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.mdental.appointmentcore.slots;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * When a clinic is open within a loaded window, as sorted disjoint intervals.
+ */
+public record ClinicSchedule(Instant windowStart, Instant windowEnd, List<Interval> open) {
+
+    public ClinicSchedule {
+        open = List.copyOf(open);
+    }
+
+    public boolean covers(Instant from, Instant to) {
+        return !from.isBefore(windowStart) && !to.isAfter(windowEnd);
+    }
+
+    /**
+     * Whether {@code [start, end)} lies within one open interval.
+     */
+    public boolean isOpen(Instant start, Instant end) {
+        int index = indexOfFirstEndingAfter(start);
+        return index < open.size() && open.get(index).contains(start, end);
+    }
+
+    /**
+     * The open intervals overlapping {@code [from, to)}, unclipped.
+     */
+    public List<Interval> between(Instant from, Instant to) {
+        int first = indexOfFirstEndingAfter(from);
+        int last = first;
+        while (last < open.size() && open.get(last).start().isBefore(to)) {
+            last++;
+        }
+        return open.subList(first, last);
+    }
+
+    // An interval ending exactly at the instant does not contain it
+    private int indexOfFirstEndingAfter(Instant instant) {
+        int low = 0;
+        int high = open.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (open.get(middle).end().isAfter(instant)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,23 @@
+package org.mdental.appointmentcore.slots;
+
+import java.time.Instant;
+
+/**
+ * Half-open time interval {@code [start, end)}.
+ */
+public record Interval(Instant start, Instant end) {
+
+    public Interval {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Interval start must be before its end");
+        }
+    }
+
+    public boolean overlaps(Instant otherStart, Instant otherEnd) {
+        return start.isBefore(otherEnd) && otherStart.isBefore(end);
+    }
+
+    public boolean contains(Instant otherStart, Instant otherEnd) {
+        return !otherStart.isBefore(start) && !otherEnd.isAfter(end);
+    }
+}
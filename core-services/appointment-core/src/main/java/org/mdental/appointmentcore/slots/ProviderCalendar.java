@@ -0,0 +1,85 @@
+package org.mdental.appointmentcore.slots;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Busy intervals of one provider, ordered by start so the ones overlapping a range are found in
+ * logarithmic time.
+ *
+ * <p>This is an interval tree specialised to intervals of bounded length: instead of augmenting
+ * every node with the greatest end beneath it, the calendar remembers the longest interval it has
+ * held, and any interval that can reach past an instant {@code t} must then start after
+ * {@code t - longest}. Appointments are minutes to hours long, so that bound costs a few extra
+ * entries at most, and it stays correct if legacy data holds overlapping bookings. Reads never
+ * lock; writers are serialised per provider.
+ */
+public final class ProviderCalendar {
+
+    public record Busy(UUID id, Instant start, Instant end) {}
+
+    private static final Comparator<Busy> BY_START = Comparator.comparing(Busy::start).thenComparing(Busy::id);
+
+    // Sorts before every real id with the same start
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final NavigableSet<Busy> byStart = new ConcurrentSkipListSet<>(BY_START);
+    private final Map<UUID, Busy> byId = new ConcurrentHashMap<>();
+    private volatile Duration longest = Duration.ZERO;
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Marks {@code [start, end)} busy under {@code id}, replacing what the id held before.
+     */
+    public synchronized void add(UUID id, Instant start, Instant end) {
+        // Widen the bound first, so a reader never sees the interval without it
+        Duration length = Duration.between(start, end);
+        if (length.compareTo(longest) > 0) {
+            longest = length;
+        }
+        Busy busy = new Busy(id, start, end);
+        Busy previous = byId.put(id, busy);
+        if (previous != null) {
+            byStart.remove(previous);
+        }
+        byStart.add(busy);
+    }
+
+    public synchronized boolean remove(UUID id) {
+        Busy removed = byId.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        byStart.remove(removed);
+        return true;
+    }
+
+    public boolean isFree(Instant start, Instant end) {
+        for (Busy busy : from(start)) {
+            if (!busy.start().isBefore(end)) {
+                return true;
+            }
+            if (busy.end().isAfter(start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Busy intervals in start order, beginning early enough to include every one that ends after
+     * {@code instant}; callers stop iterating once starts pass the end of their range.
+     */
+    public NavigableSet<Busy> from(Instant instant) {
+        return byStart.tailSet(new Busy(LOWEST_ID, instant.minus(longest), instant), true);
+    }
+}
@@ -0,0 +1,119 @@
+package org.mdental.appointmentcore.slots;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Finds the first free slots of a provider by walking the clinic's open intervals and the
+ * provider's busy intervals side by side, both in time order.
+ *
+ * <p>Slots start on multiples of {@code step} since the epoch, so with a step that divides an hour
+ * they fall on the same minutes of the hour in every whole-hour time zone. The walk stops as soon
+ * as {@code limit} slots are found, so its cost depends on the bookings it passes over, not on the
+ * length of the range.
+ */
+public final class SlotFinder {
+
+    private SlotFinder() {
+    }
+
+    public static List<Interval> firstFree(List<Interval> open, ProviderCalendar calendar,
+                                           Instant from, Instant to, Duration duration, Duration step, int limit) {
+        return firstFree(open, List.of(calendar), from, to, duration, step, limit);
+    }
+
+    /**
+     * As above, with the provider busy wherever any of {@code calendars} is, such as bookings and holds.
+     */
+    public static List<Interval> firstFree(List<Interval> open, List<ProviderCalendar> calendars,
+                                           Instant from, Instant to, Duration duration, Duration step, int limit) {
+        List<Interval> slots = new ArrayList<>(limit);
+        if (limit <= 0 || !from.isBefore(to)) {
+            return slots;
+        }
+        long length = duration.toMillis();
+        long stepMillis = step.toMillis();
+
+        Iterator<ProviderCalendar.Busy> busy = calendars.size() == 1
+                ? calendars.get(0).from(from).iterator()
+                : new InStartOrder(calendars, from);
+        ProviderCalendar.Busy next = busy.hasNext() ? busy.next() : null;
+
+        for (Interval interval : open) {
+            long end = Math.min(interval.end().toEpochMilli(), to.toEpochMilli());
+            long cursor = Math.max(interval.start().toEpochMilli(), from.toEpochMilli());
+            if (cursor >= to.toEpochMilli()) {
+                break;
+            }
+
+            while (cursor < end) {
+                while (next != null && next.end().toEpochMilli() <= cursor) {
+                    next = busy.hasNext() ? busy.next() : null;
+                }
+                long nextStart = next != null ? next.start().toEpochMilli() : Long.MAX_VALUE;
+                if (nextStart <= cursor) {
+                    // Busy at the cursor: skip to the end of that booking
+                    cursor = next.end().toEpochMilli();
+                    continue;
+                }
+
+                long gapEnd = Math.min(end, nextStart);
+                for (long slot = alignUp(cursor, stepMillis); slot + length <= gapEnd; slot += stepMillis) {
+                    slots.add(new Interval(Instant.ofEpochMilli(slot), Instant.ofEpochMilli(slot + length)));
+                    if (slots.size() == limit) {
+                        return slots;
+                    }
+                }
+                cursor = gapEnd;
+            }
+        }
+        return slots;
+    }
+
+    // Merges the calendars' busy intervals into one sequence ordered by start
+    private static final class InStartOrder implements Iterator<ProviderCalendar.Busy> {
+
+        private final List<Iterator<ProviderCalendar.Busy>> iterators = new ArrayList<>();
+        private final List<ProviderCalendar.Busy> heads = new ArrayList<>();
+
+        InStartOrder(List<ProviderCalendar> calendars, Instant from) {
+            for (ProviderCalendar calendar : calendars) {
+                Iterator<ProviderCalendar.Busy> iterator = calendar.from(from).iterator();
+                iterators.add(iterator);
+                heads.add(iterator.hasNext() ? iterator.next() : null);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return heads.stream().anyMatch(Objects::nonNull);
+        }
+
+        @Override
+        public ProviderCalendar.Busy next() {
+            int earliest = -1;
+            for (int i = 0; i < heads.size(); i++) {
+                ProviderCalendar.Busy head = heads.get(i);
+                if (head != null && (earliest < 0 || head.start().isBefore(heads.get(earliest).start()))) {
+                    earliest = i;
+                }
+            }
+            if (earliest < 0) {
+                throw new NoSuchElementException();
+            }
+            ProviderCalendar.Busy next = heads.get(earliest);
+            Iterator<ProviderCalendar.Busy> iterator = iterators.get(earliest);
+            heads.set(earliest, iterator.hasNext() ? iterator.next() : null);
+            return next;
+        }
+    }
+
+    private static long alignUp(long millis, long step) {
+        return Math.floorDiv(millis + step - 1, step) * step;
+    }
+}
@@ -0,0 +1,24 @@
+CREATE TABLE appointments (
+    id           UUID PRIMARY KEY,
+    clinic_id    UUID         NOT NULL,
+    provider_id  UUID         NOT NULL,
+    patient_id   UUID         NOT NULL,
+    start_at     TIMESTAMPTZ  NOT NULL,
+    end_at       TIMESTAMPTZ  NOT NULL,
+    status       VARCHAR(20)  NOT NULL,
+    reason       VARCHAR(500),
+    cancelled_at TIMESTAMPTZ,
+    created_at   TIMESTAMPTZ  NOT NULL,
+    created_by   VARCHAR(255),
+    updated_at   TIMESTAMPTZ,
+    updated_by   VARCHAR(255),
+    deleted_at   TIMESTAMPTZ,
+    deleted_by   VARCHAR(255),
+    version      INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT ck_appointment_interval CHECK (start_at < end_at)
+);
+
+CREATE INDEX idx_appointment_provider_start ON appointments (provider_id, start_at);
+-- Slot search loads each clinic's bookings that have not ended yet
+CREATE INDEX idx_appointment_clinic_end ON appointments (clinic_id, end_at) WHERE status = 'BOOKED';
+CREATE INDEX idx_appointment_patient ON appointments (patient_id);
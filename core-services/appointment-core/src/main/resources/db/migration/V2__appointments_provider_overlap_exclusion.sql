@@ -0,0 +1,14 @@
+-- Two booked appointments of the same provider can never overlap, whichever replica inserts them.
+-- In-memory slot holds settle most races first; this constraint is the final arbiter and rejects
+-- the loser with SQLSTATE 23P01 instead of serialising bookings on a table lock. Cancelled and
+-- soft-deleted appointments never conflict.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE appointments
+    ADD CONSTRAINT ex_appointment_provider_overlap
+    EXCLUDE USING gist (
+        provider_id WITH =,
+        tstzrange(start_at, end_at, '[)') WITH &&
+    )
+    WHERE (status = 'BOOKED' AND deleted_at IS NULL);
+
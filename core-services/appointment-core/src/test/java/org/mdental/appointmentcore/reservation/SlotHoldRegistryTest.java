@@ -0,0 +1,97 @@
+package org.mdental.appointmentcore.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mdental.appointmentcore.slots.ProviderCalendar;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotHoldRegistryTest {
+
+    private final UUID clinicId = UUID.randomUUID();
+    private final Instant start = Instant.now().plus(Duration.ofDays(1));
+    private final Instant end = start.plus(Duration.ofMinutes(30));
+
+    @Test
+    void tryHold_shouldLetOneOfManyConcurrentRequestsHoldASlot() throws Exception {
+        // Arrange
+        SlotHoldRegistry registry = new SlotHoldRegistry(new SimpleMeterRegistry(), Duration.ofMinutes(5), 64, 1000, 512);
+        UUID contested = UUID.randomUUID();
+        List<UUID> others = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            others.add(UUID.randomUUID());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Optional<SlotHold>>> contestedResults = new ArrayList<>();
+        List<Future<Optional<SlotHold>>> otherResults = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 32; i++) {
+            Instant offset = start.plus(Duration.ofMinutes(i % 3 * 10));
+            contestedResults.add(executor.submit(() -> {
+                ready.await();
+                return registry.tryHold(clinicId, contested, UUID.randomUUID(), offset, offset.plus(Duration.ofMinutes(30)),
+                        new ProviderCalendar());
+            }));
+        }
+        for (UUID provider : others) {
+            otherResults.add(executor.submit(() -> {
+                ready.await();
+                return registry.tryHold(clinicId, provider, UUID.randomUUID(), start, end, new ProviderCalendar());
+            }));
+        }
+        ready.countDown();
+        List<Optional<SlotHold>> contestedHolds = new ArrayList<>();
+        for (Future<Optional<SlotHold>> result : contestedResults) {
+            contestedHolds.add(result.get());
+        }
+        List<Optional<SlotHold>> otherHolds = new ArrayList<>();
+        for (Future<Optional<SlotHold>> result : otherResults) {
+            otherHolds.add(result.get());
+        }
+        executor.shutdown();
+
+        // Assert
+        // Every contested request overlaps every other, so exactly one may win
+        assertThat(contestedHolds).filteredOn(Optional::isPresent).hasSize(1);
+        assertThat(otherHolds).allMatch(Optional::isPresent);
+    }
+
+    @Test
+    void tryHold_shouldRejectBookedTimeAndReclaimExpiredHolds() throws Exception {
+        // Arrange
+        SlotHoldRegistry registry = new SlotHoldRegistry(new SimpleMeterRegistry(), Duration.ofMillis(50), 64, 10, 8);
+        UUID provider = UUID.randomUUID();
+        ProviderCalendar bookings = new ProviderCalendar();
+        bookings.add(UUID.randomUUID(), end, end.plus(Duration.ofMinutes(30)));
+
+        // Act
+        Optional<SlotHold> overBooking = registry.tryHold(clinicId, provider, UUID.randomUUID(),
+                start.plus(Duration.ofMinutes(15)), end.plus(Duration.ofMinutes(15)), bookings);
+        Optional<SlotHold> first = registry.tryHold(clinicId, provider, UUID.randomUUID(), start, end, bookings);
+        Optional<SlotHold> whileHeld = registry.tryHold(clinicId, provider, UUID.randomUUID(), start, end, bookings);
+        Thread.sleep(100);
+        registry.expireHolds();
+        Optional<SlotHold> afterExpiry = registry.tryHold(clinicId, provider, UUID.randomUUID(), start, end, bookings);
+
+        // Assert
+        assertThat(overBooking).isEmpty();
+        assertThat(first).isPresent();
+        assertThat(whileHeld).isEmpty();
+        assertThat(first.get().state()).isEqualTo(SlotHold.State.EXPIRED);
+        assertThat(registry.find(first.get().id())).isEmpty();
+        assertThat(afterExpiry).isPresent();
+    }
+}
@@ -0,0 +1,97 @@
+package org.mdental.appointmentcore.slots;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotFinderTest {
+
+    private static final Instant MONDAY = Instant.parse("2030-01-07T00:00:00Z");
+    private static final Duration STEP = Duration.ofMinutes(15);
+
+    @Test
+    void firstFree_shouldMatchABruteForceScan() {
+        // Arrange
+        Random random = new Random(42);
+        List<Interval> open = new ArrayList<>();
+        for (int day = 0; day < 14; day++) {
+            Instant date = MONDAY.plus(Duration.ofDays(day));
+            open.add(new Interval(date.plus(Duration.ofHours(8)), date.plus(Duration.ofHours(12))));
+            open.add(new Interval(date.plus(Duration.ofHours(14)), date.plus(Duration.ofHours(18))));
+        }
+        ProviderCalendar calendar = new ProviderCalendar();
+        List<Interval> busy = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // Minute-aligned and sometimes overlapping, like bookings that predate any constraint
+            Instant start = MONDAY.plus(Duration.ofMinutes(random.nextInt(14 * 24 * 60)));
+            Instant end = start.plus(Duration.ofMinutes(10 + random.nextInt(i % 50 == 0 ? 600 : 90)));
+            calendar.add(UUID.randomUUID(), start, end);
+            busy.add(new Interval(start, end));
+        }
+
+        for (int query = 0; query < 100; query++) {
+            Instant from = MONDAY.plus(Duration.ofMinutes(random.nextInt(12 * 24 * 60)));
+            Instant to = from.plus(Duration.ofHours(1 + random.nextInt(72)));
+            Duration duration = Duration.ofMinutes(15L * (1 + random.nextInt(6)));
+
+            // Act
+            List<Interval> slots = SlotFinder.firstFree(open, calendar, from, to, duration, STEP, 8);
+
+            // Assert
+            assertThat(slots).containsExactlyElementsOf(bruteForce(open, busy, from, to, duration, 8));
+        }
+    }
+
+    @Test
+    void firstFree_shouldFollowBookingsAndCancellations() {
+        // Arrange
+        Instant nine = MONDAY.plus(Duration.ofHours(9));
+        List<Interval> open = List.of(new Interval(nine, nine.plus(Duration.ofHours(2))));
+        ProviderCalendar calendar = new ProviderCalendar();
+        UUID first = UUID.randomUUID();
+        calendar.add(first, nine, nine.plus(Duration.ofMinutes(30)));
+        calendar.add(UUID.randomUUID(), nine.plus(Duration.ofMinutes(45)), nine.plus(Duration.ofMinutes(105)));
+
+        // Act
+        List<Interval> booked = SlotFinder.firstFree(open, calendar, nine, nine.plus(Duration.ofHours(2)),
+                Duration.ofMinutes(15), STEP, 10);
+        calendar.remove(first);
+        List<Interval> afterCancel = SlotFinder.firstFree(open, calendar, nine, nine.plus(Duration.ofHours(2)),
+                Duration.ofMinutes(30), STEP, 10);
+
+        // Assert
+        assertThat(booked).extracting(Interval::start)
+                .containsExactly(nine.plus(Duration.ofMinutes(30)), nine.plus(Duration.ofMinutes(105)));
+        assertThat(afterCancel).extracting(Interval::start)
+                .containsExactly(nine, nine.plus(Duration.ofMinutes(15)));
+        assertThat(calendar.isFree(nine, nine.plus(Duration.ofMinutes(45)))).isTrue();
+        assertThat(calendar.isFree(nine.plus(Duration.ofMinutes(100)), nine.plus(Duration.ofHours(2)))).isFalse();
+    }
+
+    private static List<Interval> bruteForce(List<Interval> open, List<Interval> busy,
+                                             Instant from, Instant to, Duration duration, int limit) {
+        List<Interval> slots = new ArrayList<>();
+        long step = STEP.toMillis();
+        long first = Math.floorDiv(from.toEpochMilli() + step - 1, step) * step;
+        for (Instant start = Instant.ofEpochMilli(first); !start.plus(duration).isAfter(to); start = start.plus(STEP)) {
+            Instant end = start.plus(duration);
+            Instant slotStart = start;
+            boolean isOpen = open.stream().anyMatch(interval -> interval.contains(slotStart, end));
+            boolean isFree = busy.stream().noneMatch(interval -> interval.overlaps(slotStart, end));
+            if (isOpen && isFree) {
+                slots.add(new Interval(start, end));
+                if (slots.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return slots;
+    }
+}
@@ -1,9 +1,12 @@
 package org.mdental.authcore.config;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.mdental.authcore.web.controller.AuthenticationUserResolver;
 import org.mdental.security.tenant.TenantFilterInterceptor;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -15,6 +18,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
     private final TenantFilterInterceptor tenantFilterInterceptor;
+    private final AuthenticationUserResolver authenticationUserResolver;
 
     /**
      * Configure interceptors.
@@ -25,4 +29,14 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(tenantFilterInterceptor);
     }
-}
\ No newline at end of file
+
+    /**
+     * Configure argument resolvers.
+     *
+     * @param resolvers the argument resolvers
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authenticationUserResolver);
+    }
+}
@@ -0,0 +1,134 @@
+package org.mdental.authcore.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Progress and per-row outcome of a bulk user import.
+ * Updated by the import worker and read concurrently by status requests.
+ */
+@Getter
+public class BulkUserImportJob {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum RowStatus {
+        PENDING,
+        CREATED,
+        REJECTED
+    }
+
+    /**
+     * Outcome of a single row.
+     *
+     * @param index the zero-based row index in the request
+     * @param username the requested username
+     * @param status the row status
+     * @param userId the created user ID, if created
+     * @param error the rejection reason, if rejected
+     */
+    public record RowResult(int index, String username, RowStatus status, UUID userId, String error) {}
+
+    private final UUID id;
+    private final UUID tenantId;
+    private final int total;
+    private final Instant submittedAt;
+    private volatile State state = State.QUEUED;
+    private volatile Instant completedAt;
+    private volatile String error;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger hashed = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger created = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger rejected = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicReferenceArray<RowResult> rows;
+
+    public BulkUserImportJob(UUID tenantId, List<BulkUserImportRow> rows) {
+        this.id = UUID.randomUUID();
+        this.tenantId = tenantId;
+        this.total = rows.size();
+        this.submittedAt = Instant.now();
+        this.rows = new AtomicReferenceArray<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            this.rows.set(i, new RowResult(i, rows.get(i).username(), RowStatus.PENDING, null, null));
+        }
+    }
+
+    public void markRunning() {
+        state = State.RUNNING;
+    }
+
+    public void markCompleted() {
+        completedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    /**
+     * Abort the job; rows not yet created stay pending.
+     *
+     * @param reason the failure reason
+     */
+    public void markFailed(String reason) {
+        error = reason;
+        completedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    public void recordHashed() {
+        hashed.incrementAndGet();
+    }
+
+    public void recordCreated(int index, UUID userId) {
+        rows.set(index, new RowResult(index, rows.get(index).username(), RowStatus.CREATED, userId, null));
+        created.incrementAndGet();
+    }
+
+    public void recordRejected(int index, String reason) {
+        rows.set(index, new RowResult(index, rows.get(index).username(), RowStatus.REJECTED, null, reason));
+        rejected.incrementAndGet();
+    }
+
+    public RowStatus rowStatus(int index) {
+        return rows.get(index).status();
+    }
+
+    public int getHashed() {
+        return hashed.get();
+    }
+
+    public int getCreated() {
+        return created.get();
+    }
+
+    public int getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Get a point-in-time copy of the per-row results.
+     *
+     * @return the row results in request order
+     */
+    public List<RowResult> getRows() {
+        List<RowResult> results = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            results.add(rows.get(i));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,32 @@
+package org.mdental.authcore.domain.model;
+
+import org.mdental.commons.model.Role;
+
+import java.util.Set;
+
+/**
+ * One user to create as part of a bulk import.
+ */
+public record BulkUserImportRow(
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        String password,
+        Set<Role> roles,
+        boolean emailVerified
+) {
+    public BulkUserImportRow {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    /**
+     * Hide the password from log output.
+     *
+     * @return a string representation without the password
+     */
+    @Override
+    public String toString() {
+        return "BulkUserImportRow[username=" + username + ", email=" + email + ", roles=" + roles + "]";
+    }
+}
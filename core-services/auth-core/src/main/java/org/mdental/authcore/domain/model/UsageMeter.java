@@ -0,0 +1,36 @@
+package org.mdental.authcore.domain.model;
+
+/**
+ * Per-tenant usage meters persisted for capacity planning and billing.
+ */
+public enum UsageMeter {
+    /**
+     * Successful login.
+     */
+    LOGIN_SUCCESS,
+
+    /**
+     * Failed login attempt.
+     */
+    LOGIN_FAILED,
+
+    /**
+     * Access token refreshed.
+     */
+    TOKEN_REFRESHED,
+
+    /**
+     * Refresh token revoked (logout).
+     */
+    TOKEN_REVOKED,
+
+    /**
+     * User created, individually or by bulk import.
+     */
+    USER_CREATED,
+
+    /**
+     * Password reset requested.
+     */
+    PASSWORD_RESET_REQUESTED
+}
@@ -78,9 +78,10 @@ public class User extends BaseEntity {
     private boolean locked;
 
     /**
-     * Timestamp of last successful login.
+     * Timestamp of last successful login. Read-only here: LastLoginWriteBehind is its only writer,
+     * so saving a user loaded before a flush cannot put the older value back.
      */
-    @Column(name = "last_login_at")
+    @Column(name = "last_login_at", insertable = false, updatable = false)
     private Instant lastLoginAt;
 
     /**
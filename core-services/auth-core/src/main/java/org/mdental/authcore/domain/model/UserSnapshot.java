@@ -0,0 +1,92 @@
+package org.mdental.authcore.domain.model;
+
+import org.mdental.commons.event.ChangeSchema;
+import org.mdental.commons.model.Role;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable projection of a user, safe to share between requests and threads.
+ * Never carries the password hash.
+ */
+public record UserSnapshot(
+        UUID id,
+        UUID tenantId,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        boolean emailVerified,
+        boolean locked,
+        Instant lastLoginAt,
+        Set<Role> roles,
+        int version
+) {
+    /**
+     * The fields published in user change events. The last login time is left out: it is written
+     * behind and would turn every sign-in into an event. The version is in, so a change to an
+     * unpublished field such as the password hash still shows up.
+     */
+    public static final ChangeSchema<UserSnapshot> CHANGES = ChangeSchema.<UserSnapshot>builder("user", 1)
+            .field("tenantId", UserSnapshot::tenantId)
+            .field("username", UserSnapshot::username)
+            .field("email", UserSnapshot::email)
+            .field("firstName", UserSnapshot::firstName)
+            .field("lastName", UserSnapshot::lastName)
+            .field("emailVerified", UserSnapshot::emailVerified)
+            .field("locked", UserSnapshot::locked)
+            .field("roles", UserSnapshot::roles)
+            .field("version", UserSnapshot::version)
+            .build();
+
+    public UserSnapshot {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    /**
+     * Create a snapshot from a user entity.
+     *
+     * @param user the user entity
+     * @return the snapshot
+     */
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getTenantId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.isEmailVerified(),
+                user.isLocked(),
+                user.getLastLoginAt(),
+                user.getRoles(),
+                user.getVersion()
+        );
+    }
+
+    /**
+     * Materialize a detached user from this snapshot.
+     * The returned instance is not managed and has no password hash; it must not be saved.
+     *
+     * @return a detached user
+     */
+    public User toUser() {
+        User user = User.builder()
+                .tenantId(tenantId)
+                .username(username)
+                .email(email)
+                .firstName(firstName)
+                .lastName(lastName)
+                .emailVerified(emailVerified)
+                .locked(locked)
+                .lastLoginAt(lastLoginAt)
+                .roles(roles)
+                .build();
+        user.setId(id);
+        user.setVersion(version);
+        return user;
+    }
+}
@@ -4,13 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.model.AuditLog;
 import org.mdental.authcore.domain.repository.AuditLogRepository;
+import org.mdental.authcore.infrastructure.context.RequestContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Collections;
 import java.util.Map;
@@ -37,8 +36,9 @@ public class AuditLogService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(UUID tenantId, UUID userId, AuditLog.EventType eventType, Map<String, Object> details) {
         try {
-            String ipAddress = extractIpAddress();
-            String requestId = extractRequestId();
+            RequestContext context = RequestContext.current();
+            String ipAddress = context != null ? context.clientIp() : null;
+            String requestId = context != null ? context.requestId() : null;
 
             AuditLog auditLog = AuditLog.builder()
                     .tenantId(tenantId)
@@ -78,38 +78,4 @@ public class AuditLogService {
     public Page<AuditLog> findByUser(UUID userId, Pageable pageable) {
         return auditLogRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
-
-    /**
-     * Extract the client IP address from the current request.
-     */
-    private String extractIpAddress() {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                String xff = attributes.getRequest().getHeader("X-Forwarded-For");
-                if (xff != null && !xff.isEmpty()) {
-                    return xff.split(",")[0].trim();
-                }
-                return attributes.getRequest().getRemoteAddr();
-            }
-        } catch (Exception e) {
-            log.warn("Failed to extract IP address", e);
-        }
-        return null;
-    }
-
-    /**
-     * Extract the request ID from the current request.
-     */
-    private String extractRequestId() {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                return attributes.getRequest().getHeader("X-Request-ID");
-            }
-        } catch (Exception e) {
-            log.warn("Failed to extract request ID", e);
-        }
-        return null;
-    }
-}
\ No newline at end of file
+}
@@ -7,12 +7,15 @@ import org.mdental.authcore.domain.event.AuthEvent;
 import org.mdental.authcore.domain.model.AuditLog;
 import org.mdental.authcore.domain.model.FailedLoginAttempt;
 import org.mdental.authcore.domain.model.RefreshToken;
+import org.mdental.authcore.domain.model.UsageMeter;
 import org.mdental.authcore.domain.model.User;
 import org.mdental.authcore.domain.repository.FailedLoginAttemptRepository;
 import org.mdental.authcore.domain.repository.RefreshTokenRepository;
 import org.mdental.authcore.exception.AccountLockedException;
 import org.mdental.authcore.exception.AuthenticationException;
 import org.mdental.authcore.exception.InvalidTokenException;
+import org.mdental.authcore.infrastructure.metering.TenantUsageMeter;
+import org.mdental.authcore.infrastructure.security.stuffing.CredentialStuffingDetector;
 import org.mdental.authcore.util.TokenHashUtil;
 import org.mdental.commons.model.AuthPrincipal;
 import org.mdental.commons.model.Role;
@@ -46,6 +49,8 @@ public class AuthService {
     private final OutboxService outboxService;
     private final MeterRegistry meterRegistry;
     private final AuditLogService auditLogService;
+    private final CredentialStuffingDetector credentialStuffingDetector;
+    private final TenantUsageMeter tenantUsageMeter;
 
     @Value("${mdental.auth.max-failed-attempts:5}")
     private int maxFailedAttempts;
@@ -106,9 +111,8 @@ public class AuthService {
                 throw new AccountLockedException("Account is locked");
             }
 
-            // Verify password
+            // Verify password; the failure is recorded once by the BadCredentialsException handler below
             if (!passwordService.matches(password.toCharArray(), user.getPasswordHash())) {
-                recordFailedLogin(username, tenantId, ipAddress);
                 throw new BadCredentialsException("Invalid credentials");
             }
 
@@ -159,6 +163,8 @@ public class AuthService {
 
             // Track metrics
             meterRegistry.counter("auth.login.success", "tenant", tenantId.toString()).increment();
+            credentialStuffingDetector.recordSuccess(ipAddress);
+            tenantUsageMeter.record(tenantId, UsageMeter.LOGIN_SUCCESS);
 
             // Return tokens
             Map<String, Object> result = new HashMap<>();
@@ -275,6 +281,7 @@ public class AuthService {
 
         // Track metrics
         meterRegistry.counter("auth.token.refresh.success").increment();
+        tenantUsageMeter.record(token.getTenantId(), UsageMeter.TOKEN_REFRESHED);
 
         // Return tokens
         Map<String, Object> result = new HashMap<>();
@@ -300,6 +307,7 @@ public class AuthService {
 
             log.info("Revoked refresh token for user: {}", token.getUserId());
             meterRegistry.counter("auth.token.revoked").increment();
+            tenantUsageMeter.record(token.getTenantId(), UsageMeter.TOKEN_REVOKED);
 
             // Audit token revocation
             auditLogService.log(token.getTenantId(), token.getUserId(), AuditLog.EventType.LOGOUT, Map.of(
@@ -421,6 +429,10 @@ public class AuthService {
 
         // Track metrics
         meterRegistry.counter("auth.login.failed", "tenant", tenantId.toString()).increment();
+        tenantUsageMeter.record(tenantId, UsageMeter.LOGIN_FAILED);
+
+        // Feed the credential stuffing detector
+        credentialStuffingDetector.recordFailure(tenantId, username, ipAddress);
 
         // Publish failed login event
         outboxService.saveEvent(
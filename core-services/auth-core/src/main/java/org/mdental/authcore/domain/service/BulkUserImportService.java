@@ -0,0 +1,386 @@
+package org.mdental.authcore.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.domain.model.BulkUserImportJob;
+import org.mdental.authcore.domain.model.BulkUserImportRow;
+import org.mdental.authcore.domain.model.UsageMeter;
+import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.exception.NotFoundException;
+import org.mdental.authcore.exception.ValidationException;
+import org.mdental.authcore.infrastructure.jdbc.UserBatchRepository;
+import org.mdental.authcore.infrastructure.metering.TenantUsageMeter;
+import org.mdental.authcore.infrastructure.security.breach.BreachedPasswordScreen;
+import org.mdental.authcore.util.PasswordPolicy;
+import org.mdental.commons.model.Role;
+import org.mdental.security.password.PasswordService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Creates many users of one tenant in a background job.
+ * Uniqueness is checked with one set-based query, passwords are hashed in parallel on a bounded pool,
+ * and users, roles and outbox events are written with JDBC batching.
+ */
+@Service
+@Slf4j
+public class BulkUserImportService {
+    private static final Pattern USERNAME_PATTERN = Pattern.compile("^[a-zA-Z0-9._-]{3,50}$");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final Set<Role> PLATFORM_ROLES = Set.of(Role.SUPER_ADMIN, Role.SUPPORT);
+
+    private final TenantService tenantService;
+    private final UserBatchRepository userBatchRepository;
+    private final PasswordService passwordService;
+    private final PasswordPolicy passwordPolicy;
+    private final BreachedPasswordScreen breachedPasswordScreen;
+    private final TenantUsageMeter tenantUsageMeter;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor hashExecutor;
+    private final ThreadPoolExecutor jobExecutor;
+    private final Cache<UUID, BulkUserImportJob> jobs;
+    private final int maxRows;
+    private final int batchSize;
+    private final Timer importTimer;
+
+    public BulkUserImportService(
+            TenantService tenantService,
+            UserBatchRepository userBatchRepository,
+            PasswordService passwordService,
+            PasswordPolicy passwordPolicy,
+            BreachedPasswordScreen breachedPasswordScreen,
+            TenantUsageMeter tenantUsageMeter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${mdental.auth.bulk-import.hash-threads:0}") int hashThreads,
+            @Value("${mdental.auth.bulk-import.hash-queue-capacity:256}") int hashQueueCapacity,
+            @Value("${mdental.auth.bulk-import.concurrent-jobs:2}") int concurrentJobs,
+            @Value("${mdental.auth.bulk-import.max-rows:5000}") int maxRows,
+            @Value("${mdental.auth.bulk-import.batch-size:200}") int batchSize,
+            @Value("${mdental.auth.bulk-import.job-retention-minutes:60}") long jobRetentionMinutes) {
+        this.tenantService = tenantService;
+        this.userBatchRepository = userBatchRepository;
+        this.passwordService = passwordService;
+        this.passwordPolicy = passwordPolicy;
+        this.breachedPasswordScreen = breachedPasswordScreen;
+        this.tenantUsageMeter = tenantUsageMeter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxRows = maxRows;
+        this.batchSize = batchSize;
+
+        // BCrypt is CPU bound, so one hashing thread per core unless configured otherwise
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        // Caller-runs bounds the backlog: a saturated pool makes the import job hash on its own thread
+        this.hashExecutor = newExecutor("bulk-import-hash-", threads, hashQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.jobExecutor = newExecutor("bulk-import-job-", concurrentJobs, concurrentJobs,
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(jobRetentionMinutes))
+                .build();
+        this.importTimer = meterRegistry.timer("auth.users.bulk-import");
+    }
+
+    /**
+     * Submit a bulk import of users into a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @param rows the users to create
+     * @param actor the username of the requesting user, recorded as creator
+     * @return the queued job
+     */
+    public BulkUserImportJob submit(UUID tenantId, List<BulkUserImportRow> rows, String actor) {
+        if (rows.isEmpty()) {
+            throw new ValidationException("At least one user is required");
+        }
+        if (rows.size() > maxRows) {
+            throw new ValidationException("Import size " + rows.size() + " exceeds the maximum of " + maxRows);
+        }
+        tenantService.getTenantById(tenantId);
+
+        BulkUserImportJob job = new BulkUserImportJob(tenantId, rows);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> run(job, List.copyOf(rows), actor));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            throw new ValidationException("Too many bulk imports in progress, retry later");
+        }
+
+        log.info("Queued bulk import {} of {} users for tenant {}", job.getId(), rows.size(), tenantId);
+        return job;
+    }
+
+    /**
+     * Get a bulk import job of a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @param jobId the job ID
+     * @return the job
+     */
+    public BulkUserImportJob getJob(UUID tenantId, UUID jobId) {
+        BulkUserImportJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.getTenantId().equals(tenantId)) {
+            throw new NotFoundException("Bulk import not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Shut down the import pools.
+     */
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdown();
+        hashExecutor.shutdown();
+    }
+
+    /**
+     * Run an import job to completion.
+     *
+     * @param job the job
+     * @param rows the users to create
+     * @param actor the creator
+     */
+    void run(BulkUserImportJob job, List<BulkUserImportRow> rows, String actor) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        job.markRunning();
+        try {
+            List<Integer> accepted = validate(job, rows);
+            rejectTaken(job, rows, accepted);
+            hashAndInsert(job, rows, accepted, actor);
+            job.markCompleted();
+            log.info("Bulk import {} finished: {} created, {} rejected",
+                    job.getId(), job.getCreated(), job.getRejected());
+        } catch (Exception e) {
+            log.error("Bulk import {} failed", job.getId(), e);
+            job.markFailed("Import aborted: " + e.getMessage());
+        } finally {
+            sample.stop(importTimer);
+            meterRegistry.counter("auth.users.bulk-import.rows", "outcome", "created").increment(job.getCreated());
+            meterRegistry.counter("auth.users.bulk-import.rows", "outcome", "rejected").increment(job.getRejected());
+            tenantUsageMeter.record(job.getTenantId(), UsageMeter.USER_CREATED, job.getCreated());
+        }
+    }
+
+    /**
+     * Reject rows that are invalid or that collide with an earlier row of the same import.
+     *
+     * @param job the job
+     * @param rows the users to create
+     * @return the indexes of rows that passed validation
+     */
+    private List<Integer> validate(BulkUserImportJob job, List<BulkUserImportRow> rows) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            BulkUserImportRow row = rows.get(i);
+            String error = validateRow(row);
+            if (error == null && !usernames.add(row.username())) {
+                error = "Duplicate username in import";
+            }
+            if (error == null && !emails.add(row.email())) {
+                error = "Duplicate email in import";
+            }
+
+            if (error != null) {
+                job.recordRejected(i, error);
+            } else {
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Validate a single row.
+     *
+     * @param row the row
+     * @return the validation error, or null if the row is valid
+     */
+    private String validateRow(BulkUserImportRow row) {
+        if (row.username() == null || !USERNAME_PATTERN.matcher(row.username()).matches()) {
+            return "Username must be 3-50 characters and contain only letters, numbers, dots, underscores, and hyphens";
+        }
+        if (row.email() == null || !EMAIL_PATTERN.matcher(row.email()).matches()) {
+            return "Email must be valid";
+        }
+        if (row.firstName() == null || row.firstName().isBlank()
+                || row.lastName() == null || row.lastName().isBlank()) {
+            return "First and last name are required";
+        }
+        if (row.roles().isEmpty()) {
+            return "At least one role is required";
+        }
+        if (row.roles().stream().anyMatch(PLATFORM_ROLES::contains)) {
+            return "Platform roles cannot be assigned by bulk import";
+        }
+        try {
+            passwordPolicy.validate(row.password());
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        if (breachedPasswordScreen.isBreached(row.password())) {
+            return "Password has appeared in a data breach";
+        }
+        return null;
+    }
+
+    /**
+     * Reject rows whose username or email already exists in the tenant, using one query for the whole import.
+     *
+     * @param job the job
+     * @param rows the users to create
+     * @param accepted the indexes of rows still accepted; rejected rows are removed
+     */
+    private void rejectTaken(BulkUserImportJob job, List<BulkUserImportRow> rows, List<Integer> accepted) {
+        Set<String> usernames = new LinkedHashSet<>();
+        Set<String> emails = new LinkedHashSet<>();
+        for (int index : accepted) {
+            usernames.add(rows.get(index).username());
+            emails.add(rows.get(index).email());
+        }
+
+        UserBatchRepository.TakenIdentities taken =
+                userBatchRepository.findTaken(job.getTenantId(), usernames, emails);
+
+        accepted.removeIf(index -> {
+            BulkUserImportRow row = rows.get(index);
+            if (taken.usernames().contains(row.username())) {
+                job.recordRejected(index, "Username already exists in this tenant");
+                return true;
+            }
+            if (taken.emails().contains(row.email())) {
+                job.recordRejected(index, "Email already exists in this tenant");
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Hash passwords in parallel and insert users in batches as their hashes complete.
+     * Hashing of later rows overlaps with the inserts of earlier batches.
+     *
+     * @param job the job
+     * @param rows the users to create
+     * @param accepted the indexes of rows to create
+     * @param actor the creator
+     */
+    private void hashAndInsert(BulkUserImportJob job, List<BulkUserImportRow> rows,
+                               List<Integer> accepted, String actor) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            String password = rows.get(index).password();
+            hashes.add(CompletableFuture.supplyAsync(() -> {
+                String hash = passwordService.hash(password.toCharArray());
+                job.recordHashed();
+                return hash;
+            }, hashExecutor));
+        }
+
+        Instant now = Instant.now();
+        List<User> batch = new ArrayList<>(batchSize);
+        List<Integer> batchIndexes = new ArrayList<>(batchSize);
+        for (int i = 0; i < accepted.size(); i++) {
+            int index = accepted.get(i);
+            batch.add(toUser(job.getTenantId(), rows.get(index), hashes.get(i).join(), now, actor));
+            batchIndexes.add(index);
+
+            if (batch.size() == batchSize || i == accepted.size() - 1) {
+                insertBatch(job, batch, batchIndexes);
+                batch.clear();
+                batchIndexes.clear();
+            }
+        }
+    }
+
+    /**
+     * Insert one batch in a single transaction.
+     * If a concurrent writer claimed a username or email since the uniqueness check, the batch is
+     * retried row by row so only the conflicting rows are rejected.
+     *
+     * @param job the job
+     * @param batch the users to insert
+     * @param indexes the row index of each user
+     */
+    private void insertBatch(BulkUserImportJob job, List<User> batch, List<Integer> indexes) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userBatchRepository.insertUsers(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                job.recordCreated(indexes.get(i), batch.get(i).getId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Bulk import {} batch conflicted, retrying {} rows individually", job.getId(), batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                User user = batch.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userBatchRepository.insertUsers(List.of(user)));
+                    job.recordCreated(indexes.get(i), user.getId());
+                } catch (DataIntegrityViolationException rowError) {
+                    job.recordRejected(indexes.get(i), "Username or email already exists in this tenant");
+                }
+            }
+        }
+    }
+
+    private User toUser(UUID tenantId, BulkUserImportRow row, String passwordHash, Instant createdAt, String actor) {
+        User user = User.builder()
+                .tenantId(tenantId)
+                .username(row.username())
+                .email(row.email())
+                .passwordHash(passwordHash)
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .emailVerified(row.emailVerified())
+                .roles(row.roles())
+                .build();
+        user.setId(UUID.randomUUID());
+        user.setCreatedAt(createdAt);
+        user.setCreatedBy(actor);
+        return user;
+    }
+
+    private static ThreadPoolExecutor newExecutor(String namePrefix, int threads, int queueCapacity,
+                                                  RejectedExecutionHandler handler) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                handler);
+    }
+}
@@ -1,6 +1,7 @@
 package org.mdental.authcore.domain.service;
 
 import java.util.UUID;
+import org.mdental.commons.event.Change;
 
 /**
  * Service for managing the outbox pattern.
@@ -16,4 +17,15 @@ public interface OutboxService {
      * @param newValue the new value
      */
     void saveEvent(String aggregateType, UUID aggregateId, String eventType, Object oldValue, Object newValue);
+
+    /**
+     * Save the fields that changed on an aggregate to the outbox.
+     * A change that leaves every field as it was is dropped.
+     *
+     * @param aggregateType the aggregate type
+     * @param aggregateId the aggregate ID
+     * @param eventType the event type
+     * @param change the changed fields
+     */
+    void saveChange(String aggregateType, UUID aggregateId, String eventType, Change change);
 }
\ No newline at end of file
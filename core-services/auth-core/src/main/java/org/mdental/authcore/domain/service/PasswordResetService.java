@@ -3,10 +3,12 @@ package org.mdental.authcore.domain.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.event.UserEvent;
+import org.mdental.authcore.domain.model.UsageMeter;
 import org.mdental.authcore.domain.model.User;
 import org.mdental.authcore.domain.repository.UserRepository;
 import org.mdental.authcore.exception.InvalidTokenException;
 import org.mdental.authcore.exception.NotFoundException;
+import org.mdental.authcore.infrastructure.metering.TenantUsageMeter;
 import org.mdental.authcore.util.PasswordPolicy;
 import org.mdental.security.jwt.JwtTokenProvider;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,7 @@ public class PasswordResetService {
     private final OutboxService outboxService;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordPolicy passwordPolicy;
+    private final TenantUsageMeter tenantUsageMeter;
 
     /**
      * Request a password reset by email.
@@ -50,6 +53,8 @@ public class PasswordResetService {
             // Send email with reset link
             sendResetEmail(user, token);
 
+            tenantUsageMeter.record(tenantId, UsageMeter.PASSWORD_RESET_REQUESTED);
+
             // Publish event
             outboxService.saveEvent(
                     "User",
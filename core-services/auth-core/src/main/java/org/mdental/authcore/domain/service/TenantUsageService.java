@@ -0,0 +1,61 @@
+package org.mdental.authcore.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.mdental.authcore.exception.ValidationException;
+import org.mdental.authcore.infrastructure.jdbc.UsageRollupRepository;
+import org.mdental.authcore.infrastructure.jdbc.UsageRollupRepository.Rollup;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Read side of per-tenant usage metering.
+ */
+@Service
+@RequiredArgsConstructor
+public class TenantUsageService {
+
+    /**
+     * Period a usage series is summed over, with the longest range allowed at that resolution.
+     */
+    public enum Granularity {
+        MINUTE(Duration.ofDays(2)),
+        HOUR(Duration.ofDays(93)),
+        DAY(Duration.ofDays(3 * 366));
+
+        private final Duration maxRange;
+
+        Granularity(Duration maxRange) {
+            this.maxRange = maxRange;
+        }
+    }
+
+    private final TenantService tenantService;
+    private final UsageRollupRepository usageRollupRepository;
+
+    /**
+     * Get a tenant's usage per period and meter.
+     *
+     * @param tenantId the tenant ID
+     * @param from the inclusive start
+     * @param to the exclusive end
+     * @param granularity the period to sum over
+     * @return the usage rollups ordered by period
+     */
+    public List<Rollup> getUsage(UUID tenantId, Instant from, Instant to, Granularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).compareTo(granularity.maxRange) > 0) {
+            throw new ValidationException("Range too long for " + granularity.name().toLowerCase(Locale.ROOT)
+                    + " granularity, maximum is " + granularity.maxRange.toDays() + " days");
+        }
+        tenantService.getTenantById(tenantId);
+
+        return usageRollupRepository.sumUsage(tenantId, from, to, granularity.name().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,125 @@
+package org.mdental.authcore.domain.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.exception.ValidationException;
+import org.mdental.commons.model.AuthPrincipal;
+import org.mdental.security.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies batches of access tokens in parallel on a bounded pool.
+ */
+@Service
+@Slf4j
+public class TokenIntrospectionService {
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final int maxBatchSize;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public TokenIntrospectionService(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${mdental.auth.introspection.threads:4}") int threads,
+            @Value("${mdental.auth.introspection.queue-capacity:2000}") int queueCapacity,
+            @Value("${mdental.auth.introspection.max-batch-size:500}") int maxBatchSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.meterRegistry = meterRegistry;
+        this.maxBatchSize = maxBatchSize;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Caller-runs bounds the backlog: a saturated pool makes request threads verify their own tokens
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-introspect-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.batchTimer = meterRegistry.timer("auth.introspection.batch");
+        this.batchSizeSummary = meterRegistry.summary("auth.introspection.batch.size");
+    }
+
+    /**
+     * Introspect a batch of tokens.
+     * Results are positional: element i describes token i, and is empty when that token is not active.
+     *
+     * @param tokens the tokens to introspect
+     * @return the principal of each active token
+     */
+    public List<Optional<AuthPrincipal>> introspectBatch(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) {
+            throw new ValidationException("Batch size " + tokens.size() + " exceeds the maximum of " + maxBatchSize);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        List<CompletableFuture<Optional<AuthPrincipal>>> futures = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            futures.add(CompletableFuture.supplyAsync(() -> introspect(token), executor));
+        }
+
+        List<Optional<AuthPrincipal>> results = new ArrayList<>(tokens.size());
+        int active = 0;
+        for (CompletableFuture<Optional<AuthPrincipal>> future : futures) {
+            Optional<AuthPrincipal> result = future.join();
+            if (result.isPresent()) {
+                active++;
+            }
+            results.add(result);
+        }
+
+        sample.stop(batchTimer);
+        batchSizeSummary.record(tokens.size());
+        meterRegistry.counter("auth.introspection.tokens", "active", "true").increment(active);
+        meterRegistry.counter("auth.introspection.tokens", "active", "false").increment(tokens.size() - active);
+
+        log.debug("Introspected batch of {} tokens, {} active", tokens.size(), active);
+        return results;
+    }
+
+    /**
+     * Shut down the introspection pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Verify and parse a single token; parsing checks the signature and expiry in one pass.
+     *
+     * @param token the token
+     * @return the principal, or empty if the token is not active
+     */
+    private Optional<AuthPrincipal> introspect(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(jwtTokenProvider.parseToken(token));
+        } catch (Exception e) {
+            // For security, don't expose details about invalid tokens
+            return Optional.empty();
+        }
+    }
+}
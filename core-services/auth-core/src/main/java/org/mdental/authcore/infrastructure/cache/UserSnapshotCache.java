@@ -0,0 +1,116 @@
+package org.mdental.authcore.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.domain.event.UserEvent;
+import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.domain.model.UserSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Two-tier cache of {@link UserSnapshot}s.
+ * The first tier lives in the current request's attributes, so a user is loaded at most once per request.
+ * The second tier is a small, short-lived shared cache that absorbs repeated requests from the same caller.
+ */
+@Component
+@Slf4j
+public class UserSnapshotCache {
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserSnapshotCache.class.getName() + ".";
+
+    /**
+     * Events that change a field carried by the snapshot.
+     */
+    private static final Set<UserEvent> INVALIDATING_EVENTS = EnumSet.of(
+            UserEvent.PROFILE_UPDATED,
+            UserEvent.EMAIL_CHANGED,
+            UserEvent.EMAIL_VERIFIED,
+            UserEvent.PASSWORD_CHANGED,
+            UserEvent.PASSWORD_RESET,
+            UserEvent.PASSWORD_RESET_COMPLETED,
+            UserEvent.LOCKED,
+            UserEvent.UNLOCKED
+    );
+
+    private final Cache<UUID, UserSnapshot> shared;
+
+    public UserSnapshotCache(
+            MeterRegistry meterRegistry,
+            @Value("${mdental.auth.user-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${mdental.auth.user-cache.max-size:10000}") long maxSize) {
+        this.shared = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, shared, "auth.user.snapshots");
+    }
+
+    /**
+     * Get the snapshot for a user, loading it on a miss in both tiers.
+     *
+     * @param userId the user ID
+     * @param loader loads the user entity from the database
+     * @return the user snapshot
+     */
+    public UserSnapshot get(UUID userId, Function<UUID, User> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + userId;
+
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof UserSnapshot snapshot) {
+                return snapshot;
+            }
+        }
+
+        UserSnapshot snapshot = shared.get(userId, id -> UserSnapshot.from(loader.apply(id)));
+
+        if (attributes != null) {
+            attributes.setAttribute(attributeName, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Invalidate a user's snapshot in response to a user event.
+     * When a transaction is active, the shared tier is evicted after commit so a concurrent
+     * reader cannot repopulate it with pre-commit state.
+     *
+     * @param userId the user ID
+     * @param event the event that was emitted for the user
+     */
+    public void onUserEvent(UUID userId, UserEvent event) {
+        if (!INVALIDATING_EVENTS.contains(event)) {
+            return;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        shared.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    shared.invalidate(userId);
+                }
+            });
+        }
+        log.debug("Invalidated user snapshot {} on {}", userId, event);
+    }
+}
@@ -0,0 +1,149 @@
+package org.mdental.authcore.infrastructure.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.UUID;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Immutable per-request values that filters and services would otherwise each re-derive
+ * from headers and the request URI.
+ * Computed once by {@link RequestContextCaptureFilter} and stored as a request attribute.
+ *
+ * @param requestId the X-Request-ID header, or a generated ID
+ * @param clientIp the first X-Forwarded-For hop, or the remote address
+ * @param tenantSlug the tenant slug from an /auth/{tenant} path or the X-Tenant header, or null
+ * @param routeClass the kind of endpoint being called
+ * @param method the HTTP method
+ * @param path the request URI
+ * @param requestIdGenerated whether the request ID was generated rather than supplied
+ */
+public record RequestContext(
+        String requestId,
+        String clientIp,
+        String tenantSlug,
+        RouteClass routeClass,
+        String method,
+        String path,
+        boolean requestIdGenerated
+) {
+    public static final String REQUEST_ID_HEADER = "X-Request-ID";
+    private static final String ATTRIBUTE = RequestContext.class.getName();
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String TENANT_HEADER = "X-Tenant";
+    private static final String AUTH_PREFIX = "/auth/";
+
+    /**
+     * Kinds of endpoints that filters treat differently.
+     */
+    public enum RouteClass {
+        LOGIN,
+        PASSWORD_RESET,
+        TENANT_AUTH,
+        INTERNAL,
+        WELL_KNOWN,
+        API,
+        OTHER
+    }
+
+    /**
+     * Get the context of a request, computing and storing it on first access.
+     *
+     * @param request the HTTP request
+     * @return the request context
+     */
+    public static RequestContext of(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof RequestContext context) {
+            return context;
+        }
+        RequestContext context = compute(request);
+        request.setAttribute(ATTRIBUTE, context);
+        return context;
+    }
+
+    /**
+     * Get the context of the request bound to the current thread.
+     *
+     * @return the request context, or null outside a request
+     */
+    public static RequestContext current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return of(servletAttributes.getRequest());
+        }
+        return null;
+    }
+
+    /**
+     * Check whether this is a POST to the given route class.
+     *
+     * @param routeClass the route class
+     * @return true if the method is POST and the route class matches
+     */
+    public boolean isPostTo(RouteClass routeClass) {
+        return this.routeClass == routeClass && "POST".equals(method);
+    }
+
+    private static RequestContext compute(HttpServletRequest request) {
+        String path = request.getRequestURI();
+
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        boolean generated = requestId == null || requestId.isBlank();
+        if (generated) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        // Tenant slug and route class come from a single scan of the path
+        String tenantSlug = null;
+        RouteClass routeClass;
+        if (path.startsWith(AUTH_PREFIX)) {
+            int slugEnd = path.indexOf('/', AUTH_PREFIX.length());
+            int end = slugEnd < 0 ? path.length() : slugEnd;
+            if (end > AUTH_PREFIX.length()) {
+                tenantSlug = path.substring(AUTH_PREFIX.length(), end);
+            }
+            routeClass = tenantSlug == null ? RouteClass.OTHER : classifyAuthRoute(path, slugEnd);
+        } else if (path.startsWith("/internal/")) {
+            routeClass = RouteClass.INTERNAL;
+        } else if (path.startsWith("/.well-known/")) {
+            routeClass = RouteClass.WELL_KNOWN;
+        } else if (path.startsWith("/api/")) {
+            routeClass = RouteClass.API;
+        } else {
+            routeClass = RouteClass.OTHER;
+        }
+
+        if (tenantSlug == null) {
+            String header = request.getHeader(TENANT_HEADER);
+            if (header != null && !header.isBlank()) {
+                tenantSlug = header;
+            }
+        }
+
+        return new RequestContext(requestId, clientIp(request), tenantSlug, routeClass,
+                request.getMethod(), path, generated);
+    }
+
+    private static RouteClass classifyAuthRoute(String path, int slugEnd) {
+        if (slugEnd < 0) {
+            return RouteClass.TENANT_AUTH;
+        }
+        String action = path.substring(slugEnd + 1);
+        return switch (action) {
+            case "login" -> RouteClass.LOGIN;
+            case "forgot", "reset" -> RouteClass.PASSWORD_RESET;
+            default -> RouteClass.TENANT_AUTH;
+        };
+    }
+
+    private static String clientIp(HttpServletRequest request) {
+        String xff = request.getHeader(FORWARDED_FOR_HEADER);
+        if (xff != null && !xff.isEmpty()) {
+            int comma = xff.indexOf(',');
+            return (comma < 0 ? xff : xff.substring(0, comma)).trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
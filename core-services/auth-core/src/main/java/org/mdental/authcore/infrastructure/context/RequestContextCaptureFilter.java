@@ -0,0 +1,35 @@
+package org.mdental.authcore.infrastructure.context;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * First filter in the chain: computes the {@link RequestContext} once for every later filter and service.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestContextCaptureFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestContext context = RequestContext.of(request);
+
+        // Add request ID to response for correlation
+        if (context.requestIdGenerated()) {
+            response.setHeader(RequestContext.REQUEST_ID_HEADER, context.requestId());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,139 @@
+package org.mdental.authcore.infrastructure.email;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.domain.event.EmailEvent;
+import org.mdental.authcore.domain.model.Outbox;
+import org.mdental.authcore.util.TemplateRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders queued emails at dispatch time on a bounded worker pool.
+ * Outbox processors hand over a page of entries; email entries come back with the rendered
+ * HTML added to their payload, all other entries are passed through untouched.
+ */
+@Component
+@Slf4j
+public class EmailRenderingWorker {
+    private static final String EMAIL_AGGREGATE = "Email";
+    private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() {};
+
+    private final TemplateRenderer templateRenderer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public EmailRenderingWorker(
+            TemplateRenderer templateRenderer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${mdental.email.rendering.threads:2}") int threads,
+            @Value("${mdental.email.rendering.queue-capacity:500}") int queueCapacity) {
+        this.templateRenderer = templateRenderer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Caller-runs keeps the outbox processor as the backpressure point when the queue is full
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-render-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        meterRegistry.gauge("email.render.queue.size", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * Start rendering every email entry of a page.
+     *
+     * @param entries the outbox entries about to be dispatched
+     * @return pending dispatch payloads keyed by outbox entry ID, for email entries only
+     */
+    public Map<UUID, CompletableFuture<String>> renderAll(List<Outbox> entries) {
+        Map<UUID, CompletableFuture<String>> rendered = new HashMap<>();
+        for (Outbox entry : entries) {
+            if (isRenderable(entry)) {
+                rendered.put(entry.getId(), CompletableFuture.supplyAsync(() -> render(entry), executor));
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Get the payload to dispatch for an entry.
+     *
+     * @param entry the outbox entry
+     * @param rendered the pending payloads returned by {@link #renderAll(List)}
+     * @return the rendered payload for email entries, the stored payload otherwise
+     */
+    public String dispatchPayload(Outbox entry, Map<UUID, CompletableFuture<String>> rendered) {
+        CompletableFuture<String> future = rendered.get(entry.getId());
+        return future != null ? future.join() : entry.getPayload();
+    }
+
+    /**
+     * Shut down the worker pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private boolean isRenderable(Outbox entry) {
+        return EMAIL_AGGREGATE.equals(entry.getAggregateType())
+                && EmailEvent.EMAIL_REQUESTED.name().equals(entry.getEventType());
+    }
+
+    private String render(Outbox entry) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String templateName = "unknown";
+        try {
+            ObjectNode payload = (ObjectNode) objectMapper.readTree(entry.getPayload());
+            ObjectNode email = (ObjectNode) payload.get("newValue");
+            templateName = email.path("templateName").asText();
+
+            // Entries queued before deferred rendering already carry their HTML
+            if (email.hasNonNull("htmlContent")) {
+                return entry.getPayload();
+            }
+
+            Map<String, Object> variables = new HashMap<>();
+            JsonNode variablesNode = email.get("variables");
+            if (variablesNode != null && variablesNode.isObject()) {
+                variables.putAll(objectMapper.convertValue(variablesNode, VARIABLES_TYPE));
+            }
+            variables.putIfAbsent("subject", email.path("subject").asText(null));
+
+            email.put("htmlContent", templateRenderer.render(templateName, variables));
+            email.remove("variables");
+
+            sample.stop(meterRegistry.timer("email.render", "template", templateName, "outcome", "success"));
+            return objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            sample.stop(meterRegistry.timer("email.render", "template", templateName, "outcome", "failure"));
+            log.error("Error rendering email for outbox entry {}: {}", entry.getId(), e.getMessage());
+            throw new IllegalStateException("Email rendering failed for outbox entry " + entry.getId(), e);
+        }
+    }
+}
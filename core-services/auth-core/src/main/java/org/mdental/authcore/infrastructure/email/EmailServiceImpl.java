@@ -10,9 +10,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.event.EmailEvent;
 import org.mdental.authcore.domain.service.EmailService;
 import org.mdental.authcore.domain.service.OutboxService;
+import org.mdental.authcore.exception.ValidationException;
 import org.mdental.authcore.util.TemplateRenderer;
 import org.springframework.stereotype.Service;
 
+/**
+ * Queues emails through the outbox.
+ * Only the template name and variables are stored; {@link EmailRenderingWorker} renders the HTML at dispatch time.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,14 +30,17 @@ public class EmailServiceImpl implements EmailService {
                           String subject,
                           String template,
                           Map<String, Object> templateVars) {
-        log.info("Sending email with template '{}' to: {}", template, to);
+        log.info("Queueing email with template '{}' to: {}", template, to);
+
+        if (!templateRenderer.isKnownTemplate(template)) {
+            throw new ValidationException("Unknown email template: " + template);
+        }
 
-        String htmlContent = templateRenderer.renderTemplate(template, templateVars);
         Map<String, Object> emailData = Map.of(
                 "to",           to,
                 "subject",      subject,
-                "htmlContent",  htmlContent,
                 "templateName", template,
+                "variables",    templateVars,
                 "timestamp",    Instant.now()
         );
 
@@ -0,0 +1,136 @@
+package org.mdental.authcore.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for users' last login time.
+ *
+ * <p>Logins only record the timestamp in memory; repeated logins of the same user coalesce to the latest.
+ * A scheduled flush writes all pending timestamps with one {@code UPDATE ... FROM (VALUES ...)} per chunk.
+ * The update touches only {@code last_login_at}, so it neither bumps the entity version nor races with
+ * concurrent profile edits.
+ */
+@Component
+@Slf4j
+public class LastLoginWriteBehind {
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final ConcurrentHashMap<UUID, Instant> pending = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    public LastLoginWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${mdental.auth.last-login.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.flushTimer = meterRegistry.timer("auth.last_login.flush");
+        this.flushedCounter = meterRegistry.counter("auth.last_login.flushed");
+        this.failedCounter = meterRegistry.counter("auth.last_login.flush.failures");
+        Gauge.builder("auth.last_login.pending", pending, Map::size)
+                .description("Last-login timestamps waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a login; only the latest timestamp per user is kept.
+     *
+     * @param userId the user ID
+     * @param loginAt the login time
+     */
+    public void record(UUID userId, Instant loginAt) {
+        pending.merge(userId, loginAt, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    /**
+     * Write all pending timestamps to the database.
+     */
+    @Scheduled(fixedDelayString = "${mdental.auth.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> drained = new ArrayList<>(pending.size());
+        for (UUID userId : pending.keySet()) {
+            // remove() hands over the latest value atomically; a login racing with the drain re-adds its entry
+            Instant loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                drained.add(new Object[]{userId, loginAt});
+            }
+        }
+
+        flushTimer.record(() -> {
+            for (int from = 0; from < drained.size(); from += batchSize) {
+                List<Object[]> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+                try {
+                    jdbcTemplate.update(updateSql(chunk.size()), parameters(chunk));
+                    flushedCounter.increment(chunk.size());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to write {} last-login timestamps, will retry on next flush", chunk.size(), e);
+                    failedCounter.increment(chunk.size());
+                    for (Object[] row : chunk) {
+                        record((UUID) row[0], (Instant) row[1]);
+                    }
+                }
+            }
+        });
+        log.debug("Flushed {} last-login timestamps", drained.size());
+    }
+
+    /**
+     * Flush pending timestamps before shutdown so no login time is lost.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("Dropping {} last-login timestamps that could not be written at shutdown", pending.size());
+        }
+    }
+
+    /**
+     * Build the update for a chunk. The guard keeps an older buffered time from overwriting a newer one.
+     *
+     * @param rows the number of rows in the chunk
+     * @return the SQL statement
+     */
+    static String updateSql(int rows) {
+        StringBuilder sql = new StringBuilder(
+                "UPDATE users u SET last_login_at = v.last_login_at FROM (VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(CAST(? AS uuid), CAST(? AS timestamp))");
+        }
+        return sql.append(") AS v(id, last_login_at) WHERE u.id = v.id")
+                .append(" AND (u.last_login_at IS NULL OR u.last_login_at < v.last_login_at)")
+                .toString();
+    }
+
+    private static Object[] parameters(List<Object[]> chunk) {
+        Object[] parameters = new Object[chunk.size() * 2];
+        for (int i = 0; i < chunk.size(); i++) {
+            parameters[2 * i] = chunk.get(i)[0];
+            parameters[2 * i + 1] = Timestamp.from((Instant) chunk.get(i)[1]);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,78 @@
+package org.mdental.authcore.infrastructure.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.mdental.authcore.domain.model.UsageMeter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the append-only tenant usage rollup table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsageRollupRepository {
+    private static final String INSERT = """
+            INSERT INTO tenant_usage_rollups (tenant_id, meter, bucket_start, count, recorded_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // The granularity is bound as a value; date_trunc accepts its unit as a text parameter
+    private static final String SUM_USAGE = """
+            SELECT date_trunc(?, bucket_start) AS period, meter, SUM(count) AS total
+            FROM tenant_usage_rollups
+            WHERE tenant_id = ? AND bucket_start >= ? AND bucket_start < ?
+            GROUP BY period, meter
+            ORDER BY period, meter
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * One counted rollup row.
+     *
+     * @param tenantId the tenant ID
+     * @param meter the meter
+     * @param bucketStart the start of the period
+     * @param count the number of events in the period
+     */
+    public record Rollup(UUID tenantId, UsageMeter meter, Instant bucketStart, long count) {}
+
+    /**
+     * Append rollups as a single JDBC batch.
+     *
+     * @param rollups the rollups to append
+     */
+    public void append(List<Rollup> rollups) {
+        Timestamp recordedAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT, rollups, rollups.size(), (ps, rollup) -> {
+            ps.setObject(1, rollup.tenantId());
+            ps.setString(2, rollup.meter().name());
+            ps.setTimestamp(3, Timestamp.from(rollup.bucketStart()));
+            ps.setLong(4, rollup.count());
+            ps.setTimestamp(5, recordedAt);
+        });
+    }
+
+    /**
+     * Sum a tenant's usage per period and meter.
+     *
+     * @param tenantId the tenant ID
+     * @param from the inclusive start
+     * @param to the exclusive end
+     * @param granularity the period: minute, hour or day
+     * @return the rollups ordered by period, with bucketStart set to the period start
+     */
+    public List<Rollup> sumUsage(UUID tenantId, Instant from, Instant to, String granularity) {
+        return jdbcTemplate.query(SUM_USAGE, (rs, rowNum) -> new Rollup(
+                        tenantId,
+                        UsageMeter.valueOf(rs.getString("meter")),
+                        rs.getTimestamp("period").toInstant(),
+                        rs.getLong("total")),
+                granularity, tenantId, Timestamp.from(from), Timestamp.from(to));
+    }
+}
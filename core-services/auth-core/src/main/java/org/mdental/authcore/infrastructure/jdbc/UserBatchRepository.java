@@ -0,0 +1,151 @@
+package org.mdental.authcore.infrastructure.jdbc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mdental.authcore.domain.event.UserEvent;
+import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.domain.model.UserSnapshot;
+import org.mdental.commons.event.ChangeEncoder;
+import org.mdental.commons.model.Role;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based user reads and JDBC batch inserts for bulk provisioning.
+ */
+@Repository
+public class UserBatchRepository {
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, tenant_id, username, email, password_hash, first_name, last_name,
+                               email_verified, locked, created_at, created_by, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?, 0)
+            """;
+
+    private static final String INSERT_ROLE = "INSERT INTO user_roles (user_id, role) VALUES (?, ?)";
+
+    private static final String INSERT_OUTBOX = """
+            INSERT INTO outbox (id, aggregate_type, aggregate_id, event_type, payload, created_at,
+                                retry_count, dead_letter, version)
+            VALUES (?, 'User', ?, ?, CAST(? AS jsonb), ?, 0, false, 0)
+            """;
+
+    // Includes soft-deleted rows: the unique constraints on users do too
+    private static final String FIND_TAKEN = """
+            SELECT username, email FROM users
+            WHERE tenant_id = :tenantId AND (username IN (:usernames) OR email IN (:emails))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ChangeEncoder changeEncoder;
+
+    public UserBatchRepository(JdbcTemplate jdbcTemplate,
+                               NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                               ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.changeEncoder = new ChangeEncoder(objectMapper, ChangeEncoder.Format.JSON);
+    }
+
+    /**
+     * Usernames and emails already taken within a tenant.
+     *
+     * @param usernames the taken usernames
+     * @param emails the taken emails
+     */
+    public record TakenIdentities(Set<String> usernames, Set<String> emails) {}
+
+    /**
+     * Find which of the given usernames and emails already exist in a tenant, in a single query.
+     *
+     * @param tenantId the tenant ID
+     * @param usernames the candidate usernames
+     * @param emails the candidate emails
+     * @return the taken usernames and emails
+     */
+    public TakenIdentities findTaken(UUID tenantId, Collection<String> usernames, Collection<String> emails) {
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        if (usernames.isEmpty() && emails.isEmpty()) {
+            return new TakenIdentities(takenUsernames, takenEmails);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                // An empty IN () list is not valid SQL, so pad with a value no column can hold
+                .addValue("usernames", usernames.isEmpty() ? List.of("") : usernames)
+                .addValue("emails", emails.isEmpty() ? List.of("") : emails);
+
+        namedParameterJdbcTemplate.query(FIND_TAKEN, params, rs -> {
+            String username = rs.getString("username");
+            String email = rs.getString("email");
+            if (usernames.contains(username)) {
+                takenUsernames.add(username);
+            }
+            if (emails.contains(email)) {
+                takenEmails.add(email);
+            }
+        });
+        return new TakenIdentities(takenUsernames, takenEmails);
+    }
+
+    /**
+     * Insert users, their roles and their CREATED outbox events as three JDBC batches.
+     * Users must carry a pre-assigned ID, password hash, creation time and creator.
+     * Must run inside a transaction so that users and events commit together.
+     *
+     * @param users the users to insert
+     */
+    public void insertUsers(List<User> users) {
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setObject(1, user.getId());
+            ps.setObject(2, user.getTenantId());
+            ps.setString(3, user.getUsername());
+            ps.setString(4, user.getEmail());
+            ps.setString(5, user.getPasswordHash());
+            ps.setString(6, user.getFirstName());
+            ps.setString(7, user.getLastName());
+            ps.setBoolean(8, user.isEmailVerified());
+            ps.setTimestamp(9, Timestamp.from(user.getCreatedAt()));
+            ps.setString(10, user.getCreatedBy());
+        });
+
+        List<Object[]> roleRows = new ArrayList<>();
+        for (User user : users) {
+            for (Role role : user.getRoles()) {
+                roleRows.add(new Object[]{user.getId(), role.name()});
+            }
+        }
+        if (!roleRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROLE, roleRows);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, users, users.size(), (ps, user) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, user.getId());
+            ps.setString(3, UserEvent.CREATED.name());
+            ps.setString(4, createdPayload(user));
+            ps.setTimestamp(5, Timestamp.from(user.getCreatedAt()));
+        });
+    }
+
+    /**
+     * Build the outbox payload for a created user, in the same shape as the outbox service writes.
+     * The snapshot keeps the password hash out of the event.
+     *
+     * @param user the created user
+     * @return the JSON payload
+     */
+    private String createdPayload(User user) {
+        return changeEncoder.encodeToString(UserSnapshot.CHANGES.diff(null, UserSnapshot.from(user)));
+    }
+}
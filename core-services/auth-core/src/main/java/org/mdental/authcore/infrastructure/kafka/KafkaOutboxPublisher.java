@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.model.Outbox;
 import org.mdental.authcore.domain.repository.OutboxRepository;
+import org.mdental.authcore.infrastructure.email.EmailRenderingWorker;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +32,7 @@ public class KafkaOutboxPublisher {
     private final OutboxRepository outboxRepository;
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final EmailRenderingWorker emailRenderingWorker;
 
     @Value("${mdental.outbox.max-retries:3}")
     private int maxRetries;
@@ -57,10 +60,13 @@ public class KafkaOutboxPublisher {
             List<UUID> successIds = new ArrayList<>();
             List<UUID> failureIds = new ArrayList<>();
 
+            // Render queued emails in parallel before dispatching the page in order
+            Map<UUID, CompletableFuture<String>> rendered = emailRenderingWorker.renderAll(page.getContent());
+
             for (Outbox entry : page) {
                 try {
                     // Extract event from outbox entry
-                    JsonNode payload = objectMapper.readTree(entry.getPayload());
+                    JsonNode payload = objectMapper.readTree(emailRenderingWorker.dispatchPayload(entry, rendered));
 
                     // Determine topic name: mdental.{aggregateType}.{eventType}
                     String topic = topicPrefix + entry.getAggregateType().toLowerCase() + "." +
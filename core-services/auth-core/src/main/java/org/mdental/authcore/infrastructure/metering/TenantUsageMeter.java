@@ -0,0 +1,128 @@
+package org.mdental.authcore.infrastructure.metering;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.domain.model.UsageMeter;
+import org.mdental.authcore.infrastructure.jdbc.UsageRollupRepository;
+import org.mdental.authcore.infrastructure.jdbc.UsageRollupRepository.Rollup;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory per-tenant usage counters with a per-minute flush to the rollup table.
+ *
+ * <p>Each tenant owns one striped {@link LongAdder} per meter, so recording is a map lookup and an
+ * uncontended add; nothing touches the database on the request path.
+ */
+@Component
+@Slf4j
+public class TenantUsageMeter {
+    private static final UsageMeter[] METERS = UsageMeter.values();
+
+    private final UsageRollupRepository usageRollupRepository;
+    private final Clock clock;
+    private final ConcurrentHashMap<UUID, LongAdder[]> counters = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter failedCounter;
+
+    public TenantUsageMeter(UsageRollupRepository usageRollupRepository, Clock clock, MeterRegistry meterRegistry) {
+        this.usageRollupRepository = usageRollupRepository;
+        this.clock = clock;
+        this.flushTimer = meterRegistry.timer("auth.usage.flush");
+        this.failedCounter = meterRegistry.counter("auth.usage.flush.failures");
+    }
+
+    /**
+     * Count one event for a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @param meter the meter
+     */
+    public void record(UUID tenantId, UsageMeter meter) {
+        record(tenantId, meter, 1);
+    }
+
+    /**
+     * Count several events for a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @param meter the meter
+     * @param amount the number of events
+     */
+    public void record(UUID tenantId, UsageMeter meter, long amount) {
+        if (tenantId == null || amount <= 0) {
+            return;
+        }
+        LongAdder[] adders = counters.get(tenantId);
+        if (adders == null) {
+            adders = counters.computeIfAbsent(tenantId, id -> newAdders());
+        }
+        adders[meter.ordinal()].add(amount);
+    }
+
+    /**
+     * Flush the counts of the minute that just ended as one batch of rollup rows.
+     * Counts that land during the flush are attributed to the next minute.
+     */
+    @Scheduled(cron = "${mdental.auth.usage.flush-cron:0 * * * * *}")
+    public void flush() {
+        flush(clock.instant().truncatedTo(ChronoUnit.MINUTES).minus(1, ChronoUnit.MINUTES));
+    }
+
+    /**
+     * Flush what has been counted so far before shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush(clock.instant().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    void flush(Instant bucketStart) {
+        List<Rollup> rollups = new ArrayList<>();
+        for (Map.Entry<UUID, LongAdder[]> entry : counters.entrySet()) {
+            LongAdder[] adders = entry.getValue();
+            for (UsageMeter meter : METERS) {
+                long count = adders[meter.ordinal()].sumThenReset();
+                if (count > 0) {
+                    rollups.add(new Rollup(entry.getKey(), meter, bucketStart, count));
+                }
+            }
+        }
+        if (rollups.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> usageRollupRepository.append(rollups));
+            log.debug("Flushed {} usage rollups for {}", rollups.size(), bucketStart);
+        } catch (RuntimeException e) {
+            // Put the counts back so the next flush carries them, attributed to its own minute
+            log.warn("Failed to flush {} usage rollups, retrying next minute", rollups.size(), e);
+            failedCounter.increment();
+            for (Rollup rollup : rollups) {
+                record(rollup.tenantId(), rollup.meter(), rollup.count());
+            }
+        }
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[METERS.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -6,11 +6,12 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.model.Outbox;
 import org.mdental.authcore.domain.repository.OutboxRepository;
 import org.mdental.authcore.domain.service.OutboxService;
+import org.mdental.commons.event.Change;
+import org.mdental.commons.event.ChangeEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,12 +20,20 @@ import org.springframework.transaction.annotation.Transactional;
  * Implementation of the outbox pattern for reliable event publishing.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxServiceImpl implements OutboxService {
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
+    private final ChangeEncoder changeEncoder;
+
+    public OutboxServiceImpl(OutboxRepository outboxRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        // The Kafka relay and email worker read payloads as JSON
+        this.changeEncoder = new ChangeEncoder(objectMapper, ChangeEncoder.Format.JSON);
+    }
 
     /**
      * Save an event to the outbox.
@@ -52,28 +61,55 @@ public class OutboxServiceImpl implements OutboxService {
                 payload.set("newValue", newValueNode);
             }
 
-            Outbox outboxEntry = Outbox.builder()
-                    .aggregateType(aggregateType)
-                    .aggregateId(aggregateId)
-                    .eventType(eventType)
-                    .payload(objectMapper.writeValueAsString(payload))
-                    .createdAt(Instant.now())
-                    .build();
-
-            outboxRepository.save(outboxEntry);
-
-            // Track metrics
-            meterRegistry.counter("outbox.events.created",
-                            "aggregateType", aggregateType,
-                            "eventType", eventType)
-                    .increment();
-
-            log.debug("Saved outbox event: {} for {}", eventType, aggregateType);
-
+            save(aggregateType, aggregateId, eventType, objectMapper.writeValueAsString(payload));
         } catch (Exception e) {
             log.error("Error saving event to outbox", e);
             // Track error
             meterRegistry.counter("outbox.events.errors").increment();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Save the changed fields of an aggregate to the outbox, encoded as a versioned change payload.
+     * Uses a new transaction, like {@link #saveEvent}.
+     *
+     * @param aggregateType the type of the aggregate
+     * @param aggregateId the ID of the aggregate
+     * @param eventType the type of the event
+     * @param change the changed fields
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveChange(String aggregateType, UUID aggregateId, String eventType, Change change) {
+        if (change.isEmpty()) {
+            log.debug("Skipping {} event for {} with no changed fields", eventType, aggregateType);
+            return;
+        }
+        try {
+            save(aggregateType, aggregateId, eventType, changeEncoder.encodeToString(change));
+        } catch (Exception e) {
+            log.error("Error saving change to outbox", e);
+            meterRegistry.counter("outbox.events.errors").increment();
+        }
+    }
+
+    private void save(String aggregateType, UUID aggregateId, String eventType, String payload) {
+        Outbox outboxEntry = Outbox.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(Instant.now())
+                .build();
+
+        outboxRepository.save(outboxEntry);
+
+        // Track metrics
+        meterRegistry.counter("outbox.events.created",
+                        "aggregateType", aggregateType,
+                        "eventType", eventType)
+                .increment();
+
+        log.debug("Saved outbox event: {} for {}", eventType, aggregateType);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.service.AuthService;
+import org.mdental.authcore.infrastructure.context.RequestContext;
 import org.mdental.commons.model.AuthPrincipal;
 import org.slf4j.MDC;
 import org.springframework.http.HttpHeaders;
@@ -56,7 +57,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     MDC.put("tenantId", principal.tenantId().toString());
                     MDC.put("userId", principal.id().toString());
                     MDC.put("username", principal.username());
-                    MDC.put("requestId", request.getHeader("X-Request-ID"));
+                    MDC.put("requestId", RequestContext.of(request).requestId());
 
                     // Create authentication
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -74,9 +75,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             filterChain.doFilter(request, response);
         } finally {
-            // Clear authentication after the request
+            // Clear authentication after the request; request-level MDC values belong to MdcFilter
             SecurityContextHolder.clearContext();
-            MDC.clear();
+            MDC.remove("tenantId");
+            MDC.remove("userId");
+            MDC.remove("username");
         }
     }
 
@@ -1,21 +1,25 @@
 package org.mdental.authcore.infrastructure.security;
 
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.KeyUse;
 import com.nimbusds.jose.jwk.RSAKey;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -23,7 +27,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -52,6 +55,13 @@ public class KeyRotationService {
     @Value("${mdental.auth.keys.rotation.key-lifetime-days:90}")
     private int keyLifetimeDays;
 
+    // Retired keys only need to outlive the access tokens they signed
+    @Value("${mdental.auth.keys.history.retention-seconds:86400}")
+    private long historyRetentionSeconds;
+
+    @Value("${mdental.auth.keys.history.max-keys:3}")
+    private int historyMaxKeys;
+
     private final Clock clock;
     private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
 
@@ -65,12 +75,16 @@ public class KeyRotationService {
     @Getter
     private String currentKeyId;
 
-    // Key history for verification (kid -> public key)
-    private final Map<String, RSAPublicKey> keyHistory = new ConcurrentHashMap<>();
+    // Key history for verification (kid -> retired public key)
+    private final Map<String, RetiredKey> keyHistory = new ConcurrentHashMap<>();
 
     // JWKS set that gets updated when keys rotate
     @Getter
-    private JWKSet jwkSet;
+    private volatile JWKSet jwkSet;
+
+    // Serialized JWKS document, rebuilt together with the set
+    @Getter
+    private volatile JwksDocument jwksDocument;
 
     public KeyRotationService(Clock clock) {
         this.clock = clock;
@@ -121,7 +135,8 @@ public class KeyRotationService {
             return currentPublicKey;
         }
 
-        return keyHistory.get(kid);
+        RetiredKey retired = keyHistory.get(kid);
+        return retired != null ? retired.publicKey() : null;
     }
 
     /**
@@ -129,6 +144,11 @@ public class KeyRotationService {
      */
     public synchronized void checkAndRotateKeys() {
         try {
+            // Drop retired keys that can no longer verify live tokens
+            if (pruneKeyHistory()) {
+                updateJwkSet();
+            }
+
             // Check for manually rotated keys first (external rotation)
             if (checkForExternalRotation()) {
                 log.info("Detected externally rotated keys, updated key material");
@@ -187,7 +207,7 @@ public class KeyRotationService {
 
         // Add current key to history
         if (currentKeyId != null) {
-            keyHistory.put(currentKeyId, currentPublicKey);
+            keyHistory.put(currentKeyId, new RetiredKey(currentPublicKey, clock.instant()));
         }
 
         // Update current keys
@@ -237,7 +257,7 @@ public class KeyRotationService {
             if (Files.exists(privateKeyPath) && Files.exists(publicKeyPath)) {
                 // Add current key to history
                 if (currentKeyId != null) {
-                    keyHistory.put(currentKeyId, currentPublicKey);
+                    keyHistory.put(currentKeyId, new RetiredKey(currentPublicKey, clock.instant()));
                 }
 
                 // Load new keys
@@ -348,38 +368,69 @@ public class KeyRotationService {
     }
 
     /**
-     * Update the JWKS set with current and historical keys.
+     * Update the JWKS set with current and historical keys, and serialize it once for the JWKS endpoint.
      */
-    private void updateJwkSet() {
+    private synchronized void updateJwkSet() {
         try {
-            // 1. Collect all RSAKey JSON strings
-            List<String> jwkJsons = new ArrayList<>();
+            pruneKeyHistory();
+
+            List<JWK> keys = new ArrayList<>();
 
             // Current key
-            jwkJsons.add(currentRsaKey().toJSONString());
+            keys.add(currentRsaKey());
 
             // Historical keys
-            for (Map.Entry<String, RSAPublicKey> entry : keyHistory.entrySet()) {
-                RSAKey hist = new RSAKey.Builder(entry.getValue())
+            for (Map.Entry<String, RetiredKey> entry : keyHistory.entrySet()) {
+                keys.add(new RSAKey.Builder(entry.getValue().publicKey())
                         .keyID(entry.getKey())
                         .keyUse(KeyUse.SIGNATURE)
-                        .build();
-                jwkJsons.add(hist.toJSONString());
+                        .build());
             }
 
-            // 2. Build the JWKS JSON array string
-            String keysArray = jwkJsons.stream().collect(Collectors.joining(","));
-            String jwksJson = "{\"keys\":[" + keysArray + "]}";
+            JWKSet updated = new JWKSet(keys);
+            byte[] body = updated.toString(true).getBytes(StandardCharsets.UTF_8);
 
-            // 3. Parse it
-            this.jwkSet = JWKSet.parse(jwksJson);
+            this.jwkSet = updated;
+            this.jwksDocument = new JwksDocument(body, strongEtag(body));
 
-            log.debug("Updated JWKS set with {} keys", jwkJsons.size());
+            log.debug("Updated JWKS set with {} keys ({} bytes)", keys.size(), body.length);
         } catch (Exception e) {
             log.error("Failed to update JWKS set", e);
         }
     }
 
+    /**
+     * Remove retired keys past their retention period, then the oldest ones beyond the size cap.
+     *
+     * @return true if any key was removed
+     */
+    private boolean pruneKeyHistory() {
+        Instant cutoff = clock.instant().minus(Duration.ofSeconds(historyRetentionSeconds));
+        boolean removed = keyHistory.values().removeIf(key -> key.retiredAt().isBefore(cutoff));
+
+        if (keyHistory.size() > historyMaxKeys) {
+            List<Map.Entry<String, RetiredKey>> byAge = new ArrayList<>(keyHistory.entrySet());
+            byAge.sort(Map.Entry.comparingByValue(Comparator.comparing(RetiredKey::retiredAt)));
+            for (int i = 0; i < byAge.size() - historyMaxKeys; i++) {
+                keyHistory.remove(byAge.get(i).getKey());
+            }
+            removed = true;
+        }
+
+        if (removed) {
+            log.info("Pruned key history, {} retired keys kept", keyHistory.size());
+        }
+        return removed;
+    }
+
+    /**
+     * Build a strong ETag from the SHA-256 of the document.
+     */
+    private String strongEtag(byte[] body) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+    }
+
     // Helper to build the current RSAKey
     private RSAKey currentRsaKey() {
         return new RSAKey.Builder(currentPublicKey)
@@ -461,4 +512,14 @@ public class KeyRotationService {
         result.append(endMarker).append("\n");
         return result.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * A key that was replaced by a newer one but may still verify tokens it signed.
+     */
+    private record RetiredKey(RSAPublicKey publicKey, Instant retiredAt) {}
+
+    /**
+     * Pre-serialized public JWKS document with its strong ETag.
+     */
+    public record JwksDocument(byte[] body, String etag) {}
+}
@@ -12,9 +12,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 import java.util.function.Function;
-import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.infrastructure.context.RequestContext;
+import org.mdental.authcore.infrastructure.context.RequestContext.RouteClass;
+import org.mdental.authcore.infrastructure.security.stuffing.CredentialStuffingDetector;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -24,10 +28,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE) // High priority
+@RequiredArgsConstructor
 @Slf4j
 public class LoginRateLimitFilter extends OncePerRequestFilter {
 
-    private static final Pattern LOGIN_PATH_PATTERN = Pattern.compile("/auth/[^/]+/login");
+    private final CredentialStuffingDetector credentialStuffingDetector;
 
     private final Cache<String, Bucket> ipRateLimiters = Caffeine.newBuilder()
             .expireAfterWrite(1, TimeUnit.HOURS)
@@ -55,14 +60,24 @@ public class LoginRateLimitFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
 
         // Only apply to login endpoints
-        String path = request.getRequestURI();
-        if (!isLoginRequest(request)) {
+        RequestContext context = RequestContext.of(request);
+        if (!context.isPostTo(RouteClass.LOGIN)) {
             filterChain.doFilter(request, response);
             return;
         }
 
         // Get client IP
-        String clientIp = getClientIp(request);
+        String clientIp = context.clientIp();
+
+        // Check if the client's network was blocked by the credential stuffing detector
+        Optional<Duration> blocked = credentialStuffingDetector.blockRemaining(clientIp);
+        if (blocked.isPresent()) {
+            log.warn("Rejected login from blocked network, IP {}", clientIp);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, blocked.get().toSeconds())));
+            response.getWriter().write("Too many failed login attempts. Please try again later.");
+            return;
+        }
 
         // Check if this IP is already locked out due to consecutive failures
         Integer attempts = failedAttempts.getIfPresent(clientIp);
@@ -116,19 +131,6 @@ public class LoginRateLimitFilter extends OncePerRequestFilter {
                 .build();
     }
 
-    private boolean isLoginRequest(HttpServletRequest request) {
-        return request.getMethod().equals("POST") &&
-                LOGIN_PATH_PATTERN.matcher(request.getRequestURI()).matches();
-    }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
     private void recordFailedAttempt(String clientIp) {
         Integer attempts = failedAttempts.getIfPresent(clientIp);
         failedAttempts.put(clientIp, attempts == null ? 1 : attempts + 1);
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.infrastructure.context.RequestContext;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -12,13 +13,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 /**
  * Filter that adds MDC context for logging.
  */
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 @Slf4j
 public class MdcFilter extends OncePerRequestFilter {
 
@@ -29,27 +29,15 @@ public class MdcFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
 
         try {
-            // Extract or generate request ID
-            String requestId = request.getHeader("X-Request-ID");
-            if (requestId == null || requestId.isBlank()) {
-                requestId = UUID.randomUUID().toString();
-                // Add request ID to response for correlation
-                response.setHeader("X-Request-ID", requestId);
-            }
+            RequestContext context = RequestContext.of(request);
 
             // Set MDC values
-            MDC.put("requestId", requestId);
-            MDC.put("ip", getClientIp(request));
-            MDC.put("method", request.getMethod());
-            MDC.put("path", request.getRequestURI());
-
-            // Extract tenant from path if possible
-            String path = request.getRequestURI();
-            if (path.startsWith("/auth/")) {
-                String[] parts = path.split("/");
-                if (parts.length > 2) {
-                    MDC.put("tenant", parts[2]);
-                }
+            MDC.put("requestId", context.requestId());
+            MDC.put("ip", context.clientIp());
+            MDC.put("method", context.method());
+            MDC.put("path", context.path());
+            if (context.tenantSlug() != null) {
+                MDC.put("tenant", context.tenantSlug());
             }
 
             // Continue with the filter chain
@@ -60,15 +48,4 @@ public class MdcFilter extends OncePerRequestFilter {
             MDC.clear();
         }
     }
-
-    /**
-     * Extract client IP from request.
-     */
-    private String getClientIp(HttpServletRequest request) {
-        String xff = request.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isEmpty()) {
-            return xff.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
 }
\ No newline at end of file
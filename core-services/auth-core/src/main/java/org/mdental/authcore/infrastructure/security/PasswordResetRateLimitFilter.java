@@ -12,8 +12,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.infrastructure.context.RequestContext;
+import org.mdental.authcore.infrastructure.context.RequestContext.RouteClass;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -28,9 +29,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Slf4j
 public class PasswordResetRateLimitFilter extends OncePerRequestFilter {
 
-    private static final Pattern PASSWORD_RESET_PATH_PATTERN =
-            Pattern.compile("/auth/[^/]+/(forgot|reset)");
-
     private final Cache<String, Bucket> ipRateLimiters = Caffeine.newBuilder()
             .expireAfterWrite(30, TimeUnit.MINUTES)
             .maximumSize(10000)
@@ -49,13 +47,14 @@ public class PasswordResetRateLimitFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
 
         // Only apply to password reset endpoints
-        if (!isPasswordResetRequest(request)) {
+        RequestContext context = RequestContext.of(request);
+        if (!context.isPostTo(RouteClass.PASSWORD_RESET)) {
             filterChain.doFilter(request, response);
             return;
         }
 
         // Get client IP
-        String clientIp = getClientIp(request);
+        String clientIp = context.clientIp();
 
         // Get or create rate limiter for this IP
         Bucket bucket = ipRateLimiters.get(clientIp, key -> createBucket());
@@ -84,29 +83,4 @@ public class PasswordResetRateLimitFilter extends OncePerRequestFilter {
                         Refill.intervally(requestsPerMinute, Duration.ofMinutes(1))))
                 .build();
     }
-
-    /**
-     * Check if this is a password reset request.
-     *
-     * @param request the HTTP request
-     * @return true if this is a password reset request
-     */
-    private boolean isPasswordResetRequest(HttpServletRequest request) {
-        return request.getMethod().equals("POST") &&
-                PASSWORD_RESET_PATH_PATTERN.matcher(request.getRequestURI()).matches();
-    }
-
-    /**
-     * Extract client IP from the request.
-     *
-     * @param request the HTTP request
-     * @return the client IP
-     */
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.mdental.authcore.infrastructure.security;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.security.interfaces.RSAPrivateKey;
@@ -14,6 +15,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.commons.model.AuthPrincipal;
@@ -36,6 +38,10 @@ public class RsaJwtTokenProvider extends JwtTokenProvider {
     private final String keyId;
     private final JWKSet jwkSet;
 
+    // Parsers are immutable and thread-safe, so one is built per verification key
+    private final JwtParser currentKeyParser;
+    private final Map<String, JwtParser> historicalKeyParsers = new ConcurrentHashMap<>();
+
     public RsaJwtTokenProvider(
             JwtProps jwtProps,
             Clock clock,
@@ -54,6 +60,7 @@ public class RsaJwtTokenProvider extends JwtTokenProvider {
         this.refreshTtlSeconds = refreshTtlSeconds;
         this.keyId = keyId;
         this.jwkSet = jwkSet;
+        this.currentKeyParser = Jwts.parserBuilder().setSigningKey(publicKey).build();
     }
 
     /**
@@ -142,9 +149,7 @@ public class RsaJwtTokenProvider extends JwtTokenProvider {
     public boolean validateToken(String token) {
         try {
             // Extract kid from token header
-            JwsHeader<?> header = Jwts.parserBuilder()
-                    .setSigningKey(publicKey)
-                    .build()
+            JwsHeader<?> header = currentKeyParser
                     .parseClaimsJws(token)
                     .getHeader();
 
@@ -153,13 +158,9 @@ public class RsaJwtTokenProvider extends JwtTokenProvider {
             // If jwkSet is available and kid doesn't match our current key,
             // try to get the key from the JWKSet
             if (jwkSet != null && tokenKid != null && !keyId.equals(tokenKid)) {
-                RSAKey key = (RSAKey) jwkSet.getKeyByKeyId(tokenKid);
-                if (key != null) {
-                    RSAPublicKey alternatePublicKey = key.toRSAPublicKey();
-                    Jwts.parserBuilder()
-                            .setSigningKey(alternatePublicKey)
-                            .build()
-                            .parseClaimsJws(token);
+                JwtParser parser = historicalKeyParsers.computeIfAbsent(tokenKid, this::parserForKeyId);
+                if (parser != null) {
+                    parser.parseClaimsJws(token);
                     return true;
                 }
             }
@@ -171,4 +172,20 @@ public class RsaJwtTokenProvider extends JwtTokenProvider {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Build a parser for a key published in the JWK set.
+     *
+     * @param kid the key ID
+     * @return the parser, or null if the key is unknown
+     */
+    private JwtParser parserForKeyId(String kid) {
+        try {
+            RSAKey key = (RSAKey) jwkSet.getKeyByKeyId(kid);
+            return key != null ? Jwts.parserBuilder().setSigningKey(key.toRSAPublicKey()).build() : null;
+        } catch (Exception e) {
+            log.debug("Could not load JWK {}: {}", kid, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.mdental.authcore.infrastructure.security.breach;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Memory-mapped Bloom filter over SHA-1 password digests.
+ *
+ * <p>File layout (big-endian): magic, version, bit count, hash count, entry count, then the bit array.
+ * Digests are already uniformly distributed, so probe positions are derived from the digest itself
+ * by double hashing instead of re-hashing the password.
+ */
+public final class BloomFilterFile {
+    static final int MAGIC = 0x4D44424C; // "MDBL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    private final MappedFile file;
+    private final long numBits;
+    private final int numHashes;
+    private final long entries;
+
+    private BloomFilterFile(MappedFile file, long numBits, int numHashes, long entries) {
+        this.file = file;
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.entries = entries;
+    }
+
+    /**
+     * Map an existing filter file.
+     *
+     * @param path the filter file
+     * @return the filter
+     * @throws IOException if the file cannot be read or is not a filter file
+     */
+    public static BloomFilterFile open(Path path) throws IOException {
+        MappedFile file = MappedFile.openReadOnly(path);
+        if (file.size() < HEADER_SIZE || file.getInt(0) != MAGIC) {
+            throw new IOException("Not a Bloom filter file: " + path);
+        }
+        if (file.getInt(4) != VERSION) {
+            throw new IOException("Unsupported Bloom filter version " + file.getInt(4) + ": " + path);
+        }
+        long numBits = file.getLong(8);
+        if (file.size() < HEADER_SIZE + bytesFor(numBits)) {
+            throw new IOException("Truncated Bloom filter file: " + path);
+        }
+        return new BloomFilterFile(file, numBits, file.getInt(16), file.getLong(20));
+    }
+
+    /**
+     * Create an empty filter file sized for the expected entries and false-positive rate.
+     *
+     * @param path the filter file to write
+     * @param expectedEntries the number of digests that will be added
+     * @param falsePositiveRate the target false-positive rate
+     * @return the writable filter
+     * @throws IOException if the file cannot be created
+     */
+    public static BloomFilterFile create(Path path, long expectedEntries, double falsePositiveRate) throws IOException {
+        long n = Math.max(1, expectedEntries);
+        long numBits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+
+        MappedFile file = MappedFile.create(path, HEADER_SIZE + bytesFor(numBits));
+        file.putInt(0, MAGIC);
+        file.putInt(4, VERSION);
+        file.putLong(8, numBits);
+        file.putInt(16, numHashes);
+        return new BloomFilterFile(file, numBits, numHashes, 0);
+    }
+
+    /**
+     * Add a digest; only valid on a filter returned by {@link #create}.
+     *
+     * @param sha1 the 20-byte SHA-1 digest
+     */
+    public void add(byte[] sha1) {
+        long h1 = Sha1Digests.high(sha1);
+        long h2 = Sha1Digests.low(sha1);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            long offset = HEADER_SIZE + (bit >>> 3);
+            file.put(offset, (byte) (file.get(offset) | (1 << (bit & 7))));
+        }
+    }
+
+    /**
+     * Check whether a digest may be in the set. False means definitely absent.
+     *
+     * @param sha1 the 20-byte SHA-1 digest
+     * @return true if the digest may be present
+     */
+    public boolean mightContain(byte[] sha1) {
+        long h1 = Sha1Digests.high(sha1);
+        long h2 = Sha1Digests.low(sha1);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((file.get(HEADER_SIZE + (bit >>> 3)) & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Record the entry count in the header and flush the filter to disk.
+     *
+     * @param entryCount the number of digests added
+     */
+    public void finish(long entryCount) {
+        file.putLong(20, entryCount);
+        file.force();
+    }
+
+    public long numBits() {
+        return numBits;
+    }
+
+    public int numHashes() {
+        return numHashes;
+    }
+
+    public long entries() {
+        return entries;
+    }
+
+    private static long bytesFor(long numBits) {
+        return (numBits + 7) >>> 3;
+    }
+}
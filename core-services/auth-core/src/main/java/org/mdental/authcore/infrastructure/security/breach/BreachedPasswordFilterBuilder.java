@@ -0,0 +1,108 @@
+package org.mdental.authcore.infrastructure.security.breach;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Offline tool that compiles a SHA-1 breach corpus into the files read by {@link BreachedPasswordScreen}.
+ *
+ * <p>The corpus is a text file with one upper- or lower-case SHA-1 hex digest per line, optionally followed by
+ * ":count" (the format of the published "ordered by hash" downloads). Run it from the module directory:
+ * <pre>
+ * java -cp target/classes org.mdental.authcore.infrastructure.security.breach.BreachedPasswordFilterBuilder \
+ *     pwned-passwords-sha1-ordered-by-hash.txt breached.bloom [--hashes-out=breached.sha1] [--fpp=0.001]
+ * </pre>
+ * The optional sorted digest file requires the corpus to be sorted by hash.
+ */
+public final class BreachedPasswordFilterBuilder {
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+    private BreachedPasswordFilterBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BreachedPasswordFilterBuilder <corpus> <bloom-out> "
+                    + "[--hashes-out=<path>] [--fpp=<rate>]");
+            System.exit(2);
+        }
+
+        Path corpus = Path.of(args[0]);
+        Path bloomOut = Path.of(args[1]);
+        Path hashesOut = null;
+        double falsePositiveRate = DEFAULT_FALSE_POSITIVE_RATE;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--hashes-out=")) {
+                hashesOut = Path.of(args[i].substring("--hashes-out=".length()));
+            } else if (args[i].startsWith("--fpp=")) {
+                falsePositiveRate = Double.parseDouble(args[i].substring("--fpp=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        long entries = build(corpus, bloomOut, hashesOut, falsePositiveRate);
+        System.out.printf("Wrote %,d digests to %s (%,d bytes)%n", entries, bloomOut, Files.size(bloomOut));
+        if (hashesOut != null) {
+            System.out.printf("Wrote sorted digests to %s (%,d bytes)%n", hashesOut, Files.size(hashesOut));
+        }
+    }
+
+    /**
+     * Build the Bloom filter and, optionally, the sorted digest file.
+     *
+     * @param corpus the corpus text file
+     * @param bloomOut the Bloom filter file to write
+     * @param hashesOut the sorted digest file to write, or null to skip it
+     * @param falsePositiveRate the target false-positive rate
+     * @return the number of digests written
+     * @throws IOException if a file cannot be read or written, or the corpus is unsorted when hashesOut is set
+     */
+    public static long build(Path corpus, Path bloomOut, Path hashesOut, double falsePositiveRate) throws IOException {
+        // First pass sizes the filter, so the bit array can be written in place through a mapping
+        long expected = 0;
+        try (BufferedReader reader = Files.newBufferedReader(corpus, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (Sha1Digests.parseHex(line) != null) {
+                    expected++;
+                }
+            }
+        }
+
+        BloomFilterFile filter = BloomFilterFile.create(bloomOut, expected, falsePositiveRate);
+        long entries = 0;
+        byte[] previous = null;
+        try (BufferedReader reader = Files.newBufferedReader(corpus, StandardCharsets.US_ASCII);
+             OutputStream hashes = hashesOut == null ? null
+                     : new BufferedOutputStream(Files.newOutputStream(hashesOut), 1 << 20)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                byte[] sha1 = Sha1Digests.parseHex(line);
+                if (sha1 == null) {
+                    continue;
+                }
+                filter.add(sha1);
+                if (hashes != null) {
+                    int order = previous == null ? 1 : Arrays.compareUnsigned(sha1, previous);
+                    if (order < 0) {
+                        throw new IOException("Corpus is not sorted by hash at line: " + line);
+                    }
+                    if (order > 0) {
+                        hashes.write(sha1);
+                    }
+                    previous = sha1;
+                }
+                entries++;
+            }
+        }
+        filter.finish(entries);
+        return entries;
+    }
+}
@@ -0,0 +1,107 @@
+package org.mdental.authcore.infrastructure.security.breach;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Offline screen of new passwords against a corpus of breached passwords.
+ * A memory-mapped Bloom filter rejects clean passwords in a few page reads; when a sorted digest file is
+ * configured, filter hits are confirmed exactly so false positives never block a user.
+ */
+@Component
+@Slf4j
+public class BreachedPasswordScreen {
+    private final boolean enabled;
+    private final String bloomPath;
+    private final String hashesPath;
+    private final Counter cleanCounter;
+    private final Counter breachedCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilterFile bloomFilter;
+    private volatile SortedHashFile sortedHashes;
+
+    public BreachedPasswordScreen(
+            MeterRegistry meterRegistry,
+            @Value("${mdental.auth.breached-passwords.enabled:false}") boolean enabled,
+            @Value("${mdental.auth.breached-passwords.bloom-path:}") String bloomPath,
+            @Value("${mdental.auth.breached-passwords.hashes-path:}") String hashesPath) {
+        this.enabled = enabled;
+        this.bloomPath = bloomPath;
+        this.hashesPath = hashesPath;
+        this.cleanCounter = meterRegistry.counter("auth.password.breach.checks", "result", "clean");
+        this.breachedCounter = meterRegistry.counter("auth.password.breach.checks", "result", "breached");
+        this.falsePositiveCounter = meterRegistry.counter("auth.password.breach.checks", "result", "false_positive");
+    }
+
+    /**
+     * Map the configured files. A missing or invalid file disables the screen rather than failing startup.
+     */
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            log.info("Breached password screening is disabled");
+            return;
+        }
+        if (bloomPath.isBlank()) {
+            log.warn("Breached password screening is enabled but no Bloom filter path is configured");
+            return;
+        }
+
+        try {
+            BloomFilterFile filter = BloomFilterFile.open(Path.of(bloomPath));
+            SortedHashFile hashes = hashesPath.isBlank() ? null : SortedHashFile.open(Path.of(hashesPath));
+            this.sortedHashes = hashes;
+            this.bloomFilter = filter;
+            log.info("Loaded breached password filter: {} entries, {} bits, {} hashes{}",
+                    filter.entries(), filter.numBits(), filter.numHashes(),
+                    hashes == null ? "" : ", exact confirmation over " + hashes.count() + " digests");
+        } catch (IOException e) {
+            log.error("Failed to load breached password files, screening disabled", e);
+        }
+    }
+
+    /**
+     * Check whether a password appears in the breach corpus.
+     *
+     * @param password the raw password
+     * @return true if the password is known to be breached
+     */
+    public boolean isBreached(String password) {
+        BloomFilterFile filter = this.bloomFilter;
+        if (filter == null || password == null) {
+            return false;
+        }
+
+        byte[] sha1 = Sha1Digests.of(password);
+        if (!filter.mightContain(sha1)) {
+            cleanCounter.increment();
+            return false;
+        }
+
+        SortedHashFile hashes = this.sortedHashes;
+        if (hashes != null && !hashes.contains(sha1)) {
+            falsePositiveCounter.increment();
+            return false;
+        }
+
+        breachedCounter.increment();
+        return true;
+    }
+
+    /**
+     * Check whether the screen has a filter loaded.
+     *
+     * @return true if passwords are being screened
+     */
+    public boolean isActive() {
+        return bloomFilter != null;
+    }
+}
@@ -0,0 +1,105 @@
+package org.mdental.authcore.infrastructure.security.breach;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file mapped into memory in fixed-size segments, so files larger than 2 GiB can be addressed with long offsets.
+ * Contents live in the page cache rather than on the heap.
+ */
+final class MappedFile {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private MappedFile(MappedByteBuffer[] segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Map an existing file read-only.
+     *
+     * @param path the file
+     * @return the mapped file
+     * @throws IOException if the file cannot be mapped
+     */
+    static MappedFile openReadOnly(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return map(channel, FileChannel.MapMode.READ_ONLY, channel.size());
+        }
+    }
+
+    /**
+     * Create (or truncate) a zero-filled file of the given size and map it read-write.
+     *
+     * @param path the file
+     * @param size the file size in bytes
+     * @return the mapped file
+     * @throws IOException if the file cannot be created
+     */
+    static MappedFile create(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return map(channel, FileChannel.MapMode.READ_WRITE, size);
+        }
+    }
+
+    private static MappedFile map(FileChannel channel, FileChannel.MapMode mode, long size) throws IOException {
+        int count = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long offset = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(mode, offset, Math.min(SEGMENT_SIZE, size - offset));
+        }
+        return new MappedFile(segments, size);
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(long offset) {
+        return segments[(int) (offset >>> SEGMENT_SHIFT)].get((int) (offset & SEGMENT_MASK));
+    }
+
+    void put(long offset, byte value) {
+        segments[(int) (offset >>> SEGMENT_SHIFT)].put((int) (offset & SEGMENT_MASK), value);
+    }
+
+    int getInt(long offset) {
+        return ((get(offset) & 0xFF) << 24) | ((get(offset + 1) & 0xFF) << 16)
+                | ((get(offset + 2) & 0xFF) << 8) | (get(offset + 3) & 0xFF);
+    }
+
+    long getLong(long offset) {
+        return ((long) getInt(offset) << 32) | (getInt(offset + 4) & 0xFFFFFFFFL);
+    }
+
+    void putInt(long offset, int value) {
+        put(offset, (byte) (value >>> 24));
+        put(offset + 1, (byte) (value >>> 16));
+        put(offset + 2, (byte) (value >>> 8));
+        put(offset + 3, (byte) value);
+    }
+
+    void putLong(long offset, long value) {
+        putInt(offset, (int) (value >>> 32));
+        putInt(offset + 4, (int) value);
+    }
+
+    /**
+     * Flush written pages to disk.
+     */
+    void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+}
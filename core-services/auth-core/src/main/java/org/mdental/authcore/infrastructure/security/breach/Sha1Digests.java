@@ -0,0 +1,74 @@
+package org.mdental.authcore.infrastructure.security.breach;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-1 digest helpers for the breached-password files.
+ * SHA-1 is used only because breach corpora are published as SHA-1; it is never used to store passwords.
+ */
+public final class Sha1Digests {
+    public static final int LENGTH = 20;
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    });
+
+    private Sha1Digests() {
+    }
+
+    /**
+     * Digest a password.
+     *
+     * @param password the password
+     * @return the 20-byte SHA-1 digest of its UTF-8 bytes
+     */
+    public static byte[] of(String password) {
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        return digest.digest(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse the leading 40 hex characters of a corpus line, ignoring any ":count" suffix.
+     *
+     * @param line the corpus line
+     * @return the digest, or null if the line does not start with a SHA-1 hex digest
+     */
+    public static byte[] parseHex(String line) {
+        if (line.length() < LENGTH * 2) {
+            return null;
+        }
+        byte[] sha1 = new byte[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            int hi = Character.digit(line.charAt(2 * i), 16);
+            int lo = Character.digit(line.charAt(2 * i + 1), 16);
+            if (hi < 0 || lo < 0) {
+                return null;
+            }
+            sha1[i] = (byte) ((hi << 4) | lo);
+        }
+        return sha1;
+    }
+
+    static long high(byte[] sha1) {
+        return readLong(sha1, 0);
+    }
+
+    static long low(byte[] sha1) {
+        return readLong(sha1, 8);
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,70 @@
+package org.mdental.authcore.infrastructure.security.breach;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Memory-mapped file of SHA-1 digests stored as raw 20-byte records in ascending unsigned order.
+ * Used to confirm Bloom filter hits exactly with a binary search.
+ */
+public final class SortedHashFile {
+    private final MappedFile file;
+    private final long count;
+
+    private SortedHashFile(MappedFile file) {
+        this.file = file;
+        this.count = file.size() / Sha1Digests.LENGTH;
+    }
+
+    /**
+     * Map an existing sorted digest file.
+     *
+     * @param path the file
+     * @return the mapped file
+     * @throws IOException if the file cannot be read or is not a whole number of records
+     */
+    public static SortedHashFile open(Path path) throws IOException {
+        MappedFile file = MappedFile.openReadOnly(path);
+        if (file.size() % Sha1Digests.LENGTH != 0) {
+            throw new IOException("Sorted hash file size is not a multiple of " + Sha1Digests.LENGTH + ": " + path);
+        }
+        return new SortedHashFile(file);
+    }
+
+    /**
+     * Check whether a digest is present.
+     *
+     * @param sha1 the 20-byte SHA-1 digest
+     * @return true if the digest is in the file
+     */
+    public boolean contains(byte[] sha1) {
+        long lo = 0;
+        long hi = count - 1;
+        while (lo <= hi) {
+            long mid = (lo + hi) >>> 1;
+            int cmp = compareAt(mid * Sha1Digests.LENGTH, sha1);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    private int compareAt(long offset, byte[] sha1) {
+        for (int i = 0; i < Sha1Digests.LENGTH; i++) {
+            int cmp = Integer.compare(file.get(offset + i) & 0xFF, sha1[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,50 @@
+package org.mdental.authcore.infrastructure.security.stuffing;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fixed-size, lock-free count-min sketch. Estimates never undercount; they overcount by at most
+ * {@code e / width} of the total with probability {@code 1 - e^-depth}.
+ */
+final class CountMinSketch {
+    private final int depth;
+    private final int widthMask;
+    private final AtomicIntegerArray counters;
+
+    /**
+     * Create an empty sketch.
+     *
+     * @param depth the number of rows (independent hashes)
+     * @param width the number of counters per row, rounded up to a power of two
+     */
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        int roundedWidth = Integer.highestOneBit(Math.max(2, width) - 1) << 1;
+        this.widthMask = roundedWidth - 1;
+        this.counters = new AtomicIntegerArray(depth * roundedWidth);
+    }
+
+    void add(String key) {
+        long hash = SketchHashing.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < depth; row++) {
+            counters.incrementAndGet(index(row, h1 + row * h2));
+        }
+    }
+
+    long estimate(String key) {
+        long hash = SketchHashing.hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, h1 + row * h2)));
+        }
+        return min;
+    }
+
+    private int index(int row, int hash) {
+        return row * (widthMask + 1) + (hash & widthMask);
+    }
+}
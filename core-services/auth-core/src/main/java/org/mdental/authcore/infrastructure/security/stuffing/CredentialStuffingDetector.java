@@ -0,0 +1,357 @@
+package org.mdental.authcore.infrastructure.security.stuffing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming detector for credential stuffing, fed by login outcomes.
+ *
+ * <p>Failures are counted per client network (IPv4 /24, IPv6 /64) and per tenant in count-min sketches,
+ * and distinct usernames tried from each failing network are counted with HyperLogLog. Sketches live in
+ * one-minute slots of a sliding window, so memory stays fixed however many IPs and usernames are seen.
+ * A network that fails against many distinct accounts is blocked, and the login filter rejects its requests
+ * before any password is hashed.
+ */
+@Component
+@Slf4j
+public class CredentialStuffingDetector {
+    private static final Pattern IPV4 = Pattern.compile("^\\d{1,3}(\\.\\d{1,3}){3}$");
+    private static final int SKETCH_DEPTH = 4;
+
+    /**
+     * A network with recent login failures.
+     *
+     * @param network the client network
+     * @param failures the estimated failures in the window
+     * @param distinctUsernames the estimated distinct usernames that failed from the network
+     * @param blocked whether the network is currently blocked
+     */
+    public record Offender(String network, long failures, long distinctUsernames, boolean blocked) {}
+
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int windowMinutes;
+    private final int sketchWidth;
+    private final int maxTrackedNetworks;
+    private final long minFailures;
+    private final long minDistinctUsernames;
+    private final double minFailureRatio;
+    private final long tenantSurgeFailures;
+    private final int topOffenderCount;
+    private final Duration blockDuration;
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final Cache<String, Instant> blockedNetworks;
+    private volatile List<Offender> topOffenders = List.of();
+
+    public CredentialStuffingDetector(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${mdental.auth.stuffing.enabled:true}") boolean enabled,
+            @Value("${mdental.auth.stuffing.window-minutes:10}") int windowMinutes,
+            @Value("${mdental.auth.stuffing.sketch-width:4096}") int sketchWidth,
+            @Value("${mdental.auth.stuffing.max-tracked-networks:5000}") int maxTrackedNetworks,
+            @Value("${mdental.auth.stuffing.min-failures:30}") long minFailures,
+            @Value("${mdental.auth.stuffing.min-distinct-usernames:10}") long minDistinctUsernames,
+            @Value("${mdental.auth.stuffing.min-failure-ratio:0.8}") double minFailureRatio,
+            @Value("${mdental.auth.stuffing.tenant-surge-failures:300}") long tenantSurgeFailures,
+            @Value("${mdental.auth.stuffing.block-minutes:30}") int blockMinutes,
+            @Value("${mdental.auth.stuffing.top-offenders:5}") int topOffenderCount) {
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.windowMinutes = windowMinutes;
+        this.sketchWidth = sketchWidth;
+        this.maxTrackedNetworks = maxTrackedNetworks;
+        this.minFailures = minFailures;
+        this.minDistinctUsernames = minDistinctUsernames;
+        this.minFailureRatio = minFailureRatio;
+        this.tenantSurgeFailures = tenantSurgeFailures;
+        this.topOffenderCount = topOffenderCount;
+        this.blockDuration = Duration.ofMinutes(blockMinutes);
+
+        this.slots = new AtomicReferenceArray<>(windowMinutes);
+        this.blockedNetworks = Caffeine.newBuilder()
+                .expireAfterWrite(blockDuration)
+                .maximumSize(100000)
+                .build();
+
+        Gauge.builder("auth.stuffing.blocked.networks", blockedNetworks, Cache::estimatedSize)
+                .description("Client networks currently blocked for credential stuffing")
+                .register(meterRegistry);
+        for (int rank = 1; rank <= topOffenderCount; rank++) {
+            int index = rank - 1;
+            Gauge.builder("auth.stuffing.top_offender.failures", this, d -> d.offenderAt(index).failures())
+                    .tag("rank", String.valueOf(rank))
+                    .register(meterRegistry);
+            Gauge.builder("auth.stuffing.top_offender.distinct_usernames", this,
+                            d -> d.offenderAt(index).distinctUsernames())
+                    .tag("rank", String.valueOf(rank))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Record a failed login.
+     *
+     * @param tenantId the tenant ID
+     * @param username the attempted username
+     * @param clientIp the client IP address
+     */
+    public void recordFailure(UUID tenantId, String username, String clientIp) {
+        if (!enabled || clientIp == null) {
+            return;
+        }
+        String network = networkOf(clientIp);
+        Slot slot = currentSlot();
+        slot.failures.add(networkKey(network));
+        slot.failures.add(tenantKey(tenantId));
+
+        long networkFailures = windowEstimate(networkKey(network), true);
+        // Only networks that keep failing get a distinct-username counter, which bounds memory under spray
+        if (networkFailures >= trackingThreshold() && slot.usernames.size() < maxTrackedNetworks) {
+            slot.usernames.computeIfAbsent(network, k -> new HyperLogLog())
+                    .add(tenantId + "/" + (username == null ? "" : username.toLowerCase(Locale.ROOT)));
+        }
+
+        evaluate(network, tenantId, networkFailures);
+    }
+
+    /**
+     * Record a successful login; successes keep busy shared networks such as clinic offices from being blocked.
+     *
+     * @param clientIp the client IP address
+     */
+    public void recordSuccess(String clientIp) {
+        if (!enabled || clientIp == null) {
+            return;
+        }
+        currentSlot().successes.add(networkKey(networkOf(clientIp)));
+    }
+
+    /**
+     * Check whether a client's network is blocked.
+     *
+     * @param clientIp the client IP address
+     * @return the remaining block time, or empty if the client is not blocked
+     */
+    public Optional<Duration> blockRemaining(String clientIp) {
+        if (!enabled || clientIp == null || blockedNetworks.estimatedSize() == 0) {
+            return Optional.empty();
+        }
+        Instant until = blockedNetworks.getIfPresent(networkOf(clientIp));
+        if (until == null) {
+            return Optional.empty();
+        }
+        Duration remaining = Duration.between(clock.instant(), until);
+        return remaining.isNegative() ? Optional.empty() : Optional.of(remaining);
+    }
+
+    /**
+     * Get the networks with the most failures, as of the last refresh.
+     *
+     * @return the top offenders, worst first
+     */
+    public List<Offender> getTopOffenders() {
+        return topOffenders;
+    }
+
+    /**
+     * Recompute the top offenders from the tracked networks of the current window.
+     */
+    @Scheduled(fixedDelayString = "${mdental.auth.stuffing.offender-refresh-ms:30000}")
+    public void refreshTopOffenders() {
+        Set<String> networks = new HashSet<>();
+        long minute = currentMinute();
+        for (int i = 0; i < windowMinutes; i++) {
+            Slot slot = slots.get(i);
+            if (slot != null && minute - slot.minute < windowMinutes) {
+                networks.addAll(slot.usernames.keySet());
+            }
+        }
+
+        List<Offender> offenders = new ArrayList<>(networks.size());
+        for (String network : networks) {
+            offenders.add(new Offender(network, windowEstimate(networkKey(network), true),
+                    distinctUsernames(network), blockedNetworks.getIfPresent(network) != null));
+        }
+        offenders.sort(Comparator.comparingLong(Offender::failures).reversed());
+        topOffenders = List.copyOf(offenders.subList(0, Math.min(topOffenderCount, offenders.size())));
+    }
+
+    /**
+     * Block a network if its recent failures look like credential stuffing.
+     * Thresholds are halved while the tenant is seeing a failure surge.
+     *
+     * @param network the client network
+     * @param tenantId the tenant ID
+     * @param networkFailures the network's failures in the window
+     */
+    private void evaluate(String network, UUID tenantId, long networkFailures) {
+        if (blockedNetworks.getIfPresent(network) != null) {
+            return;
+        }
+
+        boolean tenantSurge = windowEstimate(tenantKey(tenantId), true) >= tenantSurgeFailures;
+        long failureThreshold = tenantSurge ? minFailures / 2 : minFailures;
+        long distinctThreshold = tenantSurge ? minDistinctUsernames / 2 : minDistinctUsernames;
+        if (networkFailures < failureThreshold) {
+            return;
+        }
+
+        long successes = windowEstimate(networkKey(network), false);
+        double failureRatio = (double) networkFailures / (networkFailures + successes);
+        if (failureRatio < minFailureRatio) {
+            return;
+        }
+
+        long distinct = distinctUsernames(network);
+        if (distinct < distinctThreshold) {
+            return;
+        }
+
+        blockedNetworks.put(network, clock.instant().plus(blockDuration));
+        meterRegistry.counter("auth.stuffing.blocks", "tenant_surge", String.valueOf(tenantSurge)).increment();
+        log.warn("Blocking network {} for credential stuffing: {} failures across ~{} usernames (tenant {}{})",
+                network, networkFailures, distinct, tenantId, tenantSurge ? ", tenant surge" : "");
+    }
+
+    private long trackingThreshold() {
+        return Math.max(2, Math.min(minFailures, minDistinctUsernames) / 4);
+    }
+
+    private long windowEstimate(String key, boolean failures) {
+        long minute = currentMinute();
+        long total = 0;
+        for (int i = 0; i < windowMinutes; i++) {
+            Slot slot = slots.get(i);
+            if (slot != null && minute - slot.minute < windowMinutes) {
+                total += failures ? slot.failures.estimate(key) : slot.successes.estimate(key);
+            }
+        }
+        return total;
+    }
+
+    private long distinctUsernames(String network) {
+        long minute = currentMinute();
+        byte[] registers = HyperLogLog.emptyRegisters();
+        boolean seen = false;
+        for (int i = 0; i < windowMinutes; i++) {
+            Slot slot = slots.get(i);
+            if (slot != null && minute - slot.minute < windowMinutes) {
+                HyperLogLog counter = slot.usernames.get(network);
+                if (counter != null) {
+                    counter.mergeInto(registers);
+                    seen = true;
+                }
+            }
+        }
+        return seen ? HyperLogLog.estimate(registers) : 0;
+    }
+
+    /**
+     * Get the slot of the current minute, replacing the expired slot it reuses.
+     *
+     * @return the current slot
+     */
+    private Slot currentSlot() {
+        long minute = currentMinute();
+        int index = (int) Math.floorMod(minute, (long) windowMinutes);
+        while (true) {
+            Slot slot = slots.get(index);
+            if (slot != null && slot.minute == minute) {
+                return slot;
+            }
+            Slot fresh = new Slot(minute, sketchWidth);
+            if (slots.compareAndSet(index, slot, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private long currentMinute() {
+        return clock.millis() / 60_000L;
+    }
+
+    private Offender offenderAt(int index) {
+        List<Offender> offenders = topOffenders;
+        return index < offenders.size() ? offenders.get(index) : new Offender("", 0, 0, false);
+    }
+
+    private static String networkKey(String network) {
+        return "n:" + network;
+    }
+
+    private static String tenantKey(UUID tenantId) {
+        return "t:" + tenantId;
+    }
+
+    /**
+     * Reduce a client IP to its network: /24 for IPv4, /64 for IPv6.
+     *
+     * @param clientIp the client IP address
+     * @return the network in CIDR notation, or the input if it is not an IP literal
+     */
+    static String networkOf(String clientIp) {
+        if (IPV4.matcher(clientIp).matches()) {
+            return clientIp.substring(0, clientIp.lastIndexOf('.')) + ".0/24";
+        }
+        if (clientIp.indexOf(':') >= 0) {
+            try {
+                // Strings containing ':' are parsed as literals, never resolved
+                byte[] address = InetAddress.getByName(clientIp).getAddress();
+                if (address.length == 16) {
+                    StringBuilder network = new StringBuilder();
+                    for (int i = 0; i < 8; i += 2) {
+                        network.append(Integer.toHexString(((address[i] & 0xFF) << 8) | (address[i + 1] & 0xFF)))
+                                .append(':');
+                    }
+                    return network.append(":/64").toString();
+                }
+            } catch (UnknownHostException e) {
+                return clientIp;
+            }
+        }
+        return clientIp;
+    }
+
+    /**
+     * Sketches for one minute of the window.
+     */
+    private static final class Slot {
+        private final long minute;
+        private final CountMinSketch failures;
+        private final CountMinSketch successes;
+        private final ConcurrentHashMap<String, HyperLogLog> usernames = new ConcurrentHashMap<>();
+
+        private Slot(long minute, int width) {
+            this.minute = minute;
+            this.failures = new CountMinSketch(SKETCH_DEPTH, width);
+            this.successes = new CountMinSketch(SKETCH_DEPTH, width);
+        }
+    }
+}
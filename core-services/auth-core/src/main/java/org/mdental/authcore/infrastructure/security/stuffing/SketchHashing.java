@@ -0,0 +1,23 @@
+package org.mdental.authcore.infrastructure.security.stuffing;
+
+/**
+ * 64-bit string hashing for the sketches: FNV-1a followed by a murmur3 finalizer to spread the bits.
+ */
+final class SketchHashing {
+    private SketchHashing() {
+    }
+
+    static long hash64(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
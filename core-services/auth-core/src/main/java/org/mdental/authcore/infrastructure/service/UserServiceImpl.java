@@ -6,7 +6,9 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.event.UserEvent;
+import org.mdental.authcore.domain.model.UsageMeter;
 import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.domain.model.UserSnapshot;
 import org.mdental.authcore.domain.repository.UserRepository;
 import org.mdental.authcore.domain.service.OutboxService;
 import org.mdental.authcore.domain.service.UserService;
@@ -14,7 +16,12 @@ import org.mdental.authcore.exception.AuthenticationException;
 import org.mdental.authcore.exception.DuplicateResourceException;
 import org.mdental.authcore.exception.NotFoundException;
 import org.mdental.authcore.exception.ValidationException;
+import org.mdental.authcore.infrastructure.cache.UserSnapshotCache;
+import org.mdental.authcore.infrastructure.jdbc.LastLoginWriteBehind;
+import org.mdental.authcore.infrastructure.metering.TenantUsageMeter;
+import org.mdental.authcore.infrastructure.security.breach.BreachedPasswordScreen;
 import org.mdental.authcore.util.PasswordPolicy;
+import org.mdental.commons.event.Change;
 import org.mdental.security.password.PasswordService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +37,10 @@ public class UserServiceImpl implements UserService {
     private final PasswordService passwordService;
     private final OutboxService outboxService;
     private final PasswordPolicy passwordPolicy;
+    private final UserSnapshotCache userSnapshotCache;
+    private final BreachedPasswordScreen breachedPasswordScreen;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
+    private final TenantUsageMeter tenantUsageMeter;
 
     /**
      * Create a new user.
@@ -47,7 +58,7 @@ public class UserServiceImpl implements UserService {
         validateNewUser(user);
 
         // Validate password
-        passwordPolicy.validate(rawPassword);
+        validateNewPassword(rawPassword);
 
         // Hash password
         user.setPasswordHash(passwordService.hash(rawPassword.toCharArray()));
@@ -56,13 +67,8 @@ public class UserServiceImpl implements UserService {
         User savedUser = userRepository.save(user);
 
         // Publish user created event
-        outboxService.saveEvent(
-                "User",
-                savedUser.getId(),
-                UserEvent.CREATED.name(),
-                null,
-                savedUser
-        );
+        publishUserChange(savedUser.getId(), UserEvent.CREATED, UserSnapshot.CHANGES.diff(null, UserSnapshot.from(savedUser)));
+        tenantUsageMeter.record(savedUser.getTenantId(), UsageMeter.USER_CREATED);
 
         return savedUser;
     }
@@ -118,6 +124,7 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public User updatePassword(UUID userId, String currentPassword, String newPassword) {
         User user = getUserById(userId);
+        UserSnapshot before = UserSnapshot.from(user);
 
         // Verify current password
         if (!verifyPassword(user, currentPassword)) {
@@ -125,23 +132,13 @@ public class UserServiceImpl implements UserService {
         }
 
         // Validate new password
-        passwordPolicy.validate(newPassword);
+        validateNewPassword(newPassword);
 
         // Hash new password
         user.setPasswordHash(passwordService.hash(newPassword.toCharArray()));
 
-        User updatedUser = userRepository.save(user);
-
         // Publish password changed event
-        outboxService.saveEvent(
-                "User",
-                user.getId(),
-                UserEvent.PASSWORD_CHANGED.name(),
-                null,
-                user.getId()
-        );
-
-        return updatedUser;
+        return saveAndPublish(user, before, UserEvent.PASSWORD_CHANGED);
     }
 
     /**
@@ -155,25 +152,16 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public User resetPassword(UUID userId, String newPassword) {
         User user = getUserById(userId);
+        UserSnapshot before = UserSnapshot.from(user);
 
         // Validate new password
-        passwordPolicy.validate(newPassword);
+        validateNewPassword(newPassword);
 
         // Hash new password
         user.setPasswordHash(passwordService.hash(newPassword.toCharArray()));
 
-        User updatedUser = userRepository.save(user);
-
         // Publish password reset event
-        outboxService.saveEvent(
-                "User",
-                user.getId(),
-                UserEvent.PASSWORD_RESET.name(),
-                null,
-                user.getId()
-        );
-
-        return updatedUser;
+        return saveAndPublish(user, before, UserEvent.PASSWORD_RESET);
     }
 
     /**
@@ -189,18 +177,11 @@ public class UserServiceImpl implements UserService {
         User user = getUserById(userId);
 
         if (user.isLocked() != locked) {
+            UserSnapshot before = UserSnapshot.from(user);
             user.setLocked(locked);
-            user = userRepository.save(user);
 
             // Publish user locked/unlocked event
-            UserEvent event = locked ? UserEvent.LOCKED : UserEvent.UNLOCKED;
-            outboxService.saveEvent(
-                    "User",
-                    user.getId(),
-                    event.name(),
-                    null,
-                    user.getId()
-            );
+            user = saveAndPublish(user, before, locked ? UserEvent.LOCKED : UserEvent.UNLOCKED);
         }
 
         return user;
@@ -219,6 +200,7 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public User updateProfile(UUID userId, String firstName, String lastName, String email) {
         User user = getUserById(userId);
+        UserSnapshot before = UserSnapshot.from(user);
         boolean changed = false;
         boolean emailChanged = false;
 
@@ -245,26 +227,15 @@ public class UserServiceImpl implements UserService {
         }
 
         if (changed) {
-            user = userRepository.save(user);
+            user = userRepository.saveAndFlush(user);
 
             // Publish profile updated event
-            outboxService.saveEvent(
-                    "User",
-                    user.getId(),
-                    UserEvent.PROFILE_UPDATED.name(),
-                    null,
-                    user
-            );
+            Change change = UserSnapshot.CHANGES.diff(before, UserSnapshot.from(user));
+            publishUserChange(user.getId(), UserEvent.PROFILE_UPDATED, change);
 
             // Publish email changed event if needed
             if (emailChanged) {
-                outboxService.saveEvent(
-                        "User",
-                        user.getId(),
-                        UserEvent.EMAIL_CHANGED.name(),
-                        null,
-                        user
-                );
+                publishUserChange(user.getId(), UserEvent.EMAIL_CHANGED, change);
             }
         }
 
@@ -283,17 +254,11 @@ public class UserServiceImpl implements UserService {
         User user = getUserById(userId);
 
         if (!user.isEmailVerified()) {
+            UserSnapshot before = UserSnapshot.from(user);
             user.setEmailVerified(true);
-            user = userRepository.save(user);
 
             // Publish email verified event
-            outboxService.saveEvent(
-                    "User",
-                    user.getId(),
-                    UserEvent.EMAIL_VERIFIED.name(),
-                    null,
-                    user.getId()
-            );
+            user = saveAndPublish(user, before, UserEvent.EMAIL_VERIFIED);
         }
 
         return user;
@@ -305,11 +270,9 @@ public class UserServiceImpl implements UserService {
      * @param userId the user ID
      */
     @Override
-    @Transactional
     public void recordLogin(UUID userId) {
-        User user = getUserById(userId);
-        user.setLastLoginAt(Instant.now());
-        userRepository.save(user);
+        // Buffered and written in batches, so logins never load or version-bump the user row
+        lastLoginWriteBehind.record(userId, Instant.now());
     }
 
     /**
@@ -324,6 +287,48 @@ public class UserServiceImpl implements UserService {
         return passwordService.matches(password.toCharArray(), user.getPasswordHash());
     }
 
+    /**
+     * Save a user and publish what changed since {@code before}. The save is flushed so the new
+     * version is part of the change; a password change touches no other published field.
+     *
+     * @param user the modified user
+     * @param before the snapshot taken before the modification
+     * @param event the event type
+     * @return the saved user
+     */
+    private User saveAndPublish(User user, UserSnapshot before, UserEvent event) {
+        User saved = userRepository.saveAndFlush(user);
+        publishUserChange(saved.getId(), event, UserSnapshot.CHANGES.diff(before, UserSnapshot.from(saved)));
+        return saved;
+    }
+
+    /**
+     * Publish the fields that changed on a user and invalidate any cached snapshot.
+     * The user entity itself is never serialised, so the password hash stays out of events.
+     *
+     * @param userId the user ID
+     * @param event the event type
+     * @param change the changed fields
+     */
+    private void publishUserChange(UUID userId, UserEvent event, Change change) {
+        outboxService.saveChange("User", userId, event.name(), change);
+        userSnapshotCache.onUserEvent(userId, event);
+    }
+
+    /**
+     * Validate a new password against the policy and the breached password corpus.
+     *
+     * @param password the new password
+     * @throws ValidationException if the password is known to be breached
+     */
+    private void validateNewPassword(String password) {
+        passwordPolicy.validate(password);
+
+        if (breachedPasswordScreen.isBreached(password)) {
+            throw new ValidationException("This password has appeared in a data breach, please choose a different one");
+        }
+    }
+
     /**
      * Validate a new user.
      *
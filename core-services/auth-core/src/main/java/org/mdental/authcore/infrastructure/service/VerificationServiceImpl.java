@@ -114,19 +114,8 @@ public class VerificationServiceImpl implements VerificationService {
         verificationToken.setUsed(true);
         verificationTokenRepository.save(verificationToken);
 
-        // Verify email
-        User user = userService.verifyEmail(verificationToken.getUserId());
-
-        // Publish event
-        outboxService.saveEvent(
-                "User",
-                user.getId(),
-                UserEvent.EMAIL_VERIFIED.name(),
-                null,
-                user.getId()
-        );
-
-        return user;
+        // Verify email; the user service publishes EMAIL_VERIFIED
+        return userService.verifyEmail(verificationToken.getUserId());
     }
 
     /**
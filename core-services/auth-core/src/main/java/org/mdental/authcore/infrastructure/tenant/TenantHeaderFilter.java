@@ -5,13 +5,11 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.model.Tenant;
 import org.mdental.authcore.domain.repository.TenantRepository;
+import org.mdental.authcore.infrastructure.context.RequestContext;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,8 +21,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 @Slf4j
 public class TenantHeaderFilter extends OncePerRequestFilter {
-    private static final Pattern TENANT_PATH_PATTERN = Pattern.compile("/auth/([^/]+).*");
-
     private final TenantRepository tenantRepository;
 
     @Override
@@ -33,15 +29,10 @@ public class TenantHeaderFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
-            // First try to extract from path variable
-            String tenantSlug = extractTenantFromPath(request.getRequestURI());
-
-            // If not found, try header
-            if (tenantSlug == null) {
-                tenantSlug = request.getHeader("X-Tenant");
-            }
+            // Path variable first, then the X-Tenant header
+            String tenantSlug = RequestContext.of(request).tenantSlug();
 
-            if (tenantSlug != null && !tenantSlug.isBlank()) {
+            if (tenantSlug != null) {
                 tenantRepository.findBySlug(tenantSlug).ifPresent(tenant -> {
                     setTenantContext(tenant);
                 });
@@ -53,17 +44,6 @@ public class TenantHeaderFilter extends OncePerRequestFilter {
         }
     }
 
-    /**
-     * Extract tenant slug from the request path.
-     *
-     * @param path the request path
-     * @return the tenant slug or null if not found
-     */
-    private String extractTenantFromPath(String path) {
-        Matcher matcher = TENANT_PATH_PATTERN.matcher(path);
-        return matcher.matches() ? matcher.group(1) : null;
-    }
-
     /**
      * Set the tenant context.
      *
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.authcore.domain.model.Outbox;
 import org.mdental.authcore.domain.repository.OutboxRepository;
+import org.mdental.authcore.infrastructure.email.EmailRenderingWorker;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,7 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Background processor for outbox events.
@@ -28,6 +31,7 @@ import java.util.UUID;
 public class OutboxProcessor {
     private final OutboxRepository outboxRepository;
     private final MeterRegistry meterRegistry;
+    private final EmailRenderingWorker emailRenderingWorker;
 
     @Value("${mdental.outbox.max-retries:3}")
     private int maxRetries;
@@ -59,14 +63,19 @@ public class OutboxProcessor {
             List<UUID> successIds = new ArrayList<>();
             List<UUID> failureIds = new ArrayList<>();
 
+            // Render queued emails in parallel before dispatching the page in order
+            Map<UUID, CompletableFuture<String>> rendered = emailRenderingWorker.renderAll(page.getContent());
+
             for (Outbox entry : page) {
                 try {
+                    String payload = emailRenderingWorker.dispatchPayload(entry, rendered);
+
                     // In a real implementation, this would publish to Kafka or another message broker
                     log.info("Event: type={}, aggregateType={}, aggregateId={}, payload={}",
                             entry.getEventType(),
                             entry.getAggregateType(),
                             entry.getAggregateId(),
-                            entry.getPayload());
+                            payload);
 
                     successIds.add(entry.getId());
 
@@ -2,15 +2,24 @@ package org.mdental.authcore.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility for rendering Thymeleaf templates.
+ * Content fragments are inserted into the layout in a single template evaluation, and every
+ * fragment is parsed once at startup so dispatch-time rendering only hits the template cache.
  */
 @Component
 @RequiredArgsConstructor
@@ -19,15 +28,71 @@ public class TemplateRenderer {
     private final TemplateEngine templateEngine;
 
     private static final String DEFAULT_LAYOUT = "email-layout";
+    private static final String FRAGMENTS_LOCATION = "classpath:templates/email/fragments/*.html";
+
+    private final Set<String> knownTemplates = ConcurrentHashMap.newKeySet();
 
     /**
-     * Render a template with variables.
+     * Parse the layout and every content fragment so they are cached before the first email is dispatched.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompileTemplates() {
+        try {
+            Resource[] fragments = new PathMatchingResourcePatternResolver().getResources(FRAGMENTS_LOCATION);
+            for (Resource fragment : fragments) {
+                String filename = fragment.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                String templateName = filename.substring(0, filename.length() - ".html".length());
+                try {
+                    render(templateName, Map.of());
+                    knownTemplates.add(templateName);
+                } catch (RuntimeException e) {
+                    log.warn("Could not precompile email template {}: {}", templateName, e.getMessage());
+                }
+            }
+            log.info("Precompiled {} email templates", knownTemplates.size());
+        } catch (IOException e) {
+            log.warn("Could not precompile email templates: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether a content template was found at startup.
+     *
+     * @param templateName the template name
+     * @return true if the template is known
+     */
+    public boolean isKnownTemplate(String templateName) {
+        return knownTemplates.isEmpty() || knownTemplates.contains(templateName);
+    }
+
+    /**
+     * Render a template with variables, falling back to a generic message on failure.
      *
      * @param templateName the template name (used for specific content fragments)
      * @param variables the template variables
      * @return the rendered template
      */
     public String renderTemplate(String templateName, Map<String, Object> variables) {
+        try {
+            return render(templateName, variables);
+        } catch (Exception e) {
+            log.error("Error rendering template {}: {}", templateName, e.getMessage(), e);
+            return "Error rendering template. Please contact support.";
+        }
+    }
+
+    /**
+     * Render a template with variables.
+     *
+     * @param templateName the template name (used for specific content fragments)
+     * @param variables the template variables
+     * @return the rendered template
+     * @throws org.thymeleaf.exceptions.TemplateEngineException if rendering fails
+     */
+    public String render(String templateName, Map<String, Object> variables) {
         Context context = new Context();
 
         // Create deep copy to avoid modifying the original
@@ -38,42 +103,13 @@ public class TemplateRenderer {
             templateVars.put("subject", "MDental Notification");
         }
 
-        // Render content body fragment if template is specified and not the layout itself
+        // The layout inserts the content fragment itself, so both render in one evaluation
         if (!DEFAULT_LAYOUT.equals(templateName)) {
-            // Generate body content from specific template
-            String bodyContent = renderFragment(templateName, templateVars);
-            templateVars.put("body", bodyContent);
-
-            // Use the layout template instead
-            templateName = DEFAULT_LAYOUT;
+            templateVars.put("template", templateName);
         }
 
         templateVars.forEach(context::setVariable);
 
-        try {
-            return templateEngine.process(templateName, context);
-        } catch (Exception e) {
-            log.error("Error rendering template {}: {}", templateName, e.getMessage(), e);
-            return "Error rendering template. Please contact support.";
-        }
-    }
-
-    /**
-     * Render a specific template fragment for the body content.
-     *
-     * @param templateName the template name
-     * @param variables the template variables
-     * @return the rendered fragment
-     */
-    private String renderFragment(String templateName, Map<String, Object> variables) {
-        Context context = new Context();
-        variables.forEach(context::setVariable);
-
-        try {
-            return templateEngine.process("fragments/" + templateName, context);
-        } catch (Exception e) {
-            log.error("Error rendering template fragment {}: {}", templateName, e.getMessage(), e);
-            return "Error rendering email content.";
-        }
+        return templateEngine.process(DEFAULT_LAYOUT, context);
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,9 @@ package org.mdental.authcore.web.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.domain.model.UserSnapshot;
 import org.mdental.authcore.domain.service.UserService;
+import org.mdental.authcore.infrastructure.cache.UserSnapshotCache;
 import org.mdental.commons.model.AuthPrincipal;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
@@ -15,25 +17,30 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 
 /**
  * Resolver for the @AuthenticationUser annotation.
+ * Resolves either a {@link UserSnapshot} or a detached {@link User} built from one,
+ * served from {@link UserSnapshotCache} rather than the database where possible.
  */
 @Component
 @RequiredArgsConstructor
 public class AuthenticationUserResolver implements HandlerMethodArgumentResolver {
     private final UserService userService;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(AuthenticationUser.class)
-                && parameter.getParameterType().equals(User.class);
+                && (parameter.getParameterType().equals(User.class)
+                || parameter.getParameterType().equals(UserSnapshot.class));
     }
 
     @Override
-    public User resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
-                                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof AuthPrincipal principal) {
-            return userService.getUserById(principal.id());
+            UserSnapshot snapshot = userSnapshotCache.get(principal.id(), userService::getUserById);
+            return parameter.getParameterType().equals(UserSnapshot.class) ? snapshot : snapshot.toUser();
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -5,20 +5,31 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.domain.model.BulkUserImportJob;
 import org.mdental.authcore.domain.model.Tenant;
+import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.domain.service.BulkUserImportService;
 import org.mdental.authcore.domain.service.TenantService;
+import org.mdental.authcore.web.dto.BulkUserImportRequest;
+import org.mdental.authcore.web.dto.BulkUserImportResponse;
 import org.mdental.authcore.web.dto.CreateTenantRequest;
 import org.mdental.authcore.web.dto.CreateTenantWithAdminRequest;
 import org.mdental.authcore.web.dto.TenantResponse;
 import org.mdental.authcore.web.dto.TenantWithAdminResponse;
 import org.mdental.authcore.web.mapper.TenantMapper;
 import org.mdental.commons.model.ApiResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 /**
  * Internal API for tenant management (super-admin only).
  */
@@ -30,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class InternalTenantController {
     private final TenantService tenantService;
     private final TenantMapper tenantMapper;
+    private final BulkUserImportService bulkUserImportService;
 
     /**
      * Create a new tenant.
@@ -76,4 +88,44 @@ public class InternalTenantController {
 
         return ApiResponse.success(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Start a bulk import of users into a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @param request the users to create
+     * @param principal the authenticated principal
+     * @return the queued import job
+     */
+    @PostMapping("/{tenantId}/users/bulk")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    @Operation(summary = "Bulk import users", description = "Starts creating many users of a tenant in the background")
+    public ApiResponse<BulkUserImportResponse> importUsers(
+            @PathVariable UUID tenantId,
+            @Valid @RequestBody BulkUserImportRequest request,
+            @AuthenticationUser User principal) {
+        log.info("REST request to bulk import {} users into tenant {}", request.users().size(), tenantId);
+
+        BulkUserImportJob job = bulkUserImportService.submit(
+                tenantId,
+                request.users().stream().map(BulkUserImportRequest.UserRow::toRow).toList(),
+                principal.getUsername()
+        );
+        return ApiResponse.success(BulkUserImportResponse.from(job));
+    }
+
+    /**
+     * Get the progress and per-row results of a bulk import.
+     *
+     * @param tenantId the tenant ID
+     * @param jobId the import job ID
+     * @return the import status
+     */
+    @GetMapping("/{tenantId}/users/bulk/{jobId}")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    @Operation(summary = "Get bulk import status", description = "Returns the progress and per-row results of a bulk import")
+    public ApiResponse<BulkUserImportResponse> getImport(@PathVariable UUID tenantId, @PathVariable UUID jobId) {
+        return ApiResponse.success(BulkUserImportResponse.from(bulkUserImportService.getJob(tenantId, jobId)));
+    }
+}
@@ -1,20 +1,77 @@
 package org.mdental.authcore.web.controller;
 
-import com.nimbusds.jose.jwk.JWKSet;
 import lombok.RequiredArgsConstructor;
 import org.mdental.authcore.infrastructure.security.KeyRotationService;
+import org.mdental.authcore.infrastructure.security.KeyRotationService.JwksDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
+import java.time.Duration;
 
+/**
+ * Serves the public JWKS document.
+ * The document is serialized by {@link KeyRotationService} only when keys change, so a request
+ * costs an ETag comparison and, at most, a byte-array write.
+ */
 @RestController
 @RequiredArgsConstructor
 public class JwksController {
     private final KeyRotationService keyRotationService;
 
-    @GetMapping("/.well-known/jwks.json")
-    public Map<String, Object> jwks() {
-        return keyRotationService.getJwkSet().toJSONObject();
+    @Value("${mdental.auth.jwks.max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    /**
+     * Get the JWKS document.
+     *
+     * @param ifNoneMatch the ETags the client already holds
+     * @return the JWKS document, or 304 if the client's copy is current
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        JwksDocument document = keyRotationService.getJwksDocument();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+
+        if (matches(ifNoneMatch, document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(document.etag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(document.body().length)
+                .body(document.body());
+    }
+
+    /**
+     * Check an If-None-Match header against the current ETag.
+     */
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            // If-None-Match uses weak comparison, so a W/ prefix is ignored
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
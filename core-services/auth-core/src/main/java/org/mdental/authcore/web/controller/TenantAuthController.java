@@ -14,6 +14,7 @@ import org.mdental.authcore.domain.service.AuthService;
 import org.mdental.authcore.domain.service.TenantService;
 import org.mdental.authcore.domain.service.UserService;
 import org.mdental.authcore.domain.service.VerificationService;
+import org.mdental.authcore.infrastructure.context.RequestContext;
 
 import org.mdental.authcore.web.dto.*;
 import org.mdental.authcore.web.mapper.UserMapper;
@@ -23,7 +24,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -72,7 +72,7 @@ public class TenantAuthController {
         log.info("REST request to login user: {} for tenant: {}", request.username(), tenant);
 
         Tenant tenantEntity = tenantService.getTenantBySlug(tenant);
-        String ipAddress = getClientIp(httpRequest);
+        String ipAddress = RequestContext.of(httpRequest).clientIp();
 
         Map<String, Object> tokens = authService.authenticate(
                 tenantEntity.getId(),
@@ -264,7 +264,7 @@ public class TenantAuthController {
     @Operation(summary = "Get current user", description = "Returns information about the authenticated user")
     public ApiResponse<UserInfoResponse> me(
             @PathVariable String tenant,
-            @AuthenticationPrincipal User principal) {
+            @AuthenticationUser User principal) {
         log.debug("REST request to get current user info for tenant: {}", tenant);
         return ApiResponse.success(userMapper.toUserInfoResponse(principal));
     }
@@ -281,7 +281,7 @@ public class TenantAuthController {
     @Operation(summary = "Update profile", description = "Updates user profile information")
     public ApiResponse<UserInfoResponse> updateProfile(
             @PathVariable String tenant,
-            @AuthenticationPrincipal User principal,
+            @AuthenticationUser User principal,
             @Valid @RequestBody UpdateProfileRequest request) {
         log.info("REST request to update profile for user: {}", principal.getUsername());
 
@@ -307,7 +307,7 @@ public class TenantAuthController {
     @Operation(summary = "Change password", description = "Changes user password")
     public ApiResponse<Void> changePassword(
             @PathVariable String tenant,
-            @AuthenticationPrincipal User principal,
+            @AuthenticationUser User principal,
             @Valid @RequestBody ChangePasswordRequest request) {
         log.info("REST request to change password for user: {}", principal.getUsername());
 
@@ -320,20 +320,6 @@ public class TenantAuthController {
         return ApiResponse.success(null);
     }
 
-    /**
-     * Extract client IP address from request.
-     *
-     * @param request the HTTP request
-     * @return the client IP
-     */
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
     /**
      * Set token cookies.
      *
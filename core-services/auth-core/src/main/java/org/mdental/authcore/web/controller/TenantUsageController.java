@@ -0,0 +1,55 @@
+package org.mdental.authcore.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.domain.service.TenantUsageService;
+import org.mdental.authcore.domain.service.TenantUsageService.Granularity;
+import org.mdental.authcore.web.dto.TenantUsageResponse;
+import org.mdental.commons.model.ApiResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Internal API for per-tenant usage (super-admin only).
+ */
+@RestController
+@RequestMapping("/internal/tenants/{tenantId}/usage")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Tenant Usage", description = "Per-tenant usage for capacity planning and billing (super-admin only)")
+public class TenantUsageController {
+    private final TenantUsageService tenantUsageService;
+
+    /**
+     * Get a tenant's usage over time.
+     *
+     * @param tenantId the tenant ID
+     * @param from the inclusive start (ISO-8601 instant)
+     * @param to the exclusive end (ISO-8601 instant)
+     * @param granularity the period each point covers
+     * @return the usage series and totals
+     */
+    @GetMapping
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    @Operation(summary = "Get tenant usage", description = "Returns per-meter usage of a tenant over a time range")
+    public ApiResponse<TenantUsageResponse> getUsage(
+            @PathVariable UUID tenantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "HOUR") Granularity granularity) {
+        log.debug("REST request to get usage of tenant {} from {} to {} by {}", tenantId, from, to, granularity);
+
+        return ApiResponse.success(TenantUsageResponse.of(tenantId, granularity, from, to,
+                tenantUsageService.getUsage(tenantId, from, to, granularity)));
+    }
+}
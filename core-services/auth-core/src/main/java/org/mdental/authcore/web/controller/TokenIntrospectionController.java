@@ -0,0 +1,81 @@
+package org.mdental.authcore.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.domain.service.TokenIntrospectionService;
+import org.mdental.authcore.web.dto.BatchIntrospectionRequest;
+import org.mdental.authcore.web.dto.TokenIntrospectionResponse;
+import org.mdental.commons.model.ApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * Internal API for introspecting tokens in bulk.
+ */
+@RestController
+@RequestMapping("/internal/tokens")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Token Introspection", description = "Bulk token introspection for internal services")
+public class TokenIntrospectionController {
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Introspect a batch of tokens.
+     *
+     * @param request the tokens to introspect
+     * @return one result per token, in request order
+     */
+    @PostMapping(value = "/introspect", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    @Operation(summary = "Introspect tokens", description = "Introspects a batch of tokens; results are positional")
+    public ApiResponse<List<TokenIntrospectionResponse>> introspect(
+            @Valid @RequestBody BatchIntrospectionRequest request) {
+        log.debug("REST request to introspect {} tokens", request.tokens().size());
+        return ApiResponse.success(introspectAll(request));
+    }
+
+    /**
+     * Introspect a batch of tokens, writing one compact JSON object per line.
+     *
+     * @param request the tokens to introspect
+     * @return the JSON-lines body, one line per token, in request order
+     */
+    @PostMapping(value = "/introspect", produces = NDJSON)
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    @Operation(summary = "Introspect tokens (JSON lines)", description = "Introspects a batch of tokens as JSON lines")
+    public StreamingResponseBody introspectAsJsonLines(@Valid @RequestBody BatchIntrospectionRequest request) {
+        log.debug("REST request to introspect {} tokens as JSON lines", request.tokens().size());
+        List<TokenIntrospectionResponse> results = introspectAll(request);
+        ObjectWriter writer = objectMapper.writerFor(TokenIntrospectionResponse.class);
+
+        return outputStream -> {
+            for (TokenIntrospectionResponse result : results) {
+                outputStream.write(writer.writeValueAsBytes(result));
+                outputStream.write('\n');
+            }
+        };
+    }
+
+    private List<TokenIntrospectionResponse> introspectAll(BatchIntrospectionRequest request) {
+        return tokenIntrospectionService.introspectBatch(request.tokens()).stream()
+                .map(result -> result.map(TokenIntrospectionResponse::active)
+                        .orElseGet(TokenIntrospectionResponse::inactive))
+                .toList();
+    }
+}
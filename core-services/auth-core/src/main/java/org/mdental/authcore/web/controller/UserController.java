@@ -13,7 +13,6 @@ import org.mdental.authcore.web.mapper.UserMapper;
 import org.mdental.commons.model.ApiResponse;
 import org.mdental.commons.model.Role;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -42,10 +41,11 @@ public class UserController {
     @Operation(summary = "Get user", description = "Retrieves a user by ID")
     public ApiResponse<UserInfoResponse> getUser(
             @PathVariable UUID id,
-            @AuthenticationPrincipal User principal) {
+            @AuthenticationUser User principal) {
         log.debug("REST request to get user: {}", id);
 
-        User user = userService.getUserById(id);
+        // The caller's own record is already resolved from the snapshot cache
+        User user = id.equals(principal.getId()) ? principal : userService.getUserById(id);
 
         // Verify tenant access
         if (!principal.getRoles().contains(Role.SUPER_ADMIN) &&
@@ -72,7 +72,7 @@ public class UserController {
     public ApiResponse<UserInfoResponse> setLocked(
             @PathVariable UUID id,
             @Valid @RequestBody UserLockedRequest request,
-            @AuthenticationPrincipal User principal) {
+            @AuthenticationUser User principal) {
         log.info("REST request to set user locked status: {} to {}", id, request.locked());
 
         User user = userService.getUserById(id);
@@ -0,0 +1,16 @@
+package org.mdental.authcore.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Request to introspect several tokens at once.
+ */
+@Schema(description = "Batch token introspection request")
+public record BatchIntrospectionRequest(
+        @Schema(description = "Tokens to introspect; results are returned in the same order")
+        @NotEmpty(message = "At least one token is required")
+        List<String> tokens
+) {}
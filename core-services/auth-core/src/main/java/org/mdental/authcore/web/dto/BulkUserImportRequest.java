@@ -0,0 +1,52 @@
+package org.mdental.authcore.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.mdental.authcore.domain.model.BulkUserImportRow;
+import org.mdental.commons.model.Role;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Request to create many users of a tenant at once.
+ * Rows are validated individually by the import so one bad row does not reject the whole request.
+ */
+@Schema(description = "Bulk user import request")
+public record BulkUserImportRequest(
+        @Schema(description = "Users to create; results are reported per row in the same order")
+        @NotEmpty(message = "At least one user is required")
+        List<@NotNull UserRow> users
+) {
+    /**
+     * One user to create.
+     */
+    @Schema(description = "User to create")
+    public record UserRow(
+            @Schema(description = "Username", example = "dr.alami")
+            String username,
+
+            @Schema(description = "Email", example = "dr.alami@clinic-casa.ma")
+            String email,
+
+            @Schema(description = "First name", example = "Youssef")
+            String firstName,
+
+            @Schema(description = "Last name", example = "Alami")
+            String lastName,
+
+            @Schema(description = "Initial password")
+            String password,
+
+            @Schema(description = "Roles to assign")
+            Set<Role> roles,
+
+            @Schema(description = "Whether the email is already verified")
+            boolean emailVerified
+    ) {
+        public BulkUserImportRow toRow() {
+            return new BulkUserImportRow(username, email, firstName, lastName, password, roles, emailVerified);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.mdental.authcore.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.mdental.authcore.domain.model.BulkUserImportJob;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for the progress and results of a bulk user import.
+ */
+@Schema(description = "Bulk user import status")
+public record BulkUserImportResponse(
+        @Schema(description = "Import job ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID jobId,
+
+        @Schema(description = "Tenant ID", example = "123e4567-e89b-12d3-a456-426614174001")
+        UUID tenantId,
+
+        @Schema(description = "Job state", example = "RUNNING")
+        BulkUserImportJob.State state,
+
+        @Schema(description = "Number of rows submitted", example = "250")
+        int total,
+
+        @Schema(description = "Number of passwords hashed so far", example = "180")
+        int hashed,
+
+        @Schema(description = "Number of users created so far", example = "150")
+        int created,
+
+        @Schema(description = "Number of rows rejected so far", example = "3")
+        int rejected,
+
+        @Schema(description = "Reason the job failed, if it did")
+        String error,
+
+        @Schema(description = "When the job was submitted")
+        Instant submittedAt,
+
+        @Schema(description = "When the job finished")
+        Instant completedAt,
+
+        @Schema(description = "Per-row results in request order")
+        List<BulkUserImportJob.RowResult> rows
+) {
+    /**
+     * Create a response from the current state of a job.
+     *
+     * @param job the import job
+     * @return the response
+     */
+    public static BulkUserImportResponse from(BulkUserImportJob job) {
+        return new BulkUserImportResponse(job.getId(), job.getTenantId(), job.getState(), job.getTotal(),
+                job.getHashed(), job.getCreated(), job.getRejected(), job.getError(),
+                job.getSubmittedAt(), job.getCompletedAt(), job.getRows());
+    }
+}
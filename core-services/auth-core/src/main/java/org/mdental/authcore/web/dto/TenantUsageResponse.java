@@ -0,0 +1,71 @@
+package org.mdental.authcore.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.mdental.authcore.domain.model.UsageMeter;
+import org.mdental.authcore.domain.service.TenantUsageService.Granularity;
+import org.mdental.authcore.infrastructure.jdbc.UsageRollupRepository.Rollup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response DTO for a tenant's usage over time.
+ */
+@Schema(description = "Tenant usage over time")
+public record TenantUsageResponse(
+        @Schema(description = "Tenant ID", example = "123e4567-e89b-12d3-a456-426614174001")
+        UUID tenantId,
+
+        @Schema(description = "Period each point covers", example = "HOUR")
+        Granularity granularity,
+
+        @Schema(description = "Inclusive start of the range")
+        Instant from,
+
+        @Schema(description = "Exclusive end of the range")
+        Instant to,
+
+        @Schema(description = "Totals per meter over the whole range")
+        Map<UsageMeter, Long> totals,
+
+        @Schema(description = "Counts per meter for each period with usage, in time order")
+        List<Point> series
+) {
+    /**
+     * Usage within one period.
+     *
+     * @param periodStart the start of the period
+     * @param counts the counts per meter
+     */
+    public record Point(Instant periodStart, Map<UsageMeter, Long> counts) {}
+
+    /**
+     * Build a response from rollups ordered by period.
+     *
+     * @param tenantId the tenant ID
+     * @param granularity the period each rollup covers
+     * @param from the inclusive start
+     * @param to the exclusive end
+     * @param rollups the rollups
+     * @return the response
+     */
+    public static TenantUsageResponse of(UUID tenantId, Granularity granularity, Instant from, Instant to,
+                                         List<Rollup> rollups) {
+        Map<UsageMeter, Long> totals = new EnumMap<>(UsageMeter.class);
+        List<Point> series = new ArrayList<>();
+        Point current = null;
+        for (Rollup rollup : rollups) {
+            if (current == null || !current.periodStart().equals(rollup.bucketStart())) {
+                current = new Point(rollup.bucketStart(), new EnumMap<>(UsageMeter.class));
+                series.add(current);
+            }
+            current.counts().merge(rollup.meter(), rollup.count(), Long::sum);
+            totals.merge(rollup.meter(), rollup.count(), Long::sum);
+        }
+        return new TenantUsageResponse(tenantId, granularity, from, to, totals, series);
+    }
+}
@@ -0,0 +1,60 @@
+package org.mdental.authcore.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.mdental.commons.model.AuthPrincipal;
+import org.mdental.commons.model.Role;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Response DTO for a single token introspection.
+ * Inactive tokens serialize as {"active":false} only.
+ */
+@Schema(description = "Token introspection result")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospectionResponse(
+        @Schema(description = "Whether the token is active")
+        boolean active,
+
+        @Schema(description = "User ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID sub,
+
+        @Schema(description = "Username", example = "john.smith")
+        String username,
+
+        @Schema(description = "Email address", example = "john.smith@example.com")
+        String email,
+
+        @Schema(description = "Tenant ID", example = "123e4567-e89b-12d3-a456-426614174001")
+        @JsonProperty("tenant_id")
+        UUID tenantId,
+
+        @Schema(description = "User roles")
+        Set<Role> roles
+) {
+    private static final TokenIntrospectionResponse INACTIVE =
+            new TokenIntrospectionResponse(false, null, null, null, null, null);
+
+    /**
+     * Create an active response from a principal.
+     *
+     * @param principal the token principal
+     * @return the response
+     */
+    public static TokenIntrospectionResponse active(AuthPrincipal principal) {
+        return new TokenIntrospectionResponse(true, principal.id(), principal.username(),
+                principal.email(), principal.tenantId(), principal.roles());
+    }
+
+    /**
+     * Get the response for an inactive token.
+     *
+     * @return the response
+     */
+    public static TokenIntrospectionResponse inactive() {
+        return INACTIVE;
+    }
+}
@@ -0,0 +1,11 @@
+-- Append-only per-minute usage rollups; a minute may have several rows (one per flush and instance)
+CREATE TABLE IF NOT EXISTS tenant_usage_rollups (
+                                                    id           BIGSERIAL PRIMARY KEY,
+                                                    tenant_id    UUID NOT NULL,
+                                                    meter        VARCHAR(50) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    count        BIGINT NOT NULL,
+    recorded_at  TIMESTAMP NOT NULL
+    );
+
+CREATE INDEX IF NOT EXISTS idx_tenant_usage_tenant_bucket ON tenant_usage_rollups(tenant_id, bucket_start, meter);
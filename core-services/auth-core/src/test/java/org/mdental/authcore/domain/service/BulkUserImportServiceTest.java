@@ -0,0 +1,108 @@
+package org.mdental.authcore.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mdental.authcore.domain.model.BulkUserImportJob;
+import org.mdental.authcore.domain.model.BulkUserImportJob.RowStatus;
+import org.mdental.authcore.domain.model.BulkUserImportRow;
+import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.infrastructure.jdbc.UserBatchRepository;
+import org.mdental.authcore.infrastructure.metering.TenantUsageMeter;
+import org.mdental.authcore.infrastructure.security.breach.BreachedPasswordScreen;
+import org.mdental.authcore.util.PasswordPolicy;
+import org.mdental.commons.model.Role;
+import org.mdental.security.password.PasswordService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkUserImportServiceTest {
+    private static final String PASSWORD = "Str0ng!Password";
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UserBatchRepository userBatchRepository = mock(UserBatchRepository.class);
+    private final PasswordService passwordService = mock(PasswordService.class);
+    private final BulkUserImportService service = new BulkUserImportService(
+            mock(TenantService.class), userBatchRepository, passwordService, new PasswordPolicy(),
+            mock(BreachedPasswordScreen.class), mock(TenantUsageMeter.class), mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(),
+            2, 10, 1, 100, 2, 60);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldReportPerRowResultsAndInsertInBatches() {
+        // Arrange
+        List<BulkUserImportRow> rows = List.of(
+                row("dr.alami", "alami@clinic.ma", PASSWORD),
+                row("dr.bennani", "bennani@clinic.ma", "weak"),
+                row("dr.alami", "other@clinic.ma", PASSWORD),
+                row("dr.chraibi", "taken@clinic.ma", PASSWORD),
+                row("dr.idrissi", "idrissi@clinic.ma", PASSWORD),
+                row("dr.tazi", "tazi@clinic.ma", PASSWORD));
+        when(userBatchRepository.findTaken(eq(tenantId), anyCollection(), anyCollection()))
+                .thenReturn(new UserBatchRepository.TakenIdentities(Set.of(), Set.of("taken@clinic.ma")));
+        when(passwordService.hash(any())).thenReturn("hash");
+        BulkUserImportJob job = new BulkUserImportJob(tenantId, rows);
+
+        // Act
+        service.run(job, rows, "super.admin");
+
+        // Assert
+        assertThat(job.getState()).isEqualTo(BulkUserImportJob.State.COMPLETED);
+        assertThat(job.getRows()).extracting(BulkUserImportJob.RowResult::status).containsExactly(
+                RowStatus.CREATED, RowStatus.REJECTED, RowStatus.REJECTED,
+                RowStatus.REJECTED, RowStatus.CREATED, RowStatus.CREATED);
+        assertThat(job.getRows().get(2).error()).isEqualTo("Duplicate username in import");
+        assertThat(job.getRows().get(3).error()).isEqualTo("Email already exists in this tenant");
+        assertThat(job.getHashed()).isEqualTo(3);
+        assertThat(job.getCreated()).isEqualTo(3);
+        assertThat(job.getRejected()).isEqualTo(3);
+        verify(userBatchRepository, times(2)).insertUsers(any());
+    }
+
+    @Test
+    void shouldRetryConflictingBatchRowByRow() {
+        // Arrange
+        List<BulkUserImportRow> rows = List.of(
+                row("dr.alami", "alami@clinic.ma", PASSWORD),
+                row("dr.tazi", "tazi@clinic.ma", PASSWORD));
+        when(userBatchRepository.findTaken(eq(tenantId), anyCollection(), anyCollection()))
+                .thenReturn(new UserBatchRepository.TakenIdentities(Set.of(), Set.of()));
+        when(passwordService.hash(any())).thenReturn("hash");
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(userBatchRepository).insertUsers(argThat(users -> users.size() > 1
+                        || users.stream().map(User::getUsername).anyMatch("dr.tazi"::equals)));
+        BulkUserImportJob job = new BulkUserImportJob(tenantId, rows);
+
+        // Act
+        service.run(job, rows, "super.admin");
+
+        // Assert
+        assertThat(job.getRows()).extracting(BulkUserImportJob.RowResult::status)
+                .containsExactly(RowStatus.CREATED, RowStatus.REJECTED);
+        assertThat(job.getRows().get(0).userId()).isNotNull();
+    }
+
+    private static BulkUserImportRow row(String username, String email, String password) {
+        return new BulkUserImportRow(username, email, "First", "Last", password, Set.of(Role.DOCTOR), false);
+    }
+}
@@ -0,0 +1,65 @@
+package org.mdental.authcore.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mdental.authcore.exception.ValidationException;
+import org.mdental.commons.model.AuthPrincipal;
+import org.mdental.security.exception.TokenExpiredException;
+import org.mdental.security.jwt.JwtTokenProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenIntrospectionServiceTest {
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenIntrospectionService service =
+            new TokenIntrospectionService(jwtTokenProvider, meterRegistry, 2, 10, 3);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldReturnResultsInRequestOrder() {
+        // Arrange
+        AuthPrincipal first = AuthPrincipal.of(UUID.randomUUID(), UUID.randomUUID(), "first", "first@mdental.org");
+        AuthPrincipal third = AuthPrincipal.of(UUID.randomUUID(), UUID.randomUUID(), "third", "third@mdental.org");
+        when(jwtTokenProvider.parseToken("t1")).thenReturn(first);
+        when(jwtTokenProvider.parseToken("t2")).thenThrow(new TokenExpiredException("JWT token has expired"));
+        when(jwtTokenProvider.parseToken("t3")).thenReturn(third);
+
+        // Act
+        List<Optional<AuthPrincipal>> results = service.introspectBatch(List.of("t1", "t2", "t3"));
+
+        // Assert
+        assertThat(results).containsExactly(Optional.of(first), Optional.empty(), Optional.of(third));
+        assertThat(meterRegistry.get("auth.introspection.batch").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTreatBlankTokensAsInactive() {
+        // Act
+        List<Optional<AuthPrincipal>> results = service.introspectBatch(Arrays.asList("", null));
+
+        // Assert
+        assertThat(results).containsExactly(Optional.empty(), Optional.empty());
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.introspectBatch(List.of("a", "b", "c", "d")))
+                .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package org.mdental.authcore.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mdental.authcore.domain.event.UserEvent;
+import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.domain.model.UserSnapshot;
+import org.mdental.commons.model.Role;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSnapshotCacheTest {
+
+    private final UserSnapshotCache cache = new UserSnapshotCache(new SimpleMeterRegistry(), 30, 100);
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<UUID, User> loader = id -> {
+        loads.incrementAndGet();
+        User user = User.builder()
+                .tenantId(UUID.randomUUID())
+                .username("doctor.smith")
+                .email("doctor.smith@mdental.org")
+                .firstName("John")
+                .lastName("Smith")
+                .passwordHash("hash")
+                .roles(Set.of(Role.DOCTOR))
+                .build();
+        user.setId(id);
+        return user;
+    };
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldLoadUserOnlyOncePerRequest() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // Act
+        UserSnapshot first = cache.get(userId, loader);
+        UserSnapshot second = cache.get(userId, loader);
+
+        // Assert
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.roles()).containsExactly(Role.DOCTOR);
+    }
+
+    @Test
+    void shouldServeLaterRequestsFromSharedTier() {
+        // Act
+        cache.get(userId, loader);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        cache.get(userId, loader);
+
+        // Assert
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidatingEvent() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        cache.get(userId, loader);
+
+        // Act
+        cache.onUserEvent(userId, UserEvent.LOCKED);
+        cache.get(userId, loader);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldIgnoreEventsThatDoNotChangeSnapshot() {
+        // Arrange
+        cache.get(userId, loader);
+
+        // Act
+        cache.onUserEvent(userId, UserEvent.PASSWORD_RESET_REQUESTED);
+        cache.get(userId, loader);
+
+        // Assert
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldBuildDetachedUserWithoutPasswordHash() {
+        // Act
+        User user = cache.get(userId, loader).toUser();
+
+        // Assert
+        assertThat(user.getId()).isEqualTo(userId);
+        assertThat(user.getPasswordHash()).isNull();
+        assertThat(user.getUsername()).isEqualTo("doctor.smith");
+    }
+}
@@ -0,0 +1,136 @@
+package org.mdental.authcore.infrastructure.context;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares per-request allocation of the filter chain's request parsing before and after
+ * {@link RequestContext}. The legacy path replays what MdcFilter, TenantHeaderFilter,
+ * JwtAuthenticationFilter, the two rate-limit filters and AuditLogService each did on their own.
+ * Not picked up by the default test run; execute with {@code mvn test -Dtest=RequestContextAllocationBenchmark}.
+ */
+class RequestContextAllocationBenchmark {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static final Pattern TENANT_PATH_PATTERN = Pattern.compile("/auth/([^/]+).*");
+    private static final Pattern LOGIN_PATH_PATTERN = Pattern.compile("/auth/[^/]+/login");
+    private static final Pattern PASSWORD_RESET_PATH_PATTERN = Pattern.compile("/auth/[^/]+/(forgot|reset)");
+
+    private static long sink;
+
+    private MockHttpServletRequest current = request();
+
+    @Test
+    void requestContextShouldAllocateLessThanPerFilterParsing() {
+        com.sun.management.ThreadMXBean threads = threadMxBean();
+        Assumptions.assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported());
+
+        long legacy = bytesPerRequest(threads, this::legacyChain);
+        long consolidated = bytesPerRequest(threads, this::consolidatedChain);
+
+        System.out.printf("auth-core filter chain request parsing: legacy=%d B/req, request-context=%d B/req, saved=%d B/req%n",
+                legacy, consolidated, legacy - consolidated);
+        assertThat(consolidated).isLessThan(legacy);
+    }
+
+    private long bytesPerRequest(com.sun.management.ThreadMXBean threads, Runnable chain) {
+        for (int i = 0; i < WARMUP; i++) {
+            chain.run();
+        }
+
+        // Requests are built up front so only the parsing work is measured
+        MockHttpServletRequest[] requests = new MockHttpServletRequest[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            requests[i] = request();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (MockHttpServletRequest request : requests) {
+            current = request;
+            chain.run();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+        return (after - before) / ITERATIONS;
+    }
+
+    private void legacyChain() {
+        MockHttpServletRequest request = current;
+
+        // MdcFilter
+        String requestId = request.getHeader("X-Request-ID");
+        if (requestId == null || requestId.isBlank()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        String ip = legacyClientIp(request);
+        String path = request.getRequestURI();
+        String tenant = null;
+        if (path.startsWith("/auth/")) {
+            String[] parts = path.split("/");
+            if (parts.length > 2) {
+                tenant = parts[2];
+            }
+        }
+
+        // LoginRateLimitFilter and PasswordResetRateLimitFilter
+        boolean login = request.getMethod().equals("POST") && LOGIN_PATH_PATTERN.matcher(request.getRequestURI()).matches();
+        String loginIp = legacyClientIp(request);
+        boolean reset = request.getMethod().equals("POST")
+                && PASSWORD_RESET_PATH_PATTERN.matcher(request.getRequestURI()).matches();
+        String resetIp = legacyClientIp(request);
+
+        // TenantHeaderFilter
+        Matcher matcher = TENANT_PATH_PATTERN.matcher(request.getRequestURI());
+        String slug = matcher.matches() ? matcher.group(1) : request.getHeader("X-Tenant");
+
+        // JwtAuthenticationFilter and AuditLogService
+        String jwtRequestId = request.getHeader("X-Request-ID");
+        String auditIp = legacyClientIp(request);
+
+        sink += requestId.length() + ip.length() + (tenant == null ? 0 : tenant.length()) + (login ? 1 : 0)
+                + loginIp.length() + (reset ? 1 : 0) + resetIp.length() + (slug == null ? 0 : slug.length())
+                + (jwtRequestId == null ? 0 : 1) + auditIp.length();
+    }
+
+    private void consolidatedChain() {
+        MockHttpServletRequest request = current;
+        request.removeAttribute(RequestContext.class.getName());
+
+        // Every filter and the audit service read the same instance
+        RequestContext context = RequestContext.of(request);
+        for (int reader = 0; reader < 6; reader++) {
+            RequestContext shared = RequestContext.of(request);
+            sink += shared.clientIp().length() + shared.requestId().length() + shared.routeClass().ordinal()
+                    + (shared.tenantSlug() == null ? 0 : shared.tenantSlug().length());
+        }
+        sink += context.path().length();
+    }
+
+    private static String legacyClientIp(MockHttpServletRequest request) {
+        String xff = request.getHeader("X-Forwarded-For");
+        if (xff != null && !xff.isEmpty()) {
+            return xff.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/acme-dental/login");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+        request.addHeader("X-Request-ID", "0d9c5f0e-3b1a-4c55-9a1e-6b7d8e9f0a1b");
+        return request;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMxBean() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+    }
+}
@@ -0,0 +1,69 @@
+package org.mdental.authcore.infrastructure.context;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mdental.authcore.infrastructure.context.RequestContext.RouteClass;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestContextTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "/auth/acme/login, acme, LOGIN",
+            "/auth/acme/forgot, acme, PASSWORD_RESET",
+            "/auth/acme/reset, acme, PASSWORD_RESET",
+            "/auth/acme/me, acme, TENANT_AUTH",
+            "/auth/acme, acme, TENANT_AUTH",
+            "/auth/acme/login/extra, acme, TENANT_AUTH",
+            "/internal/tenants, , INTERNAL",
+            "/.well-known/jwks.json, , WELL_KNOWN",
+            "/api/users/1, , API",
+            "/auth/, , OTHER"
+    })
+    void shouldClassifyRoutesAndExtractTenant(String path, String tenant, RouteClass routeClass) {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+
+        // Act
+        RequestContext context = RequestContext.of(request);
+
+        // Assert
+        assertThat(context.tenantSlug()).isEqualTo(tenant);
+        assertThat(context.routeClass()).isEqualTo(routeClass);
+    }
+
+    @Test
+    void shouldUseFirstForwardedHopAndTenantHeader() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("X-Forwarded-For", " 203.0.113.7 , 10.0.0.1");
+        request.addHeader("X-Tenant", "acme");
+        request.addHeader("X-Request-ID", "req-1");
+
+        // Act
+        RequestContext context = RequestContext.of(request);
+
+        // Assert
+        assertThat(context.clientIp()).isEqualTo("203.0.113.7");
+        assertThat(context.tenantSlug()).isEqualTo("acme");
+        assertThat(context.requestId()).isEqualTo("req-1");
+        assertThat(context.requestIdGenerated()).isFalse();
+    }
+
+    @Test
+    void shouldComputeContextOncePerRequest() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/acme/me");
+
+        // Act
+        RequestContext first = RequestContext.of(request);
+        RequestContext second = RequestContext.of(request);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(first.requestIdGenerated()).isTrue();
+    }
+}
@@ -0,0 +1,75 @@
+package org.mdental.authcore.infrastructure.email;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mdental.authcore.config.ThymeleafConfig;
+import org.mdental.authcore.domain.event.EmailEvent;
+import org.mdental.authcore.domain.model.Outbox;
+import org.mdental.authcore.util.TemplateRenderer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailRenderingWorkerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TemplateRenderer templateRenderer = new TemplateRenderer(new ThymeleafConfig().emailTemplateEngine());
+    private final EmailRenderingWorker worker =
+            new EmailRenderingWorker(templateRenderer, objectMapper, meterRegistry, 2, 10);
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void shouldRenderFragmentInsideLayoutAtDispatchTime() throws Exception {
+        // Arrange
+        Outbox email = outbox("Email", EmailEvent.EMAIL_REQUESTED.name(), """
+                {"newValue":{"to":"john@example.com","subject":"Verify Your Email Address",
+                "templateName":"email-verification",
+                "variables":{"name":"John","verificationLink":"/verify-email?token=abc","expiryHours":24}}}
+                """);
+
+        // Act
+        Map<UUID, CompletableFuture<String>> rendered = worker.renderAll(List.of(email));
+        JsonNode payload = objectMapper.readTree(worker.dispatchPayload(email, rendered));
+
+        // Assert
+        String html = payload.get("newValue").get("htmlContent").asText();
+        assertThat(html).contains("Verify Your Email Address", "John", "/verify-email?token=abc", "MDental");
+        assertThat(payload.get("newValue").has("variables")).isFalse();
+        assertThat(meterRegistry.get("email.render").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPassThroughNonEmailEntries() {
+        // Arrange
+        Outbox userEvent = outbox("User", "CREATED", "{\"newValue\":{}}");
+
+        // Act
+        Map<UUID, CompletableFuture<String>> rendered = worker.renderAll(List.of(userEvent));
+
+        // Assert
+        assertThat(rendered).isEmpty();
+        assertThat(worker.dispatchPayload(userEvent, rendered)).isEqualTo(userEvent.getPayload());
+    }
+
+    private Outbox outbox(String aggregateType, String eventType, String payload) {
+        return Outbox.builder()
+                .id(UUID.randomUUID())
+                .aggregateType(aggregateType)
+                .aggregateId(UUID.randomUUID())
+                .eventType(eventType)
+                .payload(payload)
+                .build();
+    }
+}
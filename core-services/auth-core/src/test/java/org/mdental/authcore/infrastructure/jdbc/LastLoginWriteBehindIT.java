@@ -0,0 +1,82 @@
+package org.mdental.authcore.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mdental.authcore.domain.model.User;
+import org.mdental.authcore.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+// Every repository call commits on its own, as the write-behind and the user services do
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LastLoginWriteBehindIT {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>("postgres:14")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void laterEntitySaveShouldKeepFlushedLastLogin() {
+        // Arrange: a service loads the user before the login time is written behind it
+        User user = User.builder()
+                .tenantId(UUID.randomUUID())
+                .username("alice")
+                .email("alice@example.com")
+                .passwordHash("hash")
+                .firstName("Alice")
+                .lastName("Benali")
+                .build();
+        user.setCreatedAt(Instant.now());
+        User loaded = userRepository.save(user);
+
+        Instant loginAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        LastLoginWriteBehind writeBehind = new LastLoginWriteBehind(jdbcTemplate, new SimpleMeterRegistry(), 100);
+        writeBehind.record(loaded.getId(), loginAt);
+        writeBehind.flush();
+
+        // Act
+        loaded.setFirstName("Alya");
+        userRepository.save(loaded);
+
+        // Assert
+        User reloaded = userRepository.findById(loaded.getId()).orElseThrow();
+        assertThat(reloaded.getFirstName()).isEqualTo("Alya");
+        assertThat(reloaded.getLastLoginAt()).isEqualTo(loginAt);
+    }
+}
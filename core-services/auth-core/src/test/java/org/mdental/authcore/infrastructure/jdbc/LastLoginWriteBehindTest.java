@@ -0,0 +1,86 @@
+package org.mdental.authcore.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LastLoginWriteBehindTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LastLoginWriteBehind writeBehind = new LastLoginWriteBehind(jdbcTemplate, meterRegistry, 2);
+
+    @Test
+    void shouldCoalesceLoginsAndFlushInChunks() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        Instant later = Instant.parse("2026-10-19T10:05:00Z");
+        writeBehind.record(alice, Instant.parse("2026-10-19T10:00:00Z"));
+        writeBehind.record(alice, later);
+        writeBehind.record(alice, Instant.parse("2026-10-19T09:00:00Z"));
+        writeBehind.record(UUID.randomUUID(), later);
+        writeBehind.record(UUID.randomUUID(), later);
+
+        // Act
+        writeBehind.flush();
+
+        // Assert
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(anyString(), parameters.capture());
+        assertThat(parameters.getAllValues()).flatExtracting(List::of).hasSize(6)
+                .contains(alice, Timestamp.from(later));
+        assertThat(meterRegistry.get("auth.last_login.flushed").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("auth.last_login.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldKeepTimestampsWhenFlushFails() {
+        // Arrange
+        writeBehind.record(UUID.randomUUID(), Instant.now());
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act
+        writeBehind.flush();
+
+        // Assert
+        assertThat(meterRegistry.get("auth.last_login.pending").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.last_login.flush.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipFlushWhenNothingIsPending() {
+        // Act
+        writeBehind.flush();
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldBuildSingleStatementForChunk() {
+        // Act
+        String sql = LastLoginWriteBehind.updateSql(2);
+
+        // Assert
+        assertThat(sql).isEqualTo("UPDATE users u SET last_login_at = v.last_login_at FROM (VALUES "
+                + "(CAST(? AS uuid), CAST(? AS timestamp)), (CAST(? AS uuid), CAST(? AS timestamp))) "
+                + "AS v(id, last_login_at) WHERE u.id = v.id"
+                + " AND (u.last_login_at IS NULL OR u.last_login_at < v.last_login_at)");
+    }
+}
@@ -0,0 +1,84 @@
+package org.mdental.authcore.infrastructure.metering;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mdental.authcore.domain.model.UsageMeter;
+import org.mdental.authcore.infrastructure.jdbc.UsageRollupRepository;
+import org.mdental.authcore.infrastructure.jdbc.UsageRollupRepository.Rollup;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TenantUsageMeterTest {
+
+    private final UsageRollupRepository repository = mock(UsageRollupRepository.class);
+    private final TenantUsageMeter meter = new TenantUsageMeter(repository,
+            Clock.fixed(Instant.parse("2026-10-19T10:15:00.250Z"), ZoneOffset.UTC), new SimpleMeterRegistry());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFlushPreviousMinuteAsOneBatch() {
+        // Arrange
+        UUID tenantA = UUID.randomUUID();
+        UUID tenantB = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            meter.record(tenantA, UsageMeter.LOGIN_SUCCESS);
+        }
+        meter.record(tenantA, UsageMeter.LOGIN_FAILED);
+        meter.record(tenantB, UsageMeter.USER_CREATED, 25);
+
+        // Act
+        meter.flush();
+        meter.flush();
+
+        // Assert
+        ArgumentCaptor<List<Rollup>> rollups = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).append(rollups.capture());
+        Instant bucket = Instant.parse("2026-10-19T10:14:00Z");
+        assertThat(rollups.getValue()).containsExactlyInAnyOrder(
+                new Rollup(tenantA, UsageMeter.LOGIN_SUCCESS, bucket, 3),
+                new Rollup(tenantA, UsageMeter.LOGIN_FAILED, bucket, 1),
+                new Rollup(tenantB, UsageMeter.USER_CREATED, bucket, 25));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCarryCountsOverWhenFlushFails() {
+        // Arrange
+        UUID tenant = UUID.randomUUID();
+        meter.record(tenant, UsageMeter.TOKEN_REFRESHED, 7);
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(repository).append(anyList());
+
+        // Act
+        meter.flush();
+        meter.flush();
+
+        // Assert
+        ArgumentCaptor<List<Rollup>> rollups = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).append(rollups.capture());
+        assertThat(rollups.getAllValues().get(1)).extracting(Rollup::count).containsExactly(7L);
+    }
+
+    @Test
+    void shouldIgnoreEventsWithoutTenant() {
+        // Act
+        meter.record(null, UsageMeter.LOGIN_FAILED);
+        meter.flush();
+
+        // Assert
+        verifyNoInteractions(repository);
+    }
+}
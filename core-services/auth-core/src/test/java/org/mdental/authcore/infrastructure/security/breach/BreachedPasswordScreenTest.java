@@ -0,0 +1,87 @@
+package org.mdental.authcore.infrastructure.security.breach;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BreachedPasswordScreenTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldFlagBreachedPasswordsAndPassCleanOnes() throws IOException {
+        // Arrange
+        Path corpus = writeCorpus(IntStream.range(0, 5000).mapToObj(i -> "Password" + i + "!").toList());
+        Path bloom = dir.resolve("breached.bloom");
+        Path hashes = dir.resolve("breached.sha1");
+        BreachedPasswordFilterBuilder.build(corpus, bloom, hashes, 0.001);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BreachedPasswordScreen screen = new BreachedPasswordScreen(
+                meterRegistry, true, bloom.toString(), hashes.toString());
+        screen.load();
+
+        // Act
+        boolean breached = screen.isBreached("Password42!");
+        long falsePositives = IntStream.range(0, 5000)
+                .filter(i -> screen.isBreached("Unrelated-" + i + "-Passw0rd"))
+                .count();
+
+        // Assert
+        assertThat(screen.isActive()).isTrue();
+        assertThat(breached).isTrue();
+        assertThat(falsePositives).isZero();
+        assertThat(SortedHashFile.open(hashes).count()).isEqualTo(5000);
+        assertThat(BloomFilterFile.open(bloom).entries()).isEqualTo(5000);
+    }
+
+    @Test
+    void shouldStayInactiveWhenFileIsMissing() {
+        // Arrange
+        BreachedPasswordScreen screen = new BreachedPasswordScreen(
+                new SimpleMeterRegistry(), true, dir.resolve("missing.bloom").toString(), "");
+
+        // Act
+        screen.load();
+
+        // Assert
+        assertThat(screen.isActive()).isFalse();
+        assertThat(screen.isBreached("Password42!")).isFalse();
+    }
+
+    @Test
+    void shouldRejectUnsortedCorpusWhenWritingSortedHashes() throws IOException {
+        // Arrange
+        Path corpus = dir.resolve("unsorted.txt");
+        Files.write(corpus, List.of("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF:3", "0000000000000000000000000000000000000000:1"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> BreachedPasswordFilterBuilder.build(
+                corpus, dir.resolve("out.bloom"), dir.resolve("out.sha1"), 0.01))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("not sorted");
+    }
+
+    private Path writeCorpus(List<String> passwords) throws IOException {
+        HexFormat hex = HexFormat.of().withUpperCase();
+        List<String> lines = passwords.stream()
+                .map(password -> hex.formatHex(Sha1Digests.of(password)))
+                .sorted()
+                .map(digest -> digest + ":1")
+                .toList();
+        Path corpus = dir.resolve("corpus.txt");
+        Files.write(corpus, lines);
+        return corpus;
+    }
+}
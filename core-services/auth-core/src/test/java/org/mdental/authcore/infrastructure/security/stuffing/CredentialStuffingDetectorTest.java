@@ -0,0 +1,75 @@
+package org.mdental.authcore.infrastructure.security.stuffing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CredentialStuffingDetectorTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CredentialStuffingDetector detector = new CredentialStuffingDetector(
+            Clock.fixed(Instant.parse("2026-10-19T10:00:00Z"), ZoneOffset.UTC), meterRegistry,
+            true, 10, 1024, 100, 30, 10, 0.8, 300, 30, 3);
+
+    @Test
+    void shouldBlockNetworkSprayingManyUsernames() {
+        // Arrange: rotating IPs inside one /24, each username tried once
+        for (int i = 0; i < 40; i++) {
+            detector.recordFailure(tenantId, "user" + i, "203.0.113." + (i % 200));
+        }
+
+        // Act
+        detector.refreshTopOffenders();
+
+        // Assert
+        assertThat(detector.blockRemaining("203.0.113.250")).isPresent();
+        assertThat(detector.blockRemaining("198.51.100.7")).isEmpty();
+        assertThat(detector.getTopOffenders()).first()
+                .satisfies(offender -> {
+                    assertThat(offender.network()).isEqualTo("203.0.113.0/24");
+                    assertThat(offender.blocked()).isTrue();
+                });
+        assertThat(meterRegistry.get("auth.stuffing.blocked.networks").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotBlockNetworkRetryingFewUsernames() {
+        // Arrange: many failures but only two accounts, the per-account lockout covers this
+        for (int i = 0; i < 60; i++) {
+            detector.recordFailure(tenantId, i % 2 == 0 ? "dr.alami" : "dr.tazi", "192.0.2.10");
+        }
+
+        // Act & Assert
+        assertThat(detector.blockRemaining("192.0.2.10")).isEmpty();
+    }
+
+    @Test
+    void shouldNotBlockBusySharedNetworkWithMostlySuccessfulLogins() {
+        // Arrange: a clinic office behind one NAT with typos across many staff accounts
+        for (int i = 0; i < 200; i++) {
+            detector.recordSuccess("192.0.2.20");
+        }
+        for (int i = 0; i < 40; i++) {
+            detector.recordFailure(tenantId, "staff" + i, "192.0.2.20");
+        }
+
+        // Act & Assert
+        assertThat(detector.blockRemaining("192.0.2.20")).isEmpty();
+    }
+
+    @Test
+    void shouldGroupAddressesByNetwork() {
+        // Act & Assert
+        assertThat(CredentialStuffingDetector.networkOf("10.1.2.3")).isEqualTo("10.1.2.0/24");
+        assertThat(CredentialStuffingDetector.networkOf("2001:db8:85a3:1:8a2e:370:7334:1"))
+                .isEqualTo("2001:db8:85a3:1::/64");
+        assertThat(CredentialStuffingDetector.networkOf("unknown")).isEqualTo("unknown");
+    }
+}
@@ -0,0 +1,211 @@
+package org.mdental.cliniccore.availability;
+
+import org.mdental.cliniccore.model.entity.BusinessHours;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * A clinic's opening hours compiled for fast queries in the clinic's own time zone.
+ *
+ * <p>Business hours are split into date segments within which the same rows apply, given their
+ * validFrom/validTo ranges; each segment is a {@link WeeklySchedule}. Finding the schedule for a
+ * date and the state at a minute are both binary searches. Holidays come from the clinic's
+ * {@link HolidayCalendar} as closed minute ranges and are subtracted from the day's hours.
+ */
+public final class ClinicAvailability {
+
+    private final ZoneId zone;
+    private final LocalDate[] segmentStarts;
+    private final WeeklySchedule[] schedules;
+    private final HolidayCalendar holidays;
+
+    private ClinicAvailability(ZoneId zone, LocalDate[] segmentStarts, WeeklySchedule[] schedules,
+                               HolidayCalendar holidays) {
+        this.zone = zone;
+        this.segmentStarts = segmentStarts;
+        this.schedules = schedules;
+        this.holidays = holidays;
+    }
+
+    public record OpenInterval(Instant start, Instant end) {}
+
+    public static ClinicAvailability compile(ZoneId zone, Collection<BusinessHours> hours, HolidayCalendar holidays) {
+        List<BusinessHours> live = hours.stream()
+                .filter(h -> h.getDeletedAt() == null && Boolean.TRUE.equals(h.getActive()))
+                .toList();
+
+        // Every validity boundary starts a new segment; within a segment the same rows apply
+        TreeSet<LocalDate> boundaries = new TreeSet<>();
+        for (BusinessHours h : live) {
+            if (h.getValidFrom() != null) {
+                boundaries.add(h.getValidFrom());
+            }
+            if (h.getValidTo() != null) {
+                boundaries.add(h.getValidTo().plusDays(1));
+            }
+        }
+
+        List<LocalDate> starts = new ArrayList<>();
+        List<WeeklySchedule> segmentSchedules = new ArrayList<>();
+        starts.add(LocalDate.MIN);
+        segmentSchedules.add(scheduleAt(live, LocalDate.MIN));
+        for (LocalDate boundary : boundaries) {
+            WeeklySchedule schedule = scheduleAt(live, boundary);
+            if (schedule.equals(segmentSchedules.get(segmentSchedules.size() - 1))) {
+                continue;
+            }
+            starts.add(boundary);
+            segmentSchedules.add(schedule);
+        }
+
+        return new ClinicAvailability(
+                zone,
+                starts.toArray(LocalDate[]::new),
+                segmentSchedules.toArray(WeeklySchedule[]::new),
+                holidays);
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public boolean isOpen(Instant at) {
+        ZonedDateTime local = at.atZone(zone);
+        LocalDate date = local.toLocalDate();
+        int minuteOfDay = local.getHour() * 60 + local.getMinute();
+        if (!scheduleFor(date).isOpen(WeeklySchedule.minuteOfWeek(date.getDayOfWeek(), minuteOfDay))) {
+            return false;
+        }
+        int[] closed = holidays.closures(date);
+        for (int i = 0; i < closed.length; i += 2) {
+            if (minuteOfDay >= closed[i] && minuteOfDay < closed[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Earliest instant at or after {@code at} when the clinic is open, looking at most
+     * {@code horizonDays} days ahead.
+     */
+    public Optional<Instant> nextOpening(Instant at, int horizonDays) {
+        LocalDate date = at.atZone(zone).toLocalDate();
+        for (int day = 0; day <= horizonDays; day++, date = date.plusDays(1)) {
+            int[] open = openMinutes(date);
+            for (int i = 0; i < open.length; i += 2) {
+                if (toInstant(date, open[i + 1]).isAfter(at)) {
+                    Instant start = toInstant(date, open[i]);
+                    return Optional.of(start.isAfter(at) ? start : at);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Open intervals overlapping [from, to), clipped to the range. Intervals that meet at midnight
+     * are returned as one.
+     */
+    public List<OpenInterval> openIntervals(Instant from, Instant to) {
+        List<OpenInterval> result = new ArrayList<>();
+        LocalDate last = to.atZone(zone).toLocalDate();
+        for (LocalDate date = from.atZone(zone).toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+            int[] open = openMinutes(date);
+            for (int i = 0; i < open.length; i += 2) {
+                Instant start = max(toInstant(date, open[i]), from);
+                Instant end = min(toInstant(date, open[i + 1]), to);
+                if (!start.isBefore(end)) {
+                    continue;
+                }
+                int lastIndex = result.size() - 1;
+                if (lastIndex >= 0 && result.get(lastIndex).end().equals(start)) {
+                    result.set(lastIndex, new OpenInterval(result.get(lastIndex).start(), end));
+                } else {
+                    result.add(new OpenInterval(start, end));
+                }
+            }
+        }
+        return result;
+    }
+
+    private WeeklySchedule scheduleFor(LocalDate date) {
+        int index = Arrays.binarySearch(segmentStarts, date);
+        return schedules[index >= 0 ? index : -index - 2];
+    }
+
+    private int[] openMinutes(LocalDate date) {
+        int[] open = scheduleFor(date).day(date.getDayOfWeek());
+        int[] closed = holidays.closures(date);
+        return closed.length == 0 || open.length == 0 ? open : subtract(open, closed);
+    }
+
+    private Instant toInstant(LocalDate date, int minuteOfDay) {
+        return date.atStartOfDay().plusMinutes(minuteOfDay).atZone(zone).toInstant();
+    }
+
+    private static WeeklySchedule scheduleAt(List<BusinessHours> hours, LocalDate date) {
+        List<int[]> intervals = new ArrayList<>();
+        for (BusinessHours h : hours) {
+            boolean started = h.getValidFrom() == null || !h.getValidFrom().isAfter(date);
+            boolean ended = h.getValidTo() != null && h.getValidTo().isBefore(date);
+            if (started && !ended && h.getOpenTime().isBefore(h.getCloseTime())) {
+                intervals.add(new int[]{
+                        WeeklySchedule.minuteOfWeek(h.getDayOfWeek(), minuteOfDay(h.getOpenTime())),
+                        WeeklySchedule.minuteOfWeek(h.getDayOfWeek(), minuteOfDay(h.getCloseTime()))
+                });
+            }
+        }
+        return WeeklySchedule.of(intervals);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Removes closed ranges from open ranges; both are sorted, disjoint [start, end) pairs.
+     */
+    static int[] subtract(int[] open, int[] closed) {
+        int[] result = new int[open.length + closed.length];
+        int size = 0;
+        int c = 0;
+        for (int o = 0; o < open.length; o += 2) {
+            int start = open[o];
+            int end = open[o + 1];
+            while (c < closed.length && closed[c + 1] <= start) {
+                c += 2;
+            }
+            for (int k = c; k < closed.length && closed[k] < end; k += 2) {
+                if (closed[k] > start) {
+                    result[size++] = start;
+                    result[size++] = closed[k];
+                }
+                start = Math.max(start, closed[k + 1]);
+            }
+            if (start < end) {
+                result[size++] = start;
+                result[size++] = end;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,294 @@
+package org.mdental.cliniccore.availability;
+
+import org.mdental.cliniccore.model.entity.Holiday;
+import org.mdental.cliniccore.model.entity.Holiday.HolidayRuleType;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A clinic's holidays expanded into the dates they fall on, materialised one year at a time.
+ *
+ * <p>Fixed-date holidays fall on their date, or on its month-day every year from then on when
+ * recurring. Hijri holidays recur on a month-day of the Umm al-Qura calendar given as "MM-dd" in the
+ * rule pattern, so they move about eleven days earlier each Gregorian year and occasionally fall
+ * twice in one. A year is expanded on first use into epoch days sorted in a primitive array, so range
+ * and single-day lookups are binary searches.
+ */
+public final class HolidayCalendar {
+
+    public static final HolidayCalendar EMPTY = of(List.of());
+
+    // Years outside this window are expanded per query instead of being kept
+    private static final int MAX_MATERIALISED_YEARS = 16;
+
+    private static final Pattern MONTH_DAY = Pattern.compile("(\\d{1,2})-(\\d{1,2})");
+    private static final int[] FULL_DAY = {0, WeeklySchedule.MINUTES_PER_DAY};
+    private static final int[] NONE = new int[0];
+
+    private final List<HolidayRule> rules;
+    private final Map<Integer, Year> years;
+
+    private HolidayCalendar(List<HolidayRule> rules, Map<Integer, Year> years) {
+        this.rules = rules;
+        this.years = years;
+    }
+
+    public record HolidayRule(UUID id, LocalDate date, String description, boolean recurring,
+                              HolidayRuleType ruleType, String rulePattern,
+                              LocalTime halfDayStart, LocalTime halfDayEnd,
+                              Instant createdAt, String createdBy, Instant updatedAt, String updatedBy) {
+
+        static HolidayRule of(Holiday holiday) {
+            boolean halfDay = Boolean.TRUE.equals(holiday.getIsHalfDay());
+            return new HolidayRule(
+                    holiday.getId(),
+                    holiday.getDate(),
+                    holiday.getDescription(),
+                    Boolean.TRUE.equals(holiday.getRecurring()),
+                    holiday.getRuleType() == null ? HolidayRuleType.FIXED_DATE : holiday.getRuleType(),
+                    holiday.getRulePattern(),
+                    halfDay ? holiday.getHalfDayStart() : null,
+                    halfDay ? holiday.getHalfDayEnd() : null,
+                    holiday.getCreatedAt(),
+                    holiday.getCreatedBy(),
+                    holiday.getUpdatedAt(),
+                    holiday.getUpdatedBy());
+        }
+
+        /**
+         * Dates this holiday falls on within a Gregorian year, never before its own date.
+         */
+        List<LocalDate> datesIn(int year) {
+            if (ruleType == HolidayRuleType.HIJRI_DATE) {
+                return hijriDatesIn(year);
+            }
+            if (ruleType != HolidayRuleType.FIXED_DATE) {
+                // Pattern rules are not evaluated yet
+                return List.of();
+            }
+            if (!recurring) {
+                return date.getYear() == year ? List.of(date) : List.of();
+            }
+            MonthDay monthDay = MonthDay.from(date);
+            if (year < date.getYear() || !monthDay.isValidYear(year)) {
+                return List.of();
+            }
+            return List.of(monthDay.atYear(year));
+        }
+
+        private List<LocalDate> hijriDatesIn(int year) {
+            Matcher matcher = rulePattern == null ? null : MONTH_DAY.matcher(rulePattern.trim());
+            if (matcher == null || !matcher.matches()) {
+                return List.of();
+            }
+            int month = Integer.parseInt(matcher.group(1));
+            int day = Integer.parseInt(matcher.group(2));
+            List<LocalDate> dates = new ArrayList<>(2);
+            try {
+                int first = HijrahDate.from(LocalDate.of(year, 1, 1)).get(ChronoField.YEAR);
+                int last = HijrahDate.from(LocalDate.of(year, 12, 31)).get(ChronoField.YEAR);
+                for (int hijriYear = first; hijriYear <= last; hijriYear++) {
+                    LocalDate candidate = hijriDate(hijriYear, month, day);
+                    if (candidate != null && candidate.getYear() == year && !candidate.isBefore(date)) {
+                        dates.add(candidate);
+                    }
+                }
+            } catch (DateTimeException e) {
+                // Outside the range the Umm al-Qura tables cover
+                return List.of();
+            }
+            return dates;
+        }
+
+        private static LocalDate hijriDate(int year, int month, int day) {
+            try {
+                return LocalDate.from(HijrahChronology.INSTANCE.date(year, month, day));
+            } catch (DateTimeException e) {
+                // Day 30 of a 29-day month
+                return null;
+            }
+        }
+
+        int[] closedRange() {
+            if (halfDayStart != null && halfDayEnd != null && halfDayStart.isBefore(halfDayEnd)) {
+                return new int[]{minuteOfDay(halfDayStart), minuteOfDay(halfDayEnd)};
+            }
+            return FULL_DAY;
+        }
+    }
+
+    public record Occurrence(LocalDate date, HolidayRule holiday) {}
+
+    // days[i] is the epoch day holidays[i] falls on; days is sorted
+    private record Year(int[] days, HolidayRule[] holidays) {}
+
+    public static HolidayCalendar of(Collection<Holiday> holidays) {
+        List<HolidayRule> rules = holidays.stream()
+                .filter(HolidayCalendar::isLive)
+                .map(HolidayRule::of)
+                .toList();
+        return new HolidayCalendar(rules, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns a calendar with one holiday added, replaced or, once soft-deleted, removed. Years
+     * already materialised are patched with that holiday's dates rather than expanded again.
+     */
+    public HolidayCalendar with(Holiday holiday) {
+        UUID id = holiday.getId();
+        HolidayRule changed = isLive(holiday) ? HolidayRule.of(holiday) : null;
+
+        List<HolidayRule> nextRules = new ArrayList<>(rules.size() + 1);
+        for (HolidayRule rule : rules) {
+            if (!Objects.equals(rule.id(), id)) {
+                nextRules.add(rule);
+            }
+        }
+        if (changed != null) {
+            nextRules.add(changed);
+        }
+
+        Map<Integer, Year> nextYears = new ConcurrentHashMap<>();
+        years.forEach((year, table) -> nextYears.put(year, patch(table, id, changed, year)));
+        return new HolidayCalendar(List.copyOf(nextRules), nextYears);
+    }
+
+    /**
+     * Holidays falling within [from, to], both inclusive, in date order.
+     */
+    public List<Occurrence> between(LocalDate from, LocalDate to) {
+        List<Occurrence> result = new ArrayList<>();
+        int first = epochDay(from);
+        int last = epochDay(to);
+        for (int y = from.getYear(); y <= to.getYear(); y++) {
+            Year table = year(y);
+            for (int i = lowerBound(table.days(), first); i < table.days().length && table.days()[i] <= last; i++) {
+                result.add(new Occurrence(LocalDate.ofEpochDay(table.days()[i]), table.holidays()[i]));
+            }
+        }
+        return result;
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        Year table = year(date.getYear());
+        int day = epochDay(date);
+        int i = lowerBound(table.days(), day);
+        return i < table.days().length && table.days()[i] == day;
+    }
+
+    /**
+     * Closed [start, end) minute-of-day ranges on a date, sorted and merged.
+     */
+    int[] closures(LocalDate date) {
+        Year table = year(date.getYear());
+        int day = epochDay(date);
+        List<int[]> ranges = new ArrayList<>();
+        for (int i = lowerBound(table.days(), day); i < table.days().length && table.days()[i] == day; i++) {
+            int[] closed = table.holidays()[i].closedRange();
+            if (closed == FULL_DAY) {
+                return FULL_DAY;
+            }
+            ranges.add(closed);
+        }
+        if (ranges.isEmpty()) {
+            return NONE;
+        }
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+        return WeeklySchedule.merge(ranges);
+    }
+
+    private Year year(int year) {
+        Year table = years.get(year);
+        if (table != null) {
+            return table;
+        }
+        if (years.size() >= MAX_MATERIALISED_YEARS) {
+            return expand(rules, year);
+        }
+        return years.computeIfAbsent(year, y -> expand(rules, y));
+    }
+
+    private static Year expand(List<HolidayRule> rules, int year) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (HolidayRule rule : rules) {
+            for (LocalDate date : rule.datesIn(year)) {
+                occurrences.add(new Occurrence(date, rule));
+            }
+        }
+        return toYear(occurrences);
+    }
+
+    private static Year patch(Year table, UUID id, HolidayRule changed, int year) {
+        List<Occurrence> occurrences = new ArrayList<>(table.days().length + 2);
+        for (int i = 0; i < table.days().length; i++) {
+            if (!Objects.equals(table.holidays()[i].id(), id)) {
+                occurrences.add(new Occurrence(LocalDate.ofEpochDay(table.days()[i]), table.holidays()[i]));
+            }
+        }
+        if (changed != null) {
+            for (LocalDate date : changed.datesIn(year)) {
+                occurrences.add(new Occurrence(date, changed));
+            }
+        }
+        return toYear(occurrences);
+    }
+
+    private static Year toYear(List<Occurrence> occurrences) {
+        occurrences.sort(Comparator.comparing(Occurrence::date));
+        int[] days = new int[occurrences.size()];
+        HolidayRule[] holidays = new HolidayRule[occurrences.size()];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = epochDay(occurrences.get(i).date());
+            holidays[i] = occurrences.get(i).holiday();
+        }
+        return new Year(days, holidays);
+    }
+
+    /**
+     * First index whose value is at least {@code key}; unlike {@link Arrays#binarySearch} this is
+     * well defined when a day has several holidays.
+     */
+    private static int lowerBound(int[] sorted, int key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isLive(Holiday holiday) {
+        return holiday.getDeletedAt() == null && holiday.getDate() != null;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,107 @@
+package org.mdental.cliniccore.availability;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * One week of opening hours as sorted, disjoint [open, close) minute-of-week intervals,
+ * flattened into a single array so a lookup is one binary search.
+ */
+final class WeeklySchedule {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    static final WeeklySchedule CLOSED = new WeeklySchedule(new int[0]);
+
+    // bounds[2i] is where interval i opens, bounds[2i + 1] where it closes; strictly increasing
+    private final int[] bounds;
+
+    private WeeklySchedule(int[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * Builds a schedule from possibly overlapping [open, close) minute-of-week intervals.
+     */
+    static WeeklySchedule of(List<int[]> intervals) {
+        if (intervals.isEmpty()) {
+            return CLOSED;
+        }
+        List<int[]> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparingInt(interval -> interval[0]));
+        return new WeeklySchedule(merge(sorted));
+    }
+
+    static int minuteOfWeek(DayOfWeek day, int minuteOfDay) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    boolean isOpen(int minuteOfWeek) {
+        int index = Arrays.binarySearch(bounds, minuteOfWeek);
+        if (index >= 0) {
+            // Opening bounds are inclusive, closing bounds exclusive
+            return (index & 1) == 0;
+        }
+        // Falling between an opening and its closing bound leaves an odd insertion point
+        return ((-index - 1) & 1) == 1;
+    }
+
+    /**
+     * Open intervals of one day as [open, close) minute-of-day pairs.
+     */
+    int[] day(DayOfWeek day) {
+        int start = minuteOfWeek(day, 0);
+        int end = start + MINUTES_PER_DAY;
+
+        int index = Arrays.binarySearch(bounds, start);
+        int i;
+        if (index >= 0) {
+            i = (index & 1) == 0 ? index : index + 1;
+        } else {
+            int insertion = -index - 1;
+            i = (insertion & 1) == 0 ? insertion : insertion - 1;
+        }
+
+        int[] result = new int[bounds.length];
+        int size = 0;
+        for (; i < bounds.length && bounds[i] < end; i += 2) {
+            result[size++] = Math.max(bounds[i], start) - start;
+            result[size++] = Math.min(bounds[i + 1], end) - start;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeeklySchedule other && Arrays.equals(bounds, other.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bounds);
+    }
+
+    /**
+     * Merges [start, end) intervals sorted by start into flattened bounds, joining overlapping and
+     * touching intervals.
+     */
+    static int[] merge(List<int[]> sorted) {
+        int[] result = new int[sorted.size() * 2];
+        int size = 0;
+        for (int[] interval : sorted) {
+            if (interval[0] >= interval[1]) {
+                continue;
+            }
+            if (size > 0 && interval[0] <= result[size - 1]) {
+                result[size - 1] = Math.max(result[size - 1], interval[1]);
+            } else {
+                result[size++] = interval[0];
+                result[size++] = interval[1];
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
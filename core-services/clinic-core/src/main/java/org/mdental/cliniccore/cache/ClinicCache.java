@@ -0,0 +1,178 @@
+package org.mdental.cliniccore.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.repository.ClinicRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Clinic lookups by id, realm and slug.
+ *
+ * <p>The id index owns the entries and decides what stays cached; the realm and slug indexes only
+ * point at the snapshot held there and are cleaned up whenever it leaves. Invalidation is keyed by
+ * clinic id, which also drops the realm and slug the cached snapshot was reachable under.
+ */
+@Component
+@Slf4j
+public class ClinicCache {
+
+    enum Index { ID, REALM, SLUG }
+
+    private final ClinicRepository clinicRepository;
+    private final Cache<UUID, ClinicSnapshot> byId;
+    private final Map<String, ClinicSnapshot> byRealm = new ConcurrentHashMap<>();
+    private final Map<String, ClinicSnapshot> bySlug = new ConcurrentHashMap<>();
+    private final Map<Index, IndexMetrics> metrics = new EnumMap<>(Index.class);
+
+    // Bumped by every invalidation so a load that raced with one does not put a stale snapshot back
+    private long generation;
+
+    public ClinicCache(ClinicRepository clinicRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${clinic.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${clinic.cache.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        this.clinicRepository = clinicRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .evictionListener((UUID id, ClinicSnapshot snapshot, RemovalCause cause) -> {
+                    if (snapshot != null) {
+                        unindex(snapshot);
+                    }
+                })
+                .build();
+
+        for (Index index : Index.values()) {
+            metrics.put(index, new IndexMetrics(meterRegistry, index.name().toLowerCase(Locale.ROOT)));
+        }
+        Gauge.builder("clinic.cache.size", byId, Cache::estimatedSize)
+                .description("Clinic snapshots currently cached")
+                .register(meterRegistry);
+    }
+
+    public Optional<ClinicSnapshot> getById(UUID id) {
+        IndexMetrics indexMetrics = metrics.get(Index.ID);
+        ClinicSnapshot snapshot = byId.getIfPresent(id);
+        if (snapshot != null) {
+            indexMetrics.hits.increment();
+            return Optional.of(snapshot);
+        }
+        indexMetrics.misses.increment();
+        return load(indexMetrics, () -> clinicRepository.findById(id));
+    }
+
+    public Optional<ClinicSnapshot> getByRealm(String realm) {
+        return getBySecondary(Index.REALM, byRealm, realm, () -> clinicRepository.findByRealm(realm));
+    }
+
+    public Optional<ClinicSnapshot> getBySlug(String slug) {
+        return getBySecondary(Index.SLUG, bySlug, slug, () -> clinicRepository.findBySlug(slug));
+    }
+
+    /**
+     * Drops a clinic from every index. Safe to call for clinics that are not cached.
+     */
+    public synchronized void invalidate(UUID id) {
+        generation++;
+        ClinicSnapshot removed = byId.asMap().remove(id);
+        if (removed != null) {
+            unindex(removed);
+            log.debug("Invalidated cached clinic {}", id);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        byId.invalidateAll();
+        byRealm.clear();
+        bySlug.clear();
+        log.debug("Invalidated all cached clinics");
+    }
+
+    private Optional<ClinicSnapshot> getBySecondary(Index index, Map<String, ClinicSnapshot> secondary, String key,
+                                                    Supplier<Optional<Clinic>> loader) {
+        IndexMetrics indexMetrics = metrics.get(index);
+        ClinicSnapshot snapshot = secondary.get(key);
+        // Only trust the pointer while the id index still holds the very same snapshot
+        if (snapshot != null && byId.getIfPresent(snapshot.id()) == snapshot) {
+            indexMetrics.hits.increment();
+            return Optional.of(snapshot);
+        }
+        indexMetrics.misses.increment();
+        return load(indexMetrics, loader);
+    }
+
+    private Optional<ClinicSnapshot> load(IndexMetrics indexMetrics, Supplier<Optional<Clinic>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        Optional<ClinicSnapshot> loaded = indexMetrics.loadTimer.record(() -> loader.get()
+                .filter(clinic -> clinic.getDeletedAt() == null)
+                .map(ClinicSnapshot::of));
+        loaded.ifPresent(snapshot -> install(snapshot, loadGeneration));
+        return loaded;
+    }
+
+    private synchronized void install(ClinicSnapshot snapshot, long loadGeneration) {
+        if (generation != loadGeneration) {
+            return;
+        }
+        ClinicSnapshot previous = byId.asMap().put(snapshot.id(), snapshot);
+        if (previous != null) {
+            unindex(previous);
+        }
+        byRealm.put(snapshot.realm(), snapshot);
+        bySlug.put(snapshot.slug(), snapshot);
+    }
+
+    private void unindex(ClinicSnapshot snapshot) {
+        byRealm.remove(snapshot.realm(), snapshot);
+        bySlug.remove(snapshot.slug(), snapshot);
+    }
+
+    private static final class IndexMetrics {
+        private final Counter hits;
+        private final Counter misses;
+        private final Timer loadTimer;
+
+        private IndexMetrics(MeterRegistry meterRegistry, String index) {
+            this.hits = Counter.builder("clinic.cache.requests")
+                    .tag("index", index).tag("result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("clinic.cache.requests")
+                    .tag("index", index).tag("result", "miss")
+                    .register(meterRegistry);
+            this.loadTimer = Timer.builder("clinic.cache.load")
+                    .description("Time to load a clinic snapshot on a cache miss")
+                    .tag("index", index)
+                    .register(meterRegistry);
+            Gauge.builder("clinic.cache.hit.ratio", this, IndexMetrics::hitRatio)
+                    .tag("index", index)
+                    .register(meterRegistry);
+        }
+
+        private double hitRatio() {
+            double hitCount = hits.count();
+            double total = hitCount + misses.count();
+            return total == 0 ? 0 : hitCount / total;
+        }
+    }
+}
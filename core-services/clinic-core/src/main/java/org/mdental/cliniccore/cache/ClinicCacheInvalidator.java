@@ -0,0 +1,260 @@
+package org.mdental.cliniccore.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.mdental.cliniccore.config.SecondLevelCacheConfig;
+import org.mdental.cliniccore.event.AddressEvent;
+import org.mdental.cliniccore.event.BusinessHoursEvent;
+import org.mdental.cliniccore.event.ClinicEvent;
+import org.mdental.cliniccore.event.ContactInfoEvent;
+import org.mdental.cliniccore.event.HolidayEvent;
+import org.mdental.cliniccore.event.WeeklyScheduleEvent;
+import org.mdental.cliniccore.model.entity.Address;
+import org.mdental.cliniccore.model.entity.BusinessHours;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.model.entity.ContactInfo;
+import org.mdental.cliniccore.model.entity.Holiday;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Keeps the {@link ClinicCache} of every clinic-core replica in line with {@link ClinicEvent}s.
+ *
+ * <p>Each event invalidates the clinic locally once the change commits and is broadcast to the other
+ * replicas with Postgres NOTIFY. The notification is sent inside the writing transaction, so it is
+ * only delivered if the change commits. Every replica LISTENs on a dedicated connection and, after
+ * losing that connection, clears its whole cache because it may have missed notifications. The
+ * {@link ClinicExistenceIndex} follows the same notifications.
+ *
+ * <p>{@link ClinicCache} reloads through Hibernate, whose second-level cache is local to each replica,
+ * so a remote notification first evicts the clinic and its collections from there; otherwise the
+ * reload would be served the stale copy this replica cached before the change. Changes to a clinic's
+ * contact infos, addresses, business hours and holidays are broadcast as {@code <clinic id>:<part>}
+ * and evict that part's cached rows, the clinic's collection of them and, for business hours, the
+ * cached day queries; they leave the {@link ClinicCache} alone, which holds no part of them.
+ */
+@Component
+@Slf4j
+public class ClinicCacheInvalidator {
+
+    static final String CHANNEL = "clinic_cache_invalidation";
+
+    enum Part {
+        CONTACT_INFO(ContactInfo.class, "contactInfos", null),
+        ADDRESS(Address.class, "addresses", null),
+        BUSINESS_HOURS(BusinessHours.class, "businessHours", SecondLevelCacheConfig.BUSINESS_HOURS_BY_DAY),
+        HOLIDAY(Holiday.class, "holidays", null);
+
+        private final Class<?> entityClass;
+        private final String collectionRole;
+        private final String queryRegion;
+
+        Part(Class<?> entityClass, String collection, String queryRegion) {
+            this.entityClass = entityClass;
+            this.collectionRole = Clinic.class.getName() + "." + collection;
+            this.queryRegion = queryRegion;
+        }
+    }
+
+    private final ClinicCache clinicCache;
+    private final ClinicExistenceIndex clinicExistenceIndex;
+    private final Cache secondLevelCache;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean broadcastEnabled;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ClinicCacheInvalidator(ClinicCache clinicCache,
+                                  ClinicExistenceIndex clinicExistenceIndex,
+                                  EntityManagerFactory entityManagerFactory,
+                                  DataSource dataSource,
+                                  JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${clinic.cache.broadcast.enabled:true}") boolean broadcastEnabled,
+                                  @Value("${clinic.cache.broadcast.poll-timeout-ms:1000}") int pollTimeoutMs,
+                                  @Value("${clinic.cache.broadcast.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.clinicCache = clinicCache;
+        this.clinicExistenceIndex = clinicExistenceIndex;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.broadcastEnabled = broadcastEnabled;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.localInvalidations = Counter.builder("clinic.cache.invalidations")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.remoteInvalidations = Counter.builder("clinic.cache.invalidations")
+                .tag("source", "remote")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!broadcastEnabled) {
+            log.info("Clinic cache broadcast disabled, invalidations stay local to this instance");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "clinic-cache-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @EventListener
+    public void broadcast(ClinicEvent event) {
+        if (!broadcastEnabled) {
+            return;
+        }
+        notifyReplicas(event.getClinic().getId().toString());
+    }
+
+    @EventListener
+    public void broadcast(ContactInfoEvent event) {
+        broadcast(event.getContactInfo().getClinic().getId(), Part.CONTACT_INFO);
+    }
+
+    @EventListener
+    public void broadcast(AddressEvent event) {
+        broadcast(event.getAddress().getClinic().getId(), Part.ADDRESS);
+    }
+
+    @EventListener
+    public void broadcast(BusinessHoursEvent event) {
+        broadcast(event.getBusinessHours().getClinic().getId(), Part.BUSINESS_HOURS);
+    }
+
+    @EventListener
+    public void broadcast(WeeklyScheduleEvent event) {
+        broadcast(event.getClinicId(), Part.BUSINESS_HOURS);
+    }
+
+    @EventListener
+    public void broadcast(HolidayEvent event) {
+        broadcast(event.getHoliday().getClinic().getId(), Part.HOLIDAY);
+    }
+
+    private void broadcast(UUID clinicId, Part part) {
+        if (broadcastEnabled) {
+            notifyReplicas(clinicId + ":" + part);
+        }
+    }
+
+    private void notifyReplicas(String payload) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidateLocally(ClinicEvent event) {
+        clinicCache.invalidate(event.getClinic().getId());
+        localInvalidations.increment();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                statement.execute("LISTEN " + CHANNEL);
+
+                // Whatever was published while we were not listening is unknown, so start from scratch
+                evictAllFromSecondLevelCache();
+                clinicCache.invalidateAll();
+                clinicExistenceIndex.reload();
+                log.info("Listening for clinic cache invalidations on channel {}", CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lost clinic cache invalidation channel, reconnecting in {} ms: {}",
+                        reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            int separator = payload.indexOf(':');
+            if (separator >= 0) {
+                Part part = Part.valueOf(payload.substring(separator + 1));
+                evictFromSecondLevelCache(UUID.fromString(payload.substring(0, separator)), part);
+                remoteInvalidations.increment();
+                return;
+            }
+            UUID id = UUID.fromString(payload);
+            evictFromSecondLevelCache(id);
+            clinicCache.invalidate(id);
+            clinicExistenceIndex.refresh(id);
+            remoteInvalidations.increment();
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed clinic cache invalidation: {}", payload);
+        }
+    }
+
+    private void evictFromSecondLevelCache(UUID id) {
+        secondLevelCache.evictEntityData(Clinic.class, id);
+        for (Part part : Part.values()) {
+            secondLevelCache.evictCollectionData(part.collectionRole, id);
+        }
+    }
+
+    private void evictFromSecondLevelCache(UUID clinicId, Part part) {
+        secondLevelCache.evictCollectionData(part.collectionRole, clinicId);
+        // The whole region: one change can touch sibling rows, such as a primary flag moving or a week rewritten
+        secondLevelCache.evictEntityData(part.entityClass);
+        if (part.queryRegion != null) {
+            secondLevelCache.evictQueryRegion(part.queryRegion);
+        }
+    }
+
+    private void evictAllFromSecondLevelCache() {
+        secondLevelCache.evictAllRegions();
+    }
+}
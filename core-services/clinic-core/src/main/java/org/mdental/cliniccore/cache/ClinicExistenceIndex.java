@@ -0,0 +1,159 @@
+package org.mdental.cliniccore.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.event.ClinicEvent;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.repository.ClinicRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Ids and statuses of every clinic that is not deleted, so sub-resources can check their parent
+ * with a hash lookup instead of a query.
+ *
+ * <p>Loaded in full on first use and kept current by {@link ClinicEvent}s once they commit; changes
+ * broadcast by other replicas arrive through {@link ClinicCacheInvalidator}. An id that is not in
+ * the index is looked up in the database before being reported missing, which covers clinics
+ * created where no event was seen, and the whole index is reloaded periodically to drop clinics
+ * deleted that way.
+ */
+@Component
+@Slf4j
+public class ClinicExistenceIndex {
+
+    private final ClinicRepository clinicRepository;
+    private final Counter hits;
+    private final Counter misses;
+    private final Object loadLock = new Object();
+
+    private volatile Map<UUID, Clinic.ClinicStatus> live;
+
+    // Changes seen while a reload is reading the table, replayed onto the result; guarded by this
+    private List<Consumer<Map<UUID, Clinic.ClinicStatus>>> changesDuringLoad;
+
+    public ClinicExistenceIndex(ClinicRepository clinicRepository, MeterRegistry meterRegistry) {
+        this.clinicRepository = clinicRepository;
+        this.hits = Counter.builder("clinic.existence.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("clinic.existence.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("clinic.existence.size", this, index -> {
+                    Map<UUID, Clinic.ClinicStatus> current = index.live;
+                    return current != null ? current.size() : 0;
+                })
+                .description("Clinics known to the existence index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the clinic exists and is not deleted, whatever its status.
+     */
+    public boolean exists(UUID id) {
+        return status(id).isPresent();
+    }
+
+    public Optional<Clinic.ClinicStatus> status(UUID id) {
+        Clinic.ClinicStatus status = live().get(id);
+        if (status != null) {
+            hits.increment();
+            return Optional.of(status);
+        }
+        misses.increment();
+        // Not cached: the caller's transaction may not have committed the clinic yet
+        return clinicRepository.findActiveStatusById(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClinicChanged(ClinicEvent event) {
+        Clinic clinic = event.getClinic();
+        if (event.getType() == ClinicEvent.EventType.DELETED || clinic.getDeletedAt() != null) {
+            remove(clinic.getId());
+        } else {
+            put(clinic.getId(), clinic.getStatus());
+        }
+    }
+
+    /**
+     * Re-reads one clinic, for changes committed through another replica.
+     */
+    public void refresh(UUID id) {
+        clinicRepository.findActiveStatusById(id)
+                .ifPresentOrElse(status -> put(id, status), () -> remove(id));
+    }
+
+    @Scheduled(fixedDelayString = "${clinic.existence-index.refresh-interval-ms:300000}",
+            initialDelayString = "${clinic.existence-index.refresh-interval-ms:300000}")
+    public void reload() {
+        if (live != null) {
+            load();
+        }
+    }
+
+    private synchronized void put(UUID id, Clinic.ClinicStatus status) {
+        apply(index -> index.put(id, status));
+    }
+
+    private synchronized void remove(UUID id) {
+        apply(index -> index.remove(id));
+    }
+
+    private void apply(Consumer<Map<UUID, Clinic.ClinicStatus>> change) {
+        if (live != null) {
+            change.accept(live);
+        }
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(change);
+        }
+    }
+
+    private Map<UUID, Clinic.ClinicStatus> live() {
+        Map<UUID, Clinic.ClinicStatus> index = live;
+        if (index != null) {
+            return index;
+        }
+        synchronized (loadLock) {
+            index = live;
+            return index != null ? index : load();
+        }
+    }
+
+    private Map<UUID, Clinic.ClinicStatus> load() {
+        synchronized (loadLock) {
+            synchronized (this) {
+                changesDuringLoad = new ArrayList<>();
+            }
+            Map<UUID, Clinic.ClinicStatus> loaded = new ConcurrentHashMap<>();
+            try {
+                for (ClinicRepository.ClinicStatusView clinic : clinicRepository.findActiveStatuses()) {
+                    loaded.put(clinic.getId(), clinic.getStatus());
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringLoad = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                changesDuringLoad.forEach(change -> change.accept(loaded));
+                changesDuringLoad = null;
+                live = loaded;
+            }
+            log.debug("Loaded clinic existence index with {} clinics", loaded.size());
+            return loaded;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.mdental.cliniccore.cache;
+
+import org.mdental.cliniccore.model.entity.Clinic;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a clinic's own columns, shared by every index of the {@link ClinicCache}.
+ * Relationships are deliberately left out so a snapshot never holds a lazy proxy.
+ */
+public record ClinicSnapshot(
+        UUID id,
+        int version,
+        String name,
+        String slug,
+        String realm,
+        String legalName,
+        String taxId,
+        String description,
+        String logoUrl,
+        String primaryColor,
+        String secondaryColor,
+        String licenseNumber,
+        LocalDate licenseExpiry,
+        String privacyPolicyUrl,
+        String defaultTimeZone,
+        String defaultCurrency,
+        String locale,
+        Clinic.ClinicStatus status,
+        String kcIssuer,
+        Instant createdAt,
+        String createdBy,
+        Instant updatedAt,
+        String updatedBy
+) {
+
+    public static ClinicSnapshot of(Clinic clinic) {
+        return new ClinicSnapshot(
+                clinic.getId(),
+                clinic.getVersion(),
+                clinic.getName(),
+                clinic.getSlug(),
+                clinic.getRealm(),
+                clinic.getLegalName(),
+                clinic.getTaxId(),
+                clinic.getDescription(),
+                clinic.getLogoUrl(),
+                clinic.getPrimaryColor(),
+                clinic.getSecondaryColor(),
+                clinic.getLicenseNumber(),
+                clinic.getLicenseExpiry(),
+                clinic.getPrivacyPolicyUrl(),
+                clinic.getDefaultTimeZone(),
+                clinic.getDefaultCurrency(),
+                clinic.getLocale(),
+                clinic.getStatus(),
+                clinic.getKcIssuer(),
+                clinic.getCreatedAt(),
+                clinic.getCreatedBy(),
+                clinic.getUpdatedAt(),
+                clinic.getUpdatedBy());
+    }
+}
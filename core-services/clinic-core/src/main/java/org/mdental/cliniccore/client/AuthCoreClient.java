@@ -2,15 +2,21 @@ package org.mdental.cliniccore.client;
 
 import org.mdental.authcore.api.dto.CreateRealmRequest;
 import org.mdental.authcore.api.dto.RealmResponse;
-import org.mdental.cliniccore.model.dto.CreateClinicRequest;
 import org.mdental.commons.model.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(name = "auth-core", url = "${AUTH_CORE_URL:http://localhost:8081}")
 public interface AuthCoreClient {
 
     @PostMapping("/realms")
-    ApiResponse<RealmResponse> createRealm(@RequestBody CreateRealmRequest request);
-}
\ No newline at end of file
+    ApiResponse<RealmResponse> createRealm(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                                           @RequestBody CreateRealmRequest request);
+
+    @GetMapping("/realms/{realm}")
+    ApiResponse<RealmResponse> getRealm(@PathVariable("realm") String realm);
+}
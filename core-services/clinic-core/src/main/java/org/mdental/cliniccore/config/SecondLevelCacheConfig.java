@@ -0,0 +1,114 @@
+package org.mdental.cliniccore.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache: one bounded Caffeine cache per region, behind JCache.
+ *
+ * <p>Every region is created here up front and Hibernate is told to fail on any other, so an
+ * entity or collection marked {@code @Cache} with a region missing from {@link #REGIONS} stops the
+ * application at startup instead of running on an unbounded cache. Sizes and time-to-live default
+ * to {@code clinic.second-level-cache.maximum-size} and {@code expire-after-write} and can be set
+ * per region under {@code clinic.second-level-cache.regions.<region>}. Each region reports
+ * {@code cache.gets}, {@code cache.puts} and {@code cache.evictions} tagged with its name.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    public static final String CLINIC = "clinic";
+    public static final String CLINIC_CONTACT_INFOS = "clinic-contact-infos";
+    public static final String CLINIC_ADDRESSES = "clinic-addresses";
+    public static final String CLINIC_BUSINESS_HOURS = "clinic-business-hours";
+    public static final String CLINIC_HOLIDAYS = "clinic-holidays";
+    public static final String CONTACT_INFO = "contact-info";
+    public static final String ADDRESS = "address";
+    public static final String BUSINESS_HOURS = "business-hours";
+    public static final String HOLIDAY = "holiday";
+    public static final String BUSINESS_HOURS_BY_DAY = "business-hours-by-day";
+
+    static final List<String> REGIONS = List.of(
+            CLINIC, CLINIC_CONTACT_INFOS, CLINIC_ADDRESSES, CLINIC_BUSINESS_HOURS, CLINIC_HOLIDAYS,
+            CONTACT_INFO, ADDRESS, BUSINESS_HOURS, HOLIDAY, BUSINESS_HOURS_BY_DAY,
+            "default-query-results-region");
+
+    // Must never lose entries while a query result depending on them is cached; holds one per table
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    record RegionSettings(Long maximumSize, Duration expireAfterWrite) {}
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment environment,
+                                                MeterRegistry meterRegistry,
+                                                @Value("${clinic.second-level-cache.maximum-size:10000}") long maximumSize,
+                                                @Value("${clinic.second-level-cache.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        Map<String, RegionSettings> overrides = Binder.get(environment)
+                .bind("clinic.second-level-cache.regions", Bindable.mapOf(String.class, RegionSettings.class))
+                .orElse(Map.of());
+
+        // A provider of our own rather than the shared Caching registry, so every application context
+        // gets its own regions
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(
+                provider.getDefaultURI(), SecondLevelCacheConfig.class.getClassLoader());
+
+        for (String region : REGIONS) {
+            RegionSettings settings = overrides.getOrDefault(region, new RegionSettings(null, null));
+            long size = settings.maximumSize() != null ? settings.maximumSize() : maximumSize;
+            Duration ttl = settings.expireAfterWrite() != null ? settings.expireAfterWrite() : expireAfterWrite;
+            register(cacheManager, meterRegistry, region, configuration()
+                    .setMaximumSize(OptionalLong.of(size))
+                    .setExpireAfterWrite(OptionalLong.of(ttl.toNanos())));
+            log.debug("Second-level cache region {}: maximum size {}, expire after write {}", region, size, ttl);
+        }
+        register(cacheManager, meterRegistry, TIMESTAMPS_REGION, configuration());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        return new CaffeineConfiguration<>()
+                // Hibernate stores immutable disassembled state, so copying entries would be wasted work
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true);
+    }
+
+    private static void register(CacheManager cacheManager, MeterRegistry meterRegistry, String region,
+                                 CaffeineConfiguration<Object, Object> configuration) {
+        Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+        JCacheMetrics.monitor(meterRegistry, cache, Tags.of("layer", "hibernate"));
+    }
+}
@@ -0,0 +1,61 @@
+package org.mdental.cliniccore.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.availability.ClinicAvailability;
+import org.mdental.cliniccore.model.dto.AvailabilityResponse;
+import org.mdental.cliniccore.model.dto.OpenIntervalResponse;
+import org.mdental.cliniccore.service.AvailabilityService;
+import org.mdental.commons.model.ApiResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Opening hours are public information, so unlike the management APIs these queries are not
+ * restricted to the clinic's own users.
+ */
+@RestController
+@RequestMapping("/api/clinics/{clinicId}/availability")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Clinic Availability", description = "APIs for querying when a clinic is open")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping
+    @Operation(summary = "Get clinic availability", description = "Returns whether the clinic is open at an instant (default now) and when it next opens")
+    public ApiResponse<AvailabilityResponse> getAvailability(
+            @PathVariable UUID clinicId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        Instant instant = at != null ? at : Instant.now();
+        log.debug("REST request to get availability of clinic: {} at {}", clinicId, instant);
+        ClinicAvailability availability = availabilityService.getAvailability(clinicId);
+        return ApiResponse.success(AvailabilityResponse.builder()
+                .clinicId(clinicId)
+                .timeZone(availability.zone().getId())
+                .at(instant)
+                .open(availability.isOpen(instant))
+                .nextOpening(availabilityService.nextOpening(clinicId, instant).orElse(null))
+                .build());
+    }
+
+    @GetMapping("/intervals")
+    @Operation(summary = "Get open intervals", description = "Returns the intervals within a time range during which the clinic is open")
+    public ApiResponse<List<OpenIntervalResponse>> getOpenIntervals(
+            @PathVariable UUID clinicId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        log.debug("REST request to get open intervals of clinic: {} from {} to {}", clinicId, from, to);
+        List<OpenIntervalResponse> response = availabilityService.openIntervals(clinicId, from, to).stream()
+                .map(interval -> new OpenIntervalResponse(interval.start(), interval.end()))
+                .toList();
+        return ApiResponse.success(response);
+    }
+}
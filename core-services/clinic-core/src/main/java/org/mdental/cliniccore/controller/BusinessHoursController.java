@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.cliniccore.model.dto.BusinessHoursRequest;
 import org.mdental.cliniccore.model.dto.BusinessHoursResponse;
+import org.mdental.cliniccore.model.dto.WeeklyScheduleRequest;
 import org.mdental.cliniccore.model.entity.BusinessHours;
 import org.mdental.cliniccore.service.BusinessHoursService;
 import org.mdental.commons.model.ApiResponse;
@@ -69,6 +70,20 @@ public class BusinessHoursController {
         return ApiResponse.success(mapToBusinessHoursResponse(businessHours));
     }
 
+    @PutMapping
+    @Operation(summary = "Replace weekly schedule", description = "Replaces the clinic's regular business hours with the given week in one transaction")
+    public ApiResponse<List<BusinessHoursResponse>> replaceWeeklySchedule(
+            @PathVariable UUID clinicId,
+            @Valid @RequestBody WeeklyScheduleRequest request) {
+        log.info("REST request to replace weekly schedule for clinic: {}", clinicId);
+        verifyClinicAccess(clinicId);
+        List<BusinessHours> schedule = businessHoursService.replaceWeeklySchedule(clinicId, request.getHours());
+        List<BusinessHoursResponse> response = schedule.stream()
+                .map(this::mapToBusinessHoursResponse)
+                .collect(Collectors.toList());
+        return ApiResponse.success(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update business hours", description = "Updates existing business hours")
     public ApiResponse<BusinessHoursResponse> updateBusinessHours(
@@ -16,8 +16,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -29,18 +32,42 @@ public class ClinicController {
 
     private final ClinicService clinicService;
     private final ClinicMapper clinicMapper;
+    private final ClinicProvisioningMapper clinicProvisioningMapper;
     private final HttpServletRequest request;
 
     @Autowired
     private ClinicProvisioningService clinicProvisioningService;
 
+    @Autowired
+    private ClinicSearchService clinicSearchService;
+
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    @Operation(summary = "Create new clinic", description = "Creates a new clinic with the provided details")
-    public ApiResponse<ClinicResponse> createClinic(@Valid @RequestBody CreateClinicRequest request) {
+    @Operation(summary = "Create new clinic", description = "Creates a new clinic and starts provisioning its "
+            + "Keycloak realm in the background. Follow the Location header for the provisioning status")
+    public ResponseEntity<ApiResponse<ClinicProvisioningResponse>> createClinic(@Valid @RequestBody CreateClinicRequest request) {
         log.info("REST request to create clinic: {}", request.getName());
-        Clinic clinic = clinicProvisioningService.provisionClinic(request);
-        return ApiResponse.success(clinicMapper.toDto(clinic));
+        ClinicProvisioning provisioning = clinicProvisioningService.startProvisioning(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/clinics/provisioning/" + provisioning.getId()))
+                .body(ApiResponse.success(clinicProvisioningMapper.toDto(provisioning)));
+    }
+
+    @GetMapping("/provisioning/{provisioningId}")
+    @Operation(summary = "Get clinic provisioning status", description = "Returns the state of a clinic's realm provisioning")
+    public ApiResponse<ClinicProvisioningResponse> getProvisioning(@PathVariable UUID provisioningId) {
+        ClinicProvisioning provisioning = clinicProvisioningService.getProvisioning(provisioningId);
+        verifyClinicAccess(provisioning.getClinicId());
+        return ApiResponse.success(clinicProvisioningMapper.toDto(provisioning));
+    }
+
+    @PostMapping("/provisioning/{provisioningId}/retry")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Retry clinic provisioning", description = "Restarts a failed realm provisioning")
+    public ApiResponse<ClinicProvisioningResponse> retryProvisioning(@PathVariable UUID provisioningId) {
+        log.info("REST request to retry clinic provisioning: {}", provisioningId);
+        verifyClinicAccess(clinicProvisioningService.getProvisioning(provisioningId).getClinicId());
+        ClinicProvisioning provisioning = clinicProvisioningService.retry(provisioningId);
+        return ApiResponse.success(clinicProvisioningMapper.toDto(provisioning));
     }
 
     @GetMapping("/{id}")
@@ -48,8 +75,7 @@ public class ClinicController {
     public ApiResponse<ClinicResponse> getClinic(@PathVariable UUID id) {
         log.info("REST request to get clinic: {}", id);
         verifyClinicAccess(id);
-        Clinic clinic = clinicService.getClinicById(id);
-        return ApiResponse.success(clinicMapper.toDto(clinic));
+        return ApiResponse.success(clinicService.getClinicProfile(id).toResponse());
     }
 
     @PutMapping("/{id}")
@@ -92,6 +118,37 @@ public class ClinicController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "name,asc") String[] sort) {
 
+        String realm = realmFilter();
+
+        org.springframework.data.domain.Pageable pageable = createPageable(page, size, sort);
+        Page<Clinic> clinics = clinicService.getFilteredClinics(realm, name, pageable);
+
+        return ApiResponse.success(clinics.map(clinicMapper::toDto));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search clinics", description = "Returns clinics whose name, legal name or slug match the query, "
+            + "best match first, ignoring case and accents. Pass 'nextCursor' back as 'cursor' for the next page")
+    public ApiResponse<ClinicSearchPage> searchClinics(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
+        log.debug("REST request to search clinics: {}", q);
+        return ApiResponse.success(clinicSearchService.search(realmFilter(), q, limit, cursor));
+    }
+
+    @GetMapping("/search/autocomplete")
+    @Operation(summary = "Autocomplete clinic names", description = "Returns clinics whose name or slug start like the typed text")
+    public ApiResponse<List<ClinicSearchResult>> autocompleteClinics(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ApiResponse.success(clinicSearchService.autocomplete(realmFilter(), q, limit));
+    }
+
+    /**
+     * Realm the current user's clinic listings are restricted to; null for super admins
+     */
+    private String realmFilter() {
         String realm = null;
         boolean isSuperAdmin = request.isUserInRole("SUPER_ADMIN");
 
@@ -101,18 +158,13 @@ public class ClinicController {
             if (clinicId != null) {
                 // Get realm from the clinic ID
                 try {
-                    Clinic userClinic = clinicService.getClinicById(UUID.fromString(clinicId));
-                    realm = userClinic.getRealm();
+                    realm = clinicService.getClinicSnapshot(UUID.fromString(clinicId)).realm();
                 } catch (Exception e) {
                     log.warn("Failed to get clinic realm for filtering: {}", e.getMessage());
                 }
             }
         }
-
-        org.springframework.data.domain.Pageable pageable = createPageable(page, size, sort);
-        Page<Clinic> clinics = clinicService.getFilteredClinics(realm, name, pageable);
-
-        return ApiResponse.success(clinics.map(clinicMapper::toDto));
+        return realm;
     }
 
     /**
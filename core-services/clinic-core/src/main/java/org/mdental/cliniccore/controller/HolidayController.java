@@ -6,6 +6,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.availability.HolidayCalendar.HolidayRule;
+import org.mdental.cliniccore.availability.HolidayCalendar.Occurrence;
 import org.mdental.cliniccore.model.dto.HolidayRequest;
 import org.mdental.cliniccore.model.dto.HolidayResponse;
 import org.mdental.cliniccore.model.entity.Holiday;
@@ -50,7 +52,7 @@ public class HolidayController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         log.info("REST request to get holidays for clinic: {} between {} and {}", clinicId, startDate, endDate);
         verifyClinicAccess(clinicId);
-        List<Holiday> holidays = holidayService.getHolidaysByClinicIdAndDateRange(clinicId, startDate, endDate);
+        List<Occurrence> holidays = holidayService.getHolidaysByClinicIdAndDateRange(clinicId, startDate, endDate);
         List<HolidayResponse> response = holidays.stream()
                 .map(this::mapToHolidayResponse)
                 .collect(Collectors.toList());
@@ -133,6 +135,8 @@ public class HolidayController {
                 .date(holiday.getDate())
                 .description(holiday.getDescription())
                 .recurring(holiday.getRecurring())
+                .ruleType(holiday.getRuleType())
+                .rulePattern(holiday.getRulePattern())
                 .createdAt(holiday.getCreatedAt())
                 .createdBy(holiday.getCreatedBy())
                 .updatedAt(holiday.getUpdatedAt())
@@ -140,6 +144,25 @@ public class HolidayController {
                 .build();
     }
 
+    /**
+     * Maps a holiday occurrence to a HolidayResponse DTO dated on the day it falls
+     */
+    private HolidayResponse mapToHolidayResponse(Occurrence occurrence) {
+        HolidayRule holiday = occurrence.holiday();
+        return HolidayResponse.builder()
+                .id(holiday.id())
+                .date(occurrence.date())
+                .description(holiday.description())
+                .recurring(holiday.recurring())
+                .ruleType(holiday.ruleType())
+                .rulePattern(holiday.rulePattern())
+                .createdAt(holiday.createdAt())
+                .createdBy(holiday.createdBy())
+                .updatedAt(holiday.updatedAt())
+                .updatedBy(holiday.updatedBy())
+                .build();
+    }
+
     /**
      * Verifies the current user has access to the specified clinic
      */
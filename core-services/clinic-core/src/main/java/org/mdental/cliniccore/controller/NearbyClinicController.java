@@ -0,0 +1,42 @@
+package org.mdental.cliniccore.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.model.dto.NearbyClinicResult;
+import org.mdental.cliniccore.service.ClinicGeoSearchService;
+import org.mdental.commons.model.ApiResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Clinic locations are public directory information, so unlike the management APIs this search
+ * is not restricted to the clinic's own users.
+ */
+@RestController
+@RequestMapping("/api/clinics/nearby")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Clinic Directory", description = "APIs for finding clinics near a location")
+public class NearbyClinicController {
+
+    private final ClinicGeoSearchService clinicGeoSearchService;
+
+    @GetMapping
+    @Operation(summary = "Find nearby clinics", description = "Returns the active clinics closest to a point, nearest first, "
+            + "optionally within a radius and only those open now")
+    public ApiResponse<List<NearbyClinicResult>> findNearbyClinics(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "false") boolean openNow) {
+        log.debug("REST request to find clinics near {}, {}", lat, lon);
+        return ApiResponse.success(clinicGeoSearchService.nearest(lat, lon, limit, radiusKm, openNow));
+    }
+}
@@ -0,0 +1,34 @@
+package org.mdental.cliniccore.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.model.entity.Address;
+import org.mdental.cliniccore.service.OutboxService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Event listener for Address changes.
+ * Foundation for Change Data Capture / Outbox pattern.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AddressEventListener {
+
+    private final OutboxService outboxService;
+
+    @EventListener
+    public void handleAddressEvent(AddressEvent event) {
+        Address address = event.getAddress();
+
+        outboxService.saveChange(
+                "Address",
+                address.getId(),
+                event.getType().name(),
+                event.getType() == AddressEvent.EventType.DELETED
+                        ? ChangeSchemas.ADDRESS.deleted()
+                        : ChangeSchemas.ADDRESS.diff(event.getOldAddress(), address)
+        );
+    }
+}
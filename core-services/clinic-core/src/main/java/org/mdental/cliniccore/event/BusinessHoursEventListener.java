@@ -1,6 +1,5 @@
 package org.mdental.cliniccore.event;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.cliniccore.model.entity.BusinessHours;
@@ -24,12 +23,27 @@ public class BusinessHoursEventListener {
         BusinessHours businessHours = event.getBusinessHours();
         BusinessHoursEvent.EventType eventType = event.getType();
 
-        outboxService.saveEvent(
+        outboxService.saveChange(
                 "BusinessHours",
                 businessHours.getId(),
                 eventType.name(),
-                event.getOldBusinessHours(),
-                businessHours
+                eventType == BusinessHoursEvent.EventType.DELETED
+                        ? ChangeSchemas.BUSINESS_HOURS.deleted()
+                        : ChangeSchemas.BUSINESS_HOURS.diff(event.getOldBusinessHours(), businessHours)
         );
     }
-}
\ No newline at end of file
+
+    @EventListener
+    public void handleWeeklyScheduleEvent(WeeklyScheduleEvent event) {
+        log.debug("Weekly schedule replaced for clinic {}: {} created, {} updated, {} deleted",
+                event.getClinicId(), event.getCreated(), event.getUpdated(), event.getDeleted());
+
+        // One entry for the whole week, keyed by clinic, listing only the days whose slots changed
+        outboxService.saveChange(
+                "BusinessHoursSchedule",
+                event.getClinicId(),
+                "REPLACED",
+                ChangeSchemas.WEEKLY_SCHEDULE.diff(event.getOldSchedule(), event.getSchedule())
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package org.mdental.cliniccore.event;
+
+import org.mdental.cliniccore.model.entity.Address;
+import org.mdental.cliniccore.model.entity.BusinessHours;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.model.entity.Holiday;
+import org.mdental.commons.event.ChangeSchema;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The fields each aggregate publishes to the outbox. Keycloak credentials, collections and audit
+ * columns are left out; bump a schema's version when a field is removed or changes meaning.
+ */
+public final class ChangeSchemas {
+
+    public static final ChangeSchema<Clinic> CLINIC = ChangeSchema.<Clinic>builder("clinic", 1)
+            .field("name", Clinic::getName)
+            .field("slug", Clinic::getSlug)
+            .field("realm", Clinic::getRealm)
+            .field("legalName", Clinic::getLegalName)
+            .field("taxId", Clinic::getTaxId)
+            .field("description", Clinic::getDescription)
+            .field("logoUrl", Clinic::getLogoUrl)
+            .field("primaryColor", Clinic::getPrimaryColor)
+            .field("secondaryColor", Clinic::getSecondaryColor)
+            .field("licenseNumber", Clinic::getLicenseNumber)
+            .field("licenseExpiry", Clinic::getLicenseExpiry)
+            .field("privacyPolicyUrl", Clinic::getPrivacyPolicyUrl)
+            .field("defaultTimeZone", Clinic::getDefaultTimeZone)
+            .field("defaultCurrency", Clinic::getDefaultCurrency)
+            .field("locale", Clinic::getLocale)
+            .field("status", Clinic::getStatus)
+            .build();
+
+    public static final ChangeSchema<Address> ADDRESS = ChangeSchema.<Address>builder("address", 1)
+            .field("clinicId", address -> clinicId(address.getClinic()))
+            .field("type", Address::getType)
+            .field("street", Address::getStreet)
+            .field("city", Address::getCity)
+            .field("state", Address::getState)
+            .field("zip", Address::getZip)
+            .field("country", Address::getCountry)
+            .field("latitude", Address::getLatitude)
+            .field("longitude", Address::getLongitude)
+            .field("primary", Address::getPrimary)
+            .build();
+
+    public static final ChangeSchema<BusinessHours> BUSINESS_HOURS = ChangeSchema.<BusinessHours>builder("business-hours", 1)
+            .field("clinicId", hours -> clinicId(hours.getClinic()))
+            .field("dayOfWeek", BusinessHours::getDayOfWeek)
+            .field("sequence", BusinessHours::getSequence)
+            .field("openTime", BusinessHours::getOpenTime)
+            .field("closeTime", BusinessHours::getCloseTime)
+            .field("active", BusinessHours::getActive)
+            .field("validFrom", BusinessHours::getValidFrom)
+            .field("validTo", BusinessHours::getValidTo)
+            .field("label", BusinessHours::getLabel)
+            .build();
+
+    public static final ChangeSchema<Holiday> HOLIDAY = ChangeSchema.<Holiday>builder("holiday", 1)
+            .field("clinicId", holiday -> clinicId(holiday.getClinic()))
+            .field("date", Holiday::getDate)
+            .field("description", Holiday::getDescription)
+            .field("recurring", Holiday::getRecurring)
+            .field("ruleType", Holiday::getRuleType)
+            .field("rulePattern", Holiday::getRulePattern)
+            .field("isHalfDay", Holiday::getIsHalfDay)
+            .field("halfDayStart", Holiday::getHalfDayStart)
+            .field("halfDayEnd", Holiday::getHalfDayEnd)
+            .build();
+
+    /**
+     * A clinic's regular week, one field per day holding that day's slots in order, so replacing
+     * the schedule publishes only the days that changed.
+     */
+    public static final ChangeSchema<List<BusinessHours>> WEEKLY_SCHEDULE = weeklySchedule();
+
+    /**
+     * One slot of the weekly schedule as published.
+     */
+    public record WeeklySlot(LocalTime openTime, LocalTime closeTime, String label) {}
+
+    private ChangeSchemas() {
+    }
+
+    private static ChangeSchema<List<BusinessHours>> weeklySchedule() {
+        ChangeSchema.Builder<List<BusinessHours>> builder = ChangeSchema.builder("weekly-schedule", 1);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            builder.field(day.name(), schedule -> schedule.stream()
+                    .filter(hours -> hours.getDayOfWeek() == day)
+                    .sorted(Comparator.comparing(BusinessHours::getSequence))
+                    .map(hours -> new WeeklySlot(hours.getOpenTime(), hours.getCloseTime(), hours.getLabel()))
+                    .toList());
+        }
+        return builder.build();
+    }
+
+    // Reading the id of a lazy proxy does not initialise it
+    private static Object clinicId(Clinic clinic) {
+        return clinic != null ? clinic.getId() : null;
+    }
+}
@@ -0,0 +1,34 @@
+package org.mdental.cliniccore.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.service.OutboxService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Event listener for Clinic changes.
+ * Records the clinic's changed columns in the outbox, not its collections.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClinicEventListener {
+
+    private final OutboxService outboxService;
+
+    @EventListener
+    public void handleClinicEvent(ClinicEvent event) {
+        Clinic clinic = event.getClinic();
+
+        outboxService.saveChange(
+                "Clinic",
+                clinic.getId(),
+                event.getType().name(),
+                event.getType() == ClinicEvent.EventType.DELETED
+                        ? ChangeSchemas.CLINIC.deleted()
+                        : ChangeSchemas.CLINIC.diff(event.getOldClinic(), clinic)
+        );
+    }
+}
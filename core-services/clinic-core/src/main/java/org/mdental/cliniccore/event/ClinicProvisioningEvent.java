@@ -0,0 +1,24 @@
+package org.mdental.cliniccore.event;
+
+import lombok.Getter;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ClinicProvisioningEvent extends ApplicationEvent {
+
+    private final ClinicProvisioning provisioning;
+    private final EventType type;
+
+    public ClinicProvisioningEvent(Object source, ClinicProvisioning provisioning, EventType type) {
+        super(source);
+        this.provisioning = provisioning;
+        this.type = type;
+    }
+
+    public enum EventType {
+        REQUESTED,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,24 @@
+package org.mdental.cliniccore.event;
+
+import lombok.Getter;
+import org.mdental.cliniccore.model.entity.ContactInfo;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ContactInfoEvent extends ApplicationEvent {
+
+    private final ContactInfo contactInfo;
+    private final EventType type;
+
+    public ContactInfoEvent(Object source, ContactInfo contactInfo, EventType type) {
+        super(source);
+        this.contactInfo = contactInfo;
+        this.type = type;
+    }
+
+    public enum EventType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
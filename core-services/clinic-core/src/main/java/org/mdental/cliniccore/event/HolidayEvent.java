@@ -0,0 +1,30 @@
+package org.mdental.cliniccore.event;
+
+import lombok.Getter;
+import org.mdental.cliniccore.model.entity.Holiday;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class HolidayEvent extends ApplicationEvent {
+
+    private final Holiday holiday;
+    private final EventType type;
+    private final Holiday oldHoliday;
+
+    public HolidayEvent(Object source, Holiday holiday, EventType type) {
+        this(source, holiday, type, null);
+    }
+
+    public HolidayEvent(Object source, Holiday holiday, EventType type, Holiday oldHoliday) {
+        super(source);
+        this.holiday = holiday;
+        this.type = type;
+        this.oldHoliday = oldHoliday;
+    }
+
+    public enum EventType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,34 @@
+package org.mdental.cliniccore.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.model.entity.Holiday;
+import org.mdental.cliniccore.service.OutboxService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Event listener for Holiday changes.
+ * Foundation for Change Data Capture / Outbox pattern.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HolidayEventListener {
+
+    private final OutboxService outboxService;
+
+    @EventListener
+    public void handleHolidayEvent(HolidayEvent event) {
+        Holiday holiday = event.getHoliday();
+
+        outboxService.saveChange(
+                "Holiday",
+                holiday.getId(),
+                event.getType().name(),
+                event.getType() == HolidayEvent.EventType.DELETED
+                        ? ChangeSchemas.HOLIDAY.deleted()
+                        : ChangeSchemas.HOLIDAY.diff(event.getOldHoliday(), holiday)
+        );
+    }
+}
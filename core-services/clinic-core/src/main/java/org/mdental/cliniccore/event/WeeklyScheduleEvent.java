@@ -0,0 +1,33 @@
+package org.mdental.cliniccore.event;
+
+import lombok.Getter;
+import org.mdental.cliniccore.model.entity.BusinessHours;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One event for a whole weekly schedule replacement, in place of one BusinessHoursEvent per slot.
+ */
+@Getter
+public class WeeklyScheduleEvent extends ApplicationEvent {
+
+    private final UUID clinicId;
+    private final List<BusinessHours> oldSchedule;
+    private final List<BusinessHours> schedule;
+    private final int created;
+    private final int updated;
+    private final int deleted;
+
+    public WeeklyScheduleEvent(Object source, UUID clinicId, List<BusinessHours> oldSchedule,
+                               List<BusinessHours> schedule, int created, int updated, int deleted) {
+        super(source);
+        this.clinicId = clinicId;
+        this.oldSchedule = oldSchedule;
+        this.schedule = schedule;
+        this.created = created;
+        this.updated = updated;
+        this.deleted = deleted;
+    }
+}
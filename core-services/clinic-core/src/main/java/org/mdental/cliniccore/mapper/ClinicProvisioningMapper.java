@@ -0,0 +1,12 @@
+package org.mdental.cliniccore.mapper;
+
+import org.mapstruct.Mapper;
+import org.mdental.cliniccore.mapper.config.MapStructConfig;
+import org.mdental.cliniccore.model.dto.ClinicProvisioningResponse;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+
+@Mapper(config = MapStructConfig.class, componentModel = "spring")
+public interface ClinicProvisioningMapper {
+
+    ClinicProvisioningResponse toDto(ClinicProvisioning entity);
+}
@@ -12,8 +12,6 @@ public interface HolidayMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "clinic", ignore = true)
-    @Mapping(target = "ruleType", constant = "FIXED_DATE") // Default rule type
-    @Mapping(target = "rulePattern", ignore = true)
     @Mapping(target = "isHalfDay", constant = "false") // Default not half day
     @Mapping(target = "halfDayStart", ignore = true)
     @Mapping(target = "halfDayEnd", ignore = true)
@@ -0,0 +1,24 @@
+package org.mdental.cliniccore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+
+    private UUID clinicId;
+    private String timeZone;
+    private Instant at;
+    private boolean open;
+
+    // Earliest instant at or after 'at' when the clinic is open; null if none within the horizon
+    private Instant nextOpening;
+}
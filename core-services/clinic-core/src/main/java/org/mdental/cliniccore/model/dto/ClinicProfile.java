@@ -0,0 +1,56 @@
+package org.mdental.cliniccore.model.dto;
+
+import org.mdental.cliniccore.cache.ClinicSnapshot;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Read model of a clinic with its sub-resources, assembled from one query per collection.
+ * Holds no entities, so it can be cached and serialised outside a persistence context.
+ */
+public record ClinicProfile(
+        ClinicSnapshot clinic,
+        List<ContactInfoResponse> contactInfos,
+        List<AddressResponse> addresses,
+        List<BusinessHoursResponse> businessHours,
+        List<HolidayResponse> holidays
+) {
+
+    public ClinicProfile {
+        contactInfos = List.copyOf(contactInfos);
+        addresses = List.copyOf(addresses);
+        businessHours = List.copyOf(businessHours);
+        holidays = List.copyOf(holidays);
+    }
+
+    public ClinicResponse toResponse() {
+        return ClinicResponse.builder()
+                .id(clinic.id())
+                .name(clinic.name())
+                .slug(clinic.slug())
+                .realm(clinic.realm())
+                .legalName(clinic.legalName())
+                .taxId(clinic.taxId())
+                .description(clinic.description())
+                .logoUrl(clinic.logoUrl())
+                .primaryColor(clinic.primaryColor())
+                .secondaryColor(clinic.secondaryColor())
+                .licenseNumber(clinic.licenseNumber())
+                .licenseExpiry(clinic.licenseExpiry())
+                .privacyPolicyUrl(clinic.privacyPolicyUrl())
+                .defaultTimeZone(clinic.defaultTimeZone())
+                .defaultCurrency(clinic.defaultCurrency())
+                .locale(clinic.locale())
+                .status(clinic.status())
+                .contactInfos(new LinkedHashSet<>(contactInfos))
+                .addresses(new LinkedHashSet<>(addresses))
+                .businessHours(new LinkedHashSet<>(businessHours))
+                .holidays(new LinkedHashSet<>(holidays))
+                .createdAt(clinic.createdAt())
+                .createdBy(clinic.createdBy())
+                .updatedAt(clinic.updatedAt())
+                .updatedBy(clinic.updatedBy())
+                .build();
+    }
+}
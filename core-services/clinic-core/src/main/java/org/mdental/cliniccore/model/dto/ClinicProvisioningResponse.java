@@ -0,0 +1,30 @@
+package org.mdental.cliniccore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClinicProvisioningResponse {
+
+    private UUID id;
+    private UUID clinicId;
+    private String realm;
+    private ClinicProvisioning.Status status;
+    private int attempts;
+
+    // When the next attempt is due while PENDING; lease expiry while CREATING_REALM
+    private Instant nextAttemptAt;
+    private String lastError;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant completedAt;
+}
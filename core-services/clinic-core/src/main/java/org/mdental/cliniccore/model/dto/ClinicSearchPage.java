@@ -0,0 +1,20 @@
+package org.mdental.cliniccore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClinicSearchPage {
+
+    private List<ClinicSearchResult> results;
+
+    // Pass back as 'cursor' for the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package org.mdental.cliniccore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.mdental.cliniccore.model.entity.Clinic;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClinicSearchResult {
+
+    private UUID id;
+    private String name;
+    private String legalName;
+    private String slug;
+    private String realm;
+    private Clinic.ClinicStatus status;
+
+    // Relevance in [0, 1], higher is better
+    private double score;
+}
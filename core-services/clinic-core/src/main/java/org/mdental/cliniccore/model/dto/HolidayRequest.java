@@ -5,8 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.mdental.cliniccore.model.entity.Holiday.HolidayRuleType;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
 
 import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Data
 @Builder
@@ -14,6 +19,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class HolidayRequest {
 
+    private static final Pattern HIJRI_MONTH_DAY = Pattern.compile("(\\d{1,2})-(\\d{1,2})");
+
     @NotNull(message = "Date is required")
     private LocalDate date;
 
@@ -21,4 +28,38 @@ public class HolidayRequest {
 
     @NotNull(message = "Recurring flag is required")
     private Boolean recurring;
-}
\ No newline at end of file
+
+    // Defaults to FIXED_DATE; HIJRI_DATE holidays recur on the Hijri month-day in rulePattern
+    private HolidayRuleType ruleType;
+
+    private String rulePattern;
+
+    public HolidayRuleType effectiveRuleType() {
+        return ruleType == null ? HolidayRuleType.FIXED_DATE : ruleType;
+    }
+
+    // Custom validation of the recurrence rule
+    public void validate() {
+        HolidayRuleType type = effectiveRuleType();
+        if (type == HolidayRuleType.PATTERN) {
+            throw new ValidationException("Pattern holidays are not supported");
+        }
+        if (type == HolidayRuleType.HIJRI_DATE) {
+            Matcher matcher = rulePattern == null ? null : HIJRI_MONTH_DAY.matcher(rulePattern.trim());
+            if (matcher == null || !matcher.matches()) {
+                throw new ValidationException("Hijri holidays need a rule pattern of the form MM-dd");
+            }
+            int month = Integer.parseInt(matcher.group(1));
+            int day = Integer.parseInt(matcher.group(2));
+            if (month < 1 || month > 12 || day < 1 || day > 30) {
+                throw new ValidationException("Invalid Hijri month-day: " + rulePattern);
+            }
+        }
+    }
+
+    public static class ValidationException extends BaseException {
+        public ValidationException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
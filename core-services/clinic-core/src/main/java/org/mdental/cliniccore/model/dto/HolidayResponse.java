@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.mdental.cliniccore.model.entity.Holiday.HolidayRuleType;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -19,6 +20,8 @@ public class HolidayResponse {
     private LocalDate date;
     private String description;
     private Boolean recurring;
+    private HolidayRuleType ruleType;
+    private String rulePattern;
 
     // Audit fields
     private Instant createdAt;
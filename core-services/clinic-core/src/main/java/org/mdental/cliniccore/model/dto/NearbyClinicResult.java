@@ -0,0 +1,28 @@
+package org.mdental.cliniccore.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyClinicResult {
+
+    private UUID id;
+    private String name;
+    private String slug;
+    private String city;
+    private double latitude;
+    private double longitude;
+
+    // Great-circle distance from the searched point
+    private double distanceKm;
+
+    // Whether the clinic is open at the time of the search
+    private boolean open;
+}
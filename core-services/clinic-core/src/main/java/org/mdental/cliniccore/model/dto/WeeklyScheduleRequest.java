@@ -0,0 +1,23 @@
+package org.mdental.cliniccore.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyScheduleRequest {
+
+    // The clinic's whole regular week; days without slots end up closed
+    @NotNull(message = "Hours are required")
+    @Size(max = 168, message = "At most 168 slots per week")
+    private List<@Valid @NotNull BusinessHoursRequest> hours;
+}
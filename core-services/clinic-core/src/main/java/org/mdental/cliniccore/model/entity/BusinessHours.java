@@ -5,6 +5,7 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.mdental.cliniccore.config.SecondLevelCacheConfig;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -22,7 +23,8 @@ import java.time.LocalTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
-@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BUSINESS_HOURS)
+// Overlapping live rows are rejected by the ex_business_hours_overlap exclusion constraint (V5)
 public class BusinessHours extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,7 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.mdental.cliniccore.config.SecondLevelCacheConfig;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -21,7 +22,7 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
-@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CLINIC)
 public class Clinic extends BaseEntity {
 
     @Column(name = "name", nullable = false)
@@ -78,18 +79,22 @@ public class Clinic extends BaseEntity {
 
     // Relationships
     @OneToMany(mappedBy = "clinic", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CLINIC_CONTACT_INFOS)
     @Builder.Default
     private Set<ContactInfo> contactInfos = new HashSet<>();
 
     @OneToMany(mappedBy = "clinic", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CLINIC_ADDRESSES)
     @Builder.Default
     private Set<Address> addresses = new HashSet<>();
 
     @OneToMany(mappedBy = "clinic", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CLINIC_BUSINESS_HOURS)
     @Builder.Default
     private Set<BusinessHours> businessHours = new HashSet<>();
 
     @OneToMany(mappedBy = "clinic", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CLINIC_HOLIDAYS)
     @Builder.Default
     private Set<Holiday> holidays = new HashSet<>();
 
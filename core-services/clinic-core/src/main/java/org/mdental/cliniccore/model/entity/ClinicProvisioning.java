@@ -0,0 +1,70 @@
+package org.mdental.cliniccore.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Durable state of one clinic's provisioning saga.
+ *
+ * <p>The clinic row is created synchronously; the Keycloak realm is created afterwards by
+ * {@code ClinicProvisioningWorker}. While a step runs, {@code nextAttemptAt} is its lease: a worker
+ * that dies mid-step leaves the row to be picked up again once the lease runs out.
+ */
+@Entity
+@Table(name = "clinic_provisioning")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClinicProvisioning {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "clinic_id", nullable = false)
+    private UUID clinicId;
+
+    @Column(name = "realm", nullable = false)
+    private String realm;
+
+    @Column(name = "clinic_slug", nullable = false)
+    private String clinicSlug;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Version
+    @Column(name = "version")
+    private int version;
+
+    public enum Status {
+        PENDING,        // waiting for a worker, possibly backing off after a failed attempt
+        CREATING_REALM, // a worker holds the lease and is calling auth-core
+        COMPLETED,
+        FAILED          // gave up; can be retried through the API
+    }
+}
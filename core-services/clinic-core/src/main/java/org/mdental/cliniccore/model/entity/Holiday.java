@@ -5,6 +5,7 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.mdental.cliniccore.config.SecondLevelCacheConfig;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -20,7 +21,7 @@ import java.time.LocalTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
-@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.HOLIDAY)
 public class Holiday extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +56,7 @@ public class Holiday extends BaseEntity {
 
     public enum HolidayRuleType {
         FIXED_DATE,     // Same date every year (e.g., Dec 25)
-        PATTERN         // Rule-based (e.g., 3rd Monday of January)
+        PATTERN,        // Rule-based (e.g., 3rd Monday of January)
+        HIJRI_DATE      // Same Hijri month-day every year, rule pattern "MM-dd" (e.g., "10-01" for Eid al-Fitr)
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.mdental.cliniccore.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.mdental.commons.event.ChangeEncoder;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -28,9 +29,22 @@ public class Outbox {
     @Column(name = "event_type", nullable = false)
     private String eventType;
 
-    @Column(name = "payload", columnDefinition = "jsonb", nullable = false)
+    /**
+     * JSON payload; null when the payload is binary.
+     */
+    @Column(name = "payload", columnDefinition = "jsonb")
     private String payload;
 
+    /**
+     * CBOR or Smile payload; null when the payload is JSON.
+     */
+    @Column(name = "payload_binary")
+    private byte[] payloadBinary;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payload_format", nullable = false, length = 10)
+    private ChangeEncoder.Format payloadFormat;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
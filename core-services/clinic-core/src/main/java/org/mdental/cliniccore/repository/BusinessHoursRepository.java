@@ -1,13 +1,17 @@
 package org.mdental.cliniccore.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.mdental.cliniccore.config.SecondLevelCacheConfig;
 import org.mdental.cliniccore.model.entity.BusinessHours;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,26 +32,6 @@ public interface BusinessHoursRepository extends JpaRepository<BusinessHours, UU
     @Query("SELECT MAX(bh.sequence) FROM BusinessHours bh WHERE bh.clinic.id = :clinicId AND bh.dayOfWeek = :dayOfWeek")
     Integer findMaxSequenceForDay(UUID clinicId, DayOfWeek dayOfWeek);
 
-    @Query("SELECT COUNT(bh) > 0 FROM BusinessHours bh " +
-            "WHERE bh.clinic.id = :clinicId AND bh.dayOfWeek = :dayOfWeek " +
-            "AND bh.id != :exceptId " +
-            "AND NOT (:closeTime <= bh.openTime OR :openTime >= bh.closeTime)")
-    boolean existsOverlappingBusinessHours(
-            UUID clinicId,
-            DayOfWeek dayOfWeek,
-            LocalTime openTime,
-            LocalTime closeTime,
-            UUID exceptId);
-
-    @Query("SELECT COUNT(bh) > 0 FROM BusinessHours bh " +
-            "WHERE bh.clinic.id = :clinicId AND bh.dayOfWeek = :dayOfWeek " +
-            "AND NOT (:closeTime <= bh.openTime OR :openTime >= bh.closeTime)")
-    boolean existsOverlappingBusinessHours(
-            UUID clinicId,
-            DayOfWeek dayOfWeek,
-            LocalTime openTime,
-            LocalTime closeTime);
-
     @Query("SELECT bh FROM BusinessHours bh " +
             "WHERE bh.clinic.id = :clinicId " +
             "AND bh.dayOfWeek = :dayOfWeek " +
@@ -55,5 +39,23 @@ public interface BusinessHoursRepository extends JpaRepository<BusinessHours, UU
             "AND (bh.validTo IS NULL OR bh.validTo >= :date) " +
             "AND bh.active = true " +
             "ORDER BY bh.openTime")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.BUSINESS_HOURS_BY_DAY)
+    })
     List<BusinessHours> findActiveHoursByDayAndDate(UUID clinicId, DayOfWeek dayOfWeek, LocalDate date);
-}
\ No newline at end of file
+
+    // The overlap exclusion constraint is deferrable: bulk rewrites defer it, by name so no other
+    // deferrable constraint is affected, while rows move around and check it once every row is
+    // written. Declaring the table as the only query space keeps Hibernate from invalidating every
+    // second-level cache region on these native statements
+    @Modifying(flushAutomatically = true)
+    @Query(value = "SET CONSTRAINTS ex_business_hours_overlap DEFERRED", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "business_hours"))
+    void deferOverlapConstraint();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "SET CONSTRAINTS ex_business_hours_overlap IMMEDIATE", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "business_hours"))
+    void checkOverlapConstraint();
+}
@@ -0,0 +1,57 @@
+package org.mdental.cliniccore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.mdental.cliniccore.search.ClinicGeoIndex;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Where each active clinic is, for the {@link ClinicGeoIndex}: the coordinates of its primary
+ * physical address.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClinicGeoRepository {
+
+    private static final String LOCATIONS = """
+            SELECT c.id, c.name, c.slug, a.city, a.latitude, a.longitude
+            FROM clinics c
+            JOIN addresses a ON a.clinic_id = c.id
+            WHERE c.deleted_at IS NULL
+              AND c.status = 'ACTIVE'
+              AND a.deleted_at IS NULL
+              AND a.type = 'PHYSICAL'
+              AND a.is_primary = true
+              AND a.latitude IS NOT NULL
+              AND a.longitude IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<ClinicGeoIndex.Location> findLocations() {
+        return jdbcTemplate.query(LOCATIONS, LOCATION_MAPPER);
+    }
+
+    /**
+     * The clinic's location, or empty when it is not active or has no located primary address.
+     */
+    public Optional<ClinicGeoIndex.Location> findLocation(UUID clinicId) {
+        return jdbcTemplate.query(LOCATIONS + " AND c.id = :clinicId", Map.of("clinicId", clinicId), LOCATION_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    private static final RowMapper<ClinicGeoIndex.Location> LOCATION_MAPPER = (rs, rowNum) -> new ClinicGeoIndex.Location(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            rs.getString("slug"),
+            rs.getString("city"),
+            rs.getBigDecimal("latitude").doubleValue(),
+            rs.getBigDecimal("longitude").doubleValue());
+}
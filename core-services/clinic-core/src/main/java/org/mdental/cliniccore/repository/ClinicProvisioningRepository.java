@@ -0,0 +1,32 @@
+package org.mdental.cliniccore.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ClinicProvisioningRepository extends JpaRepository<ClinicProvisioning, UUID> {
+
+    /**
+     * Sagas whose next step is due, locked with SKIP LOCKED so concurrent workers claim disjoint rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM ClinicProvisioning p WHERE p.status IN :statuses AND p.nextAttemptAt <= :now "
+            + "ORDER BY p.nextAttemptAt")
+    List<ClinicProvisioning> findDueForUpdate(@Param("statuses") Collection<ClinicProvisioning.Status> statuses,
+                                              @Param("now") Instant now,
+                                              Pageable pageable);
+}
@@ -5,10 +5,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +39,22 @@ public interface ClinicRepository extends TenantAwareRepository<Clinic, UUID> {
     @Query("SELECT c FROM Clinic c WHERE c.id = :id")
     Optional<Clinic> findByIdWithAllRelationships(@Param("id") UUID id);
 
+    @Query("SELECT c.status FROM Clinic c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Clinic.ClinicStatus> findActiveStatusById(@Param("id") UUID id);
+
+    @Query("SELECT c.id AS id, c.status AS status FROM Clinic c WHERE c.deletedAt IS NULL")
+    List<ClinicStatusView> findActiveStatuses();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Clinic c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Clinic> findActiveByIdForUpdate(@Param("id") UUID id);
+
+    interface ClinicStatusView {
+        UUID getId();
+
+        Clinic.ClinicStatus getStatus();
+    }
+
     @Override
     default List<Clinic> findAllByClinicRealm(String realm) {
         return findByRealm(realm).stream().toList();
@@ -0,0 +1,96 @@
+package org.mdental.cliniccore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.search.ClinicNameIndex;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked clinic search over the {@code idx_clinic_search_trgm} GIN index.
+ *
+ * <p>Candidates are found with the word-similarity operator {@code <%}, which the index serves, and
+ * ranked by {@code word_similarity}. Pages are cut with a (rank, id) keyset rather than an offset, so
+ * later pages cost the same as the first and no separate count is run.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClinicSearchRepository {
+
+    private static final String SEARCH_TEXT = "clinic_search_text(c.name, c.legal_name, c.slug)";
+
+    private static final String SEARCH = """
+            SELECT * FROM (
+                SELECT c.id, c.name, c.legal_name, c.slug, c.realm, c.status,
+                       word_similarity(:query, %1$s) AS rank
+                FROM clinics c
+                WHERE c.deleted_at IS NULL
+                  AND :query <%% %1$s
+                  %2$s
+            ) hits
+            %3$s
+            ORDER BY rank DESC, id DESC
+            LIMIT :limit
+            """;
+
+    private static final String INDEX_ENTRIES =
+            "SELECT id, name, slug, realm FROM clinics WHERE deleted_at IS NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record Hit(UUID id, String name, String legalName, String slug, String realm,
+                      Clinic.ClinicStatus status, float rank) {}
+
+    /**
+     * One page of matches, best first.
+     *
+     * @param foldedQuery query already folded with {@code SearchText.fold}
+     * @param realm       only clinics of this realm, or null for all
+     * @param afterRank   rank of the last hit on the previous page, or null for the first page
+     * @param afterId     id of the last hit on the previous page
+     */
+    public List<Hit> search(String foldedQuery, String realm, Float afterRank, UUID afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", foldedQuery)
+                .addValue("limit", limit);
+
+        String realmFilter = "";
+        if (realm != null) {
+            realmFilter = "AND c.realm = :realm";
+            params.addValue("realm", realm);
+        }
+        String keyset = "";
+        if (afterRank != null) {
+            keyset = "WHERE (rank, id) < (CAST(:afterRank AS real), :afterId)";
+            params.addValue("afterRank", afterRank).addValue("afterId", afterId);
+        }
+
+        String sql = SEARCH.formatted(SEARCH_TEXT, realmFilter, keyset);
+        return jdbcTemplate.query(sql, params, HIT_MAPPER);
+    }
+
+    /**
+     * Every live clinic's name, slug and realm, to build the autocomplete index.
+     */
+    public List<ClinicNameIndex.Entry> findIndexEntries() {
+        return jdbcTemplate.query(INDEX_ENTRIES, (rs, rowNum) -> new ClinicNameIndex.Entry(
+                rs.getObject("id", UUID.class),
+                rs.getString("name"),
+                rs.getString("slug"),
+                rs.getString("realm")));
+    }
+
+    private static final RowMapper<Hit> HIT_MAPPER = (rs, rowNum) -> new Hit(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            rs.getString("legal_name"),
+            rs.getString("slug"),
+            rs.getString("realm"),
+            rs.getString("status") != null ? Clinic.ClinicStatus.valueOf(rs.getString("status")) : null,
+            rs.getFloat("rank"));
+}
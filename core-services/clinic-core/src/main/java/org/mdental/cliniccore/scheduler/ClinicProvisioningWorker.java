@@ -0,0 +1,163 @@
+package org.mdental.cliniccore.scheduler;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.api.dto.CreateRealmRequest;
+import org.mdental.authcore.api.dto.RealmResponse;
+import org.mdental.cliniccore.client.AuthCoreClient;
+import org.mdental.cliniccore.event.ClinicProvisioningEvent;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+import org.mdental.cliniccore.service.ClinicProvisioningService;
+import org.mdental.commons.model.ApiResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the remote steps of clinic provisioning sagas.
+ *
+ * <p>Each due saga is claimed in its own short transaction, auth-core is called with no transaction open,
+ * and the outcome is recorded in another. A new saga is started right after its transaction commits;
+ * the poll picks up retries that are due and sagas whose worker died mid-step.
+ */
+@Component
+@Slf4j
+public class ClinicProvisioningWorker {
+
+    private final ClinicProvisioningService provisioningService;
+    private final AuthCoreClient authCoreClient;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public ClinicProvisioningWorker(ClinicProvisioningService provisioningService,
+                                    AuthCoreClient authCoreClient,
+                                    MeterRegistry meterRegistry) {
+        this.provisioningService = provisioningService;
+        this.authCoreClient = authCoreClient;
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clinic-provisioning");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onProvisioningRequested(ClinicProvisioningEvent event) {
+        if (event.getType() != ClinicProvisioningEvent.EventType.REQUESTED) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the poll of another instance or the next start picks it up
+            log.debug("Provisioning {} left for the next poll", event.getProvisioning().getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${clinic.provisioning.poll-interval-ms:5000}")
+    public void poll() {
+        // Drained on the worker thread so a slow auth-core does not hold up the other scheduled jobs;
+        // a drain still running picks up whatever fell due, so polls do not queue up behind it
+        if (draining.get()) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            log.debug("Provisioning poll skipped, worker is shutting down");
+        }
+    }
+
+    void drain() {
+        // The poll and a just-started saga may both get here; one drain at a time is enough
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // Claimed one at a time so each lease covers a single auth-core call
+            Optional<ClinicProvisioning> claimed;
+            while ((claimed = provisioningService.claimNext()).isPresent()) {
+                createRealm(claimed.get());
+            }
+        } catch (Exception e) {
+            log.error("Error claiming due clinic provisioning", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void createRealm(ClinicProvisioning provisioning) {
+        int attempt = provisioning.getAttempts();
+        CreateRealmRequest request = CreateRealmRequest.builder()
+                .realm(provisioning.getRealm())
+                .clinicSlug(provisioning.getClinicSlug())
+                .build();
+
+        RealmResponse realm;
+        try {
+            // The saga id lets auth-core recognise a retry of a call whose response was lost
+            ApiResponse<RealmResponse> response;
+            try {
+                response = authCoreClient.createRealm(provisioning.getId().toString(), request);
+            } catch (FeignException.Conflict e) {
+                // auth-core does not replay idempotent calls yet: the realm exists because an earlier
+                // attempt created it and its response was lost, so pick up what that attempt made
+                log.info("Realm {} already exists, completing provisioning {} with it",
+                        provisioning.getRealm(), provisioning.getId());
+                response = authCoreClient.getRealm(provisioning.getRealm());
+            }
+            if (response == null || !response.isSuccess() || response.getData() == null) {
+                throw new ClinicProvisioningService.RealmProvisioningException("Failed to provision Keycloak realm");
+            }
+            realm = response.getData();
+        } catch (Exception e) {
+            boolean retryable = isRetryable(e);
+            count(retryable ? "retry" : "failed");
+            record(() -> provisioningService.recordFailure(provisioning.getId(), attempt, e.getMessage(), retryable));
+            return;
+        }
+
+        count("completed");
+        record(() -> provisioningService.completeRealm(provisioning.getId(), attempt, realm));
+    }
+
+    /**
+     * Client errors other than timeouts and throttling will fail the same way again.
+     */
+    private static boolean isRetryable(Exception e) {
+        if (e instanceof RetryableException || !(e instanceof FeignException feignException)) {
+            return true;
+        }
+        int status = feignException.status();
+        return status < 400 || status >= 500 || status == 408 || status == 429;
+    }
+
+    private void record(Runnable outcome) {
+        try {
+            outcome.run();
+        } catch (Exception e) {
+            // The lease expires and the step runs again
+            log.error("Error recording clinic provisioning outcome", e);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("clinic.provisioning.attempts", "outcome", outcome).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
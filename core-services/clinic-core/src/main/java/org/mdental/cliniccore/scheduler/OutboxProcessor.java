@@ -33,11 +33,14 @@ public class OutboxProcessor {
             for (Outbox entry : page.getContent()) {
                 try {
                     // In a real implementation, this would publish to a message broker
-                    log.info("Event: type={}, aggregateType={}, aggregateId={}, payload={}",
+                    log.info("Event: type={}, aggregateType={}, aggregateId={}, format={}, payload={}",
                             entry.getEventType(),
                             entry.getAggregateType(),
                             entry.getAggregateId(),
-                            entry.getPayload());
+                            entry.getPayloadFormat(),
+                            entry.getPayload() != null
+                                    ? entry.getPayload()
+                                    : entry.getPayloadBinary().length + " bytes");
 
                     // Delete the entry after processing
                     outboxRepository.delete(entry);
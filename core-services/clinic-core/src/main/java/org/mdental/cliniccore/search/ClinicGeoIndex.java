@@ -0,0 +1,196 @@
+package org.mdental.cliniccore.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory spatial index of clinic locations, answering nearest-clinic queries without a database
+ * round trip.
+ *
+ * <p>Locations are bucketed in a grid of {@code cellDegrees} square cells. A query scans rings of
+ * cells outwards from the one holding the query point and stops once no unscanned cell can hold a
+ * location closer than the k-th found, or further than the radius. Distances are great-circle
+ * distances. Reads never lock; writers replace one clinic at a time.
+ */
+public final class ClinicGeoIndex {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public record Location(UUID clinicId, String name, String slug, String city, double latitude, double longitude) {}
+
+    public record Hit(Location location, double distanceKm) {}
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+    private final Map<UUID, Location> locations = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Location>> cells = new ConcurrentHashMap<>();
+
+    public ClinicGeoIndex(double cellDegrees) {
+        if (!(cellDegrees > 0 && cellDegrees <= 90)) {
+            throw new IllegalArgumentException("Cell size must be in (0, 90] degrees");
+        }
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    public static ClinicGeoIndex of(double cellDegrees, Collection<Location> locations) {
+        ClinicGeoIndex index = new ClinicGeoIndex(cellDegrees);
+        locations.forEach(index::put);
+        return index;
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    public synchronized void put(Location location) {
+        remove(location.clinicId());
+        locations.put(location.clinicId(), location);
+        cells.computeIfAbsent(cell(latRow(location.latitude()), lonColumn(location.longitude())),
+                c -> ConcurrentHashMap.newKeySet()).add(location);
+    }
+
+    public synchronized void remove(UUID clinicId) {
+        Location removed = locations.remove(clinicId);
+        if (removed == null) {
+            return;
+        }
+        long cell = cell(latRow(removed.latitude()), lonColumn(removed.longitude()));
+        Set<Location> bucket = cells.get(cell);
+        if (bucket != null) {
+            bucket.remove(removed);
+            if (bucket.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * Up to {@code limit} locations accepted by {@code filter}, nearest first.
+     *
+     * @param radiusKm only locations within this distance, or null for any distance
+     * @param filter   checked in order of distance, so it runs for few locations beyond the result
+     */
+    public List<Hit> nearest(double latitude, double longitude, int limit, Double radiusKm, Predicate<Location> filter) {
+        if (limit <= 0 || locations.isEmpty()) {
+            return List.of();
+        }
+        double maxKm = radiusKm != null ? radiusKm : Double.POSITIVE_INFINITY;
+        int row = latRow(latitude);
+        int column = lonColumn(longitude);
+        int total = locations.size();
+
+        // Farthest accepted hit on top, so it is the one replaced by a closer find
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceKm).reversed());
+        List<Hit> candidates = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        int seen = 0;
+
+        for (int ring = 0; ring <= Math.max(latCells, lonCells); ring++) {
+            double bound = lowerBoundKm(latitude, ring);
+            if (bound > maxKm || (best.size() == limit && bound > best.peek().distanceKm()) || seen >= total) {
+                break;
+            }
+
+            // Filter only the ring's candidates that could still make the result, nearest first
+            candidates.clear();
+            for (long cell : ring(row, column, ring, visited)) {
+                Set<Location> bucket = cells.get(cell);
+                if (bucket == null) {
+                    continue;
+                }
+                for (Location location : bucket) {
+                    seen++;
+                    double distance = distanceKm(latitude, longitude, location.latitude(), location.longitude());
+                    if (distance <= maxKm) {
+                        candidates.add(new Hit(location, distance));
+                    }
+                }
+            }
+            candidates.sort(Comparator.comparingDouble(Hit::distanceKm));
+            for (Hit candidate : candidates) {
+                if (best.size() == limit && candidate.distanceKm() >= best.peek().distanceKm()) {
+                    break;
+                }
+                if (filter.test(candidate.location())) {
+                    best.add(candidate);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Smallest distance from the query point to any location in a cell {@code ring} cells away:
+     * such a location is at least {@code ring - 1} whole cells off in latitude or in longitude.
+     * For the longitude case haversine gives {@code sin(d/2) >= cos(maxLat) sin(dLon/2)}, with
+     * {@code maxLat} the highest latitude the ring reaches.
+     */
+    private double lowerBoundKm(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double offset = Math.min(Math.PI, Math.toRadians((ring - 1) * cellDegrees));
+        double maxLatitude = Math.abs(latitude) + (ring + 1) * cellDegrees;
+        double longitudeBound = maxLatitude >= 90 ? 0 : 2 * EARTH_RADIUS_KM
+                * Math.asin(Math.cos(Math.toRadians(maxLatitude)) * Math.sin(offset / 2));
+        return Math.min(EARTH_RADIUS_KM * offset, longitudeBound);
+    }
+
+    // Cells on the square ring around (row, column). Columns wrap at the antimeridian, so once a ring
+    // is as wide as the grid its ends overlap; visited keeps those from being scanned twice
+    private List<Long> ring(int row, int column, int ring, Set<Long> visited) {
+        List<Long> result = new ArrayList<>();
+        for (int r = row - ring; r <= row + ring; r++) {
+            if (r < 0 || r >= latCells) {
+                continue;
+            }
+            boolean edgeRow = r == row - ring || r == row + ring;
+            int step = edgeRow ? 1 : 2 * ring;
+            for (int c = column - ring; c <= column + ring; c += step) {
+                long cell = cell(r, Math.floorMod(c, lonCells));
+                if (visited.add(cell)) {
+                    result.add(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int latRow(double latitude) {
+        return Math.min(latCells - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private int lonColumn(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), lonCells);
+    }
+
+    private static long cell(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,103 @@
+package org.mdental.cliniccore.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trigram index over clinic names and slugs, serving type-ahead suggestions without a
+ * database round trip.
+ *
+ * <p>Each trigram maps to the clinics whose folded name or slug contains it. A query is scored by the
+ * share of its trigrams a clinic has, so a prefix of a word in the name scores 1.0 and a misspelling
+ * scores lower instead of not matching. Reads never lock; writers replace one clinic at a time.
+ */
+public final class ClinicNameIndex {
+
+    public record Entry(UUID id, String name, String slug, String realm) {}
+
+    public record Suggestion(Entry clinic, double score) {}
+
+    private record Indexed(Entry entry, Set<String> trigrams) {}
+
+    private final Map<UUID, Indexed> clinics = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    public static ClinicNameIndex of(Collection<Entry> entries) {
+        ClinicNameIndex index = new ClinicNameIndex();
+        entries.forEach(index::put);
+        return index;
+    }
+
+    public int size() {
+        return clinics.size();
+    }
+
+    public synchronized void put(Entry entry) {
+        remove(entry.id());
+        Set<String> trigrams = SearchText.trigrams(
+                (SearchText.fold(entry.name()) + " " + SearchText.fold(entry.slug())).trim(), false);
+        clinics.put(entry.id(), new Indexed(entry, trigrams));
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, t -> ConcurrentHashMap.newKeySet()).add(entry.id());
+        }
+    }
+
+    public synchronized void remove(UUID id) {
+        Indexed removed = clinics.remove(id);
+        if (removed == null) {
+            return;
+        }
+        for (String trigram : removed.trigrams()) {
+            Set<UUID> ids = postings.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Best matches for text being typed, most relevant first.
+     *
+     * @param realm    only clinics of this realm, or null for all
+     * @param minScore share of the query's trigrams a clinic must have, in (0, 1]
+     */
+    public List<Suggestion> suggest(String query, String realm, double minScore, int limit) {
+        Set<String> trigrams = SearchText.trigrams(SearchText.fold(query), true);
+        if (trigrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<UUID, Integer> matched = new HashMap<>();
+        for (String trigram : trigrams) {
+            Set<UUID> ids = postings.get(trigram);
+            if (ids != null) {
+                ids.forEach(id -> matched.merge(id, 1, Integer::sum));
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        int required = (int) Math.ceil(minScore * trigrams.size());
+        matched.forEach((id, count) -> {
+            Indexed indexed = clinics.get(id);
+            if (count >= required && indexed != null
+                    && (realm == null || Objects.equals(realm, indexed.entry().realm()))) {
+                suggestions.add(new Suggestion(indexed.entry(), (double) count / trigrams.size()));
+            }
+        });
+        suggestions.sort(Comparator.comparingDouble(Suggestion::score).reversed()
+                .thenComparingInt(suggestion -> suggestion.clinic().name().length())
+                .thenComparing(suggestion -> suggestion.clinic().name()));
+        return suggestions.size() > limit ? List.copyOf(suggestions.subList(0, limit)) : suggestions;
+    }
+}
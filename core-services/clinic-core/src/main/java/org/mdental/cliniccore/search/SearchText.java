@@ -0,0 +1,52 @@
+package org.mdental.cliniccore.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text folding and trigrams shared by the database search and the in-memory autocomplete index.
+ *
+ * <p>Folding matches the {@code clinic_search_text} SQL function: accents are stripped, case is
+ * lowered and slug dashes become spaces, so "Clinique Dentaire H&ocirc;pital" and "clinique-dentaire-hopital"
+ * fold to the same text. Trigrams follow pg_trgm: each word is padded with two spaces in front and one
+ * behind, so word starts weigh more than word middles.
+ */
+public final class SearchText {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchText() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Trigrams of folded text. With {@code prefix} set the last word is taken as still being typed
+     * and gets no end padding, so "clin" matches "clinique".
+     */
+    static Set<String> trigrams(String folded, boolean prefix) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (folded.isEmpty()) {
+            return trigrams;
+        }
+        String[] words = folded.split(" ");
+        for (int w = 0; w < words.length; w++) {
+            boolean open = prefix && w == words.length - 1;
+            String padded = "  " + words[w] + (open ? "" : " ");
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -35,7 +35,7 @@ public class AddressService {
     public List<Address> getAddressByClinicId(UUID clinicId) {
         log.debug("Fetching addresses for clinic ID: {}", clinicId);
         // Verify clinic exists
-        clinicService.getClinicById(clinicId);
+        clinicService.assertClinicExists(clinicId);
         return addressRepository.findByClinicId(clinicId);
     }
 
@@ -50,7 +50,7 @@ public class AddressService {
     public Address createAddress(UUID clinicId, AddressRequest request) {
         log.info("Creating new address for clinic ID: {}", clinicId);
 
-        Clinic clinic = clinicService.getClinicById(clinicId);
+        Clinic clinic = clinicService.getClinicReference(clinicId);
 
         // If this is a primary address, update existing primary addresses of the same type
         if (Boolean.TRUE.equals(request.getPrimary())) {
@@ -0,0 +1,145 @@
+package org.mdental.cliniccore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.availability.ClinicAvailability;
+import org.mdental.cliniccore.availability.ClinicAvailability.OpenInterval;
+import org.mdental.cliniccore.cache.ClinicCache;
+import org.mdental.cliniccore.cache.ClinicSnapshot;
+import org.mdental.cliniccore.event.BusinessHoursEvent;
+import org.mdental.cliniccore.event.ClinicEvent;
+import org.mdental.cliniccore.event.HolidayEvent;
+import org.mdental.cliniccore.event.WeeklyScheduleEvent;
+import org.mdental.cliniccore.repository.BusinessHoursRepository;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Open-now, next-opening and open-interval queries answered from compiled {@link ClinicAvailability}.
+ *
+ * <p>A clinic is compiled on first use and dropped again when its business hours, holidays or the
+ * clinic itself change, so only that clinic is rebuilt. The expiry bounds how long another replica
+ * can serve hours that were changed elsewhere.
+ */
+@Service
+@Slf4j
+public class AvailabilityService {
+
+    private final ClinicCache clinicCache;
+    private final BusinessHoursRepository businessHoursRepository;
+    private final HolidayCalendarService holidayCalendarService;
+    private final Cache<UUID, ClinicAvailability> availabilities;
+    private final Timer compileTimer;
+    private final ZoneId defaultZone;
+    private final int horizonDays;
+    private final Duration maxIntervalRange;
+
+    public AvailabilityService(ClinicCache clinicCache,
+                               BusinessHoursRepository businessHoursRepository,
+                               HolidayCalendarService holidayCalendarService,
+                               MeterRegistry meterRegistry,
+                               @Value("${clinic.availability.default-zone:Africa/Casablanca}") String defaultZone,
+                               @Value("${clinic.availability.horizon-days:366}") int horizonDays,
+                               @Value("${clinic.availability.max-interval-range:P62D}") Duration maxIntervalRange,
+                               @Value("${clinic.availability.maximum-size:10000}") long maximumSize,
+                               @Value("${clinic.availability.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.clinicCache = clinicCache;
+        this.businessHoursRepository = businessHoursRepository;
+        this.holidayCalendarService = holidayCalendarService;
+        this.defaultZone = ZoneId.of(defaultZone);
+        this.horizonDays = horizonDays;
+        this.maxIntervalRange = maxIntervalRange;
+        this.availabilities = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.compileTimer = Timer.builder("clinic.availability.compile")
+                .description("Time to compile a clinic's business hours and holidays")
+                .register(meterRegistry);
+    }
+
+    public ClinicAvailability getAvailability(UUID clinicId) {
+        return availabilities.get(clinicId, this::compile);
+    }
+
+    public boolean isOpen(UUID clinicId, Instant at) {
+        return getAvailability(clinicId).isOpen(at);
+    }
+
+    public Optional<Instant> nextOpening(UUID clinicId, Instant at) {
+        return getAvailability(clinicId).nextOpening(at, horizonDays);
+    }
+
+    public List<OpenInterval> openIntervals(UUID clinicId, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new AvailabilityRangeException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).compareTo(maxIntervalRange) > 0) {
+            throw new AvailabilityRangeException(
+                    "Range too long, maximum is " + maxIntervalRange.toDays() + " days");
+        }
+        return getAvailability(clinicId).openIntervals(from, to);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBusinessHoursChanged(BusinessHoursEvent event) {
+        availabilities.invalidate(event.getBusinessHours().getClinic().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWeeklyScheduleReplaced(WeeklyScheduleEvent event) {
+        availabilities.invalidate(event.getClinicId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayChanged(HolidayEvent event) {
+        availabilities.invalidate(event.getHoliday().getClinic().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClinicChanged(ClinicEvent event) {
+        availabilities.invalidate(event.getClinic().getId());
+    }
+
+    private ClinicAvailability compile(UUID clinicId) {
+        ClinicSnapshot clinic = clinicCache.getById(clinicId)
+                .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with ID: " + clinicId));
+        log.debug("Compiling availability for clinic {}", clinicId);
+        return compileTimer.record(() -> ClinicAvailability.compile(
+                zoneOf(clinic),
+                businessHoursRepository.findActiveHoursByClinicId(clinicId),
+                holidayCalendarService.getCalendar(clinicId)));
+    }
+
+    private ZoneId zoneOf(ClinicSnapshot clinic) {
+        if (clinic.defaultTimeZone() == null || clinic.defaultTimeZone().isBlank()) {
+            return defaultZone;
+        }
+        try {
+            return ZoneId.of(clinic.defaultTimeZone());
+        } catch (DateTimeException e) {
+            log.warn("Clinic {} has invalid time zone '{}', using {}", clinic.id(), clinic.defaultTimeZone(), defaultZone);
+            return defaultZone;
+        }
+    }
+
+    public static class AvailabilityRangeException extends BaseException {
+        public AvailabilityRangeException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.mdental.cliniccore.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.cliniccore.event.BusinessHoursEvent;
+import org.mdental.cliniccore.event.WeeklyScheduleEvent;
 import org.mdental.cliniccore.mapper.BusinessHoursMapper;
 import org.mdental.cliniccore.model.dto.BusinessHoursRequest;
 import org.mdental.cliniccore.model.entity.BusinessHours;
@@ -11,15 +12,26 @@ import org.mdental.cliniccore.repository.BusinessHoursRepository;
 import org.mdental.commons.exception.BaseException;
 import org.mdental.commons.model.ErrorCode;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.sql.SQLException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -27,6 +39,9 @@ import java.util.UUID;
 @Slf4j
 public class BusinessHoursService {
 
+    // Postgres SQLSTATE for a violated EXCLUDE constraint
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final BusinessHoursRepository businessHoursRepository;
     private final ClinicService clinicService;
     private final BusinessHoursMapper businessHoursMapper;
@@ -36,7 +51,7 @@ public class BusinessHoursService {
     public List<BusinessHours> getBusinessHoursByClinicId(UUID clinicId) {
         log.debug("Fetching business hours for clinic ID: {}", clinicId);
         // Verify clinic exists
-        clinicService.getClinicById(clinicId);
+        clinicService.assertClinicExists(clinicId);
         return businessHoursRepository.findByClinicId(clinicId);
     }
 
@@ -51,7 +66,7 @@ public class BusinessHoursService {
     public List<BusinessHours> getBusinessHoursByClinicIdAndDay(UUID clinicId, DayOfWeek dayOfWeek) {
         log.debug("Finding business hours for clinic ID: {} and day: {}", clinicId, dayOfWeek);
         // Verify clinic exists
-        clinicService.getClinicById(clinicId);
+        clinicService.assertClinicExists(clinicId);
         return businessHoursRepository.findByClinicIdAndDayOfWeek(clinicId, dayOfWeek);
     }
 
@@ -66,19 +81,9 @@ public class BusinessHoursService {
         log.info("Creating business hours for clinic ID: {} and day: {}", clinicId, request.getDayOfWeek());
         request.validate(); // Validate request
 
-        Clinic clinic = clinicService.getClinicById(clinicId);
-
-        // Check for time overlaps
-        if (businessHoursRepository.existsOverlappingBusinessHours(
-                clinicId,
-                request.getDayOfWeek(),
-                request.getOpenTime(),
-                request.getCloseTime())) {
-            throw new BusinessHoursOverlapException(
-                    "Overlapping business hours found for day: " + request.getDayOfWeek());
-        }
+        // Serialises sequence assignment with other writes to this clinic's hours
+        Clinic clinic = clinicService.lockClinic(clinicId);
 
-        // Get next sequence number
         Integer maxSequence = businessHoursRepository.findMaxSequenceForDay(clinicId, request.getDayOfWeek());
         int nextSequence = (maxSequence != null) ? maxSequence + 1 : 1;
 
@@ -86,7 +91,8 @@ public class BusinessHoursService {
         businessHours.setClinic(clinic);
         businessHours.setSequence(nextSequence);  // Set sequence immediately after mapper.toEntity()
 
-        BusinessHours savedHours = businessHoursRepository.save(businessHours);
+        // Overlaps are rejected by the database's exclusion constraint
+        BusinessHours savedHours = saveAndCheckOverlap(businessHours);
 
         // Publish event
         eventPublisher.publishEvent(new BusinessHoursEvent(
@@ -105,30 +111,15 @@ public class BusinessHoursService {
         BusinessHours businessHours = getBusinessHoursById(id);
 
         // Detect changes
-        boolean timeChanged = !request.getOpenTime().equals(businessHours.getOpenTime()) ||
-                !request.getCloseTime().equals(businessHours.getCloseTime());
         boolean dayChanged  = !request.getDayOfWeek().equals(businessHours.getDayOfWeek());
 
-        // If day or time changed, check for overlaps
-        if (timeChanged || dayChanged) {
-            if (businessHoursRepository.existsOverlappingBusinessHours(
-                    businessHours.getClinic().getId(),
-                    request.getDayOfWeek(),
-                    request.getOpenTime(),
-                    request.getCloseTime(),
-                    id)) {
-                throw new BusinessHoursOverlapException(
-                        "Overlapping business hours found for day: " + request.getDayOfWeek());
-            }
-        }
-
         BusinessHours originalHours = copyHours(businessHours);
 
         // If the day changed, assign a new sequence on the target day
         if (dayChanged) {
-            Integer maxSeqOnNewDay = businessHoursRepository.findMaxSequenceForDay(
-                    businessHours.getClinic().getId(),
-                    request.getDayOfWeek());
+            UUID clinicId = businessHours.getClinic().getId();
+            clinicService.lockClinic(clinicId);
+            Integer maxSeqOnNewDay = businessHoursRepository.findMaxSequenceForDay(clinicId, request.getDayOfWeek());
             int nextSequence = (maxSeqOnNewDay != null ? maxSeqOnNewDay + 1 : 1);
             businessHours.setSequence(nextSequence);
         }
@@ -139,7 +130,7 @@ public class BusinessHoursService {
         businessHours.setCloseTime(request.getCloseTime());
         businessHours.setActive(request.getActive());
 
-        BusinessHours updatedHours = businessHoursRepository.save(businessHours);
+        BusinessHours updatedHours = saveAndCheckOverlap(businessHours);
 
         // Publish event
         eventPublisher.publishEvent(new BusinessHoursEvent(
@@ -169,6 +160,166 @@ public class BusinessHoursService {
                 BusinessHoursEvent.EventType.DELETED));
     }
 
+    /**
+     * Replaces the clinic's regular week with the given slots in one transaction.
+     *
+     * <p>Overlaps are found in memory by sweeping the slots in day and opening-time order, so the
+     * existing rows are read once. Rows that already match a slot are kept, the remaining rows of a
+     * day are moved onto its remaining slots, new rows are inserted for the rest and leftovers are
+     * soft deleted. Sequences are renumbered per day in opening order. Seasonal rows, those with a
+     * validity range, are not part of the regular week and are left alone.
+     */
+    @Transactional
+    public List<BusinessHours> replaceWeeklySchedule(UUID clinicId, List<BusinessHoursRequest> requests) {
+        log.info("Replacing weekly schedule for clinic ID: {} with {} slots", clinicId, requests.size());
+        requests.forEach(BusinessHoursRequest::validate);
+        List<BusinessHoursRequest> slots = sortAndCheckOverlaps(requests);
+
+        Clinic clinic = clinicService.lockClinic(clinicId);
+        List<BusinessHours> regular = businessHoursRepository.findByClinicId(clinicId).stream()
+                .filter(h -> h.getDeletedAt() == null && h.getValidFrom() == null && h.getValidTo() == null)
+                .sorted(Comparator.comparing(BusinessHours::getDayOfWeek).thenComparing(BusinessHours::getSequence))
+                .toList();
+        List<BusinessHours> oldSchedule = regular.stream().map(this::copyHours).toList();
+
+        // Rows may overlap each other while being moved; the constraint is checked once at the end
+        businessHoursRepository.deferOverlapConstraint();
+
+        // Keep the rows that already match a slot
+        Map<SlotKey, Deque<BusinessHours>> byKey = new HashMap<>();
+        for (BusinessHours hours : regular) {
+            byKey.computeIfAbsent(SlotKey.of(hours), k -> new ArrayDeque<>()).add(hours);
+        }
+        BusinessHours[] matched = new BusinessHours[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            Deque<BusinessHours> candidates = byKey.get(SlotKey.of(slots.get(i)));
+            matched[i] = candidates == null ? null : candidates.poll();
+        }
+
+        // Rows left over on each day are reused before anything is inserted
+        Map<DayOfWeek, Deque<BusinessHours>> spare = new EnumMap<>(DayOfWeek.class);
+        for (BusinessHours hours : regular) {
+            Deque<BusinessHours> candidates = byKey.get(SlotKey.of(hours));
+            if (candidates.remove(hours)) {
+                spare.computeIfAbsent(hours.getDayOfWeek(), k -> new ArrayDeque<>()).add(hours);
+            }
+        }
+
+        List<BusinessHours> schedule = new ArrayList<>(slots.size());
+        List<BusinessHours> inserted = new ArrayList<>();
+        int updated = 0;
+        DayOfWeek day = null;
+        int sequence = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            BusinessHoursRequest slot = slots.get(i);
+            sequence = slot.getDayOfWeek() == day ? sequence + 1 : 1;
+            day = slot.getDayOfWeek();
+
+            BusinessHours hours = matched[i];
+            if (hours == null && spare.containsKey(day)) {
+                hours = spare.get(day).poll();
+            }
+            if (hours == null) {
+                hours = businessHoursMapper.toEntity(slot);
+                hours.setClinic(clinic);
+                hours.setSequence(sequence);
+                inserted.add(hours);
+            } else if (applySlot(hours, slot, sequence)) {
+                updated++;
+            }
+            schedule.add(hours);
+        }
+
+        String username = getCurrentUsername();
+        List<BusinessHours> deleted = spare.values().stream().flatMap(Collection::stream).toList();
+        deleted.forEach(hours -> hours.softDelete(username));
+
+        // Updates and soft deletes are flushed by dirty checking, batched with the inserts
+        businessHoursRepository.saveAll(inserted);
+        try {
+            businessHoursRepository.checkOverlapConstraint();
+        } catch (DataIntegrityViolationException e) {
+            throw overlapOr(e, "Weekly schedule overlaps seasonal business hours");
+        }
+
+        eventPublisher.publishEvent(new WeeklyScheduleEvent(
+                this,
+                clinicId,
+                oldSchedule,
+                List.copyOf(schedule),
+                inserted.size(),
+                updated,
+                deleted.size()));
+
+        return schedule;
+    }
+
+    /**
+     * Saves and flushes so an exclusion violation surfaces here rather than at commit
+     */
+    private BusinessHours saveAndCheckOverlap(BusinessHours businessHours) {
+        try {
+            return businessHoursRepository.saveAndFlush(businessHours);
+        } catch (DataIntegrityViolationException e) {
+            throw overlapOr(e, "Overlapping business hours found for day: " + businessHours.getDayOfWeek());
+        }
+    }
+
+    private static RuntimeException overlapOr(DataIntegrityViolationException e, String message) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return new BusinessHoursOverlapException(message);
+            }
+        }
+        return e;
+    }
+
+    /**
+     * Sorts slots by day and opening time and rejects overlaps in one pass: once sorted, a slot
+     * overlaps only if it opens before the previous slot of the same day closes.
+     */
+    private static List<BusinessHoursRequest> sortAndCheckOverlaps(List<BusinessHoursRequest> requests) {
+        List<BusinessHoursRequest> sorted = new ArrayList<>(requests);
+        sorted.sort(Comparator.comparing(BusinessHoursRequest::getDayOfWeek)
+                .thenComparing(BusinessHoursRequest::getOpenTime));
+        for (int i = 1; i < sorted.size(); i++) {
+            BusinessHoursRequest previous = sorted.get(i - 1);
+            BusinessHoursRequest slot = sorted.get(i);
+            if (previous.getDayOfWeek() == slot.getDayOfWeek() && slot.getOpenTime().isBefore(previous.getCloseTime())) {
+                throw new BusinessHoursOverlapException(String.format(
+                        "Overlapping business hours found for day: %s (%s-%s and %s-%s)",
+                        slot.getDayOfWeek(), previous.getOpenTime(), previous.getCloseTime(),
+                        slot.getOpenTime(), slot.getCloseTime()));
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Moves an existing row onto a slot, returning whether anything changed
+     */
+    private static boolean applySlot(BusinessHours hours, BusinessHoursRequest slot, int sequence) {
+        boolean changed = !slot.getOpenTime().equals(hours.getOpenTime())
+                || !slot.getCloseTime().equals(hours.getCloseTime())
+                || !slot.getActive().equals(hours.getActive())
+                || sequence != hours.getSequence();
+        hours.setOpenTime(slot.getOpenTime());
+        hours.setCloseTime(slot.getCloseTime());
+        hours.setActive(slot.getActive());
+        hours.setSequence(sequence);
+        return changed;
+    }
+
+    private record SlotKey(DayOfWeek day, LocalTime open, LocalTime close) {
+        static SlotKey of(BusinessHours hours) {
+            return new SlotKey(hours.getDayOfWeek(), hours.getOpenTime(), hours.getCloseTime());
+        }
+
+        static SlotKey of(BusinessHoursRequest slot) {
+            return new SlotKey(slot.getDayOfWeek(), slot.getOpenTime(), slot.getCloseTime());
+        }
+    }
+
     /**
      * Creates a copy of the business hours entity for event comparison
      */
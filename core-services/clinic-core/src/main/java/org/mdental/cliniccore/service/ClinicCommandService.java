@@ -2,15 +2,16 @@ package org.mdental.cliniccore.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.api.dto.RealmResponse;
 import org.mdental.cliniccore.event.ClinicEvent;
 import org.mdental.cliniccore.mapper.ClinicMapper;
 import org.mdental.cliniccore.model.dto.CreateClinicRequest;
 import org.mdental.cliniccore.model.dto.UpdateClinicRequest;
 import org.mdental.cliniccore.model.entity.Clinic;
 import org.mdental.cliniccore.repository.ClinicRepository;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -29,7 +30,6 @@ public class ClinicCommandService {
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
-    @CacheEvict(value = "clinics", allEntries = true)
     public Clinic createClinic(CreateClinicRequest request) {
         log.info("Creating new clinic with name: {}", request.getName());
 
@@ -53,7 +53,6 @@ public class ClinicCommandService {
     }
 
     @Transactional
-    @CacheEvict(value = "clinics", key = "#id")
     public Clinic updateClinic(UUID id, UpdateClinicRequest request) {
         log.info("Updating clinic with ID: {}", id);
         Clinic clinic = clinicQueryService.getClinicById(id);
@@ -125,7 +124,6 @@ public class ClinicCommandService {
     }
 
     @Transactional
-    @CacheEvict(value = "clinics", key = "#id")
     public Clinic updateClinicStatus(UUID id, Clinic.ClinicStatus status) {
         log.info("Updating clinic status to {} for clinic ID: {}", status, id);
         Clinic clinic = clinicQueryService.getClinicById(id);
@@ -142,7 +140,6 @@ public class ClinicCommandService {
     }
 
     @Transactional
-    @CacheEvict(value = "clinics", key = "#id")
     public void deleteClinic(UUID id) {
         log.info("Deleting clinic with ID: {}", id);
         Clinic clinic = clinicQueryService.getClinicById(id);
@@ -158,6 +155,36 @@ public class ClinicCommandService {
                 new ClinicEvent(this, clinic, ClinicEvent.EventType.DELETED));
     }
 
+    /**
+     * Records the Keycloak realm provisioned for a clinic.
+     */
+    @Transactional
+    public Clinic applyRealm(UUID id, RealmResponse realm) {
+        Clinic clinic = lockClinic(id);
+        Clinic originalClinic = copyClinic(clinic);
+
+        clinic.setKcIssuer(realm.getIssuer());
+        clinic.setKcAdminUser(realm.getKcRealmAdminUser());
+        clinic.setKcTmpPassword(realm.getTmpPassword());
+        Clinic updatedClinic = clinicRepository.save(clinic);
+
+        // Fire update event so cached snapshots pick up the issuer
+        applicationEventPublisher.publishEvent(
+                new ClinicEvent(this, updatedClinic, ClinicEvent.EventType.UPDATED, originalClinic));
+
+        return updatedClinic;
+    }
+
+    /**
+     * Locks the clinic row until the caller's transaction ends, serialising writes that derive
+     * values from the clinic's other rows, such as business-hours sequences.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Clinic lockClinic(UUID id) {
+        return clinicRepository.findActiveByIdForUpdate(id)
+                .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with ID: " + id));
+    }
+
     @Transactional
     public Clinic save(Clinic clinic) {
         return clinicRepository.save(clinic);
@@ -0,0 +1,166 @@
+package org.mdental.cliniccore.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.event.AddressEvent;
+import org.mdental.cliniccore.event.ClinicEvent;
+import org.mdental.cliniccore.model.dto.NearbyClinicResult;
+import org.mdental.cliniccore.repository.ClinicGeoRepository;
+import org.mdental.cliniccore.search.ClinicGeoIndex;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Nearest-clinic search for the patient-facing directory.
+ *
+ * <p>Served from an in-memory {@link ClinicGeoIndex} of active clinics' primary physical addresses.
+ * Each {@link AddressEvent} or {@link ClinicEvent} re-reads the location of the one clinic it
+ * concerns, which also catches the primary address a new one demoted, and the index is rebuilt
+ * periodically to pick up changes made through other replicas.
+ */
+@Service
+@Slf4j
+public class ClinicGeoSearchService {
+
+    private final ClinicGeoRepository clinicGeoRepository;
+    private final AvailabilityService availabilityService;
+    private final Timer searchTimer;
+    private final double cellDegrees;
+    private final int maxLimit;
+    private final double maxRadiusKm;
+
+    private volatile ClinicGeoIndex geoIndex;
+
+    public ClinicGeoSearchService(ClinicGeoRepository clinicGeoRepository,
+                                  AvailabilityService availabilityService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${clinic.geo.cell-degrees:0.25}") double cellDegrees,
+                                  @Value("${clinic.geo.max-limit:50}") int maxLimit,
+                                  @Value("${clinic.geo.max-radius-km:1000}") double maxRadiusKm) {
+        this.clinicGeoRepository = clinicGeoRepository;
+        this.availabilityService = availabilityService;
+        this.cellDegrees = cellDegrees;
+        this.maxLimit = maxLimit;
+        this.maxRadiusKm = maxRadiusKm;
+        this.searchTimer = Timer.builder("clinic.geo.search")
+                .description("Time to find the clinics nearest a point")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Clinics nearest a point, closest first.
+     *
+     * @param radiusKm only clinics within this distance, or null for any distance up to the maximum
+     * @param openNow  only clinics open right now
+     */
+    public List<NearbyClinicResult> nearest(double latitude, double longitude, int limit, Double radiusKm, boolean openNow) {
+        validate(latitude, longitude, limit, radiusKm);
+        Instant now = Instant.now();
+        // Each clinic's open status is needed for the filter and the result alike; work it out once
+        Map<UUID, Boolean> open = new HashMap<>();
+
+        return searchTimer.record(() -> geoIndex()
+                .nearest(latitude, longitude, limit, radiusKm != null ? radiusKm : maxRadiusKm,
+                        location -> !openNow || open.computeIfAbsent(location.clinicId(), id -> isOpen(id, now)))
+                .stream()
+                .map(hit -> NearbyClinicResult.builder()
+                        .id(hit.location().clinicId())
+                        .name(hit.location().name())
+                        .slug(hit.location().slug())
+                        .city(hit.location().city())
+                        .latitude(hit.location().latitude())
+                        .longitude(hit.location().longitude())
+                        .distanceKm(hit.distanceKm())
+                        .open(open.computeIfAbsent(hit.location().clinicId(), id -> isOpen(id, now)))
+                        .build())
+                .toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAddressChanged(AddressEvent event) {
+        refresh(event.getAddress().getClinic().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClinicChanged(ClinicEvent event) {
+        refresh(event.getClinic().getId());
+    }
+
+    @Scheduled(fixedDelayString = "${clinic.geo.refresh-interval-ms:300000}",
+            initialDelayString = "${clinic.geo.refresh-interval-ms:300000}")
+    public void refreshGeoIndex() {
+        if (geoIndex != null) {
+            geoIndex = loadGeoIndex();
+        }
+    }
+
+    private void refresh(UUID clinicId) {
+        ClinicGeoIndex index = geoIndex;
+        if (index == null) {
+            return;
+        }
+        clinicGeoRepository.findLocation(clinicId)
+                .ifPresentOrElse(index::put, () -> index.remove(clinicId));
+    }
+
+    private boolean isOpen(UUID clinicId, Instant at) {
+        try {
+            return availabilityService.isOpen(clinicId, at);
+        } catch (ClinicService.ClinicNotFoundException e) {
+            // Deleted since the index last heard of it
+            return false;
+        }
+    }
+
+    private ClinicGeoIndex geoIndex() {
+        ClinicGeoIndex index = geoIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = geoIndex;
+                if (index == null) {
+                    index = loadGeoIndex();
+                    geoIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private ClinicGeoIndex loadGeoIndex() {
+        ClinicGeoIndex index = ClinicGeoIndex.of(cellDegrees, clinicGeoRepository.findLocations());
+        log.debug("Loaded clinic geo index with {} clinics", index.size());
+        return index;
+    }
+
+    private void validate(double latitude, double longitude, int limit, Double radiusKm) {
+        if (latitude < -90 || latitude > 90) {
+            throw new GeoSearchException("'lat' must be between -90 and 90");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new GeoSearchException("'lon' must be between -180 and 180");
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new GeoSearchException("'limit' must be between 1 and " + maxLimit);
+        }
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > maxRadiusKm)) {
+            throw new GeoSearchException("'radiusKm' must be greater than 0 and at most " + maxRadiusKm);
+        }
+    }
+
+    public static class GeoSearchException extends BaseException {
+        public GeoSearchException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
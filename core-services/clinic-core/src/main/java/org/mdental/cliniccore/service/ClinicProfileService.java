@@ -0,0 +1,53 @@
+package org.mdental.cliniccore.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.cache.ClinicCache;
+import org.mdental.cliniccore.cache.ClinicSnapshot;
+import org.mdental.cliniccore.mapper.AddressMapper;
+import org.mdental.cliniccore.mapper.BusinessHoursMapper;
+import org.mdental.cliniccore.mapper.ContactInfoMapper;
+import org.mdental.cliniccore.mapper.HolidayMapper;
+import org.mdental.cliniccore.model.dto.ClinicProfile;
+import org.mdental.cliniccore.repository.AddressRepository;
+import org.mdental.cliniccore.repository.BusinessHoursRepository;
+import org.mdental.cliniccore.repository.ContactInfoRepository;
+import org.mdental.cliniccore.repository.HolidayRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Builds {@link ClinicProfile}s. Each collection is read with its own query, so the cost grows with
+ * the sum of the collection sizes rather than their product as with a single multi-collection fetch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClinicProfileService {
+
+    private final ClinicCache clinicCache;
+    private final ContactInfoRepository contactInfoRepository;
+    private final AddressRepository addressRepository;
+    private final BusinessHoursRepository businessHoursRepository;
+    private final HolidayRepository holidayRepository;
+    private final ContactInfoMapper contactInfoMapper;
+    private final AddressMapper addressMapper;
+    private final BusinessHoursMapper businessHoursMapper;
+    private final HolidayMapper holidayMapper;
+
+    @Transactional(readOnly = true)
+    public ClinicProfile getClinicProfile(UUID id) {
+        log.debug("Fetching clinic profile with ID: {}", id);
+        ClinicSnapshot clinic = clinicCache.getById(id)
+                .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with ID: " + id));
+
+        return new ClinicProfile(
+                clinic,
+                contactInfoRepository.findByClinicId(id).stream().map(contactInfoMapper::toDto).toList(),
+                addressRepository.findByClinicId(id).stream().map(addressMapper::toDto).toList(),
+                businessHoursRepository.findByClinicId(id).stream().map(businessHoursMapper::toDto).toList(),
+                holidayRepository.findByClinicId(id).stream().map(holidayMapper::toDto).toList());
+    }
+}
@@ -1,73 +1,234 @@
 package org.mdental.cliniccore.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.mdental.authcore.api.dto.CreateRealmRequest;
 import org.mdental.authcore.api.dto.RealmResponse;
-import org.mdental.cliniccore.client.AuthCoreClient;
-import org.mdental.cliniccore.event.ClinicEvent;
+import org.mdental.cliniccore.event.ClinicProvisioningEvent;
 import org.mdental.cliniccore.model.dto.CreateClinicRequest;
 import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+import org.mdental.cliniccore.repository.ClinicProvisioningRepository;
 import org.mdental.commons.exception.BaseException;
-import org.mdental.commons.model.ApiResponse;
 import org.mdental.commons.model.ErrorCode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * State transitions of the clinic provisioning saga.
+ *
+ * <p>Every method is one short transaction; the call to auth-core happens between them in
+ * {@code ClinicProvisioningWorker}, so no database connection is held while it runs. A failed
+ * attempt is retried with exponential backoff and jitter until {@code clinic.provisioning.max-attempts}
+ * is reached, after which the saga is FAILED until retried through the API.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ClinicProvisioningService {
 
+    private static final Set<ClinicProvisioning.Status> CLAIMABLE =
+            EnumSet.of(ClinicProvisioning.Status.PENDING, ClinicProvisioning.Status.CREATING_REALM);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
     private final ClinicService clinicService;
-    private final AuthCoreClient authCoreClient;
+    private final ClinicProvisioningRepository provisioningRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public ClinicProvisioningService(ClinicService clinicService,
+                                     ClinicProvisioningRepository provisioningRepository,
+                                     ApplicationEventPublisher applicationEventPublisher,
+                                     @Value("${clinic.provisioning.max-attempts:8}") int maxAttempts,
+                                     @Value("${clinic.provisioning.initial-backoff:PT2S}") Duration initialBackoff,
+                                     @Value("${clinic.provisioning.max-backoff:PT5M}") Duration maxBackoff,
+                                     @Value("${clinic.provisioning.lease:PT2M}") Duration lease) {
+        this.clinicService = clinicService;
+        this.provisioningRepository = provisioningRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
 
-    @Value("${INTERNAL_API_TOKEN:internal-api-token-placeholder}")
-    private String internalApiToken;
-
+    /**
+     * Creates the clinic and records the saga that will provision its realm.
+     */
     @Transactional
-    public Clinic provisionClinic(CreateClinicRequest request) {
-        log.info("Starting end-to-end clinic provisioning for: {}", request.getName());
+    public ClinicProvisioning startProvisioning(CreateClinicRequest request) {
+        log.info("Starting clinic provisioning for: {}", request.getName());
 
-        // 1. Create clinic in the database first
         Clinic clinic = clinicService.createClinic(request);
 
-        try {
-            // 2. Create realm in Keycloak via auth-core service
-            CreateRealmRequest realmRequest = CreateRealmRequest.builder()
-                    .realm(request.getRealm())
-                    .clinicSlug(request.getSlug())
-                    .build();
+        Instant now = Instant.now();
+        ClinicProvisioning provisioning = provisioningRepository.save(ClinicProvisioning.builder()
+                .clinicId(clinic.getId())
+                .realm(request.getRealm())
+                .clinicSlug(request.getSlug())
+                .status(ClinicProvisioning.Status.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        applicationEventPublisher.publishEvent(
+                new ClinicProvisioningEvent(this, provisioning, ClinicProvisioningEvent.EventType.REQUESTED));
+
+        return provisioning;
+    }
+
+    @Transactional(readOnly = true)
+    public ClinicProvisioning getProvisioning(UUID id) {
+        return provisioningRepository.findById(id)
+                .orElseThrow(() -> new ProvisioningNotFoundException("Provisioning not found with ID: " + id));
+    }
+
+    /**
+     * Puts a FAILED saga back in the queue with a fresh attempt budget.
+     */
+    @Transactional
+    public ClinicProvisioning retry(UUID id) {
+        ClinicProvisioning provisioning = getProvisioning(id);
+        if (provisioning.getStatus() != ClinicProvisioning.Status.FAILED) {
+            throw new ProvisioningStateException(
+                    "Only failed provisioning can be retried, this one is " + provisioning.getStatus());
+        }
+
+        Instant now = Instant.now();
+        provisioning.setStatus(ClinicProvisioning.Status.PENDING);
+        provisioning.setAttempts(0);
+        provisioning.setNextAttemptAt(now);
+        provisioning.setUpdatedAt(now);
+        provisioning = provisioningRepository.save(provisioning);
+
+        applicationEventPublisher.publishEvent(
+                new ClinicProvisioningEvent(this, provisioning, ClinicProvisioningEvent.EventType.REQUESTED));
 
-            ApiResponse<RealmResponse> response = authCoreClient.createRealm(realmRequest);
+        return provisioning;
+    }
 
-            if (!response.isSuccess() || response.getData() == null) {
-                // If realm creation fails, throw exception to trigger rollback
-                throw new RealmProvisioningException("Failed to provision Keycloak realm");
+    /**
+     * Takes the lease on the next due saga and counts the attempt.
+     *
+     * <p>One saga per claim: the lease then only has to outlast a single auth-core call, where a
+     * batch would have to outlast every call queued before the last saga in it.
+     */
+    @Transactional
+    public Optional<ClinicProvisioning> claimNext() {
+        Instant now = Instant.now();
+        Optional<ClinicProvisioning> due = provisioningRepository
+                .findDueForUpdate(CLAIMABLE, now, PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
+        due.ifPresent(provisioning -> {
+            if (provisioning.getStatus() == ClinicProvisioning.Status.CREATING_REALM) {
+                log.warn("Provisioning {} lease expired, resuming", provisioning.getId());
             }
+            provisioning.setStatus(ClinicProvisioning.Status.CREATING_REALM);
+            provisioning.setAttempts(provisioning.getAttempts() + 1);
+            provisioning.setNextAttemptAt(now.plus(lease));
+            provisioning.setUpdatedAt(now);
+        });
+        return due.map(provisioningRepository::save);
+    }
+
+    /**
+     * Records the created realm on the clinic and closes the saga.
+     */
+    @Transactional
+    public void completeRealm(UUID id, int attempt, RealmResponse realm) {
+        ClinicProvisioning provisioning = getProvisioning(id);
+        if (!holdsLease(provisioning, attempt)) {
+            log.warn("Dropping realm result for provisioning {} attempt {}, lease was lost", id, attempt);
+            return;
+        }
+
+        clinicService.applyRealm(provisioning.getClinicId(), realm);
+
+        Instant now = Instant.now();
+        provisioning.setStatus(ClinicProvisioning.Status.COMPLETED);
+        provisioning.setLastError(null);
+        provisioning.setCompletedAt(now);
+        provisioning.setUpdatedAt(now);
+        provisioningRepository.save(provisioning);
+
+        log.info("Provisioned realm {} for clinic {} after {} attempt(s)",
+                provisioning.getRealm(), provisioning.getClinicId(), attempt);
+        applicationEventPublisher.publishEvent(
+                new ClinicProvisioningEvent(this, provisioning, ClinicProvisioningEvent.EventType.COMPLETED));
+    }
+
+    /**
+     * Records a failed attempt and schedules the next one, or gives up when the error is permanent
+     * or the attempts are used up.
+     */
+    @Transactional
+    public void recordFailure(UUID id, int attempt, String error, boolean retryable) {
+        ClinicProvisioning provisioning = getProvisioning(id);
+        if (!holdsLease(provisioning, attempt)) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        provisioning.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        provisioning.setUpdatedAt(now);
+
+        if (!retryable || attempt >= maxAttempts) {
+            provisioning.setStatus(ClinicProvisioning.Status.FAILED);
+            provisioningRepository.save(provisioning);
+            log.error("Provisioning {} failed after {} attempt(s): {}", id, attempt, error);
+            applicationEventPublisher.publishEvent(
+                    new ClinicProvisioningEvent(this, provisioning, ClinicProvisioningEvent.EventType.FAILED));
+            return;
+        }
 
-            RealmResponse realmInfo = response.getData();
+        Duration delay = backoff(attempt);
+        provisioning.setStatus(ClinicProvisioning.Status.PENDING);
+        provisioning.setNextAttemptAt(now.plus(delay));
+        provisioningRepository.save(provisioning);
+        log.warn("Provisioning {} attempt {} failed, retrying in {}: {}", id, attempt, delay, error);
+    }
 
-            // 3. Update clinic with Keycloak realm details
-            clinic.setKcIssuer(realmInfo.getIssuer());
-            clinic.setKcAdminUser(realmInfo.getKcRealmAdminUser());
-            clinic.setKcTmpPassword(realmInfo.getTmpPassword());
+    /**
+     * Exponential backoff with equal jitter: half the delay is fixed, half random, so retries from
+     * sagas that failed together spread out.
+     */
+    Duration backoff(int attempt) {
+        long cap = maxBackoff.toMillis();
+        long delay = Math.min(cap, initialBackoff.toMillis() << Math.min(attempt - 1, 30));
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
 
-            clinic = clinicService.save(clinic);
+    // A worker whose lease ran out may finish after another one took over
+    private static boolean holdsLease(ClinicProvisioning provisioning, int attempt) {
+        return provisioning.getStatus() == ClinicProvisioning.Status.CREATING_REALM
+                && provisioning.getAttempts() == attempt;
+    }
 
-            // 4. Publish clinic created event for CDC
-            applicationEventPublisher.publishEvent(new ClinicEvent(
-                    this, clinic, ClinicEvent.EventType.CREATED
-            ));
+    public static class ProvisioningNotFoundException extends BaseException {
+        public ProvisioningNotFoundException(String message) {
+            super(message, ErrorCode.RESOURCE_NOT_FOUND);
+        }
+    }
 
-            return clinic;
-        } catch (Exception e) {
-            log.error("Error during realm provisioning", e);
-            // Any exception triggers transaction rollback
-            throw new RealmProvisioningException("Clinic creation failed: " + e.getMessage(), e);
+    public static class ProvisioningStateException extends BaseException {
+        public ProvisioningStateException(String message) {
+            super(message, ErrorCode.DUPLICATE_RESOURCE);
         }
     }
 
@@ -80,4 +241,4 @@ public class ClinicProvisioningService {
             super(message, ErrorCode.GENERAL_ERROR, cause);
         }
     }
-}
\ No newline at end of file
+}
@@ -2,10 +2,12 @@ package org.mdental.cliniccore.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.cache.ClinicCache;
+import org.mdental.cliniccore.cache.ClinicExistenceIndex;
+import org.mdental.cliniccore.cache.ClinicSnapshot;
 import org.mdental.cliniccore.model.entity.Clinic;
 import org.mdental.cliniccore.repository.ClinicRepository;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +28,8 @@ import java.util.UUID;
 public class ClinicQueryService {
 
     private final ClinicRepository clinicRepository;
+    private final ClinicCache clinicCache;
+    private final ClinicExistenceIndex clinicExistenceIndex;
 
     @Value("${clinic.allowed-sort-properties:name,realm,slug,createdAt,status,updatedAt}")
     private String allowedSortPropertiesString;
@@ -36,20 +40,37 @@ public class ClinicQueryService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "clinics")
     public List<Clinic> getAllClinics() {
         log.debug("Fetching all clinics");
         return clinicRepository.findAll();
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "clinics", key = "#id")
     public Clinic getClinicById(UUID id) {
         log.debug("Fetching clinic with ID: {}", id);
         return clinicRepository.findByIdWithAllRelationships(id)
                 .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with ID: " + id));
     }
 
+    /**
+     * Parent validation for sub-resources: an in-memory lookup, falling back to the database only
+     * for ids the {@link ClinicExistenceIndex} does not know.
+     */
+    public void assertClinicExists(UUID id) {
+        if (!clinicExistenceIndex.exists(id)) {
+            throw new ClinicService.ClinicNotFoundException("Clinic not found with ID: " + id);
+        }
+    }
+
+    /**
+     * Validated reference for attaching a sub-resource; the clinic row itself is not loaded.
+     */
+    @Transactional(readOnly = true)
+    public Clinic getClinicReference(UUID id) {
+        assertClinicExists(id);
+        return clinicRepository.getReferenceById(id);
+    }
+
     @Transactional(readOnly = true)
     public Page<Clinic> getFilteredClinics(String realm, String name, Pageable pageable) {
         log.debug("Fetching filtered clinics with realm: {}, name: {}", realm, name);
@@ -67,13 +88,30 @@ public class ClinicQueryService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "clinics", key = "#realm")
     public Clinic getClinicByRealm(String realm) {
         log.debug("Fetching clinic with realm: {}", realm);
         return clinicRepository.findByRealm(realm)
                 .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with realm: " + realm));
     }
 
+    /**
+     * Cached, read-only view of a clinic. Use {@link #getClinicById(UUID)} when the entity is to be modified.
+     */
+    public ClinicSnapshot getClinicSnapshot(UUID id) {
+        return clinicCache.getById(id)
+                .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with ID: " + id));
+    }
+
+    public ClinicSnapshot getClinicSnapshotByRealm(String realm) {
+        return clinicCache.getByRealm(realm)
+                .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with realm: " + realm));
+    }
+
+    public ClinicSnapshot getClinicSnapshotBySlug(String slug) {
+        return clinicCache.getBySlug(slug)
+                .orElseThrow(() -> new ClinicService.ClinicNotFoundException("Clinic not found with slug: " + slug));
+    }
+
     @Transactional(readOnly = true)
     public Optional<Clinic> findClinicByRealm(String realm) {
         log.debug("Finding clinic with realm: {}", realm);
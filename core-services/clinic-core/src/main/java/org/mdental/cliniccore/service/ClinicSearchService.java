@@ -0,0 +1,206 @@
+package org.mdental.cliniccore.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.event.ClinicEvent;
+import org.mdental.cliniccore.model.dto.ClinicSearchPage;
+import org.mdental.cliniccore.model.dto.ClinicSearchResult;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.repository.ClinicSearchRepository;
+import org.mdental.cliniccore.search.ClinicNameIndex;
+import org.mdental.cliniccore.search.SearchText;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Clinic directory search.
+ *
+ * <p>Full searches run against the trigram index in Postgres and page with an opaque keyset cursor.
+ * Autocomplete is served from an in-memory {@link ClinicNameIndex} when enabled, kept current by
+ * {@link ClinicEvent}s and rebuilt periodically to pick up changes made through other replicas.
+ */
+@Service
+@Slf4j
+public class ClinicSearchService {
+
+    private final ClinicSearchRepository clinicSearchRepository;
+    private final Timer searchTimer;
+    private final Timer autocompleteTimer;
+    private final boolean autocompleteIndexEnabled;
+    private final double autocompleteMinScore;
+    private final int maxLimit;
+
+    private volatile ClinicNameIndex nameIndex;
+
+    public ClinicSearchService(ClinicSearchRepository clinicSearchRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${clinic.search.max-limit:50}") int maxLimit,
+                               @Value("${clinic.search.autocomplete.index-enabled:true}") boolean autocompleteIndexEnabled,
+                               @Value("${clinic.search.autocomplete.min-score:0.6}") double autocompleteMinScore) {
+        this.clinicSearchRepository = clinicSearchRepository;
+        this.maxLimit = maxLimit;
+        this.autocompleteIndexEnabled = autocompleteIndexEnabled;
+        this.autocompleteMinScore = autocompleteMinScore;
+        this.searchTimer = Timer.builder("clinic.search")
+                .tag("path", "database")
+                .description("Time to run a clinic search")
+                .register(meterRegistry);
+        this.autocompleteTimer = Timer.builder("clinic.search")
+                .tag("path", "autocomplete")
+                .description("Time to run a clinic search")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Clinics matching a query, best first.
+     *
+     * @param realm  only clinics of this realm, or null for all
+     * @param cursor {@link ClinicSearchPage#getNextCursor()} of the previous page, or null
+     */
+    public ClinicSearchPage search(String realm, String query, int limit, String cursor) {
+        String folded = foldedQuery(query);
+        int pageSize = pageSize(limit);
+        Cursor after = cursor != null && !cursor.isBlank() ? Cursor.decode(cursor) : null;
+
+        List<ClinicSearchRepository.Hit> hits = searchTimer.record(() -> clinicSearchRepository.search(
+                folded, realm, after != null ? after.rank() : null, after != null ? after.id() : null, pageSize + 1));
+
+        boolean more = hits.size() > pageSize;
+        List<ClinicSearchRepository.Hit> page = more ? hits.subList(0, pageSize) : hits;
+        ClinicSearchRepository.Hit last = more ? page.get(page.size() - 1) : null;
+        return ClinicSearchPage.builder()
+                .results(page.stream().map(ClinicSearchService::toResult).toList())
+                .nextCursor(last != null ? new Cursor(last.rank(), last.id()).encode() : null)
+                .build();
+    }
+
+    /**
+     * Suggestions for text being typed. Falls back to the first page of a database search when the
+     * in-memory index is disabled.
+     */
+    public List<ClinicSearchResult> autocomplete(String realm, String query, int limit) {
+        String folded = foldedQuery(query);
+        int pageSize = pageSize(limit);
+        if (!autocompleteIndexEnabled) {
+            return search(realm, folded, pageSize, null).getResults();
+        }
+        return autocompleteTimer.record(() -> nameIndex().suggest(folded, realm, autocompleteMinScore, pageSize)
+                .stream()
+                .map(suggestion -> ClinicSearchResult.builder()
+                        .id(suggestion.clinic().id())
+                        .name(suggestion.clinic().name())
+                        .slug(suggestion.clinic().slug())
+                        .realm(suggestion.clinic().realm())
+                        .score(suggestion.score())
+                        .build())
+                .toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClinicChanged(ClinicEvent event) {
+        ClinicNameIndex index = nameIndex;
+        if (index == null) {
+            return;
+        }
+        Clinic clinic = event.getClinic();
+        if (event.getType() == ClinicEvent.EventType.DELETED || clinic.getDeletedAt() != null) {
+            index.remove(clinic.getId());
+        } else {
+            index.put(new ClinicNameIndex.Entry(clinic.getId(), clinic.getName(), clinic.getSlug(), clinic.getRealm()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${clinic.search.autocomplete.refresh-interval-ms:300000}",
+            initialDelayString = "${clinic.search.autocomplete.refresh-interval-ms:300000}")
+    public void refreshNameIndex() {
+        if (autocompleteIndexEnabled && nameIndex != null) {
+            nameIndex = loadNameIndex();
+        }
+    }
+
+    private ClinicNameIndex nameIndex() {
+        ClinicNameIndex index = nameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = nameIndex;
+                if (index == null) {
+                    index = loadNameIndex();
+                    nameIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private ClinicNameIndex loadNameIndex() {
+        ClinicNameIndex index = ClinicNameIndex.of(clinicSearchRepository.findIndexEntries());
+        log.debug("Loaded clinic autocomplete index with {} clinics", index.size());
+        return index;
+    }
+
+    private String foldedQuery(String query) {
+        String folded = SearchText.fold(query);
+        if (folded.length() < 2) {
+            throw new ClinicSearchException("Search query must have at least 2 letters or digits");
+        }
+        if (folded.length() > 100) {
+            throw new ClinicSearchException("Search query must not exceed 100 characters");
+        }
+        return folded;
+    }
+
+    private int pageSize(int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new ClinicSearchException("'limit' must be between 1 and " + maxLimit);
+        }
+        return limit;
+    }
+
+    private static ClinicSearchResult toResult(ClinicSearchRepository.Hit hit) {
+        return ClinicSearchResult.builder()
+                .id(hit.id())
+                .name(hit.name())
+                .legalName(hit.legalName())
+                .slug(hit.slug())
+                .realm(hit.realm())
+                .status(hit.status())
+                .score(hit.rank())
+                .build();
+    }
+
+    // Float.toString round-trips exactly, so the next page starts right after the last hit
+    private record Cursor(float rank, UUID id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((rank + ":" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf(':');
+                return new Cursor(Float.parseFloat(decoded.substring(0, separator)),
+                        UUID.fromString(decoded.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new ClinicSearchException("Invalid search cursor");
+            }
+        }
+    }
+
+    public static class ClinicSearchException extends BaseException {
+        public ClinicSearchException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
@@ -2,6 +2,9 @@ package org.mdental.cliniccore.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.authcore.api.dto.RealmResponse;
+import org.mdental.cliniccore.cache.ClinicSnapshot;
+import org.mdental.cliniccore.model.dto.ClinicProfile;
 import org.mdental.cliniccore.model.dto.CreateClinicRequest;
 import org.mdental.cliniccore.model.dto.UpdateClinicRequest;
 import org.mdental.cliniccore.model.entity.Clinic;
@@ -22,6 +25,7 @@ public class ClinicService {
 
     private final ClinicQueryService queryService;
     private final ClinicCommandService commandService;
+    private final ClinicProfileService profileService;
 
     // Query methods
     public List<Clinic> getAllClinics() {
@@ -32,6 +36,14 @@ public class ClinicService {
         return queryService.getClinicById(id);
     }
 
+    public void assertClinicExists(UUID id) {
+        queryService.assertClinicExists(id);
+    }
+
+    public Clinic getClinicReference(UUID id) {
+        return queryService.getClinicReference(id);
+    }
+
     public Page<Clinic> getFilteredClinics(String realm, String name, Pageable pageable) {
         return queryService.getFilteredClinics(realm, name, pageable);
     }
@@ -40,6 +52,22 @@ public class ClinicService {
         return queryService.getClinicByRealm(realm);
     }
 
+    public ClinicProfile getClinicProfile(UUID id) {
+        return profileService.getClinicProfile(id);
+    }
+
+    public ClinicSnapshot getClinicSnapshot(UUID id) {
+        return queryService.getClinicSnapshot(id);
+    }
+
+    public ClinicSnapshot getClinicSnapshotByRealm(String realm) {
+        return queryService.getClinicSnapshotByRealm(realm);
+    }
+
+    public ClinicSnapshot getClinicSnapshotBySlug(String slug) {
+        return queryService.getClinicSnapshotBySlug(slug);
+    }
+
     public Optional<Clinic> findClinicByRealm(String realm) {
         return queryService.findClinicByRealm(realm);
     }
@@ -65,6 +93,14 @@ public class ClinicService {
         commandService.deleteClinic(id);
     }
 
+    public Clinic lockClinic(UUID id) {
+        return commandService.lockClinic(id);
+    }
+
+    public Clinic applyRealm(UUID id, RealmResponse realm) {
+        return commandService.applyRealm(id, realm);
+    }
+
     public Clinic save(Clinic clinic) {
         return commandService.save(clinic);
     }
@@ -2,6 +2,7 @@ package org.mdental.cliniccore.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.event.ContactInfoEvent;
 import org.mdental.cliniccore.mapper.ContactInfoMapper;
 import org.mdental.cliniccore.model.dto.ContactInfoRequest;
 import org.mdental.cliniccore.model.entity.Clinic;
@@ -9,6 +10,7 @@ import org.mdental.cliniccore.model.entity.ContactInfo;
 import org.mdental.cliniccore.repository.ContactInfoRepository;
 import org.mdental.commons.exception.BaseException;
 import org.mdental.commons.model.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -27,12 +29,13 @@ public class ContactInfoService {
     private final ContactInfoRepository contactInfoRepository;
     private final ClinicService clinicService;
     private final ContactInfoMapper contactInfoMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ContactInfo> getContactInfoByClinicId(UUID clinicId) {
         log.debug("Fetching contact info for clinic ID: {}", clinicId);
         // Verify clinic exists
-        clinicService.getClinicById(clinicId);
+        clinicService.assertClinicExists(clinicId);
         return contactInfoRepository.findByClinicId(clinicId);
     }
 
@@ -48,7 +51,7 @@ public class ContactInfoService {
         log.info("Creating new contact info for clinic ID: {}", clinicId);
         request.validate();
 
-        Clinic clinic = clinicService.getClinicById(clinicId);
+        Clinic clinic = clinicService.getClinicReference(clinicId);
 
         // If this is a primary contact, update existing primary contacts of the same type
         if (Boolean.TRUE.equals(request.getPrimary())) {
@@ -61,7 +64,15 @@ public class ContactInfoService {
         ContactInfo contactInfo = contactInfoMapper.toEntity(request);
         contactInfo.setClinic(clinic);
 
-        return contactInfoRepository.save(contactInfo);
+        ContactInfo savedContactInfo = contactInfoRepository.save(contactInfo);
+
+        // Publish event
+        eventPublisher.publishEvent(new ContactInfoEvent(
+                this,
+                savedContactInfo,
+                ContactInfoEvent.EventType.CREATED));
+
+        return savedContactInfo;
     }
 
     private void ensureOnePrimaryContact(UUID clinicId, ContactInfo.ContactType type) {
@@ -93,7 +104,15 @@ public class ContactInfoService {
         contactInfo.setValue(request.getValue());
         contactInfo.setPrimary(request.getPrimary());
 
-        return contactInfoRepository.save(contactInfo);
+        ContactInfo updatedContactInfo = contactInfoRepository.save(contactInfo);
+
+        // Publish event
+        eventPublisher.publishEvent(new ContactInfoEvent(
+                this,
+                updatedContactInfo,
+                ContactInfoEvent.EventType.UPDATED));
+
+        return updatedContactInfo;
     }
 
     @Transactional
@@ -105,6 +124,12 @@ public class ContactInfoService {
         String username = getCurrentUsername();
         contactInfo.softDelete(username);
         contactInfoRepository.save(contactInfo);
+
+        // Publish event
+        eventPublisher.publishEvent(new ContactInfoEvent(
+                this,
+                contactInfo,
+                ContactInfoEvent.EventType.DELETED));
     }
 
     /**
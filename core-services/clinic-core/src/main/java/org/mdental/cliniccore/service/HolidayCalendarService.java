@@ -0,0 +1,90 @@
+package org.mdental.cliniccore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.availability.HolidayCalendar;
+import org.mdental.cliniccore.availability.HolidayCalendar.Occurrence;
+import org.mdental.cliniccore.event.HolidayEvent;
+import org.mdental.cliniccore.repository.HolidayRepository;
+import org.mdental.commons.exception.BaseException;
+import org.mdental.commons.model.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-clinic {@link HolidayCalendar}s, loaded on first use.
+ *
+ * <p>A holiday change is applied to the cached calendar in place of reloading it, so years already
+ * materialised only have that holiday's dates replaced. The expiry bounds how long another replica
+ * can serve holidays that were changed elsewhere.
+ */
+@Service
+@Slf4j
+public class HolidayCalendarService {
+
+    private final HolidayRepository holidayRepository;
+    private final Cache<UUID, HolidayCalendar> calendars;
+    private final Timer loadTimer;
+    private final int maxRangeDays;
+
+    public HolidayCalendarService(HolidayRepository holidayRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${clinic.holidays.max-range-days:3660}") int maxRangeDays,
+                                  @Value("${clinic.holidays.maximum-size:10000}") long maximumSize,
+                                  @Value("${clinic.holidays.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        this.holidayRepository = holidayRepository;
+        this.maxRangeDays = maxRangeDays;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.loadTimer = Timer.builder("clinic.holidays.load")
+                .description("Time to load a clinic's holiday calendar")
+                .register(meterRegistry);
+    }
+
+    public HolidayCalendar getCalendar(UUID clinicId) {
+        return calendars.get(clinicId, this::load);
+    }
+
+    public List<Occurrence> getHolidaysBetween(UUID clinicId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new HolidayRangeException("'startDate' must not be after 'endDate'");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxRangeDays) {
+            throw new HolidayRangeException("Range too long, maximum is " + maxRangeDays + " days");
+        }
+        return getCalendar(clinicId).between(startDate, endDate);
+    }
+
+    // Runs before availability is invalidated, so a recompile never picks up the old calendar
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayChanged(HolidayEvent event) {
+        UUID clinicId = event.getHoliday().getClinic().getId();
+        calendars.asMap().computeIfPresent(clinicId, (id, calendar) -> calendar.with(event.getHoliday()));
+    }
+
+    private HolidayCalendar load(UUID clinicId) {
+        log.debug("Loading holiday calendar for clinic {}", clinicId);
+        return loadTimer.record(() -> HolidayCalendar.of(holidayRepository.findByClinicId(clinicId)));
+    }
+
+    public static class HolidayRangeException extends BaseException {
+        public HolidayRangeException(String message) {
+            super(message, ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
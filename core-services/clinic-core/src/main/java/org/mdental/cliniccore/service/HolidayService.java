@@ -2,12 +2,15 @@ package org.mdental.cliniccore.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.mdental.cliniccore.availability.HolidayCalendar.Occurrence;
+import org.mdental.cliniccore.event.HolidayEvent;
 import org.mdental.cliniccore.model.dto.HolidayRequest;
 import org.mdental.cliniccore.model.entity.Clinic;
 import org.mdental.cliniccore.model.entity.Holiday;
 import org.mdental.cliniccore.repository.HolidayRepository;
 import org.mdental.commons.exception.BaseException;
 import org.mdental.commons.model.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -15,9 +18,7 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -27,43 +28,30 @@ public class HolidayService {
 
     private final HolidayRepository holidayRepository;
     private final ClinicService clinicService;
+    private final HolidayCalendarService holidayCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<Holiday> getHolidaysByClinicId(UUID clinicId) {
         log.debug("Fetching holidays for clinic ID: {}", clinicId);
         // Verify clinic exists
-        clinicService.getClinicById(clinicId);
+        clinicService.assertClinicExists(clinicId);
 
-        // Get fixed-date holidays
-        List<Holiday> fixedHolidays = holidayRepository.findByClinicId(clinicId);
-
-        // Get recurring holidays
-        List<Holiday> recurringHolidays = holidayRepository.findRecurringHolidaysByClinicId(clinicId);
-
-        // Combine both lists
-        Set<Holiday> allHolidays = new HashSet<>(fixedHolidays);
-        allHolidays.addAll(recurringHolidays);
-
-        return List.copyOf(allHolidays);
+        // Recurring holidays are rows like any other
+        return holidayRepository.findByClinicId(clinicId);
     }
 
+    /**
+     * Dates within the range on which a holiday falls, with recurring and Hijri holidays expanded
+     * to the dates they fall on in that range.
+     */
     @Transactional(readOnly = true)
-    public List<Holiday> getHolidaysByClinicIdAndDateRange(UUID clinicId, LocalDate startDate, LocalDate endDate) {
+    public List<Occurrence> getHolidaysByClinicIdAndDateRange(UUID clinicId, LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching holidays for clinic ID: {} between {} and {}", clinicId, startDate, endDate);
         // Verify clinic exists
-        clinicService.getClinicById(clinicId);
-
-        // Get fixed-date holidays in the range
-        List<Holiday> fixedHolidays = holidayRepository.findByClinicIdAndDateBetween(clinicId, startDate, endDate);
+        clinicService.assertClinicExists(clinicId);
 
-        // Get recurring holidays
-        List<Holiday> recurringHolidays = holidayRepository.findRecurringHolidaysByClinicId(clinicId);
-
-        // Combine both lists
-        Set<Holiday> allHolidays = new HashSet<>(fixedHolidays);
-        allHolidays.addAll(recurringHolidays);
-
-        return List.copyOf(allHolidays);
+        return holidayCalendarService.getHolidaysBetween(clinicId, startDate, endDate);
     }
 
     @Transactional(readOnly = true)
@@ -76,30 +64,51 @@ public class HolidayService {
     @Transactional
     public Holiday createHoliday(UUID clinicId, HolidayRequest request) {
         log.info("Creating holiday for clinic ID: {} on date: {}", clinicId, request.getDate());
+        request.validate(); // Validate request
 
-        Clinic clinic = clinicService.getClinicById(clinicId);
+        Clinic clinic = clinicService.getClinicReference(clinicId);
 
         Holiday holiday = Holiday.builder()
                 .clinic(clinic)
                 .date(request.getDate())
                 .description(request.getDescription())
-                .recurring(request.getRecurring())
+                .recurring(isRecurring(request))
+                .ruleType(request.effectiveRuleType())
+                .rulePattern(rulePattern(request))
                 .build();
 
-        return holidayRepository.save(holiday);
+        Holiday savedHoliday = holidayRepository.save(holiday);
+
+        // Publish event
+        eventPublisher.publishEvent(new HolidayEvent(this, savedHoliday, HolidayEvent.EventType.CREATED));
+
+        return savedHoliday;
     }
 
     @Transactional
     public Holiday updateHoliday(UUID id, HolidayRequest request) {
         log.info("Updating holiday with ID: {}", id);
+        request.validate(); // Validate request
 
         Holiday holiday = getHolidayById(id);
+        Holiday originalHoliday = copyHoliday(holiday);
 
         holiday.setDate(request.getDate());
         holiday.setDescription(request.getDescription());
-        holiday.setRecurring(request.getRecurring());
+        holiday.setRecurring(isRecurring(request));
+        holiday.setRuleType(request.effectiveRuleType());
+        holiday.setRulePattern(rulePattern(request));
+
+        Holiday updatedHoliday = holidayRepository.save(holiday);
 
-        return holidayRepository.save(holiday);
+        // Publish event
+        eventPublisher.publishEvent(new HolidayEvent(
+                this,
+                updatedHoliday,
+                HolidayEvent.EventType.UPDATED,
+                originalHoliday));
+
+        return updatedHoliday;
     }
 
     @Transactional
@@ -111,6 +120,40 @@ public class HolidayService {
         String username = getCurrentUsername();
         holiday.softDelete(username);
         holidayRepository.save(holiday);
+
+        // Publish event
+        eventPublisher.publishEvent(new HolidayEvent(this, holiday, HolidayEvent.EventType.DELETED));
+    }
+
+    /**
+     * Creates a copy of the holiday entity for event comparison
+     */
+    private Holiday copyHoliday(Holiday original) {
+        Holiday copy = Holiday.builder()
+                .clinic(original.getClinic())
+                .date(original.getDate())
+                .description(original.getDescription())
+                .recurring(original.getRecurring())
+                .ruleType(original.getRuleType())
+                .rulePattern(original.getRulePattern())
+                .isHalfDay(original.getIsHalfDay())
+                .halfDayStart(original.getHalfDayStart())
+                .halfDayEnd(original.getHalfDayEnd())
+                .build();
+        copy.setId(original.getId());
+        return copy;
+    }
+
+    // Hijri holidays always recur; the date is when the rule starts applying
+    private static boolean isRecurring(HolidayRequest request) {
+        return request.effectiveRuleType() == Holiday.HolidayRuleType.HIJRI_DATE
+                || Boolean.TRUE.equals(request.getRecurring());
+    }
+
+    private static String rulePattern(HolidayRequest request) {
+        return request.effectiveRuleType() == Holiday.HolidayRuleType.HIJRI_DATE
+                ? request.getRulePattern().trim()
+                : null;
     }
 
     /**
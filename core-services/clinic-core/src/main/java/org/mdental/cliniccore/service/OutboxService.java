@@ -3,54 +3,203 @@ package org.mdental.cliniccore.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mdental.cliniccore.model.entity.Outbox;
 import org.mdental.cliniccore.repository.OutboxRepository;
+import org.mdental.commons.event.Change;
+import org.mdental.commons.event.ChangeEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Writes entity changes to the outbox as part of the transaction that made them.
+ *
+ * <p>Inside a transaction, changes are buffered and coalesced per aggregate, then saved as one
+ * batch just before commit. A rolled-back transaction therefore leaves nothing behind, and an
+ * aggregate touched several times yields one entry holding its first old value and last new value.
+ * Outside a transaction each change is saved immediately.
+ *
+ * <p>{@link #saveChange} records only the fields that changed, encoded as configured by
+ * {@code clinic.outbox.payload-format}; {@link #saveEvent} stores whole values as JSON.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxService {
 
+    private static final String CREATED = "CREATED";
+    private static final String DELETED = "DELETED";
+
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final ChangeEncoder changeEncoder;
+
+    public OutboxService(OutboxRepository outboxRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${clinic.outbox.payload-format:JSON}") ChangeEncoder.Format payloadFormat) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.changeEncoder = new ChangeEncoder(objectMapper, payloadFormat);
+    }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveEvent(String aggregateType, UUID aggregateId, String eventType, Object oldValue, Object newValue) {
+        PendingEvent event;
         try {
-            ObjectNode payload = objectMapper.createObjectNode();
+            // Serialise now: the entities may still change before the transaction commits
+            event = new PendingEvent(
+                    aggregateType,
+                    aggregateId,
+                    eventType,
+                    oldValue != null ? objectMapper.valueToTree(oldValue) : null,
+                    newValue != null ? objectMapper.valueToTree(newValue) : null,
+                    null,
+                    Instant.now());
+        } catch (Exception e) {
+            log.error("Error serialising {} {} event for the outbox", aggregateType, eventType, e);
+            return;
+        }
+        save(event);
+    }
 
-            if (oldValue != null) {
-                JsonNode oldValueNode = objectMapper.valueToTree(oldValue);
-                payload.set("oldValue", oldValueNode);
-            }
+    /**
+     * Records the fields that changed on an aggregate. A change that leaves every field as it was
+     * is dropped.
+     */
+    public void saveChange(String aggregateType, UUID aggregateId, String eventType, Change change) {
+        if (change.isEmpty()) {
+            log.debug("Skipping {} {} event for {} with no changed fields", aggregateType, eventType, aggregateId);
+            return;
+        }
+        save(new PendingEvent(aggregateType, aggregateId, eventType, null, null, change, Instant.now()));
+    }
 
-            if (newValue != null) {
-                JsonNode newValueNode = objectMapper.valueToTree(newValue);
-                payload.set("newValue", newValueNode);
+    private void save(PendingEvent event) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentBuffer().add(event);
+            return;
+        }
+
+        try {
+            outboxRepository.save(toEntry(event));
+        } catch (Exception e) {
+            log.error("Error saving event to outbox", e);
+        }
+    }
+
+    private OutboxBuffer currentBuffer() {
+        // Synchronizations are suspended with their transaction, so each transaction gets its own buffer
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof OutboxBuffer buffer && buffer.owner() == this) {
+                return buffer;
             }
+        }
+        OutboxBuffer buffer = new OutboxBuffer();
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+        return buffer;
+    }
+
+    private Outbox toEntry(PendingEvent event) {
+        if (event.change() != null) {
+            return toChangeEntry(event);
+        }
+
+        ObjectNode payload = objectMapper.createObjectNode();
+        if (event.oldValue() != null) {
+            payload.set("oldValue", event.oldValue());
+        }
+        if (event.newValue() != null) {
+            payload.set("newValue", event.newValue());
+        }
 
-            Outbox outboxEntry = Outbox.builder()
-                    .aggregateType(aggregateType)
-                    .aggregateId(aggregateId)
-                    .eventType(eventType)
+        try {
+            return Outbox.builder()
+                    .aggregateType(event.aggregateType())
+                    .aggregateId(event.aggregateId())
+                    .eventType(event.eventType())
                     .payload(objectMapper.writeValueAsString(payload))
-                    .createdAt(Instant.now())
+                    .payloadFormat(ChangeEncoder.Format.JSON)
+                    .createdAt(event.createdAt())
                     .build();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not write outbox payload", e);
+        }
+    }
+
+    private Outbox toChangeEntry(PendingEvent event) {
+        Outbox.OutboxBuilder entry = Outbox.builder()
+                .aggregateType(event.aggregateType())
+                .aggregateId(event.aggregateId())
+                .eventType(event.eventType())
+                .payloadFormat(changeEncoder.format())
+                .createdAt(event.createdAt());
+        if (changeEncoder.isBinary()) {
+            entry.payloadBinary(changeEncoder.encode(event.change()));
+        } else {
+            entry.payload(changeEncoder.encodeToString(event.change()));
+        }
+        return entry.build();
+    }
 
-            outboxRepository.save(outboxEntry);
+    private record AggregateKey(String aggregateType, UUID aggregateId) {}
 
-        } catch (Exception e) {
-            log.error("Error saving event to outbox", e);
-            // We don't want to break the main transaction for outbox failures
-            // so we log the error but don't propagate it
+    private record PendingEvent(String aggregateType, UUID aggregateId, String eventType,
+                                JsonNode oldValue, JsonNode newValue, Change change, Instant createdAt) {
+
+        /**
+         * Folds a later change to the same aggregate into this one; null when the aggregate was
+         * created and deleted again, or ended where it started, which leaves nothing to publish.
+         */
+        PendingEvent then(PendingEvent later) {
+            if (change != null && later.change() != null) {
+                Change merged = change.then(later.change());
+                if (merged == null || merged.isEmpty()) {
+                    return null;
+                }
+                return new PendingEvent(aggregateType, aggregateId, CREATED.equals(eventType) ? CREATED : later.eventType(),
+                        null, null, merged, createdAt);
+            }
+            if (CREATED.equals(eventType)) {
+                return DELETED.equals(later.eventType())
+                        ? null
+                        : new PendingEvent(aggregateType, aggregateId, CREATED, null, later.newValue(), null, createdAt);
+            }
+            return new PendingEvent(aggregateType, aggregateId, later.eventType(),
+                    oldValue != null ? oldValue : later.oldValue(), later.newValue(), null, createdAt);
+        }
+    }
+
+    private final class OutboxBuffer implements TransactionSynchronization {
+
+        private final Map<AggregateKey, PendingEvent> pending = new LinkedHashMap<>();
+        private int captured;
+
+        OutboxService owner() {
+            return OutboxService.this;
+        }
+
+        void add(PendingEvent event) {
+            captured++;
+            pending.merge(new AggregateKey(event.aggregateType(), event.aggregateId()), event, PendingEvent::then);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Outbox> entries = pending.values().stream().map(OutboxService.this::toEntry).toList();
+            log.debug("Writing {} outbox entries for {} captured events", entries.size(), captured);
+            pending.clear();
+            // Flushed with the transaction's other writes, batched by hibernate.jdbc.batch_size
+            outboxRepository.saveAll(entries);
         }
     }
-}
\ No newline at end of file
+}
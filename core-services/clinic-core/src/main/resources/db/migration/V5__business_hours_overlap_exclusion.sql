@@ -0,0 +1,24 @@
+-- Overlapping slots for the same clinic and day are rejected by the database, so two concurrent
+-- writes can no longer both pass an application-side check. Seasonal rows only conflict when
+-- their validity ranges overlap as well; soft-deleted rows never conflict.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_type WHERE typname = 'timerange') THEN
+        CREATE TYPE timerange AS RANGE (subtype = time);
+    END IF;
+END
+$$;
+
+-- Deferrable so a weekly schedule replacement can move rows past each other before it is checked
+ALTER TABLE business_hours
+    ADD CONSTRAINT ex_business_hours_overlap
+    EXCLUDE USING gist (
+        clinic_id WITH =,
+        day_of_week WITH =,
+        timerange(open_time, close_time, '[)') WITH &&,
+        daterange(valid_from, valid_to, '[]') WITH &&
+    )
+    WHERE (deleted_at IS NULL)
+    DEFERRABLE INITIALLY IMMEDIATE;
@@ -0,0 +1,7 @@
+-- Outbox entries carry field-level change payloads, as JSON or in a binary encoding
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS payload_format VARCHAR(10) DEFAULT 'JSON' NOT NULL;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS payload_binary BYTEA;
+ALTER TABLE outbox ALTER COLUMN payload DROP NOT NULL;
+
+ALTER TABLE outbox ADD CONSTRAINT ck_outbox_payload
+    CHECK ((payload IS NULL) <> (payload_binary IS NULL));
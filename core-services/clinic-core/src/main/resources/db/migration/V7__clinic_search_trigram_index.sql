@@ -0,0 +1,18 @@
+-- Clinic directory search: trigram matching over name, legal name and slug, folded for case and accents
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE because its dictionary can change; pinning the dictionary makes the
+-- folding safe to index
+CREATE OR REPLACE FUNCTION clinic_search_text(name TEXT, legal_name TEXT, slug TEXT)
+    RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary,
+                                 concat_ws(' ', name, legal_name, replace(slug, '-', ' '))))
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_clinic_search_trgm
+    ON clinics USING gin (clinic_search_text(name, legal_name, slug) gin_trgm_ops)
+    WHERE deleted_at IS NULL;
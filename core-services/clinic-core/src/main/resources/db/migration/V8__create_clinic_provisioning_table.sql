@@ -0,0 +1,21 @@
+-- Durable state of the asynchronous clinic provisioning saga
+CREATE TABLE IF NOT EXISTS clinic_provisioning (
+    id UUID PRIMARY KEY,
+    clinic_id UUID NOT NULL REFERENCES clinics(id),
+    realm VARCHAR(255) NOT NULL,
+    clinic_slug VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    version INT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_clinic_provisioning_clinic ON clinic_provisioning(clinic_id);
+
+-- Only open sagas are polled
+CREATE INDEX IF NOT EXISTS idx_clinic_provisioning_due ON clinic_provisioning(next_attempt_at)
+    WHERE status IN ('PENDING', 'CREATING_REALM');
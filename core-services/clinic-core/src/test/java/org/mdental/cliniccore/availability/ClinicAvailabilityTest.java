@@ -0,0 +1,88 @@
+package org.mdental.cliniccore.availability;
+
+import org.junit.jupiter.api.Test;
+import org.mdental.cliniccore.availability.ClinicAvailability.OpenInterval;
+import org.mdental.cliniccore.model.entity.BusinessHours;
+import org.mdental.cliniccore.model.entity.Holiday;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClinicAvailabilityTest {
+
+    // Fixed UTC+1, so the expectations don't depend on DST rules
+    private static final ZoneId ZONE = ZoneId.of("Africa/Lagos");
+
+    @Test
+    void isOpen_shouldFollowWeeklyHoursInClinicZone() {
+        // Arrange
+        ClinicAvailability availability = ClinicAvailability.compile(ZONE, List.of(
+                hours(DayOfWeek.MONDAY, "09:00", "12:00"),
+                hours(DayOfWeek.MONDAY, "14:00", "18:00")), HolidayCalendar.EMPTY);
+
+        // Act & Assert (2024-06-03 is a Monday)
+        assertThat(availability.isOpen(at("2024-06-03T09:00"))).isTrue();
+        assertThat(availability.isOpen(at("2024-06-03T11:59"))).isTrue();
+        assertThat(availability.isOpen(at("2024-06-03T12:00"))).isFalse();
+        assertThat(availability.isOpen(at("2024-06-03T08:59"))).isFalse();
+        assertThat(availability.isOpen(at("2024-06-04T10:00"))).isFalse();
+        // 08:30 UTC is 09:30 in the clinic's zone
+        assertThat(availability.isOpen(Instant.parse("2024-06-03T08:30:00Z"))).isTrue();
+    }
+
+    @Test
+    void nextOpening_shouldSkipHolidaysAndClosedDays() {
+        // Arrange
+        Holiday holiday = Holiday.builder().date(LocalDate.of(2024, 6, 10)).recurring(false).build();
+        ClinicAvailability availability = ClinicAvailability.compile(ZONE, List.of(
+                hours(DayOfWeek.MONDAY, "09:00", "12:00")), HolidayCalendar.of(List.of(holiday)));
+
+        // Act & Assert
+        assertThat(availability.nextOpening(at("2024-06-03T10:00"), 30)).contains(at("2024-06-03T10:00"));
+        assertThat(availability.nextOpening(at("2024-06-03T12:00"), 30)).contains(at("2024-06-17T09:00"));
+        assertThat(availability.isOpen(at("2024-06-10T10:00"))).isFalse();
+        assertThat(availability.nextOpening(at("2024-06-03T12:00"), 5)).isEmpty();
+    }
+
+    @Test
+    void openIntervals_shouldApplyValidityRangesAndHalfDayHolidays() {
+        // Arrange
+        BusinessHours regular = hours(DayOfWeek.MONDAY, "09:00", "18:00");
+        regular.setValidTo(LocalDate.of(2024, 6, 30));
+        BusinessHours summer = hours(DayOfWeek.MONDAY, "08:00", "13:00");
+        summer.setValidFrom(LocalDate.of(2024, 7, 1));
+        Holiday halfDay = Holiday.builder()
+                .date(LocalDate.of(2023, 6, 24)).recurring(true)
+                .isHalfDay(true).halfDayStart(LocalTime.of(12, 0)).halfDayEnd(LocalTime.of(23, 59))
+                .build();
+        ClinicAvailability availability = ClinicAvailability.compile(ZONE, List.of(regular, summer), HolidayCalendar.of(List.of(halfDay)));
+
+        // Act
+        List<OpenInterval> june = availability.openIntervals(at("2024-06-24T00:00"), at("2024-06-25T00:00"));
+        List<OpenInterval> july = availability.openIntervals(at("2024-07-01T10:00"), at("2024-07-02T00:00"));
+
+        // Assert
+        assertThat(june).containsExactly(new OpenInterval(at("2024-06-24T09:00"), at("2024-06-24T12:00")));
+        assertThat(july).containsExactly(new OpenInterval(at("2024-07-01T10:00"), at("2024-07-01T13:00")));
+    }
+
+    private static BusinessHours hours(DayOfWeek day, String open, String close) {
+        return BusinessHours.builder()
+                .dayOfWeek(day)
+                .openTime(LocalTime.parse(open))
+                .closeTime(LocalTime.parse(close))
+                .active(true)
+                .build();
+    }
+
+    private static Instant at(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(ZONE).toInstant();
+    }
+}
@@ -0,0 +1,86 @@
+package org.mdental.cliniccore.availability;
+
+import org.junit.jupiter.api.Test;
+import org.mdental.cliniccore.availability.HolidayCalendar.Occurrence;
+import org.mdental.cliniccore.model.entity.Holiday;
+import org.mdental.cliniccore.model.entity.Holiday.HolidayRuleType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidayCalendarTest {
+
+    @Test
+    void between_shouldExpandHijriHolidaysPerYear() {
+        // Arrange: 1 Shawwal, first applying from 2024
+        Holiday eid = holiday(LocalDate.of(2024, 1, 1), true, HolidayRuleType.HIJRI_DATE, "10-01");
+        // 1 Muharram falls twice in 2008
+        Holiday newYear = holiday(LocalDate.of(2008, 1, 1), true, HolidayRuleType.HIJRI_DATE, "01-01");
+        HolidayCalendar calendar = HolidayCalendar.of(List.of(eid, newYear));
+
+        // Act & Assert
+        assertThat(dates(calendar.between(LocalDate.of(2023, 1, 1), LocalDate.of(2026, 12, 31))))
+                .containsSubsequence(LocalDate.of(2024, 4, 10), LocalDate.of(2025, 3, 30), LocalDate.of(2026, 3, 20))
+                .doesNotContain(LocalDate.of(2023, 4, 21));
+        assertThat(dates(calendar.between(LocalDate.of(2008, 1, 1), LocalDate.of(2008, 12, 31))))
+                .containsExactly(LocalDate.of(2008, 1, 10), LocalDate.of(2008, 12, 29));
+    }
+
+    @Test
+    void between_shouldOnlyReturnRecurringHolidaysInsideTheRange() {
+        // Arrange
+        Holiday throne = holiday(LocalDate.of(2020, 7, 30), true, null, null);
+        Holiday oneOff = holiday(LocalDate.of(2024, 7, 15), false, HolidayRuleType.FIXED_DATE, null);
+        HolidayCalendar calendar = HolidayCalendar.of(List.of(throne, oneOff));
+
+        // Act
+        List<Occurrence> july = calendar.between(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31));
+        List<Occurrence> august = calendar.between(LocalDate.of(2024, 8, 1), LocalDate.of(2024, 8, 31));
+
+        // Assert
+        assertThat(dates(july)).containsExactly(LocalDate.of(2024, 7, 15), LocalDate.of(2024, 7, 30));
+        assertThat(july.get(1).holiday().id()).isEqualTo(throne.getId());
+        assertThat(august).isEmpty();
+        assertThat(calendar.isHoliday(LocalDate.of(2019, 7, 30))).isFalse();
+    }
+
+    @Test
+    void with_shouldPatchMaterialisedYears() {
+        // Arrange
+        Holiday holiday = holiday(LocalDate.of(2024, 5, 1), true, HolidayRuleType.FIXED_DATE, null);
+        HolidayCalendar calendar = HolidayCalendar.of(List.of(holiday));
+        assertThat(calendar.isHoliday(LocalDate.of(2025, 5, 1))).isTrue();
+
+        // Act
+        holiday.setDate(LocalDate.of(2024, 5, 2));
+        HolidayCalendar moved = calendar.with(holiday);
+        holiday.softDelete("admin");
+        HolidayCalendar removed = moved.with(holiday);
+
+        // Assert
+        assertThat(calendar.isHoliday(LocalDate.of(2025, 5, 1))).isTrue();
+        assertThat(moved.isHoliday(LocalDate.of(2025, 5, 1))).isFalse();
+        assertThat(moved.isHoliday(LocalDate.of(2025, 5, 2))).isTrue();
+        assertThat(removed.isHoliday(LocalDate.of(2025, 5, 2))).isFalse();
+    }
+
+    private static Holiday holiday(LocalDate date, boolean recurring, HolidayRuleType ruleType, String rulePattern) {
+        Holiday holiday = Holiday.builder()
+                .date(date)
+                .recurring(recurring)
+                .ruleType(ruleType)
+                .rulePattern(rulePattern)
+                .build();
+        holiday.setId(UUID.randomUUID());
+        holiday.setCreatedAt(Instant.now());
+        return holiday;
+    }
+
+    private static List<LocalDate> dates(List<Occurrence> occurrences) {
+        return occurrences.stream().map(Occurrence::date).toList();
+    }
+}
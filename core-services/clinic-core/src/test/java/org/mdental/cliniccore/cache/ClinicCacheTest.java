@@ -0,0 +1,102 @@
+package org.mdental.cliniccore.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.repository.ClinicRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClinicCacheTest {
+
+    private ClinicRepository clinicRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ClinicCache clinicCache;
+    private UUID clinicId;
+
+    @BeforeEach
+    void setUp() {
+        clinicRepository = mock(ClinicRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clinicCache = new ClinicCache(clinicRepository, meterRegistry, 100, Duration.ofMinutes(5));
+        clinicId = UUID.randomUUID();
+    }
+
+    @Test
+    void loadById_shouldServeRealmAndSlugFromSameSnapshot() {
+        // Arrange
+        when(clinicRepository.findById(clinicId)).thenReturn(Optional.of(clinic("old-realm", "old-slug")));
+
+        // Act
+        ClinicSnapshot byId = clinicCache.getById(clinicId).orElseThrow();
+        ClinicSnapshot byRealm = clinicCache.getByRealm("old-realm").orElseThrow();
+        ClinicSnapshot bySlug = clinicCache.getBySlug("old-slug").orElseThrow();
+
+        // Assert
+        assertThat(byRealm).isSameAs(byId);
+        assertThat(bySlug).isSameAs(byId);
+        verify(clinicRepository, times(1)).findById(clinicId);
+        verify(clinicRepository, never()).findByRealm("old-realm");
+        assertThat(meterRegistry.get("clinic.cache.hit.ratio").tag("index", "realm").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidate_shouldDropOnlyThatClinicFromEveryIndex() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        Clinic other = clinic("other-realm", "other-slug");
+        other.setId(otherId);
+        when(clinicRepository.findById(clinicId)).thenReturn(Optional.of(clinic("old-realm", "old-slug")));
+        when(clinicRepository.findById(otherId)).thenReturn(Optional.of(other));
+        clinicCache.getById(clinicId);
+        clinicCache.getById(otherId);
+        when(clinicRepository.findByRealm("old-realm")).thenReturn(Optional.empty());
+        when(clinicRepository.findById(clinicId)).thenReturn(Optional.of(clinic("new-realm", "old-slug")));
+
+        // Act
+        clinicCache.invalidate(clinicId);
+
+        // Assert
+        assertThat(clinicCache.getByRealm("old-realm")).isEmpty();
+        assertThat(clinicCache.getById(clinicId).orElseThrow().realm()).isEqualTo("new-realm");
+        assertThat(clinicCache.getByRealm("other-realm")).isPresent();
+        verify(clinicRepository, never()).findByRealm("other-realm");
+    }
+
+    @Test
+    void getById_shouldNotCacheDeletedClinic() {
+        // Arrange
+        Clinic deleted = clinic("gone-realm", "gone-slug");
+        deleted.softDelete("test-user");
+        when(clinicRepository.findById(clinicId)).thenReturn(Optional.of(deleted));
+
+        // Act
+        Optional<ClinicSnapshot> first = clinicCache.getById(clinicId);
+        Optional<ClinicSnapshot> second = clinicCache.getById(clinicId);
+
+        // Assert
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(clinicRepository, times(2)).findById(clinicId);
+    }
+
+    private Clinic clinic(String realm, String slug) {
+        Clinic clinic = new Clinic();
+        clinic.setId(clinicId);
+        clinic.setName("Test Clinic");
+        clinic.setRealm(realm);
+        clinic.setSlug(slug);
+        clinic.setStatus(Clinic.ClinicStatus.ACTIVE);
+        return clinic;
+    }
+}
@@ -0,0 +1,83 @@
+package org.mdental.cliniccore.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mdental.cliniccore.event.ClinicEvent;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.repository.ClinicRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClinicExistenceIndexTest {
+
+    private ClinicRepository clinicRepository;
+    private ClinicExistenceIndex index;
+    private UUID clinicId;
+
+    @BeforeEach
+    void setUp() {
+        clinicRepository = mock(ClinicRepository.class);
+        index = new ClinicExistenceIndex(clinicRepository, new SimpleMeterRegistry());
+        clinicId = UUID.randomUUID();
+    }
+
+    @Test
+    void exists_shouldLoadOnceAndFollowClinicEvents() {
+        // Arrange
+        when(clinicRepository.findActiveStatuses()).thenReturn(List.of(view(clinicId, Clinic.ClinicStatus.ACTIVE)));
+        Clinic clinic = Clinic.builder().id(clinicId).status(Clinic.ClinicStatus.SUSPENDED).build();
+
+        // Act
+        boolean before = index.exists(clinicId);
+        index.onClinicChanged(new ClinicEvent(this, clinic, ClinicEvent.EventType.STATUS_CHANGED));
+        Optional<Clinic.ClinicStatus> suspended = index.status(clinicId);
+        index.onClinicChanged(new ClinicEvent(this, clinic, ClinicEvent.EventType.DELETED));
+        boolean after = index.exists(clinicId);
+
+        // Assert
+        assertThat(before).isTrue();
+        assertThat(suspended).contains(Clinic.ClinicStatus.SUSPENDED);
+        assertThat(after).isFalse();
+        verify(clinicRepository, times(1)).findActiveStatuses();
+        verify(clinicRepository, times(1)).findActiveStatusById(clinicId);
+    }
+
+    @Test
+    void exists_shouldCheckDatabaseForUnknownIdsWithoutCachingThem() {
+        // Arrange
+        when(clinicRepository.findActiveStatuses()).thenReturn(List.of());
+        when(clinicRepository.findActiveStatusById(clinicId)).thenReturn(Optional.of(Clinic.ClinicStatus.ACTIVE));
+
+        // Act
+        boolean exists = index.exists(clinicId);
+
+        // Assert
+        assertThat(exists).isTrue();
+        verify(clinicRepository, times(1)).findActiveStatusById(clinicId);
+        verify(clinicRepository, never()).findById(clinicId);
+    }
+
+    private static ClinicRepository.ClinicStatusView view(UUID id, Clinic.ClinicStatus status) {
+        return new ClinicRepository.ClinicStatusView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Clinic.ClinicStatus getStatus() {
+                return status;
+            }
+        };
+    }
+}
@@ -3,12 +3,18 @@ package org.mdental.cliniccore.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mdental.cliniccore.cache.ClinicSnapshot;
 import org.mdental.cliniccore.mapper.ClinicMapper;
+import org.mdental.cliniccore.mapper.ClinicProvisioningMapper;
+import org.mdental.cliniccore.model.dto.ClinicProfile;
+import org.mdental.cliniccore.model.dto.ClinicProvisioningResponse;
 import org.mdental.cliniccore.model.dto.ClinicResponse;
 import org.mdental.cliniccore.model.dto.CreateClinicRequest;
 import org.mdental.cliniccore.model.dto.UpdateClinicRequest;
 import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
 import org.mdental.cliniccore.service.ClinicProvisioningService;
+import org.mdental.cliniccore.service.ClinicSearchService;
 import org.mdental.cliniccore.service.ClinicService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -44,14 +50,22 @@ public class ClinicControllerTest {
     @MockBean
     private ClinicMapper clinicMapper;
 
+    @MockBean
+    private ClinicProvisioningMapper clinicProvisioningMapper;
+
     @MockBean
     private ClinicProvisioningService clinicProvisioningService;
 
+    @MockBean
+    private ClinicSearchService clinicSearchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private UUID clinicId;
+    private UUID provisioningId;
     private Clinic clinic;
+    private ClinicProvisioning provisioning;
     private ClinicResponse clinicResponse;
     private CreateClinicRequest createRequest;
     private UpdateClinicRequest updateRequest;
@@ -99,16 +113,25 @@ public class ClinicControllerTest {
         when(clinicMapper.toDto(any(Clinic.class))).thenReturn(clinicResponse);
 
         // provisioning stub used by POST /api/clinics
-        when(clinicProvisioningService.provisionClinic(any(CreateClinicRequest.class)))
-                .thenReturn(clinic);
+        provisioningId = UUID.randomUUID();
+        provisioning = ClinicProvisioning.builder()
+                .id(provisioningId)
+                .clinicId(clinicId)
+                .realm("new-clinic")
+                .status(ClinicProvisioning.Status.PENDING)
+                .build();
+        when(clinicProvisioningService.startProvisioning(any(CreateClinicRequest.class)))
+                .thenReturn(provisioning);
+        when(clinicProvisioningMapper.toDto(any(ClinicProvisioning.class))).thenReturn(ClinicProvisioningResponse.builder()
+                .id(provisioningId)
+                .clinicId(clinicId)
+                .realm("new-clinic")
+                .status(ClinicProvisioning.Status.PENDING)
+                .build());
     }
 
     @Test
-    void createClinic_shouldReturnCreatedClinic() throws Exception {
-        // Arrange
-        when(clinicProvisioningService.provisionClinic(any(CreateClinicRequest.class)))
-                .thenReturn(clinic);
-
+    void createClinic_shouldAcceptAndPointAtProvisioningStatus() throws Exception {
         // Act & Assert
         mockMvc.perform(post("/api/clinics")
                         .with(SecurityMockMvcRequestPostProcessors.csrf())
@@ -116,16 +139,18 @@ public class ClinicControllerTest {
                         .content(objectMapper.writeValueAsString(createRequest))
                         .header("X-User-Username", "test-admin")
                         .header("X-User-ClinicId", clinicId.toString()))
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/clinics/provisioning/" + provisioningId))
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data.id").value(clinicId.toString()))
-                .andExpect(jsonPath("$.data.name").value("Test Clinic"));
+                .andExpect(jsonPath("$.data.clinicId").value(clinicId.toString()))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
     }
 
     @Test
     void getClinic_shouldReturnClinic() throws Exception {
         // Arrange
-        when(clinicService.getClinicById(clinicId)).thenReturn(clinic);
+        when(clinicService.getClinicProfile(clinicId)).thenReturn(
+                new ClinicProfile(ClinicSnapshot.of(clinic), List.of(), List.of(), List.of(), List.of()));
 
         // Act & Assert
         mockMvc.perform(get("/api/clinics/{id}", clinicId)
@@ -5,6 +5,8 @@ import org.mdental.authcore.api.dto.RealmResponse;
 import org.mdental.cliniccore.client.AuthCoreClient;
 import org.mdental.cliniccore.model.dto.CreateClinicRequest;
 import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+import org.mdental.cliniccore.repository.ClinicProvisioningRepository;
 import org.mdental.cliniccore.repository.ClinicRepository;
 import org.mdental.commons.model.ApiResponse;
 import org.mockito.Mockito;
@@ -17,14 +19,16 @@ import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
-import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +48,9 @@ public class ClinicProvisioningIT {
     @Autowired
     private ClinicRepository clinicRepository;
 
+    @Autowired
+    private ClinicProvisioningRepository provisioningRepository;
+
     @MockBean
     private AuthCoreClient authCoreClient;
 
@@ -73,7 +80,6 @@ public class ClinicProvisioningIT {
     }
 
     @Test
-    @Transactional
     void testCreateClinicWithRealm() {
         // Arrange
         // Mock the auth-core client response
@@ -86,7 +92,7 @@ public class ClinicProvisioningIT {
         ApiResponse<RealmResponse> apiResponse =
                 ApiResponse.success(realmResponse);
 
-        when(authCoreClient.createRealm(any())).thenReturn(apiResponse);
+        when(authCoreClient.createRealm(any(), any())).thenReturn(apiResponse);
 
         // Create a unique clinic for this test
         String uniqueId = UUID.randomUUID().toString().substring(0, 8);
@@ -111,12 +117,18 @@ public class ClinicProvisioningIT {
         );
 
         // Assert
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().isSuccess()).isTrue();
+        assertThat(response.getHeaders().getLocation()).isNotNull();
+
+        // The realm is provisioned in the background
+        ClinicProvisioning provisioning = awaitProvisioning(request.getRealm(),
+                p -> p.getStatus() == ClinicProvisioning.Status.COMPLETED);
+        assertThat(provisioning.getAttempts()).isEqualTo(1);
 
         // Verify Keycloak realm creation was requested
-        Mockito.verify(authCoreClient).createRealm(any());
+        Mockito.verify(authCoreClient).createRealm(any(), any());
 
         // Verify clinic was saved with Keycloak info
         Clinic savedClinic = clinicRepository.findByRealm(request.getRealm()).orElse(null);
@@ -127,9 +139,9 @@ public class ClinicProvisioningIT {
     }
 
     @Test
-    void testClinicCreationFailsIfRealmProvisioningFails() {
+    void testRealmProvisioningFailureIsRecordedForRetry() {
         // Arrange - mock a failure in the auth-core client
-        when(authCoreClient.createRealm(any())).thenThrow(new RuntimeException("Realm creation failed"));
+        when(authCoreClient.createRealm(any(), any())).thenThrow(new RuntimeException("Realm creation failed"));
 
         // Create request
         String uniqueId = UUID.randomUUID().toString().substring(0, 8);
@@ -152,12 +164,37 @@ public class ClinicProvisioningIT {
         );
 
         // Assert
-        assertThat(response.getStatusCode().is5xxServerError()).isTrue();
-        assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().isSuccess()).isFalse();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
 
-        // Verify clinic was NOT saved to database (transaction rollback worked)
+        // The failed attempt is recorded and retried later
+        ClinicProvisioning provisioning = awaitProvisioning(request.getRealm(),
+                p -> p.getAttempts() > 0 && p.getLastError() != null);
+        assertThat(provisioning.getStatus()).isIn(ClinicProvisioning.Status.PENDING, ClinicProvisioning.Status.CREATING_REALM);
+        assertThat(provisioning.getLastError()).contains("Realm creation failed");
+
+        // The clinic exists but has no realm yet
         Clinic savedClinic = clinicRepository.findByRealm(request.getRealm()).orElse(null);
-        assertThat(savedClinic).isNull();
+        assertThat(savedClinic).isNotNull();
+        assertThat(savedClinic.getKcIssuer()).isNull();
+    }
+
+    private ClinicProvisioning awaitProvisioning(String realm, Predicate<ClinicProvisioning> condition) {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(20));
+        while (Instant.now().isBefore(deadline)) {
+            ClinicProvisioning provisioning = provisioningRepository.findAll().stream()
+                    .filter(p -> p.getRealm().equals(realm))
+                    .findFirst()
+                    .orElse(null);
+            if (provisioning != null && condition.test(provisioning)) {
+                return provisioning;
+            }
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("Provisioning of realm " + realm + " did not reach the expected state");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package org.mdental.cliniccore.scheduler;
+
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mdental.authcore.api.dto.RealmResponse;
+import org.mdental.cliniccore.client.AuthCoreClient;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+import org.mdental.cliniccore.service.ClinicProvisioningService;
+import org.mdental.commons.model.ApiResponse;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClinicProvisioningWorkerTest {
+
+    @Mock
+    private ClinicProvisioningService provisioningService;
+    @Mock
+    private AuthCoreClient authCoreClient;
+
+    private ClinicProvisioningWorker worker;
+    private ClinicProvisioning provisioning;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ClinicProvisioningWorker(provisioningService, authCoreClient, new SimpleMeterRegistry());
+        provisioning = ClinicProvisioning.builder()
+                .id(UUID.randomUUID())
+                .clinicId(UUID.randomUUID())
+                .realm("atlas")
+                .clinicSlug("atlas")
+                .status(ClinicProvisioning.Status.CREATING_REALM)
+                .attempts(2)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void drain_whenRealmExistsFromLostResponse_shouldCompleteWithExistingRealm() {
+        // Arrange: attempt 1 created the realm but its response never arrived
+        RealmResponse existing = new RealmResponse();
+        existing.setRealmName("atlas");
+        existing.setIssuer("http://localhost:9080/realms/atlas");
+        Request request = Request.create(Request.HttpMethod.POST, "/realms", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        when(provisioningService.claimNext()).thenReturn(Optional.of(provisioning), Optional.empty());
+        when(authCoreClient.createRealm(any(), any()))
+                .thenThrow(new FeignException.Conflict("Realm atlas already exists", request, null, Map.of()));
+        when(authCoreClient.getRealm("atlas")).thenReturn(ApiResponse.success(existing));
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(provisioningService).completeRealm(provisioning.getId(), 2, existing);
+        verify(provisioningService, never()).recordFailure(any(), anyInt(), anyString(), anyBoolean());
+    }
+}
@@ -0,0 +1,72 @@
+package org.mdental.cliniccore.search;
+
+import org.junit.jupiter.api.Test;
+import org.mdental.cliniccore.search.ClinicGeoIndex.Hit;
+import org.mdental.cliniccore.search.ClinicGeoIndex.Location;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClinicGeoIndexTest {
+
+    private final Location rabat = location("Rabat", 34.0209, -6.8416);
+    private final Location sale = location("Salé", 34.0531, -6.7985);
+    private final Location casablanca = location("Casablanca", 33.5731, -7.5898);
+    private final Location marrakech = location("Marrakech", 31.6295, -7.9811);
+
+    @Test
+    void nearest_shouldMatchABruteForceScan() {
+        // Arrange
+        Random random = new Random(42);
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            locations.add(location("c" + i, 21 + random.nextDouble() * 15, -17 + random.nextDouble() * 16));
+        }
+        ClinicGeoIndex index = ClinicGeoIndex.of(0.25, locations);
+
+        for (int query = 0; query < 50; query++) {
+            double lat = 21 + random.nextDouble() * 15;
+            double lon = -17 + random.nextDouble() * 16;
+
+            // Act
+            List<Hit> hits = index.nearest(lat, lon, 7, null, location -> true);
+
+            // Assert
+            List<Location> expected = locations.stream()
+                    .sorted(Comparator.comparingDouble(l -> ClinicGeoIndex.distanceKm(lat, lon, l.latitude(), l.longitude())))
+                    .limit(7)
+                    .toList();
+            assertThat(hits).extracting(Hit::location).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void nearest_shouldApplyRadiusAndFilterAndFollowUpdates() {
+        // Arrange
+        ClinicGeoIndex index = ClinicGeoIndex.of(0.25, List.of(rabat, sale, casablanca, marrakech));
+
+        // Act
+        List<Hit> withinRadius = index.nearest(34.02, -6.83, 10, 50.0, location -> true);
+        List<Hit> filtered = index.nearest(34.02, -6.83, 2, null, location -> location != rabat);
+        index.remove(sale.clinicId());
+        index.put(new Location(marrakech.clinicId(), "Marrakech", "marrakech", "Témara", 33.9287, -6.9063));
+        List<Hit> afterUpdate = index.nearest(34.02, -6.83, 2, null, location -> true);
+
+        // Assert
+        assertThat(withinRadius).extracting(Hit::location).containsExactly(rabat, sale);
+        assertThat(withinRadius.get(1).distanceKm()).isBetween(4.0, 6.0);
+        assertThat(filtered).extracting(Hit::location).containsExactly(sale, casablanca);
+        assertThat(afterUpdate).extracting(hit -> hit.location().clinicId())
+                .containsExactly(rabat.clinicId(), marrakech.clinicId());
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static Location location(String name, double latitude, double longitude) {
+        return new Location(UUID.randomUUID(), name, name.toLowerCase(), name, latitude, longitude);
+    }
+}
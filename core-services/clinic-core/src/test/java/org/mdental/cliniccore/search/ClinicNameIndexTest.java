@@ -0,0 +1,51 @@
+package org.mdental.cliniccore.search;
+
+import org.junit.jupiter.api.Test;
+import org.mdental.cliniccore.search.ClinicNameIndex.Entry;
+import org.mdental.cliniccore.search.ClinicNameIndex.Suggestion;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClinicNameIndexTest {
+
+    private final Entry hopital = entry("Clinique Dentaire de l'Hôpital", "clinique-hopital", "rabat");
+    private final Entry sourire = entry("Centre Sourire", "centre-sourire", "rabat");
+    private final Entry atlas = entry("Atlas Dental Care", "atlas-dental", "casablanca");
+
+    @Test
+    void suggest_shouldMatchPrefixesIgnoringCaseAndAccents() {
+        // Arrange
+        ClinicNameIndex index = ClinicNameIndex.of(List.of(hopital, sourire, atlas));
+
+        // Act
+        List<Suggestion> suggestions = index.suggest("HOPI", null, 0.6, 10);
+
+        // Assert
+        assertThat(suggestions).extracting(Suggestion::clinic).containsExactly(hopital);
+        assertThat(suggestions.get(0).score()).isEqualTo(1.0);
+        assertThat(index.suggest("dent", "casablanca", 0.6, 10)).extracting(Suggestion::clinic).containsExactly(atlas);
+    }
+
+    @Test
+    void putAndRemove_shouldKeepPostingsInLineWithTheClinic() {
+        // Arrange
+        ClinicNameIndex index = ClinicNameIndex.of(List.of(hopital, sourire));
+
+        // Act
+        index.put(new Entry(sourire.id(), "Centre Éclat", "centre-eclat", "rabat"));
+        index.remove(hopital.id());
+
+        // Assert
+        assertThat(index.suggest("sourire", null, 0.6, 10)).isEmpty();
+        assertThat(index.suggest("eclat", null, 0.6, 10)).hasSize(1);
+        assertThat(index.suggest("clinique", null, 0.6, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static Entry entry(String name, String slug, String realm) {
+        return new Entry(UUID.randomUUID(), name, slug, realm);
+    }
+}
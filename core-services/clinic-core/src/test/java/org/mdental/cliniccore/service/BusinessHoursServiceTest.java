@@ -0,0 +1,144 @@
+package org.mdental.cliniccore.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mdental.cliniccore.event.WeeklyScheduleEvent;
+import org.mdental.cliniccore.mapper.BusinessHoursMapper;
+import org.mdental.cliniccore.model.dto.BusinessHoursRequest;
+import org.mdental.cliniccore.model.entity.BusinessHours;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.repository.BusinessHoursRepository;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessHoursServiceTest {
+
+    @Mock
+    private BusinessHoursRepository businessHoursRepository;
+    @Mock
+    private ClinicService clinicService;
+    @Mock
+    private BusinessHoursMapper businessHoursMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BusinessHoursService businessHoursService;
+
+    private UUID clinicId;
+    private Clinic clinic;
+
+    @BeforeEach
+    void setUp() {
+        clinicId = UUID.randomUUID();
+        clinic = new Clinic();
+        clinic.setId(clinicId);
+    }
+
+    @Test
+    void createBusinessHours_shouldMapExclusionViolationToOverlap() {
+        // Arrange
+        BusinessHoursRequest request = slot(DayOfWeek.MONDAY, "09:00", "12:00");
+        when(clinicService.lockClinic(clinicId)).thenReturn(clinic);
+        when(businessHoursRepository.findMaxSequenceForDay(clinicId, DayOfWeek.MONDAY)).thenReturn(2);
+        when(businessHoursMapper.toEntity(request)).thenReturn(row(DayOfWeek.MONDAY, null, "09:00", "12:00"));
+        when(businessHoursRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("conflicting key value", "23P01")));
+
+        // Act & Assert
+        assertThrows(BusinessHoursService.BusinessHoursOverlapException.class,
+                () -> businessHoursService.createBusinessHours(clinicId, request));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void replaceWeeklySchedule_shouldRejectOverlapsBeforeTouchingTheDatabase() {
+        // Arrange
+        List<BusinessHoursRequest> week = List.of(
+                slot(DayOfWeek.MONDAY, "09:00", "12:00"),
+                slot(DayOfWeek.TUESDAY, "09:00", "12:00"),
+                slot(DayOfWeek.MONDAY, "11:30", "14:00"));
+
+        // Act & Assert
+        assertThrows(BusinessHoursService.BusinessHoursOverlapException.class,
+                () -> businessHoursService.replaceWeeklySchedule(clinicId, week));
+        verifyNoInteractions(businessHoursRepository, clinicService, eventPublisher);
+    }
+
+    @Test
+    void replaceWeeklySchedule_shouldKeepMoveInsertAndDeleteRows() {
+        // Arrange
+        BusinessHours unchanged = row(DayOfWeek.MONDAY, 1, "09:00", "12:00");
+        BusinessHours moved = row(DayOfWeek.MONDAY, 2, "14:00", "18:00");
+        BusinessHours dropped = row(DayOfWeek.FRIDAY, 1, "09:00", "12:00");
+        when(clinicService.lockClinic(clinicId)).thenReturn(clinic);
+        when(businessHoursRepository.findByClinicId(clinicId)).thenReturn(List.of(moved, dropped, unchanged));
+        when(businessHoursMapper.toEntity(any())).thenAnswer(invocation -> {
+            BusinessHoursRequest request = invocation.getArgument(0);
+            return row(request.getDayOfWeek(), null, request.getOpenTime().toString(), request.getCloseTime().toString());
+        });
+
+        // Act
+        List<BusinessHours> schedule = businessHoursService.replaceWeeklySchedule(clinicId, List.of(
+                slot(DayOfWeek.MONDAY, "15:00", "19:00"),
+                slot(DayOfWeek.MONDAY, "09:00", "12:00"),
+                slot(DayOfWeek.SATURDAY, "10:00", "13:00")));
+
+        // Assert
+        assertThat(schedule).hasSize(3);
+        assertThat(schedule.get(0)).isSameAs(unchanged);
+        assertThat(schedule.get(1)).isSameAs(moved);
+        assertThat(moved.getOpenTime()).isEqualTo(LocalTime.of(15, 0));
+        assertThat(schedule.get(2).getDayOfWeek()).isEqualTo(DayOfWeek.SATURDAY);
+        assertThat(schedule.get(2).getSequence()).isEqualTo(1);
+        assertThat(dropped.getDeletedAt()).isNotNull();
+        assertThat(unchanged.getDeletedAt()).isNull();
+
+        ArgumentCaptor<WeeklyScheduleEvent> event = ArgumentCaptor.forClass(WeeklyScheduleEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCreated()).isEqualTo(1);
+        assertThat(event.getValue().getUpdated()).isEqualTo(1);
+        assertThat(event.getValue().getDeleted()).isEqualTo(1);
+        assertThat(event.getValue().getOldSchedule()).hasSize(3);
+    }
+
+    private static BusinessHoursRequest slot(DayOfWeek day, String open, String close) {
+        return BusinessHoursRequest.builder()
+                .dayOfWeek(day)
+                .openTime(LocalTime.parse(open))
+                .closeTime(LocalTime.parse(close))
+                .active(true)
+                .build();
+    }
+
+    private static BusinessHours row(DayOfWeek day, Integer sequence, String open, String close) {
+        BusinessHours hours = BusinessHours.builder()
+                .dayOfWeek(day)
+                .sequence(sequence)
+                .openTime(LocalTime.parse(open))
+                .closeTime(LocalTime.parse(close))
+                .active(true)
+                .build();
+        hours.setId(UUID.randomUUID());
+        return hours;
+    }
+}
@@ -0,0 +1,108 @@
+package org.mdental.cliniccore.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mdental.cliniccore.cache.ClinicCache;
+import org.mdental.cliniccore.cache.ClinicSnapshot;
+import org.mdental.cliniccore.mapper.AddressMapper;
+import org.mdental.cliniccore.mapper.BusinessHoursMapper;
+import org.mdental.cliniccore.mapper.ContactInfoMapper;
+import org.mdental.cliniccore.mapper.HolidayMapper;
+import org.mdental.cliniccore.model.dto.AddressResponse;
+import org.mdental.cliniccore.model.dto.ClinicProfile;
+import org.mdental.cliniccore.model.dto.ClinicResponse;
+import org.mdental.cliniccore.model.entity.Address;
+import org.mdental.cliniccore.model.entity.Clinic;
+import org.mdental.cliniccore.repository.AddressRepository;
+import org.mdental.cliniccore.repository.BusinessHoursRepository;
+import org.mdental.cliniccore.repository.ContactInfoRepository;
+import org.mdental.cliniccore.repository.HolidayRepository;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClinicProfileServiceTest {
+
+    @Mock
+    private ClinicCache clinicCache;
+    @Mock
+    private ContactInfoRepository contactInfoRepository;
+    @Mock
+    private AddressRepository addressRepository;
+    @Mock
+    private BusinessHoursRepository businessHoursRepository;
+    @Mock
+    private HolidayRepository holidayRepository;
+    @Mock
+    private ContactInfoMapper contactInfoMapper;
+    @Mock
+    private AddressMapper addressMapper;
+    @Mock
+    private BusinessHoursMapper businessHoursMapper;
+    @Mock
+    private HolidayMapper holidayMapper;
+
+    @InjectMocks
+    private ClinicProfileService clinicProfileService;
+
+    private UUID clinicId;
+    private ClinicSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        clinicId = UUID.randomUUID();
+        Clinic clinic = new Clinic();
+        clinic.setId(clinicId);
+        clinic.setName("Test Clinic");
+        clinic.setSlug("test-clinic");
+        clinic.setRealm("test-clinic");
+        clinic.setStatus(Clinic.ClinicStatus.ACTIVE);
+        snapshot = ClinicSnapshot.of(clinic);
+    }
+
+    @Test
+    void getClinicProfile_shouldLoadEachCollectionSeparately() {
+        // Arrange
+        Address address = new Address();
+        AddressResponse addressResponse = AddressResponse.builder().city("Rabat").build();
+        when(clinicCache.getById(clinicId)).thenReturn(Optional.of(snapshot));
+        when(addressRepository.findByClinicId(clinicId)).thenReturn(List.of(address));
+        when(addressMapper.toDto(address)).thenReturn(addressResponse);
+        when(contactInfoRepository.findByClinicId(clinicId)).thenReturn(List.of());
+        when(businessHoursRepository.findByClinicId(clinicId)).thenReturn(List.of());
+        when(holidayRepository.findByClinicId(clinicId)).thenReturn(List.of());
+
+        // Act
+        ClinicProfile profile = clinicProfileService.getClinicProfile(clinicId);
+        ClinicResponse response = profile.toResponse();
+
+        // Assert
+        assertThat(profile.addresses()).containsExactly(addressResponse);
+        assertThat(response.getId()).isEqualTo(clinicId);
+        assertThat(response.getName()).isEqualTo("Test Clinic");
+        assertThat(response.getAddresses()).containsExactly(addressResponse);
+        assertThat(response.getHolidays()).isEmpty();
+    }
+
+    @Test
+    void getClinicProfile_whenClinicMissing_shouldNotQueryCollections() {
+        // Arrange
+        when(clinicCache.getById(clinicId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ClinicService.ClinicNotFoundException.class,
+                () -> clinicProfileService.getClinicProfile(clinicId));
+        verifyNoInteractions(contactInfoRepository, addressRepository, businessHoursRepository, holidayRepository);
+    }
+}
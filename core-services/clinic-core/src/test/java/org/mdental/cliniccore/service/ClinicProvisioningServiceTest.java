@@ -0,0 +1,84 @@
+package org.mdental.cliniccore.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mdental.authcore.api.dto.RealmResponse;
+import org.mdental.cliniccore.model.entity.ClinicProvisioning;
+import org.mdental.cliniccore.repository.ClinicProvisioningRepository;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClinicProvisioningServiceTest {
+
+    @Mock
+    private ClinicService clinicService;
+    @Mock
+    private ClinicProvisioningRepository provisioningRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ClinicProvisioningService provisioningService;
+    private ClinicProvisioning provisioning;
+
+    @BeforeEach
+    void setUp() {
+        provisioningService = new ClinicProvisioningService(clinicService, provisioningRepository, eventPublisher,
+                3, Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMinutes(2));
+        provisioning = ClinicProvisioning.builder()
+                .id(UUID.randomUUID())
+                .clinicId(UUID.randomUUID())
+                .realm("atlas")
+                .status(ClinicProvisioning.Status.CREATING_REALM)
+                .attempts(2)
+                .build();
+        when(provisioningRepository.findById(provisioning.getId())).thenReturn(Optional.of(provisioning));
+    }
+
+    @Test
+    void recordFailure_shouldBackOffThenGiveUpAfterMaxAttempts() {
+        // Act
+        Instant before = Instant.now();
+        provisioningService.recordFailure(provisioning.getId(), 2, "auth-core timed out", true);
+
+        // Assert: 2s doubled once, with equal jitter
+        assertThat(provisioning.getStatus()).isEqualTo(ClinicProvisioning.Status.PENDING);
+        assertThat(provisioning.getNextAttemptAt()).isBetween(before.plusSeconds(2), Instant.now().plusSeconds(4));
+
+        // Act: third and last attempt
+        provisioning.setStatus(ClinicProvisioning.Status.CREATING_REALM);
+        provisioning.setAttempts(3);
+        provisioningService.recordFailure(provisioning.getId(), 3, "auth-core timed out", true);
+
+        // Assert
+        assertThat(provisioning.getStatus()).isEqualTo(ClinicProvisioning.Status.FAILED);
+        assertThat(provisioning.getLastError()).isEqualTo("auth-core timed out");
+    }
+
+    @Test
+    void completeRealm_shouldIgnoreResultsFromALostLease() {
+        // Arrange: another worker took over and is on attempt 3
+        provisioning.setAttempts(3);
+
+        // Act
+        provisioningService.completeRealm(provisioning.getId(), 2, new RealmResponse());
+
+        // Assert
+        assertThat(provisioning.getStatus()).isEqualTo(ClinicProvisioning.Status.CREATING_REALM);
+        verify(clinicService, never()).applyRealm(any(), any());
+        verify(provisioningRepository, never()).save(any());
+    }
+}
@@ -7,22 +7,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mdental.cliniccore.event.ChangeSchemas;
 import org.mdental.cliniccore.model.entity.Address;
 import org.mdental.cliniccore.model.entity.BusinessHours;
 import org.mdental.cliniccore.model.entity.Clinic;
 import org.mdental.cliniccore.model.entity.Outbox;
 import org.mdental.cliniccore.repository.OutboxRepository;
+import org.mdental.commons.event.ChangeEncoder;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class OutboxServiceTest {
@@ -40,7 +46,7 @@ class OutboxServiceTest {
         // Register Jackson modules needed for Java 8 date/time
         objectMapper.findAndRegisterModules();
 
-        outboxService = new OutboxService(outboxRepository, objectMapper);
+        outboxService = new OutboxService(outboxRepository, objectMapper, ChangeEncoder.Format.JSON);
     }
 
     @ParameterizedTest
@@ -105,6 +111,130 @@ class OutboxServiceTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveEvent_insideTransaction_shouldCoalescePerAggregateUntilCommit() throws Exception {
+        // Arrange
+        UUID clinicId = UUID.randomUUID();
+        UUID addressId = UUID.randomUUID();
+        UUID tempId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // Act
+            outboxService.saveEvent("Clinic", clinicId, "UPDATED", clinic("A"), clinic("B"));
+            outboxService.saveEvent("Address", addressId, "UPDATED", null, new Address());
+            outboxService.saveEvent("Clinic", clinicId, "STATUS_CHANGED", clinic("B"), clinic("C"));
+            outboxService.saveEvent("Address", tempId, "CREATED", null, new Address());
+            outboxService.saveEvent("Address", tempId, "DELETED", null, new Address());
+            verify(outboxRepository, never()).save(any());
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.beforeCommit(false);
+            }
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        ArgumentCaptor<List<Outbox>> batch = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(batch.capture());
+        assertThat(batch.getValue()).extracting(Outbox::getAggregateId).containsExactly(clinicId, addressId);
+
+        Outbox clinicEntry = batch.getValue().get(0);
+        JsonNode payload = objectMapper.readTree(clinicEntry.getPayload());
+        assertThat(clinicEntry.getEventType()).isEqualTo("STATUS_CHANGED");
+        assertThat(payload.get("oldValue").get("name").asText()).isEqualTo("A");
+        assertThat(payload.get("newValue").get("name").asText()).isEqualTo("C");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveChange_insideTransaction_shouldEncodeOnlyNetChangedFields() {
+        // Arrange
+        OutboxService smileOutbox = new OutboxService(outboxRepository, objectMapper, ChangeEncoder.Format.SMILE);
+        UUID clinicId = UUID.randomUUID();
+        Clinic a = clinic("A");
+        Clinic b = clinic("B");
+        Clinic c = clinic("B");
+        c.setStatus(Clinic.ClinicStatus.INACTIVE);
+        Clinic d = clinic("A");
+        d.setStatus(Clinic.ClinicStatus.INACTIVE);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // Act
+            smileOutbox.saveChange("Clinic", clinicId, "UPDATED", ChangeSchemas.CLINIC.diff(a, b));
+            smileOutbox.saveChange("Clinic", clinicId, "STATUS_CHANGED", ChangeSchemas.CLINIC.diff(b, c));
+            smileOutbox.saveChange("Clinic", clinicId, "UPDATED", ChangeSchemas.CLINIC.diff(c, d));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.beforeCommit(false);
+            }
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        ArgumentCaptor<List<Outbox>> batch = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(batch.capture());
+        Outbox entry = batch.getValue().get(0);
+        assertThat(entry.getPayload()).isNull();
+        assertThat(entry.getPayloadFormat()).isEqualTo(ChangeEncoder.Format.SMILE);
+
+        JsonNode payload = new ChangeEncoder(objectMapper, ChangeEncoder.Format.SMILE).decode(entry.getPayloadBinary());
+        assertThat(payload.get("schema").asText()).isEqualTo("clinic");
+        assertThat(payload.get("v").asInt()).isEqualTo(1);
+        // The name went A -> B -> A, so only the status is left
+        assertThat(payload.get("old").size()).isEqualTo(1);
+        assertThat(payload.get("old").get("status").asText()).isEqualTo("ACTIVE");
+        assertThat(payload.get("new").get("status").asText()).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    void saveChange_weeklySchedule_shouldListOnlyTheChangedDays() throws Exception {
+        // Arrange
+        UUID clinicId = UUID.randomUUID();
+        List<BusinessHours> before = List.of(
+                hours(DayOfWeek.MONDAY, 1, 9, 17),
+                hours(DayOfWeek.TUESDAY, 1, 9, 17));
+        List<BusinessHours> after = List.of(
+                hours(DayOfWeek.MONDAY, 1, 9, 17),
+                hours(DayOfWeek.TUESDAY, 2, 14, 18),
+                hours(DayOfWeek.TUESDAY, 1, 9, 12));
+
+        // Act
+        outboxService.saveChange("BusinessHoursSchedule", clinicId, "REPLACED",
+                ChangeSchemas.WEEKLY_SCHEDULE.diff(before, after));
+
+        // Assert
+        ArgumentCaptor<Outbox> outboxCaptor = ArgumentCaptor.forClass(Outbox.class);
+        verify(outboxRepository).save(outboxCaptor.capture());
+        JsonNode payload = objectMapper.readTree(outboxCaptor.getValue().getPayload());
+        assertThat(payload.get("schema").asText()).isEqualTo("weekly-schedule");
+        assertThat(payload.get("new").size()).isEqualTo(1);
+        JsonNode tuesday = payload.get("new").get("TUESDAY");
+        assertThat(objectMapper.treeToValue(tuesday, ChangeSchemas.WeeklySlot[].class)).containsExactly(
+                new ChangeSchemas.WeeklySlot(LocalTime.of(9, 0), LocalTime.of(12, 0), null),
+                new ChangeSchemas.WeeklySlot(LocalTime.of(14, 0), LocalTime.of(18, 0), null));
+    }
+
+    private static BusinessHours hours(DayOfWeek day, int sequence, int open, int close) {
+        BusinessHours hours = new BusinessHours();
+        hours.setDayOfWeek(day);
+        hours.setSequence(sequence);
+        hours.setOpenTime(LocalTime.of(open, 0));
+        hours.setCloseTime(LocalTime.of(close, 0));
+        return hours;
+    }
+
+    private static Clinic clinic(String name) {
+        Clinic clinic = new Clinic();
+        clinic.setName(name);
+        clinic.setStatus(Clinic.ClinicStatus.ACTIVE);
+        return clinic;
+    }
+
     // Helper method to provide test data for parameterized test
     private static Stream<Arguments> provideEntityPairs() {
         // Clinic entity pair
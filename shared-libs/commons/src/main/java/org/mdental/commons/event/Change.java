@@ -0,0 +1,94 @@
+package org.mdental.commons.event;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The fields that changed on one aggregate, with their values before and after.
+ *
+ * @param schema    the {@link ChangeSchema} name
+ * @param version   the schema version
+ * @param oldValues previous values of the changed fields, or null for a creation
+ * @param newValues new values of the changed fields, or null for a deletion
+ */
+public record Change(String schema, int version, Map<String, Object> oldValues, Map<String, Object> newValues) {
+
+    public Change {
+        oldValues = oldValues == null ? null : Collections.unmodifiableMap(oldValues);
+        newValues = newValues == null ? null : Collections.unmodifiableMap(newValues);
+    }
+
+    public boolean isCreation() {
+        return oldValues == null;
+    }
+
+    public boolean isDeletion() {
+        return newValues == null;
+    }
+
+    /**
+     * True when nothing changed, e.g. an update that set every field to its current value.
+     */
+    public boolean isEmpty() {
+        return oldValues != null && newValues != null && newValues.isEmpty();
+    }
+
+    /**
+     * Folds a later change of the same aggregate into this one, keeping each field's first old value
+     * and last new value and dropping fields that ended where they started. Returns null when the
+     * aggregate was created and deleted again.
+     *
+     * <p>A deletion followed by a creation is a re-creation and yields that creation: the deletion may
+     * name no fields, so the new state is published whole. Any other change after a deletion, or a
+     * creation after anything but a deletion, cannot happen to one aggregate and is rejected.
+     *
+     * @throws IllegalStateException if the two changes cannot follow each other
+     */
+    public Change then(Change later) {
+        if (!schema.equals(later.schema) || version != later.version) {
+            throw new IllegalArgumentException("Cannot merge " + schema + "/" + version
+                    + " with " + later.schema + "/" + later.version);
+        }
+        if (isDeletion()) {
+            if (!later.isCreation()) {
+                throw new IllegalStateException("Change of " + schema + " after its deletion");
+            }
+            return later;
+        }
+        if (later.isCreation()) {
+            throw new IllegalStateException("Creation of " + schema + " that already exists");
+        }
+        if (isCreation()) {
+            if (later.isDeletion()) {
+                return null;
+            }
+            Map<String, Object> created = new LinkedHashMap<>(newValues);
+            created.putAll(later.newValues);
+            return new Change(schema, version, null, created);
+        }
+
+        Map<String, Object> before = new LinkedHashMap<>(later.oldValues);
+        before.putAll(oldValues);
+        if (later.isDeletion()) {
+            return new Change(schema, version, before, null);
+        }
+
+        Set<String> fields = new LinkedHashSet<>(newValues.keySet());
+        fields.addAll(later.newValues.keySet());
+        Map<String, Object> oldResult = new LinkedHashMap<>();
+        Map<String, Object> newResult = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object from = before.get(field);
+            Object to = later.newValues.containsKey(field) ? later.newValues.get(field) : newValues.get(field);
+            if (!Objects.equals(from, to)) {
+                oldResult.put(field, from);
+                newResult.put(field, to);
+            }
+        }
+        return new Change(schema, version, oldResult, newResult);
+    }
+}
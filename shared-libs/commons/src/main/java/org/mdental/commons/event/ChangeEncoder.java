@@ -0,0 +1,95 @@
+package org.mdental.commons.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes {@link Change}s as compact, versioned event payloads.
+ *
+ * <p>A payload is {@code {"schema": name, "v": version, "old": {...}, "new": {...}}} holding only the
+ * changed fields; "old" is left out for a creation and "new" for a deletion. JSON is the default;
+ * CBOR and Smile carry the same document in a binary encoding, which is smaller and cheaper to write.
+ */
+public final class ChangeEncoder {
+
+    public enum Format {
+        JSON,
+        CBOR,
+        SMILE
+    }
+
+    private final Format format;
+    private final ObjectMapper mapper;
+
+    /**
+     * @param objectMapper the application's mapper, whose modules and settings are kept
+     * @param format       the encoding to write
+     */
+    public ChangeEncoder(ObjectMapper objectMapper, Format format) {
+        this.format = format;
+        this.mapper = switch (format) {
+            case JSON -> objectMapper;
+            case CBOR -> objectMapper.copyWith(new CBORFactory());
+            case SMILE -> objectMapper.copyWith(new SmileFactory());
+        };
+    }
+
+    public Format format() {
+        return format;
+    }
+
+    public boolean isBinary() {
+        return format != Format.JSON;
+    }
+
+    public byte[] encode(Change change) {
+        try {
+            return mapper.writeValueAsBytes(document(change));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not encode " + change.schema() + " change", e);
+        }
+    }
+
+    public String encodeToString(Change change) {
+        if (isBinary()) {
+            throw new IllegalStateException(format + " payloads are binary");
+        }
+        try {
+            return mapper.writeValueAsString(document(change));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not encode " + change.schema() + " change", e);
+        }
+    }
+
+    /**
+     * Reads a payload written in this encoder's format back as a tree, e.g. for relaying as JSON.
+     */
+    public JsonNode decode(byte[] payload) {
+        try {
+            return mapper.readTree(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode " + format + " payload", e);
+        }
+    }
+
+    private static Map<String, Object> document(Change change) {
+        Map<String, Object> document = new LinkedHashMap<>(4);
+        document.put("schema", change.schema());
+        document.put("v", change.version());
+        if (change.oldValues() != null) {
+            document.put("old", change.oldValues());
+        }
+        if (change.newValues() != null) {
+            document.put("new", change.newValues());
+        }
+        return document;
+    }
+}
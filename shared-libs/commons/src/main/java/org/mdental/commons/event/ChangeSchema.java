@@ -0,0 +1,103 @@
+package org.mdental.commons.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The fields an aggregate publishes in change events, under a stable name and version.
+ *
+ * <p>Each field is read through the getter it was declared with rather than by reflection, so only
+ * the listed columns are ever touched and lazy associations are never loaded. Bump the version when
+ * a field is removed or changes meaning; adding a field is backwards compatible.
+ *
+ * @param <T> the snapshot type the fields are read from
+ */
+public final class ChangeSchema<T> {
+
+    private final String name;
+    private final int version;
+    private final String[] fields;
+    private final List<Function<? super T, ?>> getters;
+
+    private ChangeSchema(String name, int version, List<String> fields, List<Function<? super T, ?>> getters) {
+        this.name = name;
+        this.version = version;
+        this.fields = fields.toArray(String[]::new);
+        this.getters = List.copyOf(getters);
+    }
+
+    public static <T> Builder<T> builder(String name, int version) {
+        return new Builder<>(name, version);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    /**
+     * The change from one snapshot to the next, listing only fields whose values differ. A null old
+     * snapshot is a creation and a null new snapshot a deletion.
+     */
+    public Change diff(T oldValue, T newValue) {
+        if (oldValue == null && newValue == null) {
+            throw new IllegalArgumentException("A change needs an old or a new value");
+        }
+        Map<String, Object> oldValues = oldValue == null ? null : new LinkedHashMap<>();
+        Map<String, Object> newValues = newValue == null ? null : new LinkedHashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            Object before = oldValue == null ? null : getters.get(i).apply(oldValue);
+            Object after = newValue == null ? null : getters.get(i).apply(newValue);
+            if (Objects.equals(before, after)) {
+                continue;
+            }
+            if (oldValues != null) {
+                oldValues.put(fields[i], before);
+            }
+            if (newValues != null) {
+                newValues.put(fields[i], after);
+            }
+        }
+        return new Change(name, version, oldValues, newValues);
+    }
+
+    /**
+     * A deletion for which no snapshot is at hand; it names no fields.
+     */
+    public Change deleted() {
+        return new Change(name, version, Map.of(), null);
+    }
+
+    public static final class Builder<T> {
+
+        private final String name;
+        private final int version;
+        private final List<String> fields = new ArrayList<>();
+        private final List<Function<? super T, ?>> getters = new ArrayList<>();
+
+        private Builder(String name, int version) {
+            this.name = name;
+            this.version = version;
+        }
+
+        public Builder<T> field(String field, Function<? super T, ?> getter) {
+            if (fields.contains(field)) {
+                throw new IllegalArgumentException("Duplicate field '" + field + "' in schema " + name);
+            }
+            fields.add(field);
+            getters.add(getter);
+            return this;
+        }
+
+        public ChangeSchema<T> build() {
+            return new ChangeSchema<>(name, version, fields, getters);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.mdental.commons.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeTest {
+
+    private static final String SCHEMA = "Clinic";
+
+    @Test
+    void then_shouldFoldDeletionAndCreationIntoTheRecreation() {
+        // Arrange
+        Change deleted = new Change(SCHEMA, 1, Map.of(), null);
+        Change created = new Change(SCHEMA, 1, null, Map.of("name", "Atlas Dental", "status", "ACTIVE"));
+
+        // Act
+        Change merged = deleted.then(created);
+
+        // Assert
+        assertThat(merged.isCreation()).isTrue();
+        assertThat(merged.newValues()).isEqualTo(Map.of("name", "Atlas Dental", "status", "ACTIVE"));
+    }
+
+    @Test
+    void then_shouldRejectUpdateAfterDeletion() {
+        // Arrange
+        Change deleted = new Change(SCHEMA, 1, Map.of("name", "Atlas Dental"), null);
+        Change updated = new Change(SCHEMA, 1, Map.of("name", "Atlas Dental"), Map.of("name", "Atlas"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> deleted.then(updated)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> deleted.then(deleted)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void then_shouldRejectCreationOfAnExistingAggregate() {
+        // Arrange
+        Change updated = new Change(SCHEMA, 1, Map.of("name", "Atlas Dental"), Map.of("name", "Atlas"));
+        Change created = new Change(SCHEMA, 1, null, Map.of("name", "Atlas"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> updated.then(created)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> created.then(created)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -45,6 +45,9 @@ public class JwtTokenProvider {
     @NonNull
     private final Clock clock;
 
+    // Parsers are immutable and thread-safe, so the verification key is decoded only once
+    private volatile JwtParser parser;
+
     /**
 
      Create a JWT for the given user
@@ -182,17 +185,7 @@ public class JwtTokenProvider {
         Objects.requireNonNull(token, "Token cannot be null");
 
         try {
-            if (jwtProps.isRsa()) {
-                Jwts.parserBuilder()
-                        .setSigningKey(getPublicKey())
-                        .build()
-                        .parseClaimsJws(token);
-            } else {
-                Jwts.parserBuilder()
-                        .setSigningKey(getSecretKey())
-                        .build()
-                        .parseClaimsJws(token);
-            }
+            getParser().parseClaimsJws(token);
             return true;
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException("JWT token has expired");
@@ -281,19 +274,7 @@ public class JwtTokenProvider {
 
     private Claims extractClaims(String token) {
         try {
-            if (jwtProps.isRsa()) {
-                return Jwts.parserBuilder()
-                        .setSigningKey(getPublicKey())
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
-            } else {
-                return Jwts.parserBuilder()
-                        .setSigningKey(getSecretKey())
-                        .build()
-                        .parseClaimsJws(token)
-                        .getBody();
-            }
+            return getParser().parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException("JWT token has expired");
         } catch (SignatureException e) {
@@ -303,6 +284,17 @@ public class JwtTokenProvider {
         }
     }
 
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parserBuilder()
+                    .setSigningKey(jwtProps.isRsa() ? getPublicKey() : getSecretKey())
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
+
     private SecretKey getSecretKey() {
         if (jwtProps.getSecret() == null || jwtProps.getSecret().isBlank()) {
             throw new IllegalStateException("JWT secret key is not configured");